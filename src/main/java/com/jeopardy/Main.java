@@ -1,7 +1,9 @@
 package com.jeopardy; // package declaration
 
 import com.jeopardy.engine.EventLogger; // import EventLogger class
+import com.jeopardy.engine.EventLoggerFactory; // import EventLoggerFactory class
 import com.jeopardy.engine.GameEngine; // import GameEngine class
+import com.jeopardy.loaders.CachingQuestionLoader; // import CachingQuestionLoader class
 import com.jeopardy.model.Player; // import Player model
 import com.jeopardy.report.ReportGenerator; // import ReportGenerator class
 
@@ -26,12 +28,14 @@ public class Main {
     public static void main(String[] args) throws Exception { // start of main method
         System.out.println("Jeopardy Game - Console version"); // print welcome message
         String base = System.getProperty("user.dir"); // get current working directory
-        File logFile = new File(base, "game_event_log.csv"); // create log file in working directory
-        EventLogger logger = EventLogger.getInstance(logFile); // get singleton EventLogger instance
+        File logFile = EventLoggerFactory.logLocation(new File(base)); // log file (or directory) in working directory
+        EventLogger logger = EventLoggerFactory.fromSystemProperties(new File(base)); // get EventLogger for the configured layout
+        try { // the logger is closed on every exit path, or events still queued for its daemon writer are lost
 
     // get GameEngine singleton instance and set logger
     GameEngine engine = GameEngine.getInstance();
     engine.setLogger(logger);
+    engine.setQuestionCache(CachingQuestionLoader.fromSystemProperties()); // parsed-bank cache if -Djeopardy.cache.dir is set
 
     // Validate and log start
     if (logger != null) logger.log(engine.getCaseId(), "SYSTEM", "LAUNCH", "", null, "Main started", "OK", 0);
@@ -75,5 +79,8 @@ public class Main {
 
         // Log exit
         if (logger != null) logger.log(engine.getCaseId(), "SYSTEM", "EXIT_GAME", "", null, "User exit", "OK", engine.getPlayers().stream().mapToInt(p->p.getScore()).sum());
+        } finally { // early returns and failures included
+            if (logger != null) logger.close(); // drain pending events and release the log file
+        } // end try
     }
 }
\ No newline at end of file
@@ -0,0 +1,310 @@
+package com.jeopardy.analytics; // package declaration
+
+import com.jeopardy.eventlog.EventTimestamps; // timestamp parsing
+
+import java.io.File; // for file representation
+import java.io.FileInputStream; // compressed segments
+import java.io.IOException; // for I/O failures
+import java.io.InputStream; // compressed segments
+import java.io.UncheckedIOException; // I/O failures inside tasks
+import java.nio.ByteBuffer; // mapped or inflated chunk
+import java.nio.channels.FileChannel; // file mapping
+import java.nio.charset.StandardCharsets; // UTF-8 decoding
+import java.nio.file.StandardOpenOption; // open options
+import java.util.ArrayList; // chunk list
+import java.util.Arrays; // directory listing order
+import java.util.List; // chunk list
+import java.util.concurrent.ForkJoinPool; // parallel execution
+import java.util.concurrent.RecursiveTask; // divide and conquer
+import java.util.zip.GZIPInputStream; // compressed segments
+
+/**
+ * Parallel, streaming analyzer for CSV event logs.
+ * The input files are cut into fixed-size byte ranges which are memory-mapped and parsed
+ * on a fork/join pool. Each range owns the lines that start inside it and maps only up to the
+ * end of its last line, and the partial summaries are merged in file order so cases spanning
+ * ranges are stitched correctly. Gzipped segments (.csv.gz) cannot be split, so each is inflated
+ * into memory whole by one task; segments are bounded by their configured size.
+ * Field values are decoded through a small per-task cache, so repeated Case_IDs,
+ * activities and categories do not allocate a new String per row.
+ * Memory otherwise grows only with the number of distinct cases, which LogSummary keeps one
+ * small entry each for.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class EventLogAnalyzer { // start of EventLogAnalyzer class
+    /** Default number of log bytes handled by one task (8 MB). */
+    public static final int DEFAULT_CHUNK_BYTES = 8 << 20;
+
+    private final int chunkBytes; // bytes per leaf task
+    private final ForkJoinPool pool; // pool running the tasks
+
+    /**
+     * Creates an analyzer with the default chunk size on the common pool.
+     */
+    public EventLogAnalyzer() { this(DEFAULT_CHUNK_BYTES, ForkJoinPool.commonPool()); }
+
+    /**
+     * Creates an analyzer.
+     * 
+     * @param chunkBytes bytes handled by one task
+     * @param pool pool running the tasks
+     */
+    public EventLogAnalyzer(int chunkBytes, ForkJoinPool pool) { // constructor
+        if (chunkBytes <= 0) throw new IllegalArgumentException("Chunk size must be positive"); // validate
+        this.chunkBytes = chunkBytes; // store chunk size
+        this.pool = pool; // store pool
+    } // end constructor
+
+    /**
+     * Summarises one or more logs. Directories (segmented or partitioned logs) contribute
+     * their CSV files, plain or gzipped, in name order; manifests are skipped, as is a .csv.gz
+     * whose plain segment still exists (its compression has not finished).
+     * 
+     * @param inputs log files or directories, in log order
+     * @return the merged summary
+     * @throws IOException if a log cannot be read
+     */
+    public LogSummary analyze(File... inputs) throws IOException { // summarise logs
+        List<Chunk> chunks = new ArrayList<>(); // work items in log order
+        for (File in : inputs) for (File f : expand(in)) { // every CSV file
+            long size = f.length(); // file size
+            if (isGzip(f)) { chunks.add(new Chunk(f, 0, Long.MAX_VALUE, size)); continue; } // one task inflates it
+            for (long start = 0; start < size; start += chunkBytes) chunks.add(new Chunk(f, start, Math.min(size, start + chunkBytes), size)); // cut into ranges
+        } // end for
+        if (chunks.isEmpty()) return new LogSummary(); // nothing to read
+        try { // run tasks
+            return pool.invoke(new SummaryTask(chunks, 0, chunks.size())); // parallel summary
+        } catch (UncheckedIOException ex) { // unwrap task failure
+            throw ex.getCause(); // rethrow I/O failure
+        } // end try
+    } // end analyze method
+
+    /**
+     * Lists the CSV files of an input.
+     * 
+     * @param in a file or directory
+     * @return files in log order
+     */
+    private static List<File> expand(File in) { // resolve inputs
+        if (!in.isDirectory()) return List.of(in); // plain file
+        File[] files = in.listFiles((d, n) -> (n.endsWith(".csv") && !n.endsWith(".manifest.csv")) // log files
+                || (n.endsWith(".csv.gz") && !new File(d, n.substring(0, n.length() - 3)).exists())); // finished compressed segments
+        if (files == null) return List.of(); // unreadable directory
+        Arrays.sort(files); // segment order
+        return Arrays.asList(files); // directory contents
+    } // end expand method
+
+    /**
+     * Checks for a gzipped log file.
+     * 
+     * @param f the file
+     * @return true for a .gz file
+     */
+    private static boolean isGzip(File f) { return f.getName().endsWith(".gz"); }
+
+    /**
+     * Command-line entry point.
+     * Usage: EventLogAnalyzer [--chunk-mb N] &lt;log.csv|log dir&gt;...
+     * 
+     * @param args options and inputs
+     * @throws IOException if a log cannot be read
+     */
+    public static void main(String[] args) throws IOException { // CLI entry point
+        int chunk = DEFAULT_CHUNK_BYTES; // chunk size
+        int i = 0; // argument index
+        if (args.length > 1 && args[0].equals("--chunk-mb")) { chunk = Integer.parseInt(args[1]) << 20; i = 2; } // chunk option
+        if (i >= args.length) { System.err.println("Usage: EventLogAnalyzer [--chunk-mb N] <log.csv|log dir>..."); return; } // no inputs
+        File[] inputs = new File[args.length - i]; // inputs
+        for (int k = i; k < args.length; k++) inputs[k - i] = new File(args[k]); // collect inputs
+        long start = System.nanoTime(); // analysis timer
+        LogSummary summary = new EventLogAnalyzer(chunk, ForkJoinPool.commonPool()).analyze(inputs); // summarise
+        summary.writeReport(System.out); // print report
+        System.err.printf("(%d events in %.1f ms)%n", summary.getEventCount(), (System.nanoTime() - start) / 1e6); // timing
+    } // end main method
+
+    /**
+     * A byte range of one file; it owns the lines that start within [start, end). A gzipped file is one chunk.
+     */
+    private record Chunk(File file, long start, long end, long fileSize) {}
+
+    /**
+     * Splits the chunk list in halves and appends the right summary to the left one.
+     */
+    private static final class SummaryTask extends RecursiveTask<LogSummary> { // fork/join task
+        private final List<Chunk> chunks; // all chunks
+        private final int lo, hi; // range of chunks
+
+        SummaryTask(List<Chunk> chunks, int lo, int hi) { this.chunks = chunks; this.lo = lo; this.hi = hi; } // constructor
+
+        @Override
+        protected LogSummary compute() { // summarise range
+            if (hi - lo == 1) { // leaf
+                try { return parse(chunks.get(lo)); } // parse one chunk
+                catch (IOException ex) { throw new UncheckedIOException(ex); } // surface to analyze
+            } // end if
+            int mid = (lo + hi) >>> 1; // split point
+            SummaryTask right = new SummaryTask(chunks, mid, hi); // right half
+            right.fork(); // run right half asynchronously
+            LogSummary left = new SummaryTask(chunks, lo, mid).compute(); // left half here
+            return left.append(right.join()); // ordered merge
+        } // end compute method
+    } // end SummaryTask class
+
+    /**
+     * Parses the lines owned by one chunk.
+     * 
+     * @param c the chunk
+     * @return its summary
+     * @throws IOException if the file cannot be mapped or inflated
+     */
+    private static LogSummary parse(Chunk c) throws IOException { // parse chunk
+        LogSummary summary = new LogSummary(); // partial summary
+        long from = Math.max(0, c.start() - 1); // include previous byte to detect a line start
+        ByteBuffer buf; // chunk bytes
+        if (isGzip(c.file())) { // whole compressed segment
+            try (InputStream in = new GZIPInputStream(new FileInputStream(c.file()), 64 * 1024)) { buf = ByteBuffer.wrap(in.readAllBytes()); } // inflate
+        } else try (FileChannel ch = FileChannel.open(c.file().toPath(), StandardOpenOption.READ)) { // open file
+            long to = lineEnd(ch, c.end() - 1, c.fileSize()); // just past the last owned line
+            buf = ch.map(FileChannel.MapMode.READ_ONLY, from, Math.min(to - from, Integer.MAX_VALUE)); // map range
+        } // end try
+        int limit = buf.limit(); // mapped length
+        int ownedEnd = (int) Math.min(limit, c.end() - from); // lines must start before this
+        int pos = 0; // scan position
+        if (c.start() > 0) { // skip the line owned by the previous chunk
+            while (pos < limit && buf.get(pos) != '\n') pos++; // find its end
+            pos++; // start of first owned line
+        } // end if
+        StringCache strings = new StringCache(); // per-task decode cache
+        AsciiView ts = new AsciiView(buf); // timestamp view
+        int[] comma = new int[8]; // comma positions of one row
+        while (pos < ownedEnd) { // every owned line
+            int eol = pos; // end of line
+            int commas = 0; // commas found
+            while (eol < limit) { // scan line
+                byte b = buf.get(eol); // current byte
+                if (b == '\n') break; // end of line
+                if (b == ',' && commas < comma.length) comma[commas++] = eol; // field separator
+                eol++; // next byte
+            } // end while
+            int end = eol > pos && buf.get(eol - 1) == '\r' ? eol - 1 : eol; // strip CR
+            if (commas >= 7 && !isHeader(buf, pos)) { // data row with all columns
+                ts.set(comma[2] + 1, comma[3] - comma[2] - 1); // Timestamp column
+                if (ts.length() > 0) { // timestamped event
+                    long micros; // event time
+                    try { micros = EventTimestamps.parseMicros(ts, 0, ts.length()); } // Timestamp
+                    catch (IllegalArgumentException ex) { summary.addMalformed(); pos = eol + 1; continue; } // skip bad row
+                    summary.add(strings.get(buf, pos, comma[0]), // Case_ID
+                            strings.get(buf, comma[1] + 1, comma[2]), // Activity
+                            micros, // Timestamp
+                            strings.get(buf, comma[3] + 1, comma[4]), // Category
+                            strings.get(buf, comma[6] + 1, commas > 7 ? comma[7] : end)); // Result
+                } // end if
+            } // end if
+            pos = eol + 1; // next line
+        } // end while
+        return summary; // chunk summary
+    } // end parse method
+
+    /**
+     * Finds the end of the line containing a position, reading a small window at a time.
+     * 
+     * @param ch the file
+     * @param pos a position in the file
+     * @param size the file size
+     * @return the position after the first newline at or after pos, or size if there is none
+     * @throws IOException if the file cannot be read
+     */
+    private static long lineEnd(FileChannel ch, long pos, long size) throws IOException { // scan for newline
+        ByteBuffer window = ByteBuffer.allocate(4096); // read window
+        while (pos < size) { // until the end of the file
+            window.clear(); // refill
+            int n = ch.read(window, pos); // positional read
+            if (n <= 0) break; // end of file
+            for (int i = 0; i < n; i++) if (window.get(i) == '\n') return pos + i + 1; // line ends here
+            pos += n; // next window
+        } // end while
+        return size; // last line has no newline
+    } // end lineEnd method
+
+    /**
+     * Checks whether a line is the CSV header.
+     * 
+     * @param buf mapped bytes
+     * @param pos line start
+     * @return true for a header line
+     */
+    private static boolean isHeader(ByteBuffer buf, int pos) { // header check
+        String h = "Case_ID,"; // header prefix
+        if (pos + h.length() > buf.limit()) return false; // too short
+        for (int i = 0; i < h.length(); i++) if (buf.get(pos + i) != h.charAt(i)) return false; // mismatch
+        return true; // header
+    } // end isHeader method
+
+    /**
+     * Read-only CharSequence over ASCII bytes of a buffer, reused for every row.
+     */
+    private static final class AsciiView implements CharSequence { // byte view
+        private final ByteBuffer buf; // backing bytes
+        private int off, len; // current window
+
+        AsciiView(ByteBuffer buf) { this.buf = buf; } // constructor
+        void set(int off, int len) { this.off = off; this.len = len; } // move window
+
+        @Override public int length() { return len; }
+        @Override public char charAt(int i) { return (char) (buf.get(off + i) & 0xff); }
+        @Override public CharSequence subSequence(int s, int e) { return toString().substring(s, e); }
+        @Override public String toString() { byte[] b = new byte[len]; buf.get(off, b); return new String(b, StandardCharsets.US_ASCII); }
+    } // end AsciiView class
+
+    /**
+     * Open-addressing table from byte ranges to decoded Strings, so each distinct value is decoded once per task.
+     */
+    private static final class StringCache { // decode cache
+        private byte[][] keys = new byte[256][]; // cached bytes
+        private String[] values = new String[256]; // decoded values
+        private int size = 0; // entries
+
+        String get(ByteBuffer buf, int from, int to) { // lookup or decode
+            int len = to - from; // value length
+            if (len <= 0) return ""; // empty field
+            int h = 1; // hash of the bytes
+            for (int i = from; i < to; i++) h = 31 * h + buf.get(i); // hash
+            int mask = keys.length - 1; // table mask
+            for (int slot = mix(h) & mask; ; slot = (slot + 1) & mask) { // probe
+                byte[] k = keys[slot]; // candidate
+                if (k == null) break; // miss
+                if (k.length == len && matches(k, buf, from)) return values[slot]; // hit
+            } // end for
+            byte[] bytes = new byte[len]; // copy of the bytes
+            buf.get(from, bytes); // read bytes
+            String s = new String(bytes, StandardCharsets.UTF_8); // decode
+            if (size * 2 >= keys.length) grow(); // keep load under one half
+            insert(bytes, s); // remember
+            return s; // decoded value
+        } // end get method
+
+        private static int mix(int h) { return h ^ (h >>> 16); } // spread hash bits
+
+        private static boolean matches(byte[] k, ByteBuffer buf, int from) { // compare bytes
+            for (int i = 0; i < k.length; i++) if (k[i] != buf.get(from + i)) return false; // mismatch
+            return true; // equal
+        } // end matches method
+
+        private void insert(byte[] k, String v) { // add entry
+            int h = 1; // hash of the bytes
+            for (byte b : k) h = 31 * h + b; // hash
+            int mask = keys.length - 1; // table mask
+            int slot = mix(h) & mask; // home slot
+            while (keys[slot] != null) slot = (slot + 1) & mask; // linear probe
+            keys[slot] = k; values[slot] = v; size++; // store
+        } // end insert method
+
+        private void grow() { // double the table
+            byte[][] oldKeys = keys; String[] oldValues = values; // current table
+            keys = new byte[oldKeys.length * 2][]; values = new String[oldKeys.length * 2]; size = 0; // new table
+            for (int i = 0; i < oldKeys.length; i++) if (oldKeys[i] != null) insert(oldKeys[i], oldValues[i]); // rehash
+        } // end grow method
+    } // end StringCache class
+} // end of EventLogAnalyzer class
@@ -0,0 +1,245 @@
+package com.jeopardy.analytics; // package declaration
+
+import java.io.PrintStream; // report output
+import java.util.ArrayList; // sorting entries
+import java.util.HashMap; // aggregates
+import java.util.List; // sorting entries
+import java.util.Map; // aggregates
+import java.util.TreeMap; // ordered report output
+
+/**
+ * Process-mining summary of an event log, or of one contiguous slice of it.
+ * Two summaries of adjacent slices combine with append, which stitches cases that
+ * cross the slice boundary (directly-follows edges and SELECT_QUESTION to ANSWER times),
+ * so a log can be summarised in parallel chunks and merged in order.
+ * Memory grows with the number of distinct cases: each Case_ID keeps one small entry (its last
+ * activity, time span and any unanswered question) for stitching and case durations, so a log of
+ * millions of games needs a heap sized for them. All other aggregates are bounded by the number
+ * of distinct activities and categories.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class LogSummary { // start of LogSummary class
+    private static final long NONE = Long.MIN_VALUE; // marker for an absent timestamp
+
+    private long events = 0; // number of events
+    private long malformed = 0; // rows skipped for a bad timestamp
+    private final Map<String, long[]> activityCounts = new HashMap<>(); // activity -> count
+    private final Map<String, Map<String, long[]>> directlyFollows = new HashMap<>(); // from -> to -> count
+    private final Map<String, CaseState> cases = new HashMap<>(); // Case_ID -> per-case state
+    private final Map<String, Accuracy> categoryAccuracy = new HashMap<>(); // category -> answers
+    private final Stats selectToAnswer = new Stats(); // SELECT_QUESTION to ANSWER times in micros
+
+    /**
+     * Adds one event. Events of the same case must be added in log order.
+     * 
+     * @param caseId the Case_ID
+     * @param activity the activity name
+     * @param micros the event time in epoch microseconds
+     * @param category the question category, possibly empty
+     * @param result the activity result, possibly empty
+     */
+    public void add(String caseId, String activity, long micros, String category, String result) { // accumulate one event
+        events++; // count event
+        activityCounts.computeIfAbsent(activity, k -> new long[1])[0]++; // activity frequency
+        CaseState c = cases.get(caseId); // state of this case
+        if (c == null) { c = new CaseState(activity, micros); cases.put(caseId, c); } // first event of case in this slice
+        else edge(c.lastActivity, activity, 1); // directly-follows edge
+        c.lastActivity = activity; // last activity
+        c.minMicros = Math.min(c.minMicros, micros); c.maxMicros = Math.max(c.maxMicros, micros); // time span
+        c.events++; // case event count
+        if (isSelectQuestion(activity)) { c.pendingSelect = micros; c.sawSelect = true; } // question shown
+        else if (isAnswer(activity)) { // question answered
+            if (c.pendingSelect != NONE) { selectToAnswer.add(micros - c.pendingSelect); c.pendingSelect = NONE; } // answer time
+            else if (!c.sawSelect && c.leadingAnswer == NONE) c.leadingAnswer = micros; // select may be in the previous slice
+            boolean correct = "CORRECT".equalsIgnoreCase(result), wrong = "WRONG".equalsIgnoreCase(result); // scored answer
+            if (correct || wrong) { Accuracy a = categoryAccuracy.computeIfAbsent(category, k -> new Accuracy()); a.total++; if (correct) a.correct++; } // accuracy
+        } // end if
+    } // end add method
+
+    /**
+     * Counts a row that was skipped because its timestamp could not be parsed.
+     */
+    public void addMalformed() { malformed++; }
+
+    /**
+     * Appends the summary of the slice that directly follows this one in the log.
+     * 
+     * @param next summary of the following slice
+     * @return this summary, now covering both slices
+     */
+    public LogSummary append(LogSummary next) { // ordered merge
+        events += next.events; // event total
+        malformed += next.malformed; // skipped rows
+        next.activityCounts.forEach((k, v) -> activityCounts.computeIfAbsent(k, x -> new long[1])[0] += v[0]); // activity counts
+        next.directlyFollows.forEach((from, tos) -> tos.forEach((to, n) -> edge(from, to, n[0]))); // edges within next
+        next.categoryAccuracy.forEach((k, v) -> { Accuracy a = categoryAccuracy.computeIfAbsent(k, x -> new Accuracy()); a.correct += v.correct; a.total += v.total; }); // accuracy
+        selectToAnswer.merge(next.selectToAnswer); // answer times
+        next.cases.forEach((id, r) -> { // stitch cases across the boundary
+            CaseState l = cases.get(id); // state before the boundary
+            if (l == null) { cases.put(id, r); return; } // case starts in next slice
+            edge(l.lastActivity, r.firstActivity, 1); // edge across the boundary
+            if (l.pendingSelect != NONE && r.leadingAnswer != NONE) selectToAnswer.add(r.leadingAnswer - l.pendingSelect); // answer across the boundary
+            if (!l.sawSelect && l.leadingAnswer == NONE) l.leadingAnswer = r.leadingAnswer; // still no select before it
+            if (r.sawSelect) l.pendingSelect = r.pendingSelect; else if (r.leadingAnswer != NONE) l.pendingSelect = NONE; // open question after both slices
+            l.sawSelect |= r.sawSelect; // select seen
+            l.lastActivity = r.lastActivity; // last activity
+            l.minMicros = Math.min(l.minMicros, r.minMicros); l.maxMicros = Math.max(l.maxMicros, r.maxMicros); // time span
+            l.events += r.events; // event count
+        }); // end forEach
+        return this; // merged summary
+    } // end append method
+
+    /**
+     * Gets the number of events.
+     * 
+     * @return event count
+     */
+    public long getEventCount() { return events; }
+
+    /**
+     * Gets the number of rows skipped because of a malformed timestamp.
+     * 
+     * @return skipped row count
+     */
+    public long getMalformedCount() { return malformed; }
+
+    /**
+     * Gets activity frequencies.
+     * 
+     * @return activity -> count
+     */
+    public Map<String, Long> getActivityCounts() { Map<String, Long> m = new TreeMap<>(); activityCounts.forEach((k, v) -> m.put(k, v[0])); return m; }
+
+    /**
+     * Gets the directly-follows graph: how often one activity is immediately followed by another within a case.
+     * 
+     * @return from -> to -> count
+     */
+    public Map<String, Map<String, Long>> getDirectlyFollows() { // DFG copy
+        Map<String, Map<String, Long>> m = new TreeMap<>(); // ordered copy
+        directlyFollows.forEach((from, tos) -> { Map<String, Long> t = new TreeMap<>(); tos.forEach((to, n) -> t.put(to, n[0])); m.put(from, t); }); // copy edges
+        return m; // DFG
+    } // end getDirectlyFollows method
+
+    /**
+     * Gets the duration of every case (last minus first timestamp).
+     * 
+     * @return Case_ID -> duration in microseconds
+     */
+    public Map<String, Long> getCaseDurationsMicros() { Map<String, Long> m = new TreeMap<>(); cases.forEach((k, c) -> m.put(k, c.maxMicros - c.minMicros)); return m; }
+
+    /**
+     * Gets statistics of the time between SELECT_QUESTION and the following ANSWER.
+     * 
+     * @return answer time statistics in microseconds
+     */
+    public Stats getSelectToAnswer() { return selectToAnswer; }
+
+    /**
+     * Gets answer accuracy per category.
+     * 
+     * @return category -> accuracy
+     */
+    public Map<String, Accuracy> getCategoryAccuracy() { return new TreeMap<>(categoryAccuracy); }
+
+    /**
+     * Writes a human-readable summary.
+     * 
+     * @param out the stream to write to
+     */
+    public void writeReport(PrintStream out) { // text report
+        out.println("Event Log Summary"); // title
+        out.println("================="); // underline
+        out.println("Events: " + events + " | Cases: " + cases.size()); // totals
+        if (malformed > 0) out.println("Skipped rows with malformed timestamps: " + malformed); // bad rows
+        out.println("\nActivity frequencies:"); // section
+        List<Map.Entry<String, long[]>> acts = new ArrayList<>(activityCounts.entrySet()); // sortable entries
+        acts.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0])); // most frequent first
+        for (Map.Entry<String, long[]> e : acts) out.printf("  %-24s %d%n", e.getKey(), e.getValue()[0]); // one line per activity
+        out.println("\nDirectly-follows graph:"); // section
+        getDirectlyFollows().forEach((from, tos) -> tos.forEach((to, n) -> out.printf("  %s -> %s : %d%n", from, to, n))); // one line per edge
+        Stats durations = new Stats(); // case duration statistics
+        for (CaseState c : cases.values()) durations.add(c.maxMicros - c.minMicros); // collect durations
+        out.println("\nCase durations (s): " + durations.describeSeconds()); // durations
+        out.println("SELECT_QUESTION -> ANSWER (s): " + selectToAnswer.describeSeconds()); // answer times
+        out.println("\nCategory accuracy:"); // section
+        getCategoryAccuracy().forEach((k, a) -> out.printf("  %-24s %d/%d (%.1f%%)%n", k.isEmpty() ? "(none)" : k, a.correct, a.total, a.rate() * 100)); // accuracy lines
+    } // end writeReport method
+
+    /**
+     * Adds n to a directly-follows edge.
+     * 
+     * @param from preceding activity
+     * @param to following activity
+     * @param n count to add
+     */
+    private void edge(String from, String to, long n) { directlyFollows.computeIfAbsent(from, k -> new HashMap<>()).computeIfAbsent(to, k -> new long[1])[0] += n; }
+
+    /**
+     * Checks for a question selection, in engine (SELECT_QUESTION) or sample log ("Select Question") naming.
+     * 
+     * @param a activity name
+     * @return true for question selection
+     */
+    static boolean isSelectQuestion(String a) { return a.equalsIgnoreCase("SELECT_QUESTION") || a.equalsIgnoreCase("Select Question"); }
+
+    /**
+     * Checks for an answer, in engine (ANSWER) or sample log ("Answer Question") naming.
+     * 
+     * @param a activity name
+     * @return true for an answer
+     */
+    static boolean isAnswer(String a) { return a.equalsIgnoreCase("ANSWER") || a.equalsIgnoreCase("Answer Question"); }
+
+    /**
+     * Per-case state within a slice.
+     */
+    private static final class CaseState { // case state
+        final String firstActivity; // first activity in the slice
+        String lastActivity; // last activity in the slice
+        long minMicros, maxMicros; // time span
+        long events = 0; // events in the slice
+        long pendingSelect = NONE; // unanswered SELECT_QUESTION time at the end of the slice
+        long leadingAnswer = NONE; // first ANSWER before any SELECT_QUESTION in the slice
+        boolean sawSelect = false; // whether the slice contains a SELECT_QUESTION
+
+        CaseState(String activity, long micros) { firstActivity = activity; lastActivity = activity; minMicros = micros; maxMicros = micros; } // constructor
+    } // end CaseState class
+
+    /**
+     * Count, total, minimum and maximum of a set of durations in microseconds.
+     */
+    public static final class Stats { // duration statistics
+        private long count = 0, sum = 0, min = Long.MAX_VALUE, max = Long.MIN_VALUE; // aggregates
+
+        void add(long v) { count++; sum += v; min = Math.min(min, v); max = Math.max(max, v); } // add sample
+        void merge(Stats o) { count += o.count; sum += o.sum; min = Math.min(min, o.min); max = Math.max(max, o.max); } // combine
+
+        /** @return number of samples */
+        public long getCount() { return count; }
+        /** @return mean in microseconds, or 0 without samples */
+        public double getMeanMicros() { return count == 0 ? 0 : (double) sum / count; }
+        /** @return minimum in microseconds, or 0 without samples */
+        public long getMinMicros() { return count == 0 ? 0 : min; }
+        /** @return maximum in microseconds, or 0 without samples */
+        public long getMaxMicros() { return count == 0 ? 0 : max; }
+
+        String describeSeconds() { return count == 0 ? "n/a" : String.format("n=%d mean=%.3f min=%.3f max=%.3f", count, getMeanMicros() / 1e6, min / 1e6, max / 1e6); } // report text
+    } // end Stats class
+
+    /**
+     * Correct and total answers for a category.
+     */
+    public static final class Accuracy { // category accuracy
+        private long correct = 0, total = 0; // answer counts
+
+        /** @return correct answers */
+        public long getCorrect() { return correct; }
+        /** @return scored answers */
+        public long getTotal() { return total; }
+        /** @return fraction of correct answers, or 0 without answers */
+        public double rate() { return total == 0 ? 0 : (double) correct / total; }
+    } // end Accuracy class
+} // end of LogSummary class
@@ -0,0 +1,35 @@
+package com.jeopardy.engine; // package declaration
+
+import com.jeopardy.model.TurnRecord; // answered turn
+
+/**
+ * Immutable outcome of a GameEngine command: whether it was accepted, a message explaining a
+ * rejection, the session state afterwards and, for an accepted answer, the turn it completed.
+ * Rejected commands leave the session state unchanged; the only side effect a rejection can
+ * have is an event log entry (see GameEngine.selectCategory).
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public final class CommandResult { // start of CommandResult class
+    private final boolean accepted; // command applied
+    private final String message; // rejection reason, or null
+    private final GameState state; // state after the command
+    private final TurnRecord turn; // answered turn, or null
+
+    CommandResult(boolean accepted, String message, GameState state, TurnRecord turn) { // built by GameEngine
+        this.accepted = accepted; this.message = message; this.state = state; this.turn = turn; // assign fields
+    } // end constructor
+
+    /** @return true if the command was applied */
+    public boolean isAccepted() { return accepted; }
+
+    /** @return why the command was rejected, or null */
+    public String getMessage() { return message; }
+
+    /** @return the session state after the command */
+    public GameState getState() { return state; }
+
+    /** @return the turn completed by an accepted answer, otherwise null */
+    public TurnRecord getTurn() { return turn; }
+} // end of CommandResult class
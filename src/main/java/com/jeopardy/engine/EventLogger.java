@@ -1,22 +1,29 @@
 package com.jeopardy.engine;
 
-import java.io.BufferedWriter; // for writing to files
+import com.jeopardy.eventlog.CsvFileSink; // default CSV file sink
+import com.jeopardy.eventlog.EventSink; // pluggable event destination
+import com.jeopardy.eventlog.FsyncMetrics; // sink fsync statistics
+import com.jeopardy.eventlog.LogEvent; // immutable event snapshot
+import com.jeopardy.jfr.EventLogFlushEvent; // JFR flush event
+import com.jeopardy.jfr.EventLogWriteEvent; // JFR write event
+
 import java.io.File; // for file representation
-import java.io.FileWriter; // for writing character files
-import java.time.ZonedDateTime; // for timestamping
-import java.time.format.DateTimeFormatter; // for formatting timestamps
+import java.util.HashMap; // for per-file instances
+import java.util.Map; // for per-file instances
+import java.util.concurrent.locks.ReentrantLock; // registry lock that does not pin virtual threads
 
 /**
  * Event logger for tracking game activities for process mining.
- * Implements Singleton pattern and logs events in CSV format.
+ * Keeps one shared instance per log file and logs events in CSV format.
+ * Events are handed to an EventSink, which may write synchronously or asynchronously.
  * 
  * @author Group 33
  * @version 1.0
  */
-public class EventLogger { 
-    private static EventLogger instance; // singleton instance
-    private final File outFile; // output file for logs
-    private boolean headerWritten = false; // flag to track if header is written
+public class EventLogger implements AutoCloseable { 
+    private static final Map<File, EventLogger> instances = new HashMap<>(); // shared instance per log file (guarded by LOCK)
+    private static final ReentrantLock LOCK = new ReentrantLock(); // held while a log file is opened, so not a monitor
+    private final EventSink sink; // destination for logged events
 
     /**
      * Private constructor for Singleton pattern.
@@ -25,22 +32,49 @@ public class EventLogger {
      * @throws Exception if file creation fails
      */
     private EventLogger(File outFile) throws Exception { // private constructor
-        this.outFile = outFile; // assign output file
-        if (!outFile.exists()) outFile.createNewFile(); // create file if it doesn't exist
-    } // get singleton instance
+        this(new CsvFileSink(outFile)); // append CSV rows to the file
+    } // end constructor
+
+    /**
+     * Creates a logger writing to the given sink.
+     * 
+     * @param sink the sink events are written to
+     */
+    private EventLogger(EventSink sink) { // sink-based constructor
+        this.sink = sink; // assign sink
+    } // end constructor
 
     /**
-     * Gets the singleton instance of EventLogger.
+     * Gets the shared EventLogger instance for a log file, creating it on first use.
+     * Different files get different instances.
      * 
      * @param outFile the file to write logs to
-     * @return the singleton EventLogger instance
+     * @return the EventLogger instance for that file
      * @throws Exception if file creation fails
      */
-    public static synchronized EventLogger getInstance(File outFile) throws Exception {
-        if (instance == null) instance = new EventLogger(outFile); // create new instance if null
-        return instance; // return singleton instance
+    public static EventLogger getInstance(File outFile) throws Exception {
+        File key = outFile.getAbsoluteFile(); // normalise the lookup key
+        LOCK.lock(); // one instance per file
+        try { // lookup or open
+            EventLogger logger = instances.get(key); // existing instance for this file
+            if (logger == null) { logger = new EventLogger(key); instances.put(key, logger); } // create new instance if absent
+            return logger; // return shared instance
+        } finally { LOCK.unlock(); } // end try
     }
 
+    /**
+     * Creates a standalone logger (not shared through getInstance) that writes to the given sink,
+     * for example an AsyncEventSink wrapping a CsvFileSink.
+     * 
+     * @param sink the sink events are written to
+     * @return a new EventLogger
+     * @throws IllegalArgumentException if sink is null
+     */
+    public static EventLogger create(EventSink sink) { // factory for sink-based loggers
+        if (sink == null) throw new IllegalArgumentException("Sink cannot be null"); // validate sink
+        return new EventLogger(sink); // create logger
+    } // end create method
+
     /**
      * Logs an event with all relevant details.
      * 
@@ -53,32 +87,62 @@ public class EventLogger {
      * @param result the result of the activity (e.g., CORRECT, WRONG, OK)
      * @param scoreAfter the player's score after the activity
      */
-    public synchronized void log(String caseId, String playerId, String activity, String category, Integer questionValue,
-                                 String answerGiven, String result, int scoreAfter) { // log event
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(outFile, true))) { // open file in append mode
-            if (!headerWritten && outFile.length() == 0) { // write header if not written
-                bw.write("Case_ID,Player_ID,Activity,Timestamp,Category,Question_Value,Answer_Given,Result,Score_After_Play\n"); // write CSV header
-                headerWritten = true; // set header written flag
-            } // get current timestamp
-            String ts = ZonedDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME); // format timestamp
-            // prepare CSV line
-            String line = String.format("%s,%s,%s,%s,%s,%s,%s,%s,%d\n", // CSV format
-                    safe(caseId), safe(playerId), safe(activity), safe(ts), safe(category), // CSV fields
-                    questionValue == null ? "" : questionValue.toString(), safe(answerGiven), safe(result), scoreAfter); // remaining fields
-            bw.write(line); // write line to file
+    public void log(String caseId, String playerId, String activity, String category, Integer questionValue,
+                    String answerGiven, String result, int scoreAfter) { // log event
+        LogEvent event = new LogEvent(caseId, playerId, activity, category, questionValue, answerGiven, result, scoreAfter, LogEvent.nowMicros()); // capture event now
+        EventLogWriteEvent jfr = new EventLogWriteEvent(); // flight recorder event
+        jfr.begin(); // time the write
+        try { // hand the event to the sink
+            sink.write(event); // write or enqueue event
         } catch (Exception ex) { // handle exceptions
+            jfr.failed = true; // record failure
             System.err.println("Failed to write log: " + ex.getMessage()); // print error message
         } // end try-catch
+        jfr.end(); // write finished
+        if (jfr.shouldCommit()) { jfr.caseId = caseId; jfr.activity = activity; jfr.sink = sink.getClass().getSimpleName(); jfr.commit(); } // record write
     } // end log method
 
     /**
-     * Sanitizes strings for CSV format by removing commas and newlines.
+     * Waits until all events logged so far have been handed to storage.
+     */
+    public void flush() { // flush sink
+        EventLogFlushEvent jfr = new EventLogFlushEvent(); // flight recorder event
+        jfr.begin(); // time the flush
+        try { sink.flush(); } catch (Exception ex) { System.err.println("Failed to flush log: " + ex.getMessage()); } // report failures
+        jfr.end(); // flush finished
+        if (jfr.shouldCommit()) { jfr.sink = sink.getClass().getSimpleName(); fsync(jfr); jfr.commit(); } // record flush
+    } // end flush method
+
+    /**
+     * Flushes and releases the underlying sink. A closed shared instance is
+     * forgotten, so the next getInstance call for its file opens a fresh one.
+     */
+    @Override // close sink
+    public void close() {
+        LOCK.lock(); try { instances.values().remove(this); } finally { LOCK.unlock(); } // stop sharing this instance
+        EventLogFlushEvent jfr = new EventLogFlushEvent(); // flight recorder event
+        jfr.begin(); // time the final drain
+        try { sink.close(); } catch (Exception ex) { System.err.println("Failed to close log: " + ex.getMessage()); } // report failures
+        jfr.end(); // close finished
+        if (jfr.shouldCommit()) { jfr.sink = sink.getClass().getSimpleName(); jfr.close = true; fsync(jfr); jfr.commit(); } // record close
+    } // end close method
+
+    /**
+     * Copies the sink's fsync statistics onto a flush event.
+     * 
+     * @param jfr the event to fill in
+     */
+    private void fsync(EventLogFlushEvent jfr) { // fsync fields
+        FsyncMetrics m = sink.getFsyncMetrics(); // null when the sink never forces
+        if (m == null) return; // nothing to report
+        jfr.fsyncs = m.getCount(); jfr.fsyncedEvents = m.getEventsSynced(); // counts
+        jfr.fsyncP99 = m.percentileMicros(99); jfr.fsyncMax = m.getMaxNanos() / 1000; // latency
+    } // end fsync method
+
+    /**
+     * Gets the sink this logger writes to.
      * 
-     * @param s the string to sanitize
-     * @return the sanitized string safe for CSV
+     * @return the event sink
      */
-    private String safe(String s) { // replace commas and newlines
-        if (s == null) return ""; // handle nulls
-        return s.replaceAll(",", " ").replaceAll("\n", " ").replaceAll("\r", " "); // sanitize string
-    } // end safe method
+    public EventSink getSink() { return sink; } // end getSink method
 }
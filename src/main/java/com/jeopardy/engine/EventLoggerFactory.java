@@ -0,0 +1,130 @@
+package com.jeopardy.engine; // package declaration
+
+import com.jeopardy.eventlog.AsyncEventSink; // asynchronous batched writes
+import com.jeopardy.eventlog.BinaryEventSink; // compact binary log
+import com.jeopardy.eventlog.CsvFileSink; // single CSV file
+import com.jeopardy.eventlog.DurabilityPolicy; // fsync policy
+import com.jeopardy.eventlog.EventLogIndex; // sidecar index
+import com.jeopardy.eventlog.EventSink; // sink interface
+import com.jeopardy.eventlog.PartitionedEventSink; // per-case partitions
+import com.jeopardy.eventlog.SegmentedCsvSink; // rotating segments
+
+import java.io.File; // for file representation
+
+/**
+ * Factory class to obtain an EventLogger for the configured log layout.
+ * Keeps the choice of sink (single file, segments, partitions, async) out of the game code.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class EventLoggerFactory { // start of factory class
+    /** Base name of the event log file, segment prefix and partition directory. */
+    public static final String LOG_NAME = "game_event_log";
+
+    private EventLoggerFactory() {} // static factory only
+
+    /**
+     * Returns the shared logger that appends to a single CSV file.
+     * 
+     * @param file the CSV file
+     * @return the EventLogger for that file
+     * @throws Exception if the file cannot be opened
+     */
+    public static EventLogger csv(File file) throws Exception { return EventLogger.getInstance(file); }
+
+    /**
+     * Returns a logger that writes each Case_ID (or hash bucket of case IDs) to its own file.
+     * 
+     * @param directory the directory for partition files
+     * @param buckets the number of hash buckets, or 0 for one file per Case_ID
+     * @return a partitioned EventLogger
+     * @throws Exception if the directory cannot be created
+     */
+    public static EventLogger partitioned(File directory, int buckets) throws Exception { return EventLogger.create(new PartitionedEventSink(directory, buckets)); }
+
+    /**
+     * Returns a logger that appends to a single CSV file and maintains its sidecar index.
+     * 
+     * @param file the CSV file
+     * @return an indexed EventLogger
+     * @throws Exception if the file or index cannot be opened
+     */
+    public static EventLogger indexed(File file) throws Exception { return EventLogger.create(new CsvFileSink(file, EventLogIndex.open(file))); }
+
+    /**
+     * Returns a logger that writes the compact binary event log format.
+     * 
+     * @param file the binary log file
+     * @return a binary EventLogger
+     * @throws Exception if the file cannot be opened
+     */
+    public static EventLogger binary(File file) throws Exception { return EventLogger.create(new BinaryEventSink(file)); }
+
+    /**
+     * Builds a logger from system properties:
+     * jeopardy.log.format=binary selects the compact binary log,
+     * jeopardy.log.partitioned / jeopardy.log.buckets select per-case partitions,
+     * jeopardy.log.segmentBytes / segmentMillis / gzip select rotating segments,
+     * jeopardy.log.index maintains a sidecar index for the single-file CSV log,
+     * jeopardy.log.durability (none, batch or event) forces the CSV, segmented or binary log to disk,
+     * and jeopardy.log.async adds a background writer in front of any layout.
+     * With no properties set this is the shared single-file CSV logger.
+     * 
+     * @param baseDir the directory logs are written under
+     * @return the configured EventLogger
+     * @throws Exception if the log cannot be opened
+     */
+    public static EventLogger fromSystemProperties(File baseDir) throws Exception { // configure from -D flags
+        EventSink sink = null; // null keeps the shared single-file logger
+        DurabilityPolicy durability = durability(); // fsync policy
+        if (isBinary()) { // compact binary log
+            sink = new BinaryEventSink(logLocation(baseDir), durability); // binary layout
+        } else if (Boolean.getBoolean("jeopardy.log.partitioned")) { // one file per case or bucket
+            sink = new PartitionedEventSink(logLocation(baseDir), Integer.getInteger("jeopardy.log.buckets", 0)); // partitioned layout
+        } else if (Long.getLong("jeopardy.log.segmentBytes", 0L) > 0) { // rotating segments
+            sink = new SegmentedCsvSink(logLocation(baseDir), LOG_NAME, Long.getLong("jeopardy.log.segmentBytes"), Long.getLong("jeopardy.log.segmentMillis", 0L), Boolean.getBoolean("jeopardy.log.gzip"), durability); // segmented layout
+        } else if (Boolean.getBoolean("jeopardy.log.index")) { // single file with sidecar index
+            sink = new CsvFileSink(logLocation(baseDir), EventLogIndex.open(logLocation(baseDir)), durability); // indexed layout
+        } else if (durability != DurabilityPolicy.osBuffered()) { // single file forced to disk
+            sink = new CsvFileSink(logLocation(baseDir), null, durability); // durable layout
+        } // end if
+        if (Boolean.getBoolean("jeopardy.log.async")) sink = new AsyncEventSink(sink != null ? sink : new CsvFileSink(logLocation(baseDir))); // asynchronous batched writes
+        return sink != null ? EventLogger.create(sink) : csv(logLocation(baseDir)); // configured logger
+    } // end fromSystemProperties method
+
+    /**
+     * Returns where fromSystemProperties writes: the CSV or binary file, or the directory for segmented and partitioned layouts.
+     * 
+     * @param baseDir the directory logs are written under
+     * @return the log file or directory
+     */
+    public static File logLocation(File baseDir) { // log path for the current properties
+        if (isBinary()) return new File(baseDir, LOG_NAME + ".evlog"); // binary log file
+        boolean directory = Boolean.getBoolean("jeopardy.log.partitioned") || Long.getLong("jeopardy.log.segmentBytes", 0L) > 0; // multi-file layouts
+        return directory ? new File(baseDir, LOG_NAME) : new File(baseDir, LOG_NAME + ".csv"); // location
+    } // end logLocation method
+
+    /**
+     * Reads the durability policy: jeopardy.log.durability=none (default), batch or event, with
+     * jeopardy.log.fsyncMillis and jeopardy.log.fsyncEvents as the group-commit limits.
+     * 
+     * @return the configured policy
+     */
+    private static DurabilityPolicy durability() { // policy from -D flags
+        String mode = System.getProperty("jeopardy.log.durability", "none"); // mode name
+        switch (mode.toLowerCase()) { // pick policy
+            case "none": return DurabilityPolicy.osBuffered(); // OS page cache
+            case "event": return DurabilityPolicy.perEvent(); // force every write
+            case "batch": return DurabilityPolicy.groupCommit(Long.getLong("jeopardy.log.fsyncMillis", DurabilityPolicy.DEFAULT_GROUP_MILLIS), Integer.getInteger("jeopardy.log.fsyncEvents", DurabilityPolicy.DEFAULT_GROUP_EVENTS)); // group commit
+            default: throw new IllegalArgumentException("Unknown jeopardy.log.durability: " + mode); // reject typos
+        } // end switch
+    } // end durability method
+
+    /**
+     * Checks whether the binary log format is selected.
+     * 
+     * @return true if jeopardy.log.format is binary
+     */
+    private static boolean isBinary() { return "binary".equalsIgnoreCase(System.getProperty("jeopardy.log.format")); }
+} // end of factory class
@@ -1,9 +1,18 @@
 package com.jeopardy.engine;
 
+import com.jeopardy.jfr.AnswerScoredEvent; // JFR answer scoring event
+import com.jeopardy.jfr.CategorySelectedEvent; // JFR category event
+import com.jeopardy.jfr.PlayerJoinEvent; // JFR player event
+import com.jeopardy.jfr.QuestionLoadEvent; // JFR load event
+import com.jeopardy.jfr.QuestionSelectedEvent; // JFR question event
+import com.jeopardy.loaders.CachingQuestionLoader; // snapshot cache for question files
 import com.jeopardy.loaders.QuestionLoader; // interface for loading questions
 import com.jeopardy.loaders.QuestionLoaderFactory; // factory for getting appropriate question loader
 import com.jeopardy.model.Player; // player model
 import com.jeopardy.model.Question; // question model
+import com.jeopardy.model.QuestionBank; // immutable shared board
+import com.jeopardy.model.QuestionStore; // compact question bank
+import com.jeopardy.model.StringPool; // shared repeated strings
 import com.jeopardy.model.TurnRecord; // record of a turn
 import com.jeopardy.scoring.ScoringStrategy; // interface for scoring strategy
 import com.jeopardy.scoring.SimpleScoringStrategy; // simple scoring strategy implementation
@@ -11,37 +20,61 @@ import com.jeopardy.scoring.SimpleScoringStrategy; // simple scoring strategy im
 import java.io.File; // for file representation
 import java.time.ZonedDateTime; // for timestamping
 import java.util.*; // for collections and utilities
-import java.util.stream.Collectors; // for stream operations
+import java.util.concurrent.atomic.AtomicInteger; // keeps interrupts out of log writes
 
 /**
  * Main game engine managing Jeopardy gameplay.
- * Implements Singleton pattern to ensure single instance throughout application.
+ * Each instance is one game session with its own players, turn records and asked questions,
+ * identified by its case ID. The board itself is an immutable QuestionBank that any number of
+ * sessions may share; a session only keeps a bit per board cell for the questions it has asked.
+ * The console application uses the shared instance from getInstance; a GameHost creates and
+ * manages many independent sessions in one JVM.
  * 
  * @author Group 33
  * @version 1.0
  */
 
 public class GameEngine {
-    private static GameEngine instance; // singleton instance
-
     private final List<Player> players = new ArrayList<>(); // list of players
-    private final Map<String, Map<Integer, Question>> board = new LinkedHashMap<>(); // game board: category -> (value -> question)
+    private QuestionBank bank = QuestionBank.of(Collections.emptyList()); // game board, possibly shared with other sessions
+    private BitSet asked = new BitSet(); // board cells asked in this session
+    private int[] remainingInCategory = new int[0]; // unasked cells per category number
+    private List<List<Integer>> remainingValues = new ArrayList<>(); // immutable unasked values per category number, rebuilt when one is asked
+    private int remaining; // unasked cells on the whole board
     private final List<TurnRecord> records = new ArrayList<>(); // list of turn records
     private ScoringStrategy scoringStrategy = new SimpleScoringStrategy(true); // scoring strategy
     private EventLogger logger; // event logger
-    private String caseId = UUID.randomUUID().toString(); // unique case ID
-    
-    private GameEngine() {} // private constructor for singleton pattern.
+    private CachingQuestionLoader questionCache; // optional parsed-bank cache
+    private final String caseId; // unique case ID
+    private GameState.Phase phase = GameState.Phase.NOT_STARTED; // turn phase
+    private int current; // index of the current player
+    private String selectedCategory; // category chosen this turn
+    private int selectedCategoryIndex = -1; // its category number
+    private Integer selectedValue; // value chosen this turn
+    private int selectedCell = -1; // board cell awaiting an answer
+    private Question selectedQuestion; // question awaiting an answer
+    private QuestionSelectedEvent questionEvent; // JFR event spanning the answer prompt
+    private volatile long lastCommand = System.nanoTime(); // last play command, System.nanoTime (read by GameHost)
+    private static final int IDLE = 0, LOGGING = 1, INTERRUPT_PENDING = 2, INTERRUPTING = 3; // logState values
+    private final AtomicInteger logState = new AtomicInteger(IDLE); // whether this session is writing to the logger (see interruptOutsideLog)
+
+    /**
+     * Creates an independent game session.
+     * 
+     * @param caseId the case ID identifying this session in the event log
+     * @throws IllegalArgumentException if caseId is null or blank
+     */
+    public GameEngine(String caseId) { // session constructor
+        if (caseId == null || caseId.isBlank()) throw new IllegalArgumentException("Case ID cannot be empty"); // validate case ID
+        this.caseId = caseId; // assign case ID
+    } // end constructor
 
     /**
      * Gets the singleton instance of GameEngine.
      * 
      * @return the singleton GameEngine instance
      */
-    public static synchronized GameEngine getInstance() { // synchronized to ensure thread safety
-        if (instance == null) instance = new GameEngine(); // create new instance if null
-        return instance; // return singleton instance
-    } // end getInstance method
+    public static GameEngine getInstance() { return Holder.INSTANCE; } // created on first use by class initialisation, no lock per call
 
     /**
      * Sets the event logger for tracking game events.
@@ -57,6 +90,13 @@ public class GameEngine {
      */
     public void setScoringStrategy(ScoringStrategy strategy) { this.scoringStrategy = strategy; } // end setScoringStrategy method
 
+    /**
+     * Sets the cache consulted before parsing question files.
+     * 
+     * @param cache the cache, or null to always parse
+     */
+    public void setQuestionCache(CachingQuestionLoader cache) { this.questionCache = cache; } // end setQuestionCache method
+
     /**
      * Loads questions from the specified file into the game board.
      * 
@@ -66,23 +106,45 @@ public class GameEngine {
      */
     // load questions from file
     public void loadQuestions(File file) throws Exception { // load questions from specified file
-        QuestionLoader loader = QuestionLoaderFactory.getLoader(file); // get appropriate loader for file type
+        QuestionLoadEvent jfr = new QuestionLoadEvent(); // flight recorder event
+        jfr.begin(); // time the load
+        StringPool strings = new StringPool(); // repeated strings of this bank share one instance
+        QuestionLoader loader = QuestionLoaderFactory.getLoader(file, strings); // get appropriate loader for file type
         if (loader == null) throw new IllegalArgumentException("Unsupported file type: " + file.getName()); // throw exception if no loader found
-        List<Question> list = loader.load(file); // load questions using the loader
-        // populate board by category and value
-        board.clear(); // clear existing board
-        for (Question q : list) { // iterate over loaded questions
-            board.computeIfAbsent(q.getCategory(), k -> new TreeMap<>()).put(q.getValue(), q); // add question to board
-        } // end for
-        if (logger != null) logger.log(caseId, "SYSTEM", "LOAD_QUESTIONS", "", null, file.getName(), "OK", 0); // log question loading
+        QuestionLoader source = questionCache != null ? questionCache.wrap(loader) : loader; // serve repeat loads from snapshots, parse with the chosen loader
+        useQuestionBank(Boolean.getBoolean(QuestionStore.OFF_HEAP_PROPERTY) ? QuestionBank.of(source.loadStore(file).asList()) : source.loadBank(file)); // off-heap bank with small views on the board, or the loader's board (compiled banks lay it out from their index)
+        jfr.end(); // load finished
+        if (jfr.shouldCommit()) { jfr.caseId = caseId; jfr.file = file.getName(); jfr.loader = loader.getClass().getSimpleName(); jfr.questions = bank.size(); jfr.categories = bank.categories().size(); jfr.sharedStrings = strings.getHits(); jfr.savedBytes = strings.getSavedBytes(); jfr.commit(); } // record load
+        log("SYSTEM", "LOAD_QUESTIONS", "", null, file.getName(), "OK", 0); // log question loading
     } // end loadQuestions method
 
+    /**
+     * Plays on an already loaded board, typically one shared by many sessions. The bank is not
+     * copied and its questions are never modified; this session starts with none asked.
+     * 
+     * @param bank the board
+     * @throws IllegalArgumentException if bank is null
+     */
+    public void useQuestionBank(QuestionBank bank) { // share a board
+        if (bank == null) throw new IllegalArgumentException("Question bank cannot be null"); // validate bank
+        this.bank = bank; // board
+        asked = new BitSet(bank.size()); // fresh session state, sized once
+        remainingInCategory = new int[bank.categories().size()]; // counters
+        for (int c = 0; c < remainingInCategory.length; c++) remainingInCategory[c] = bank.endCell(c) - bank.firstCell(c); // all unasked
+        remainingValues = new ArrayList<>(remainingInCategory.length); // value views
+        for (int c = 0; c < remainingInCategory.length; c++) remainingValues.add(bank.values(c)); // all unasked, shared views
+        remaining = bank.size(); // all unasked
+    } // end useQuestionBank method
+
+    /** @return the board this session plays on */
+    public QuestionBank getQuestionBank() { return bank; } // end getQuestionBank method
+
     /**
      * Adds a player to the game without limit enforcement.
      * 
      * @param p the player to add
      */
-    public void addPlayer(Player p) { players.add(p); if (logger != null) logger.log(caseId, p.getId(), "PLAYER_JOIN", "", null, p.getName(), "OK", p.getScore()); } // end addPlayer method
+    public void addPlayer(Player p) { players.add(p); recordJoin(p, true); log(p.getId(), "PLAYER_JOIN", "", null, p.getName(), "OK", p.getScore()); } // end addPlayer method
 
     /**
      * Adds a player with enforcement of maximum 4 players limit.
@@ -94,29 +156,43 @@ public class GameEngine {
     public void addPlayerWithLimit(Player p) { // add player with max limit
         if (p == null) throw new IllegalArgumentException("Player cannot be null"); // validate player
         if (players.size() >= 4) { // check max players
-            if (logger != null) logger.log(caseId, p.getId(), "PLAYER_JOIN_ATTEMPT", "", null, p.getName(), "FAILED_MAX_PLAYERS", players.stream().mapToInt(Player::getScore).sum()); // log failed attempt due to max players
+            recordJoin(p, false); // flight recorder event
+            log(p.getId(), "PLAYER_JOIN_ATTEMPT", "", null, p.getName(), "FAILED_MAX_PLAYERS", players.stream().mapToInt(Player::getScore).sum()); // log failed attempt due to max players
             throw new IllegalStateException("Cannot add more than 4 players"); // throw exception if limit exceeded
         } // end if
         players.add(p); // add player to list
-        if (logger != null) logger.log(caseId, p.getId(), "PLAYER_JOIN", "", null, p.getName(), "OK", p.getScore()); // log successful player addition
+        recordJoin(p, true); // flight recorder event
+        log(p.getId(), "PLAYER_JOIN", "", null, p.getName(), "OK", p.getScore()); // log successful player addition
     } // end addPlayerWithLimit method
 
+    /**
+     * Emits a JFR player join event when recording is enabled.
+     * 
+     * @param p the player
+     * @param accepted whether the player was added
+     */
+    private void recordJoin(Player p, boolean accepted) { // JFR player event
+        PlayerJoinEvent jfr = new PlayerJoinEvent(); // instant event
+        if (!jfr.shouldCommit()) return; // recording off
+        jfr.caseId = caseId; jfr.playerId = p.getId(); jfr.accepted = accepted; jfr.players = players.size(); // fields
+        jfr.commit(); // record
+    } // end recordJoin method
+
     /**
      * Gets the list of available categories.
      * 
-     * @return list of category names
+     * @return read-only list of category names
      */    
-    public List<String> categories() { return new ArrayList<>(board.keySet()); } // end categories method
+    public List<String> categories() { return bank.categories(); } // end categories method
 
     /**
      * Gets the list of available values for a given category.
      * 
      * @param cat the category name
-     * @return list of available point values for the category
+     * @return read-only list of point values for the category
      */
     public List<Integer> valuesForCategory(String cat) { // get available values for a category
-        if (!board.containsKey(cat)) return Collections.emptyList(); // return empty list if category not found
-        return new ArrayList<>(board.get(cat).keySet()); // return list of values for the category
+        return bank.values(cat); // values for the category, empty if not found
     } // end valuesForCategory method
 
     /**
@@ -125,29 +201,151 @@ public class GameEngine {
      * @return true if all questions have been asked, false otherwise
      */
     public boolean allAnswered() { // check if all questions have been answered
-        for (Map<Integer, Question> m : board.values()) for (Question q : m.values()) if (!q.isAsked()) return false; // if any question not asked,
-        return true; // all questions have been asked
+        return remaining == 0; // every cell asked
     } // end allAnswered method
 
+    /**
+     * Starts the game: logs its start and gives the first turn to the first player.
+     * 
+     * @return the result; rejected if there are no players or the game already started
+     */
+    public CommandResult start() { // begin play
+        if (phase != GameState.Phase.NOT_STARTED) return reject("Game already started"); // once only
+        if (players.isEmpty()) return reject("No players added. Add players first."); // need players
+        log("SYSTEM", "START_GAME", "", null, "", "OK", players.stream().mapToInt(Player::getScore).sum()); // log game start
+        phase = GameState.Phase.SELECT_QUESTION; current = 0; // first turn
+        if (allAnswered()) finish(); // nothing to play
+        return accept(null); // started
+    } // end start method
+
+    /**
+     * Selects a category for the current player's turn. May be repeated to change category
+     * until a question is selected.
+     * 
+     * @param cat the category name
+     * @return the result, whose state lists the category's remaining values; rejected if the
+     *         category is unknown or has no questions left, or if no question is being selected.
+     *         A rejection keeps any earlier selection; an exhausted category is still logged as
+     *         SELECT_CATEGORY, since the player did choose it.
+     */
+    public CommandResult selectCategory(String cat) { // choose category
+        if (phase != GameState.Phase.SELECT_QUESTION) return reject(phaseMessage()); // wrong phase
+        int c = bank.categoryIndex(cat); // category number
+        if (c < 0) return reject("Invalid"); // unknown category
+        Player p = players.get(current); // current player
+        CategorySelectedEvent catEvent = new CategorySelectedEvent(); // flight recorder event
+        if (catEvent.shouldCommit()) { catEvent.caseId = caseId; catEvent.playerId = p.getId(); catEvent.category = cat; catEvent.commit(); } // record selection
+        log(p.getId(), "SELECT_CATEGORY", cat, null, "", "OK", p.getScore()); // log category selection
+        if (remainingInCategory[c] == 0) return reject("No remaining questions in this category."); // nothing left, selection unchanged
+        selectedCategory = cat; selectedCategoryIndex = c; // remember category
+        return accept(null); // category selected
+    } // end selectCategory method
+
+    /**
+     * Selects a question of the chosen category and shows it to the current player.
+     * 
+     * @param value the question value
+     * @return the result, whose state holds the question text and choices; rejected if no
+     *         category is selected, the value is not on the board or was already asked
+     */
+    public CommandResult selectQuestion(int value) { // choose question
+        if (phase != GameState.Phase.SELECT_QUESTION) return reject(phaseMessage()); // wrong phase
+        if (selectedCategory == null) return reject("Select a category first"); // need category
+        int cell = bank.cell(selectedCategoryIndex, value); // selected cell
+        if (cell < 0) return reject("Invalid"); // not on the board
+        if (asked.get(cell)) return reject("Already asked"); // check if question already asked
+        Player p = players.get(current); // current player
+        log(p.getId(), "SELECT_QUESTION", selectedCategory, value, "", "OK", p.getScore()); // log question selection
+        questionEvent = new QuestionSelectedEvent(); // flight recorder event, spans the answer prompt
+        questionEvent.begin(); // question shown
+        selectedCell = cell; selectedQuestion = bank.question(cell); selectedValue = value; phase = GameState.Phase.ANSWER; // await answer
+        return accept(null); // question shown
+    } // end selectQuestion method
+
+    /**
+     * Answers the shown question for the current player, scores it and passes the turn on.
+     * The game ends by itself once every question has been asked.
+     * 
+     * @param answer the player's answer (a choice letter or the answer text)
+     * @return the result with the completed turn; rejected if no question is shown
+     */
+    public CommandResult submitAnswer(String answer) { // answer question
+        if (phase != GameState.Phase.ANSWER) return reject(phaseMessage()); // wrong phase
+        String ans = answer == null ? "" : answer.trim(); // raw answer
+        Player p = players.get(current); // current player
+        String cat = selectedCategory; int value = selectedValue; Question q = selectedQuestion; // selected question
+        questionEvent.end(); // answer entered
+        if (questionEvent.shouldCommit()) { questionEvent.caseId = caseId; questionEvent.playerId = p.getId(); questionEvent.category = cat; questionEvent.value = value; questionEvent.commit(); } // record think time
+
+        // Use the user's raw answer for scoring (comparisons use Question.getAnswer())
+        // call scoring (scoring strategy will resolve single-letter answers against choices)
+        AnswerScoredEvent scoreEvent = new AnswerScoredEvent(); // flight recorder event
+        scoreEvent.begin(); // time scoring
+        int delta = scoringStrategy.scoreForAnswer(p, q, ans); // calculate score delta
+        boolean correct = delta > 0; // determine if answer is correct
+        p.addScore(delta); // update player score
+        scoreEvent.end(); // scoring finished
+        if (scoreEvent.shouldCommit()) { scoreEvent.caseId = caseId; scoreEvent.playerId = p.getId(); scoreEvent.category = cat; scoreEvent.value = value; scoreEvent.correct = correct; scoreEvent.points = delta; scoreEvent.scoreAfter = p.getScore(); scoreEvent.commit(); } // record scoring
+        asked.set(selectedCell); // mark question as asked in this session only
+        remainingInCategory[selectedCategoryIndex]--; remaining--; // counters
+        remainingValues.set(selectedCategoryIndex, unaskedValues(selectedCategoryIndex)); // once per answer, not per snapshot
+
+        // Log score update
+        log(p.getId(), "SCORE_UPDATED", cat, value, ans, correct ? "CORRECT" : "WRONG", p.getScore()); // log score update
+
+        TurnRecord tr = new TurnRecord(p.getId(), p.getName(), cat, value, q.getText(), q.getChoiceA(), q.getChoiceB(), q.getChoiceC(), q.getChoiceD(), ans, correct, delta, p.getScore(), ZonedDateTime.now()); // create turn record
+        records.add(tr); // add turn record to list
+        log(p.getId(), "ANSWER", cat, value, ans, correct ? "CORRECT" : "WRONG", p.getScore()); // log answer
+
+        current = (current + 1) % players.size(); // move to next player
+        selectedCategory = null; selectedCategoryIndex = -1; selectedCell = -1; selectedQuestion = null; selectedValue = null; questionEvent = null; // clear selection
+        phase = GameState.Phase.SELECT_QUESTION; // next turn
+        if (allAnswered()) finish(); // board cleared
+        return accept(tr); // answered
+    } // end submitAnswer method
+
+    /**
+     * Ends the game early, as when a player quits.
+     * 
+     * @return the result; rejected if the game is already over
+     */
+    public CommandResult endGame() { // quit
+        if (phase == GameState.Phase.GAME_OVER) return reject(phaseMessage()); // already over
+        finish(); // end game
+        return accept(null); // ended
+    } // end endGame method
+
+    /**
+     * Takes an immutable snapshot of the session.
+     * 
+     * @return the current state
+     */
+    public GameState state() { // snapshot
+        Player p = players.isEmpty() ? null : players.get(current % players.size()); // current player
+        Map<String, Integer> scores = new LinkedHashMap<>(); // scores in join order
+        for (Player pl : players) scores.put(pl.getId(), pl.getScore()); // player scores
+        Map<String, String> choices = selectedQuestion == null ? Collections.emptyMap() : new LinkedHashMap<>(); // shown question's choices
+        if (selectedQuestion != null) for (String letter : new String[] {"A", "B", "C", "D"}) { String c = selectedQuestion.getChoiceByLetter(letter); if (c != null) choices.put(letter, c); } // non-null choices
+        return new GameState(caseId, phase, p == null ? null : p.getId(), p == null ? null : p.getName(), p == null ? 0 : p.getScore(), scores, categories(), // session and players
+            selectedCategory, selectedCategory == null ? Collections.emptyList() : remainingValues.get(selectedCategoryIndex), selectedValue, // selection
+            selectedQuestion == null ? null : selectedQuestion.getText(), choices, records.size(), remaining); // prompt and progress
+    } // end state method
+
     /**
      * Runs the game in console mode with user interaction.
      * Manages turn-based gameplay until all questions are answered or game is quit.
+     * A thin client over start, selectCategory, selectQuestion, submitAnswer and endGame.
      */
     public void runConsoleGame() { // run the game in console mode
         try (Scanner sc = new Scanner(System.in)) { // scanner for user input
-            if (players.isEmpty()) { // check if players are added
-                System.out.println("No players added. Add players first."); // notify no players
-                return; // exit if no players
-            } // end if
-            // Log start of game
-            if (logger != null) logger.log(caseId, "SYSTEM", "START_GAME", "", null, "", "OK", players.stream().mapToInt(Player::getScore).sum()); // log game start
-            int current = 0; // index of current player
-            while (!allAnswered()) { // continue until all questions answered
-                Player p = players.get(current); // get current player
-                System.out.println("\nPlayer: " + p.getName() + " (Score: " + p.getScore() + ")"); // display current player and score
+            CommandResult started = start(); // begin play
+            if (!started.isAccepted()) { System.out.println(started.getMessage()); return; } // e.g. no players
+            while (state().getPhase() != GameState.Phase.GAME_OVER) { // continue until all questions answered
+                GameState s = state(); // current turn
+                System.out.println("\nPlayer: " + s.getPlayerName() + " (Score: " + s.getPlayerScore() + ")"); // display current player and score
                 System.out.println("Categories:"); // display categories
                 int i=1; // index for category numbering
-                List<String> cats = categories(); // get list of categories
+                List<String> cats = s.getCategories(); // get list of categories
                 for (String c : cats) System.out.println((i++)+". " + c); // print categories with numbers
                 System.out.print("Choose category number or 'q' to quit: "); // prompt for category choice
                 String catInput = sc.nextLine().trim(); // read category input
@@ -155,52 +353,21 @@ public class GameEngine {
                 int cidx = -1; // category index
                 try { cidx = Integer.parseInt(catInput)-1; } catch (Exception ex) { System.out.println("Invalid"); continue; } // parse category index
                 if (cidx < 0 || cidx >= cats.size()) { System.out.println("Invalid"); continue; } // validate category index
-                String cat = cats.get(cidx); // get selected category
-                // Log category selection
-                if (logger != null) logger.log(caseId, p.getId(), "SELECT_CATEGORY", cat, null, "", "OK", p.getScore()); // log category selection
-                List<Integer> values = valuesForCategory(cat).stream().filter(v -> !board.get(cat).get(v).isAsked()).collect(Collectors.toList()); // get available values
-                if (values.isEmpty()) { System.out.println("No remaining questions in this category."); continue; } // notify if no questions left
-                System.out.println("Available values: " + values); // display available values
+                CommandResult r = selectCategory(cats.get(cidx)); // select category
+                if (!r.isAccepted()) { System.out.println(r.getMessage()); continue; } // e.g. no remaining questions
+                System.out.println("Available values: " + r.getState().getAvailableValues()); // display available values
                 System.out.print("Choose value: "); // prompt for value choice
                 String vStr = sc.nextLine().trim(); // read value input
                 int value = 0; try { value = Integer.parseInt(vStr); } catch (Exception ex) { System.out.println("Invalid"); continue; } // parse value
-                if (!board.get(cat).containsKey(value)) { System.out.println("Invalid"); continue; } // validate value
-                Question q = board.get(cat).get(value); // get selected question
-                if (q.isAsked()) { System.out.println("Already asked"); continue; } // check if question already asked
-
-                // Log question selection
-                if (logger != null) logger.log(caseId, p.getId(), "SELECT_QUESTION", cat, value, "", "OK", p.getScore()); // log question selection
-
-                System.out.println("Question: " + q.getText()); // display question text
-                // print multiple-choice options if available
-                if (q.getChoiceA() != null) System.out.println("(A) " + q.getChoiceA()); // print choice A
-                if (q.getChoiceB() != null) System.out.println("(B) " + q.getChoiceB()); // print choice B
-                if (q.getChoiceC() != null) System.out.println("(C) " + q.getChoiceC()); // print choice C
-                if (q.getChoiceD() != null) System.out.println("(D) " + q.getChoiceD()); // print choice D
+                r = selectQuestion(value); // select question
+                if (!r.isAccepted()) { System.out.println(r.getMessage()); continue; } // invalid or already asked
+                System.out.println("Question: " + r.getState().getQuestionText()); // display question text
+                r.getState().getChoices().forEach((letter, text) -> System.out.println("(" + letter + ") " + text)); // print multiple-choice options if available
                 System.out.print("Your answer: "); // prompt for answer
-                String ans = sc.nextLine().trim(); // read answer
-
-                // Use the user's raw answer for scoring (comparisons use Question.getAnswer())
-                // call scoring (scoring strategy will resolve single-letter answers against choices)
-                int delta = scoringStrategy.scoreForAnswer(p, q, ans); // calculate score delta
-                boolean correct = delta > 0; // determine if answer is correct
-                p.addScore(delta); // update player score
-                q.setAsked(true); // mark question as asked
-
-                // Log score update
-                if (logger != null) logger.log(caseId, p.getId(), "SCORE_UPDATED", cat, value, ans, correct ? "CORRECT" : "WRONG", p.getScore()); // log score update
-
-                TurnRecord tr = new TurnRecord(p.getId(), p.getName(), cat, value, q.getText(), q.getChoiceA(), q.getChoiceB(), q.getChoiceC(), q.getChoiceD(), ans, correct, delta, p.getScore(), ZonedDateTime.now()); // create turn record
-                records.add(tr); // add turn record to list
-                if (logger != null) logger.log(caseId, p.getId(), "ANSWER", cat, value, ans, correct ? "CORRECT" : "WRONG", p.getScore()); // log answer
-
-                System.out.println((correct?"Correct!":"Wrong!") + " Points: " + delta + " New total: " + p.getScore()); // display result
-                // move to next player
-
-                current = (current + 1) % players.size(); // update current player index
+                TurnRecord tr = submitAnswer(sc.nextLine()).getTurn(); // score answer
+                System.out.println((tr.isCorrect()?"Correct!":"Wrong!") + " Points: " + tr.getPointsEarned() + " New total: " + tr.getRunningTotal()); // display result
             } // end while
-            // Log end of game
-            if (logger != null) logger.log(caseId, "SYSTEM", "END_GAME", "", null, "", "OK", players.stream().mapToInt(Player::getScore).sum()); // log game end
+            if (state().getPhase() != GameState.Phase.GAME_OVER) endGame(); // player quit
             System.out.println("Game over. Generating report..."); // notify game over
             // Print final scores
             System.out.println("Final Scores:"); // display final scores header
@@ -211,6 +378,89 @@ public class GameEngine {
         }
     }
 
+    /**
+     * Builds the immutable list of a category's unasked values in ascending order.
+     * 
+     * @param c the category number
+     * @return remaining values, reusing the bank's boxed values
+     */
+    private List<Integer> unaskedValues(int c) { // unasked values
+        List<Integer> all = bank.values(c); // every value of the category
+        Integer[] values = new Integer[remainingInCategory[c]]; // result
+        int n = 0; // filled
+        for (int i = bank.firstCell(c); i < bank.endCell(c); i++) if (!asked.get(i)) values[n++] = all.get(i - bank.firstCell(c)); // cells are in ascending value order
+        return List.of(values); // remaining values
+    } // end unaskedValues method
+
+    /**
+     * Ends the game and logs it.
+     */
+    private void finish() { // game over
+        phase = GameState.Phase.GAME_OVER; selectedCategory = null; selectedCategoryIndex = -1; selectedCell = -1; selectedQuestion = null; selectedValue = null; questionEvent = null; // clear turn
+        log("SYSTEM", "END_GAME", "", null, "", "OK", players.stream().mapToInt(Player::getScore).sum()); // log game end
+    } // end finish method
+
+    /**
+     * Explains why a command does not fit the current phase.
+     * 
+     * @return the message
+     */
+    private String phaseMessage() { // wrong-phase message
+        switch (phase) { // by phase
+            case NOT_STARTED: return "Game not started"; // before start
+            case ANSWER: return "Answer the current question first"; // question shown
+            case GAME_OVER: return "Game over"; // finished
+            default: return "Select a question first"; // selecting
+        } // end switch
+    } // end phaseMessage method
+
+    private CommandResult accept(TurnRecord turn) { lastCommand = System.nanoTime(); return new CommandResult(true, null, state(), turn); }
+
+    private CommandResult reject(String message) { lastCommand = System.nanoTime(); return new CommandResult(false, message, state(), null); }
+
+    /**
+     * Gets when the last play command ran, accepted or rejected.
+     * 
+     * @return System.nanoTime of the last command, or of construction
+     */
+    long lastCommandNanos() { return lastCommand; }
+
+    /**
+     * Interrupts the thread driving this session, but never while it is writing to the logger:
+     * an interrupt during a FileChannel write closes the channel and so breaks the logger for
+     * every session sharing it. If a write is in progress the interrupt is left pending and the
+     * writing thread interrupts itself once the write is done; this call never waits for it.
+     * 
+     * @param thread the thread running this session's loop
+     */
+    void interruptOutsideLog(Thread thread) { // safe interrupt
+        while (true) { // retry on a concurrent state change
+            int state = logState.get(); // current state
+            if (state == INTERRUPT_PENDING) return; // already requested
+            if (state == LOGGING && logState.compareAndSet(LOGGING, INTERRUPT_PENDING)) return; // writer interrupts itself afterwards
+            if (state == IDLE && logState.compareAndSet(IDLE, INTERRUPTING)) { // no write can start now
+                try { thread.interrupt(); } finally { logState.set(IDLE); } // end try
+                return; // interrupted
+            } // end if
+            Thread.onSpinWait(); // another interrupter is mid-call
+        } // end while
+    } // end interruptOutsideLog method
+
+    /**
+     * Logs an event of this session. A pending interrupt is held back during the write (so the
+     * sink's channel survives it) and restored afterwards.
+     */
+    private void log(String playerId, String activity, String category, Integer value, String answer, String result, int score) { // session event
+        if (logger == null) return; // logging disabled
+        while (!logState.compareAndSet(IDLE, LOGGING)) Thread.onSpinWait(); // wait out an interrupt being delivered
+        boolean interrupted = Thread.interrupted(); // hold back a pending interrupt
+        try { logger.log(caseId, playerId, activity, category, value, answer, result, score); } // write
+        finally { // write done
+            boolean requested = logState.getAndSet(IDLE) == INTERRUPT_PENDING; // interrupt asked for during the write
+            if (requested || interrupted) Thread.currentThread().interrupt(); // deliver interrupts held back
+        } // end try
+    } // end log method
+
     /**
      * Gets the list of turn records.
      * 
@@ -231,4 +481,11 @@ public class GameEngine {
      * @return the case ID string
      */   
     public String getCaseId() { return caseId; } // end getCaseId method
+
+    /**
+     * Lazily created shared instance, initialised safely by the class loader.
+     */
+    private static final class Holder { // start of Holder class
+        static final GameEngine INSTANCE = new GameEngine(UUID.randomUUID().toString()); // singleton instance
+    } // end of Holder class
 }
\ No newline at end of file
@@ -0,0 +1,256 @@
+package com.jeopardy.engine; // package declaration
+
+import com.jeopardy.model.QuestionBank; // shared board
+import com.jeopardy.scoring.ScoringStrategy; // per-session scoring
+import com.jeopardy.scoring.SimpleScoringStrategy; // default scoring
+
+import java.time.Duration; // idle timeout
+import java.util.ArrayList; // eviction results
+import java.util.List; // eviction results
+import java.util.Set; // case IDs
+import java.util.UUID; // new case IDs
+import java.util.concurrent.ConcurrentHashMap; // concurrent session table
+import java.util.concurrent.ExecutorService; // runs session loops
+import java.util.concurrent.Executors; // virtual-thread executor
+import java.util.concurrent.Future; // running session loop
+import java.util.concurrent.TimeUnit; // shutdown wait
+import java.util.function.Consumer; // session loop
+import java.util.function.Supplier; // scoring per session
+
+/**
+ * Hosts many independent game sessions in one JVM, keyed by case ID.
+ * Each session is its own GameEngine with its own players, turn records and asked questions; they
+ * share the host's event logger, which is safe for concurrent use, and may share one immutable
+ * QuestionBank, so a loaded board costs its memory once however many games play on it. Sessions can be created, looked
+ * up and evicted from any thread. A session itself is meant to be driven by one thread at a time.
+ * A host made by virtualThreads can also run each session's turn loop on its own virtual thread,
+ * so many mostly idle games can block on player input without holding a platform thread each.
+ * A session counts as used when it is looked up or plays a command, and a session whose loop is
+ * still running is never evicted as idle; evicting a session cancels its loop. Loops are only
+ * interrupted between log writes, since an interrupt mid-write would close the shared logger's file.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class GameHost implements AutoCloseable { // start of GameHost class
+    private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>(); // live sessions
+    private final EventLogger logger; // shared event logger, may be null
+    private final Supplier<? extends ScoringStrategy> scoring; // scoring for new sessions
+    private final int maxSessions; // session limit
+    private final ExecutorService executor; // runs session loops, or null
+
+    /**
+     * Creates a host without an event logger, default scoring and no session limit.
+     */
+    public GameHost() { this(null, () -> new SimpleScoringStrategy(true), Integer.MAX_VALUE); }
+
+    /**
+     * Creates a host.
+     * 
+     * @param logger event logger shared by every session, or null
+     * @param scoring creates the scoring strategy of each new session
+     * @param maxSessions most sessions alive at once
+     * @throws IllegalArgumentException if scoring is null or maxSessions is not positive
+     */
+    public GameHost(EventLogger logger, Supplier<? extends ScoringStrategy> scoring, int maxSessions) { this(logger, scoring, maxSessions, null); }
+
+    /**
+     * Creates a host that runs session loops on the given executor, which it then owns.
+     * 
+     * @param logger event logger shared by every session, or null
+     * @param scoring creates the scoring strategy of each new session
+     * @param maxSessions most sessions alive at once
+     * @param executor runs the loops passed to run, or null if the host does not run loops
+     * @throws IllegalArgumentException if scoring is null or maxSessions is not positive
+     */
+    public GameHost(EventLogger logger, Supplier<? extends ScoringStrategy> scoring, int maxSessions, ExecutorService executor) { // constructor
+        if (scoring == null) throw new IllegalArgumentException("Scoring supplier cannot be null"); // validate
+        if (maxSessions <= 0) throw new IllegalArgumentException("Session limit must be positive"); // validate
+        this.logger = logger; // shared logger
+        this.scoring = scoring; // scoring factory
+        this.maxSessions = maxSessions; // limit
+        this.executor = executor; // session loops
+    } // end constructor
+
+    /**
+     * Creates a host that runs every session loop on a new virtual thread.
+     * 
+     * @param logger event logger shared by every session, or null
+     * @param scoring creates the scoring strategy of each new session
+     * @param maxSessions most sessions alive at once
+     * @return the host
+     * @throws IllegalArgumentException if scoring is null or maxSessions is not positive
+     */
+    public static GameHost virtualThreads(EventLogger logger, Supplier<? extends ScoringStrategy> scoring, int maxSessions) { // virtual-thread mode
+        return new GameHost(logger, scoring, maxSessions, Executors.newVirtualThreadPerTaskExecutor()); // one virtual thread per loop
+    } // end virtualThreads method
+
+    /**
+     * Creates a session with a new random case ID.
+     * 
+     * @return the new session's engine
+     * @throws IllegalStateException if the host is full
+     */
+    public GameEngine create() { return create(UUID.randomUUID().toString()); }
+
+    /**
+     * Creates a session with the given case ID.
+     * 
+     * @param caseId the case ID
+     * @return the new session's engine
+     * @throws IllegalArgumentException if caseId is empty
+     * @throws IllegalStateException if the case ID is in use or the host is full
+     */
+    public GameEngine create(String caseId) { // new session
+        GameEngine engine = new GameEngine(caseId); // validates case ID
+        engine.setLogger(logger); // shared logger
+        engine.setScoringStrategy(scoring.get()); // own scoring
+        if (sessions.size() >= maxSessions) throw new IllegalStateException("Session limit reached: " + maxSessions); // soft limit check
+        if (sessions.putIfAbsent(caseId, new Session(engine)) != null) throw new IllegalStateException("Session already exists: " + caseId); // unique case IDs
+        if (logger != null) logger.log(caseId, "SYSTEM", "CREATE_SESSION", "", null, "", "OK", 0); // log creation
+        return engine; // new session
+    } // end create method
+
+    /**
+     * Creates a session with a new random case ID playing on a shared board.
+     * 
+     * @param bank the board, shared and never modified
+     * @return the new session's engine
+     * @throws IllegalArgumentException if bank is null
+     * @throws IllegalStateException if the host is full
+     */
+    public GameEngine create(QuestionBank bank) { return create(UUID.randomUUID().toString(), bank); }
+
+    /**
+     * Creates a session with the given case ID playing on a shared board.
+     * 
+     * @param caseId the case ID
+     * @param bank the board, shared and never modified
+     * @return the new session's engine
+     * @throws IllegalArgumentException if caseId is empty or bank is null
+     * @throws IllegalStateException if the case ID is in use or the host is full
+     */
+    public GameEngine create(String caseId, QuestionBank bank) { // new session on a shared board
+        if (bank == null) throw new IllegalArgumentException("Question bank cannot be null"); // validate before registering
+        GameEngine engine = create(caseId); // register session
+        engine.useQuestionBank(bank); // shared board, own asked cells
+        return engine; // new session
+    } // end create method
+
+    /**
+     * Runs a session's turn loop (waiting for input, playing turns) on the host's executor.
+     * The loop gets the session's engine and is the only thread that should drive it while it runs.
+     * 
+     * @param caseId the case ID of a live session
+     * @param loop the turn loop
+     * @return the running loop, which completes when the loop returns
+     * @throws IllegalArgumentException if there is no such session or loop is null
+     * @throws IllegalStateException if the host has no executor
+     */
+    public Future<?> run(String caseId, Consumer<? super GameEngine> loop) { // start session loop
+        if (executor == null) throw new IllegalStateException("Host does not run session loops"); // no executor mode
+        if (loop == null) throw new IllegalArgumentException("Session loop cannot be null"); // validate loop
+        Session s = caseId == null ? null : sessions.get(caseId); // live session
+        if (s == null) throw new IllegalArgumentException("No such session: " + caseId); // unknown case ID
+        s.touch(); // recently used
+        Future<?> f = executor.submit(() -> { // one task per session
+            s.runner = Thread.currentThread(); // interrupted by cancel
+            try { if (!s.cancelled) loop.accept(s.engine); } finally { s.runner = null; } // play unless evicted first
+        }); // end task
+        s.loop = f; // kept for idle checks and eviction
+        if (sessions.get(caseId) != s) s.cancel(); // evicted while starting
+        return f; // running loop
+    } // end run method
+
+    /**
+     * Gets a live session and marks it as used.
+     * 
+     * @param caseId the case ID
+     * @return the session's engine, or null if there is none
+     */
+    public GameEngine get(String caseId) { // look up session
+        Session s = caseId == null ? null : sessions.get(caseId); // live session
+        if (s == null) return null; // unknown
+        s.touch(); // recently used
+        return s.engine; // engine
+    } // end get method
+
+    /**
+     * Ends a session and forgets it, interrupting its loop if one is running.
+     * 
+     * @param caseId the case ID
+     * @return the removed engine, or null if there was none
+     */
+    public GameEngine evict(String caseId) { // remove session
+        Session s = caseId == null ? null : sessions.remove(caseId); // removed session
+        if (s == null) return null; // unknown
+        s.cancel(); // stop its loop
+        if (logger != null) logger.log(caseId, "SYSTEM", "EVICT_SESSION", "", null, "", "OK", 0); // log eviction
+        return s.engine; // removed engine
+    } // end evict method
+
+    /**
+     * Evicts every session not used for longer than the given time. Use means a lookup or a play
+     * command; sessions whose loop is still running are kept.
+     * 
+     * @param idle how long a session may go unused
+     * @return case IDs of the evicted sessions
+     */
+    public List<String> evictIdle(Duration idle) { // idle sweep
+        long cutoff = System.nanoTime() - idle.toNanos(); // last allowed use
+        List<String> evicted = new ArrayList<>(); // result
+        sessions.forEach((id, s) -> { if (!s.running() && s.lastUsed() - cutoff < 0 && sessions.remove(id, s)) { s.cancel(); evicted.add(id); } }); // remove idle sessions
+        if (logger != null) for (String id : evicted) logger.log(id, "SYSTEM", "EVICT_SESSION", "", null, "idle", "OK", 0); // log evictions
+        return evicted; // evicted case IDs
+    } // end evictIdle method
+
+    /**
+     * Gets the number of live sessions.
+     * 
+     * @return session count
+     */
+    public int size() { return sessions.size(); }
+
+    /**
+     * Gets the case IDs of the live sessions.
+     * 
+     * @return a snapshot of the case IDs
+     */
+    public Set<String> caseIds() { return Set.copyOf(sessions.keySet()); }
+
+    /**
+     * Interrupts running session loops and waits for them to finish. Sessions stay registered.
+     */
+    @Override // stop session loops
+    public void close() { // shut down executor
+        if (executor == null) return; // nothing running
+        for (Session s : sessions.values()) s.cancel(); // interrupt loops, never mid log write
+        executor.shutdown(); // no new loops; shutdownNow would interrupt writes to the shared logger
+        try { if (!executor.awaitTermination(1, TimeUnit.MINUTES)) System.err.println("Failed to stop session loops within a minute"); } catch (InterruptedException ex) { Thread.currentThread().interrupt(); } // wait
+    } // end close method
+
+    /**
+     * A hosted engine, when it was last looked up and its running loop.
+     */
+    private static final class Session { // start of Session class
+        final GameEngine engine; // session state
+        volatile long lastUsed = System.nanoTime(); // last lookup, System.nanoTime
+        volatile Future<?> loop; // loop started by run, or null
+        volatile Thread runner; // thread running the loop, or null
+        volatile boolean cancelled; // loop should stop
+
+        Session(GameEngine engine) { this.engine = engine; } // constructor
+
+        void touch() { lastUsed = System.nanoTime(); } // mark used
+
+        long lastUsed() { long looked = lastUsed, played = engine.lastCommandNanos(); return played - looked > 0 ? played : looked; } // later of lookup and command
+
+        boolean running() { Future<?> f = loop; return f != null && !f.isDone(); } // loop still going
+
+        void cancel() { // stop the loop without breaking the shared logger
+            cancelled = true; // a loop not yet started never plays
+            Future<?> f = loop; if (f != null) f.cancel(false); // no interrupt from the Future: it could land mid-write
+            Thread t = runner; if (t != null) engine.interruptOutsideLog(t); // wake a loop waiting for input
+        } // end cancel method
+    } // end Session class
+} // end of GameHost class
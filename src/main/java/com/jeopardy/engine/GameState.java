@@ -0,0 +1,95 @@
+package com.jeopardy.engine; // package declaration
+
+import java.util.Collections; // read-only views
+import java.util.List; // immutable lists
+import java.util.Map; // immutable maps
+
+/**
+ * Immutable snapshot of a game session, returned by GameEngine.state() and with every command result.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public final class GameState { // start of GameState class
+
+    /**
+     * Where a session is in its turn cycle.
+     */
+    public enum Phase { // turn phases
+        /** Players may still join; start() has not been called. */
+        NOT_STARTED,
+        /** The current player picks a category and then a value. */
+        SELECT_QUESTION,
+        /** A question is on screen and waits for the current player's answer. */
+        ANSWER,
+        /** Every question was answered or the game was ended. */
+        GAME_OVER
+    } // end Phase enum
+
+    private final String caseId; // session
+    private final Phase phase; // turn phase
+    private final String playerId, playerName; // current player
+    private final int playerScore; // current player's score
+    private final Map<String, Integer> scores; // player ID to score, in join order
+    private final List<String> categories; // board categories
+    private final String category; // selected category, or null
+    private final List<Integer> availableValues; // unasked values of the selected category
+    private final Integer value; // selected value, or null
+    private final String questionText; // question awaiting an answer, or null
+    private final Map<String, String> choices; // its choices by letter
+    private final int turns, remaining; // answered and unanswered questions
+
+    /**
+     * Creates a snapshot. The lists must be immutable and the maps must not be modified
+     * afterwards; they are kept as given rather than copied.
+     */
+    GameState(String caseId, Phase phase, String playerId, String playerName, int playerScore, Map<String, Integer> scores, List<String> categories, String category, List<Integer> availableValues, Integer value, String questionText, Map<String, String> choices, int turns, int remaining) { // built by GameEngine
+        this.caseId = caseId; this.phase = phase; this.playerId = playerId; this.playerName = playerName; this.playerScore = playerScore; // session and player
+        this.scores = Collections.unmodifiableMap(scores); // join order kept by the caller's map
+        this.categories = categories; this.category = category; this.availableValues = availableValues; this.value = value; // shared immutable views
+        this.questionText = questionText; this.choices = Collections.unmodifiableMap(choices); // prompt
+        this.turns = turns; this.remaining = remaining; // progress
+    } // end constructor
+
+    /** @return the session's case ID */
+    public String getCaseId() { return caseId; }
+
+    /** @return the turn phase */
+    public Phase getPhase() { return phase; }
+
+    /** @return the ID of the player whose turn it is, or null if there are no players */
+    public String getPlayerId() { return playerId; }
+
+    /** @return the name of the player whose turn it is, or null if there are no players */
+    public String getPlayerName() { return playerName; }
+
+    /** @return the score of the player whose turn it is */
+    public int getPlayerScore() { return playerScore; }
+
+    /** @return scores by player ID, in join order */
+    public Map<String, Integer> getScores() { return scores; }
+
+    /** @return the board categories */
+    public List<String> getCategories() { return categories; }
+
+    /** @return the selected category, or null */
+    public String getCategory() { return category; }
+
+    /** @return unasked values of the selected category, empty if none is selected */
+    public List<Integer> getAvailableValues() { return availableValues; }
+
+    /** @return the selected question value, or null */
+    public Integer getValue() { return value; }
+
+    /** @return text of the question awaiting an answer, or null */
+    public String getQuestionText() { return questionText; }
+
+    /** @return the non-null choices of the question awaiting an answer, by letter */
+    public Map<String, String> getChoices() { return choices; }
+
+    /** @return questions answered so far */
+    public int getTurns() { return turns; }
+
+    /** @return questions not yet asked */
+    public int getRemaining() { return remaining; }
+} // end of GameState class
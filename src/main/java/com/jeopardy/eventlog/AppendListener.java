@@ -0,0 +1,23 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.IOException; // for I/O failures
+
+/**
+ * Callback notified by CsvFileSink after each row is appended,
+ * with the row's byte position in the log file.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public interface AppendListener {
+
+    /**
+     * Called after a row has been appended.
+     * 
+     * @param event the event that was written
+     * @param offset byte offset of the row in the log file
+     * @param length byte length of the row including its newline
+     * @throws IOException if the listener fails to record the row
+     */
+    void appended(LogEvent event, long offset, int length) throws IOException;
+}
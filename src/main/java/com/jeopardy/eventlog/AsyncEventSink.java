@@ -0,0 +1,211 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.IOException; // for I/O failures
+import java.io.InterruptedIOException; // for interrupted blocking writes
+import java.util.ArrayList; // for batch buffer
+import java.util.List; // for batch buffer
+import java.util.concurrent.ArrayBlockingQueue; // bounded ring buffer
+import java.util.concurrent.BlockingQueue; // queue interface
+import java.util.concurrent.TimeUnit; // for poll timeouts
+import java.util.concurrent.atomic.AtomicLong; // for counters
+import java.util.concurrent.locks.Condition; // writer progress signal
+import java.util.concurrent.locks.ReentrantLock; // locks that do not pin virtual threads
+import java.util.concurrent.locks.ReentrantReadWriteLock; // orders enqueues before close
+
+/**
+ * Event sink that hands events to a dedicated writer thread.
+ * Callers only enqueue into a bounded ring buffer; the writer thread drains it in
+ * batches into the delegate sink and flushes the delegate at most once per flush interval.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class AsyncEventSink implements EventSink { // start of AsyncEventSink class
+    /** Default queue capacity. */
+    public static final int DEFAULT_CAPACITY = 8192;
+    /** Default maximum number of events written per batch. */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    /** Default maximum time between delegate flushes. */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 50;
+
+    private final EventSink delegate; // sink that performs the actual I/O
+    private final BlockingQueue<LogEvent> queue; // bounded queue between callers and writer
+    private final int batchSize; // maximum events per batch
+    private final long flushIntervalMillis; // maximum time between delegate flushes
+    private final BackPressurePolicy policy; // behaviour when the queue is full
+    private final ReentrantLock writeLock = new ReentrantLock(); // serialises delegate access between writer and caller-runs
+    private final ReentrantLock progressLock = new ReentrantLock(); // guards written
+    private final Condition progress = progressLock.newCondition(); // signalled as the writer makes progress, awaited in flush()
+    private final AtomicLong enqueued = new AtomicLong(); // events accepted into the queue
+    private final AtomicLong dropped = new AtomicLong(); // events discarded by the DROP policy
+    private long written = 0; // events taken from the queue and written (guarded by progressLock)
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock(); // writers hold the read lock while enqueuing, close takes the write lock
+    private volatile boolean closed = false; // set once close() is called (under closeLock's write lock)
+    private final Thread writer; // background writer thread
+
+    /**
+     * Creates an async sink with default capacity, batch size, flush interval and blocking back-pressure.
+     * 
+     * @param delegate the sink that performs the actual writes
+     */
+    public AsyncEventSink(EventSink delegate) {
+        this(delegate, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS, BackPressurePolicy.BLOCK);
+    }
+
+    /**
+     * Creates an async sink and starts its writer thread.
+     * 
+     * @param delegate the sink that performs the actual writes
+     * @param capacity the maximum number of queued events
+     * @param batchSize the maximum number of events written per batch
+     * @param flushIntervalMillis the maximum time between delegate flushes
+     * @param policy what to do when the queue is full
+     * @throws IllegalArgumentException if a size or interval is not positive
+     */
+    public AsyncEventSink(EventSink delegate, int capacity, int batchSize, long flushIntervalMillis, BackPressurePolicy policy) {
+        if (delegate == null || policy == null) throw new IllegalArgumentException("Delegate and policy are required"); // validate arguments
+        if (capacity < 1 || batchSize < 1 || flushIntervalMillis < 1) throw new IllegalArgumentException("Capacity, batch size and flush interval must be positive"); // validate sizes
+        this.delegate = delegate; // assign delegate
+        this.queue = new ArrayBlockingQueue<>(capacity); // create ring buffer
+        this.batchSize = batchSize; // assign batch size
+        this.flushIntervalMillis = flushIntervalMillis; // assign flush interval
+        this.policy = policy; // assign back-pressure policy
+        this.writer = new Thread(this::drainLoop, "event-log-writer"); // create writer thread
+        this.writer.setDaemon(true); // never keep the JVM alive for logging
+        this.writer.start(); // start draining
+    } // end of constructor
+
+    @Override // enqueue an event according to the back-pressure policy
+    public void write(LogEvent event) throws IOException {
+        closeLock.readLock().lock(); // close cannot complete between the check and the enqueue
+        try { // check and enqueue
+            if (closed) throw new IOException("Event sink is closed"); // reject after close
+            enqueue(event); // apply back-pressure policy
+        } finally { closeLock.readLock().unlock(); } // end try
+    } // end write method
+
+    /**
+     * Hands an event to the writer according to the back-pressure policy. Called with the close lock held.
+     * 
+     * @param event the event
+     * @throws IOException if interrupted or a caller-runs write fails
+     */
+    private void enqueue(LogEvent event) throws IOException { // enqueue or write
+        switch (policy) { // apply back-pressure policy
+            case BLOCK:
+                try { queue.put(event); } catch (InterruptedException ex) { Thread.currentThread().interrupt(); throw new InterruptedIOException("Interrupted while queueing event"); } // wait for space
+                enqueued.incrementAndGet(); // count accepted event
+                break;
+            case DROP:
+                if (queue.offer(event)) enqueued.incrementAndGet(); else dropped.incrementAndGet(); // enqueue or drop
+                break;
+            case CALLER_RUNS:
+                if (queue.offer(event)) { enqueued.incrementAndGet(); break; } // enqueue if there is room
+                writeLock.lock(); // otherwise write on this thread
+                try { drainQueued(); delegate.write(event); delegate.flush(); } finally { writeLock.unlock(); } // older queued events first, keeping per-case order
+                break;
+            default:
+                throw new IllegalStateException("Unknown policy: " + policy); // unreachable
+        } // end switch
+    } // end enqueue method
+
+    /**
+     * Writes every queued event to the delegate on the calling thread. Called with writeLock held.
+     * 
+     * @throws IOException if writing fails
+     */
+    private void drainQueued() throws IOException { // inline drain
+        List<LogEvent> pending = new ArrayList<>(queue.size()); // queued events
+        queue.drainTo(pending); // take them all
+        if (pending.isEmpty()) return; // nothing queued
+        delegate.writeAll(pending); // in queue order
+        progressLock.lock(); try { written += pending.size(); progress.signalAll(); } finally { progressLock.unlock(); } // wake flush waiters
+    } // end drainQueued method
+
+    /**
+     * Waits until every event accepted before this call has been written to the delegate.
+     * 
+     * @throws IOException if interrupted while waiting
+     */
+    @Override // wait for the writer to catch up
+    public void flush() throws IOException {
+        long target = enqueued.get(); // events that must be written
+        progressLock.lock(); // wait on writer progress
+        try { // until caught up or writer gone
+            while (written < target && writer.isAlive()) { // until caught up or writer gone
+                try { progress.await(flushIntervalMillis, TimeUnit.MILLISECONDS); } catch (InterruptedException ex) { Thread.currentThread().interrupt(); throw new InterruptedIOException("Interrupted while flushing events"); } // wait for progress
+            } // end while
+        } finally { progressLock.unlock(); } // end try
+    } // end flush method
+
+    /**
+     * Stops accepting events, drains the queue and closes the delegate.
+     * 
+     * @throws IOException if closing the delegate fails
+     */
+    @Override // drain and shut down
+    public void close() throws IOException {
+        closeLock.writeLock().lock(); // waits for writes already enqueuing
+        try { // stop accepting events
+            if (closed) return; // already closed
+            closed = true; // stop accepting events
+        } finally { closeLock.writeLock().unlock(); } // end try
+        // no interrupt: it would close the delegate's FileChannel mid-write; the writer re-checks within one flush interval
+        try { writer.join(); } catch (InterruptedException ex) { Thread.currentThread().interrupt(); } // wait for final drain
+        writeLock.lock(); // anything the writer left behind
+        try { drainQueued(); } finally { writeLock.unlock(); delegate.close(); } // final drain on this thread, then release delegate resources
+    } // end close method
+
+    /**
+     * Gets latency statistics for the forces made by the delegate sink.
+     * 
+     * @return the delegate's fsync metrics, or null if it has none
+     */
+    @Override // forces happen in the delegate
+    public FsyncMetrics getFsyncMetrics() { return delegate.getFsyncMetrics(); }
+
+    /**
+     * Gets the number of events discarded because the queue was full.
+     * 
+     * @return dropped event count
+     */
+    public long getDroppedCount() { return dropped.get(); }
+
+    /**
+     * Gets the number of events currently waiting in the queue.
+     * 
+     * @return queued event count
+     */
+    public int getQueuedCount() { return queue.size(); }
+
+    /**
+     * Writer thread body: drains the queue in batches until closed and empty.
+     */
+    private void drainLoop() { // background drain loop
+        List<LogEvent> batch = new ArrayList<>(batchSize); // reusable batch buffer
+        long lastFlush = System.nanoTime(); // time of last delegate flush
+        boolean dirty = false; // whether the delegate has unflushed writes
+        while (!closed || !queue.isEmpty()) { // run until closed and drained
+            writeLock.lock(); // exclusive access to the delegate; held while taking events so caller-runs writes cannot overtake them
+            try { // take, write and maybe flush
+                LogEvent first = null; // first event of the next batch
+                try { first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS); } catch (InterruptedException ex) { break; } // wait for an event (caller-runs only needs the lock when the queue is full)
+                if (first != null) { batch.add(first); queue.drainTo(batch, batchSize - 1); } // collect a batch
+                if (!batch.isEmpty()) { // write the batch
+                    try { delegate.writeAll(batch); dirty = true; } catch (IOException ex) { System.err.println("Failed to write log batch: " + ex.getMessage()); } // report failures
+                } // end if batch
+                long now = System.nanoTime(); // current time
+                if (dirty && (queue.isEmpty() || now - lastFlush >= TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis))) { // time to flush
+                    try { delegate.flush(); } catch (IOException ex) { System.err.println("Failed to flush log: " + ex.getMessage()); } // flush delegate
+                    lastFlush = now; // remember flush time
+                    dirty = false; // nothing pending
+                } // end if flush
+            } finally { writeLock.unlock(); } // end try
+            if (!batch.isEmpty()) { // publish progress for flush()
+                progressLock.lock(); try { written += batch.size(); progress.signalAll(); } finally { progressLock.unlock(); } // wake flush waiters
+                batch.clear(); // reuse buffer
+            } // end if
+        } // end while
+        progressLock.lock(); try { progress.signalAll(); } finally { progressLock.unlock(); } // release any remaining waiters
+    } // end drainLoop method
+} // end of AsyncEventSink class
@@ -0,0 +1,16 @@
+package com.jeopardy.eventlog; // package declaration
+
+/**
+ * What an AsyncEventSink does when its queue is full.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public enum BackPressurePolicy {
+    /** Wait until the writer thread frees space in the queue. */
+    BLOCK,
+    /** Discard the event and count it as dropped. */
+    DROP,
+    /** Write the event on the calling thread, bypassing the queue. */
+    CALLER_RUNS
+}
@@ -0,0 +1,118 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.BufferedInputStream; // buffered file input
+import java.io.EOFException; // truncated records
+import java.io.File; // for file representation
+import java.io.FileInputStream; // file input
+import java.io.IOException; // for I/O failures
+import java.io.InputStream; // input stream
+import java.nio.charset.StandardCharsets; // for UTF-8 decoding
+import java.util.ArrayList; // string dictionary
+import java.util.List; // string dictionary
+
+/**
+ * Streams LogEvents back out of a file written by BinaryEventSink.
+ * Only the string dictionary is held in memory.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class BinaryEventReader implements EventLogReader { // start of BinaryEventReader class
+    private final InputStream in; // buffered input
+    private final List<String> dictionary = new ArrayList<>(); // id to string
+    private long lastMicros = 0; // timestamp base for deltas
+
+    /**
+     * Opens a binary event log and checks its header.
+     * 
+     * @param file the binary log
+     * @throws IOException if the file cannot be read or is not a binary event log
+     */
+    public BinaryEventReader(File file) throws IOException { // start of constructor
+        this.in = new BufferedInputStream(new FileInputStream(file), 64 * 1024); // buffered input
+        byte[] head = in.readNBytes(BinaryEventSink.MAGIC.length + 1); // magic and version
+        boolean ok = head.length == BinaryEventSink.MAGIC.length + 1; // long enough
+        for (int i = 0; ok && i < BinaryEventSink.MAGIC.length; i++) ok = head[i] == BinaryEventSink.MAGIC[i]; // magic matches
+        if (!ok) { in.close(); throw new IOException("Not a binary event log: " + file); } // reject other files
+        if (head[BinaryEventSink.MAGIC.length] != BinaryEventSink.VERSION) { in.close(); throw new IOException("Unsupported binary event log version: " + head[BinaryEventSink.MAGIC.length]); } // reject other versions
+    } // end of constructor
+
+    /**
+     * Reads the next event.
+     * 
+     * @return the next event, or null at end of file
+     * @throws IOException if the file is corrupt or cannot be read
+     */
+    @Override // read next record
+    public LogEvent next() throws IOException { // read next event
+        while (true) { // skip non-event records
+            int tag = in.read(); // record tag
+            if (tag < 0) return null; // end of file
+            switch (tag) { // dispatch on tag
+                case BinaryEventSink.TAG_DEFINE: { // dictionary definition
+                    int len = (int) varlong(); // string length
+                    byte[] bytes = in.readNBytes(len); // string bytes
+                    if (bytes.length != len) throw new EOFException("Truncated dictionary entry"); // truncated
+                    dictionary.add(new String(bytes, StandardCharsets.UTF_8)); // add string
+                    break;
+                }
+                case BinaryEventSink.TAG_RESET: // new writer session
+                    dictionary.clear(); // forget strings
+                    lastMicros = 0; // reset timestamp base
+                    break;
+                case BinaryEventSink.TAG_EVENT: { // event record
+                    String caseId = str(), playerId = str(), activity = str(); // identity columns
+                    lastMicros += unzigzag(varlong()); // timestamp
+                    String category = str(); // category
+                    long qv = varlong(); // question value
+                    String answer = str(), result = str(); // answer and result
+                    int score = (int) unzigzag(varlong()); // score
+                    return new LogEvent(caseId, playerId, activity, category, qv == 0 ? null : (int) unzigzag(qv - 1), answer, result, score, lastMicros); // event
+                }
+                default:
+                    throw new IOException("Corrupt binary event log: unknown record tag " + tag); // unknown record
+            } // end switch
+        } // end while
+    } // end next method
+
+    @Override // release file
+    public void close() throws IOException { in.close(); }
+
+    /**
+     * Reads a dictionary reference.
+     * 
+     * @return the referenced string, or null
+     * @throws IOException if the reference is invalid
+     */
+    private String str() throws IOException { // resolve reference
+        long ref = varlong(); // reference
+        if (ref == 0) return null; // null column
+        if (ref > dictionary.size()) throw new IOException("Corrupt binary event log: undefined string " + ref); // invalid reference
+        return dictionary.get((int) ref - 1); // dictionary string
+    } // end str method
+
+    /**
+     * Reads an unsigned variable-length long.
+     * 
+     * @return the decoded value
+     * @throws IOException if the stream ends mid-value
+     */
+    private long varlong() throws IOException { // LEB128 decoding
+        long v = 0; // result
+        for (int shift = 0; shift < 64; shift += 7) { // up to ten bytes
+            int b = in.read(); // next byte
+            if (b < 0) throw new EOFException("Truncated varint"); // truncated
+            v |= (long) (b & 0x7F) << shift; // add bits
+            if ((b & 0x80) == 0) return v; // last byte
+        } // end for
+        throw new IOException("Corrupt binary event log: varint too long"); // malformed
+    } // end varlong method
+
+    /**
+     * Reverses zig-zag encoding.
+     * 
+     * @param v zig-zag value
+     * @return signed value
+     */
+    private static long unzigzag(long v) { return (v >>> 1) ^ -(v & 1); }
+} // end of BinaryEventReader class
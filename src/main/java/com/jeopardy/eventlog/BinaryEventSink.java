@@ -0,0 +1,253 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.File; // for file representation
+import java.io.IOException; // for I/O failures
+import java.nio.ByteBuffer; // for channel writes
+import java.nio.channels.FileChannel; // long-lived append channel
+import java.nio.charset.StandardCharsets; // for UTF-8 encoding
+import java.nio.file.StandardOpenOption; // for channel open options
+import java.util.HashMap; // string dictionary
+import java.util.List; // for batched writes
+import java.util.Map; // string dictionary
+import java.util.concurrent.locks.ReentrantLock; // sink lock that does not pin virtual threads
+
+/**
+ * Event sink writing a compact binary event log.
+ * <p>
+ * Layout: the magic bytes {@code JEVL} and a version byte, then a stream of records.
+ * A DEFINE record (tag 1) adds the next string to the dictionary; an EVENT record (tag 2)
+ * stores every text column as a varint dictionary reference (0 for null, id + 1 otherwise),
+ * the timestamp as a zig-zag varint delta in microseconds from the previous event, the
+ * question value as 0 for null or zig-zag + 1, and the score as a zig-zag varint.
+ * Each time the sink opens it writes a RESET record (tag 3) that clears the dictionary and
+ * timestamp base, so appending never requires reading the existing file. The sink also writes
+ * a RESET whenever the dictionary reaches its size limit, so free-text columns such as random
+ * Case_IDs and answers cannot grow the writer's or the reader's dictionary without bound.
+ * If a write fails, the unwritten records are dropped (any partly written tail is truncated where
+ * possible) and the next event starts with a RESET, so no later record refers to a string whose
+ * DEFINE never reached the file.
+ * Use BinaryEventReader or BinaryLogConverter to read it back. A DurabilityPolicy decides
+ * when the channel is forced to disk (by default never).
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class BinaryEventSink implements EventSink { // start of BinaryEventSink class
+    /** File magic. */
+    static final byte[] MAGIC = {'J', 'E', 'V', 'L'};
+    /** Format version. */
+    static final byte VERSION = 1;
+    /** Record tag: define the next dictionary string. */
+    static final int TAG_DEFINE = 1;
+    /** Record tag: one event. */
+    static final int TAG_EVENT = 2;
+    /** Record tag: clear dictionary and timestamp base. */
+    static final int TAG_RESET = 3;
+    /** Default limit on dictionary strings before the sink starts a fresh dictionary. */
+    public static final int DEFAULT_MAX_DICTIONARY = 4096;
+    private static final int TEXT_COLUMNS = 6; // dictionary-coded columns per event
+
+    private final File file; // output file
+    private final ReentrantLock lock = new ReentrantLock(); // serialises writers and the fsync timer
+    private final FileChannel channel; // append-mode channel
+    private final Map<String, Integer> dictionary = new HashMap<>(); // string to id (guarded by lock)
+    private final int maxDictionary; // dictionary size limit
+    private long lastMicros = 0; // timestamp base for deltas (guarded by lock)
+    private byte[] buf = new byte[4096]; // reusable encode buffer (guarded by lock)
+    private int pos = 0; // encoded bytes in buf
+    private boolean resetPending = false; // a failed write may have lost DEFINE records (guarded by lock)
+    private final FileSyncer syncer; // applies the durability policy (guarded by lock)
+
+    /**
+     * Opens (or creates) the binary log in append mode.
+     * 
+     * @param file the file to append events to
+     * @throws IOException if the file cannot be opened
+     */
+    public BinaryEventSink(File file) throws IOException { // start of constructor
+        this(file, DurabilityPolicy.osBuffered()); // OS-buffered
+    } // end of constructor
+
+    /**
+     * Opens (or creates) the binary log in append mode with a durability policy.
+     * 
+     * @param file the file to append events to
+     * @param durability when to force written events to disk
+     * @throws IOException if the file cannot be opened
+     */
+    public BinaryEventSink(File file, DurabilityPolicy durability) throws IOException { // start of constructor
+        this(file, durability, DEFAULT_MAX_DICTIONARY); // default dictionary limit
+    } // end of constructor
+
+    /**
+     * Opens (or creates) the binary log in append mode with a durability policy and dictionary limit.
+     * 
+     * @param file the file to append events to
+     * @param durability when to force written events to disk
+     * @param maxDictionary the most strings held in the dictionary before it is reset
+     * @throws IOException if the file cannot be opened
+     * @throws IllegalArgumentException if maxDictionary cannot hold one event's strings
+     */
+    public BinaryEventSink(File file, DurabilityPolicy durability, int maxDictionary) throws IOException { // start of constructor
+        if (maxDictionary < TEXT_COLUMNS) throw new IllegalArgumentException("Dictionary limit must be at least " + TEXT_COLUMNS); // one event must fit
+        this.maxDictionary = maxDictionary; // assign limit
+        this.file = file; // assign output file
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND); // open channel
+        if (channel.size() == 0) { ensure(MAGIC.length + 1); System.arraycopy(MAGIC, 0, buf, 0, MAGIC.length); pos = MAGIC.length; buf[pos++] = VERSION; } // file header
+        ensure(1); buf[pos++] = TAG_RESET; // fresh dictionary for this writer
+        drain(); // write header and reset
+        this.syncer = new FileSyncer(channel, durability, lock); // durability policy
+    } // end of constructor
+
+    /**
+     * Gets the file this sink appends to.
+     * 
+     * @return the output file
+     */
+    public File getFile() { return file; }
+
+    /**
+     * Gets latency statistics for the forces made by the durability policy.
+     * 
+     * @return fsync metrics
+     */
+    @Override // metrics of this sink's syncer
+    public FsyncMetrics getFsyncMetrics() { return syncer.getMetrics(); }
+
+    /**
+     * Gets the number of strings in the current dictionary.
+     * 
+     * @return dictionary size
+     */
+    public int getDictionarySize() { lock.lock(); try { return dictionary.size(); } finally { lock.unlock(); } }
+
+    @Override // encode and write one event
+    public void write(LogEvent event) throws IOException {
+        lock.lock(); // exclusive channel access
+        try { // write event
+            encode(event); // encode into buffer
+            drain(); // write buffer
+            syncer.written(1); // apply durability policy
+        } finally { lock.unlock(); } // end try
+    } // end write method
+
+    @Override // encode a whole batch and write it at once
+    public void writeAll(List<LogEvent> events) throws IOException {
+        lock.lock(); // exclusive channel access
+        try { // write events
+            for (LogEvent e : events) { encode(e); if (pos >= 64 * 1024) drain(); } // encode, capping buffer size
+            drain(); // write the rest
+            if (!events.isEmpty()) syncer.written(events.size()); // one force covers the whole batch
+        } finally { lock.unlock(); } // end try
+    } // end writeAll method
+
+    @Override // channel writes are unbuffered; flushing forces anything the policy has not yet forced
+    public void flush() throws IOException { lock.lock(); try { syncer.sync(); } finally { lock.unlock(); } }
+
+    @Override // release channel
+    public void close() throws IOException { // close sink
+        lock.lock(); // exclude writers and the timer
+        try { // close once
+            if (!channel.isOpen()) return; // already closed
+            syncer.close(); // force the last group
+            channel.close(); // close file
+        } finally { lock.unlock(); } // end try
+    } // end close method
+
+    /**
+     * Appends the records for one event (dictionary definitions first).
+     * 
+     * @param e the event to encode
+     */
+    private void encode(LogEvent e) { // event encoding
+        if (resetPending || dictionary.size() + TEXT_COLUMNS > maxDictionary) { ensure(1); buf[pos++] = TAG_RESET; dictionary.clear(); lastMicros = 0; resetPending = false; } // bound the dictionary or recover from a failed write, between events only
+        int caseRef = ref(e.getCaseId()), playerRef = ref(e.getPlayerId()), activityRef = ref(e.getActivity()); // dictionary refs
+        int categoryRef = ref(e.getCategory()), answerRef = ref(e.getAnswerGiven()), resultRef = ref(e.getResult()); // dictionary refs
+        ensure(1 + 6 * 5 + 10 + 5 + 5); // worst case event size
+        buf[pos++] = TAG_EVENT; // record tag
+        varint(caseRef); varint(playerRef); varint(activityRef); // identity columns
+        varlong(zigzag(e.getTimestampMicros() - lastMicros)); lastMicros = e.getTimestampMicros(); // timestamp delta
+        varint(categoryRef); // category
+        Integer qv = e.getQuestionValue(); varlong(qv == null ? 0 : zigzag(qv) + 1); // question value
+        varint(answerRef); varint(resultRef); // answer and result
+        varlong(zigzag(e.getScoreAfter())); // score
+    } // end encode method
+
+    /**
+     * Returns the dictionary reference for a string, appending a DEFINE record for new strings.
+     * 
+     * @param s the string, possibly null
+     * @return 0 for null, otherwise id + 1
+     */
+    private int ref(String s) { // dictionary lookup
+        if (s == null) return 0; // null reference
+        Integer id = dictionary.get(s); // existing id
+        if (id == null) { // new string
+            id = dictionary.size(); // next id
+            dictionary.put(s, id); // remember it
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8); // string bytes
+            ensure(1 + 5 + bytes.length); // room for definition
+            buf[pos++] = TAG_DEFINE; // record tag
+            varint(bytes.length); // length prefix
+            System.arraycopy(bytes, 0, buf, pos, bytes.length); pos += bytes.length; // string bytes
+        } // end if
+        return id + 1; // non-null reference
+    } // end ref method
+
+    /**
+     * Writes the encoded bytes to the channel and resets the buffer. On failure the bytes are
+     * dropped, a partly written tail is cut off if the channel is still open, and the dictionary
+     * is cleared so the next event starts with a RESET.
+     * 
+     * @throws IOException if writing fails
+     */
+    private void drain() throws IOException { // write buffer
+        ByteBuffer bb = ByteBuffer.wrap(buf, 0, pos); // view of encoded bytes
+        long start = -1; // end of the last complete record
+        try { // write fully
+            start = channel.size(); // records end here
+            while (bb.hasRemaining()) channel.write(bb); // write fully
+        } catch (IOException | RuntimeException ex) { // records lost, possibly with DEFINEs later records need
+            if (bb.position() > 0 && start >= 0 && channel.isOpen()) try { channel.truncate(start); } catch (IOException ignored) {} // drop the torn tail
+            dictionary.clear(); lastMicros = 0; resetPending = true; // start over with the next event
+            throw ex; // report failure
+        } finally { pos = 0; } // reuse buffer either way
+    } // end drain method
+
+    /**
+     * Appends an unsigned varint.
+     * 
+     * @param v value, treated as unsigned
+     */
+    private void varint(int v) { varlong(v & 0xFFFFFFFFL); }
+
+    /**
+     * Appends an unsigned variable-length long (7 bits per byte).
+     * 
+     * @param v value, treated as unsigned
+     */
+    private void varlong(long v) { // LEB128 encoding
+        while ((v & ~0x7FL) != 0) { buf[pos++] = (byte) ((v & 0x7F) | 0x80); v >>>= 7; } // continuation bytes
+        buf[pos++] = (byte) v; // final byte
+    } // end varlong method
+
+    /**
+     * Maps signed values to unsigned so small negatives stay small.
+     * 
+     * @param v signed value
+     * @return zig-zag encoded value
+     */
+    static long zigzag(long v) { return (v << 1) ^ (v >> 63); }
+
+    /**
+     * Grows the buffer so that at least extra more bytes fit.
+     * 
+     * @param extra number of bytes about to be written
+     */
+    private void ensure(int extra) { // grow on demand
+        if (pos + extra <= buf.length) return; // enough room
+        byte[] bigger = new byte[Math.max(buf.length * 2, pos + extra)]; // double or fit
+        System.arraycopy(buf, 0, bigger, 0, pos); // keep encoded bytes
+        buf = bigger; // swap buffer
+    } // end ensure method
+} // end of BinaryEventSink class
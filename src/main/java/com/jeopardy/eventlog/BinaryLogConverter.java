@@ -0,0 +1,62 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.BufferedOutputStream; // buffered CSV output
+import java.io.File; // for file representation
+import java.io.FileOutputStream; // CSV output
+import java.io.IOException; // for I/O failures
+import java.io.OutputStream; // CSV output
+import java.nio.charset.StandardCharsets; // for UTF-8 encoding
+import java.time.ZoneId; // timestamp zone
+
+/**
+ * Command-line tool that streams a binary event log back out in the CSV event log schema
+ * (Case_ID,Player_ID,Activity,Timestamp,...), one event at a time.
+ * Usage: BinaryLogConverter &lt;input.evlog&gt; &lt;output.csv&gt; [zone-id]
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class BinaryLogConverter { // start of BinaryLogConverter class
+
+    private BinaryLogConverter() {} // static utility
+
+    /**
+     * Converts a binary event log to CSV.
+     * 
+     * @param in the binary event log
+     * @param out the stream to write CSV to (not closed)
+     * @param zone the zone timestamps are rendered in
+     * @return number of events converted
+     * @throws IOException if reading or writing fails
+     */
+    public static long toCsv(File in, OutputStream out, ZoneId zone) throws IOException { // stream conversion
+        CsvEventEncoder encoder = new CsvEventEncoder(zone); // reusable row encoder
+        long count = 0; // converted events
+        out.write(CsvFileSink.HEADER.getBytes(StandardCharsets.UTF_8)); // CSV header
+        try (BinaryEventReader reader = new BinaryEventReader(in)) { // open binary log
+            LogEvent e; // current event
+            while ((e = reader.next()) != null) { // stream events
+                encoder.reset(); // reuse buffer
+                encoder.encode(e); // encode row
+                out.write(encoder.array(), 0, encoder.length()); // write row
+                count++; // count event
+            } // end while
+        } // end try
+        return count; // number of events
+    } // end toCsv method
+
+    /**
+     * Command-line entry point.
+     * 
+     * @param args input file, output file and optional zone ID
+     * @throws IOException if conversion fails
+     */
+    public static void main(String[] args) throws IOException { // CLI entry point
+        if (args.length < 2) { System.err.println("Usage: BinaryLogConverter <input.evlog> <output.csv> [zone-id]"); return; } // usage
+        ZoneId zone = args.length > 2 ? ZoneId.of(args[2]) : ZoneId.systemDefault(); // timestamp zone
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(args[1]), 64 * 1024)) { // CSV output
+            long n = toCsv(new File(args[0]), out, zone); // convert
+            System.out.println("Converted " + n + " events to " + args[1]); // report
+        } // end try
+    } // end main method
+} // end of BinaryLogConverter class
@@ -0,0 +1,96 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.time.Instant; // for offset lookup on cache misses
+import java.time.LocalDateTime; // for rendering the cached minute prefix
+import java.time.ZoneId; // for local time zone
+import java.time.ZoneOffset; // for offset rendering
+
+/**
+ * ISO-8601 offset timestamp formatter that writes ASCII bytes into a caller buffer.
+ * The "yyyy-MM-ddTHH:mm:" prefix and the offset suffix are rendered once per minute;
+ * every other call only renders the seconds and milliseconds, so it does not allocate.
+ * Output looks like 2024-11-10T10:00:25.123Z or 2024-11-10T10:00:25.123-04:00.
+ * Not thread-safe: each encoder owns its own instance.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public final class CachedTimestampFormatter { // start of CachedTimestampFormatter class
+    /** Maximum number of bytes written by one call. */
+    public static final int MAX_LENGTH = 29;
+
+    private final ZoneId zone; // time zone used for rendering
+    private final byte[] prefix = new byte[17]; // cached "yyyy-MM-ddTHH:mm:" bytes
+    private final byte[] suffix = new byte[6]; // cached offset bytes ("Z" or "+hh:mm")
+    private int suffixLength = 0; // number of valid suffix bytes
+    private long cachedMinute = Long.MIN_VALUE; // epoch minute the cache was rendered for
+
+    /**
+     * Creates a formatter for the given time zone.
+     * 
+     * @param zone the zone timestamps are rendered in
+     */
+    public CachedTimestampFormatter(ZoneId zone) { this.zone = zone; }
+
+    /**
+     * Writes the timestamp for the given epoch microseconds.
+     * 
+     * @param epochMicros microseconds since the epoch
+     * @param dst destination buffer with at least MAX_LENGTH bytes free from off
+     * @param off offset to start writing at
+     * @return the offset just past the written bytes
+     */
+    public int format(long epochMicros, byte[] dst, int off) { // render timestamp
+        long epochMillis = Math.floorDiv(epochMicros, 1_000L); // truncate to millis
+        long minute = Math.floorDiv(epochMillis, 60_000L); // epoch minute (UTC)
+        if (minute != cachedMinute) renderMinute(minute); // refresh cache once per minute
+        int msOfMinute = (int) Math.floorMod(epochMillis, 60_000L); // millis within the minute
+        System.arraycopy(prefix, 0, dst, off, prefix.length); off += prefix.length; // copy cached prefix
+        int sec = msOfMinute / 1000, ms = msOfMinute % 1000; // split seconds and millis
+        dst[off++] = (byte) ('0' + sec / 10); dst[off++] = (byte) ('0' + sec % 10); // seconds
+        dst[off++] = '.'; // fraction separator
+        dst[off++] = (byte) ('0' + ms / 100); dst[off++] = (byte) ('0' + ms / 10 % 10); dst[off++] = (byte) ('0' + ms % 10); // millis
+        System.arraycopy(suffix, 0, dst, off, suffixLength); // copy cached offset
+        return off + suffixLength; // end position
+    } // end format method
+
+    /**
+     * Renders the prefix and offset suffix for a new minute.
+     * 
+     * @param minute the epoch minute to render
+     */
+    private void renderMinute(long minute) { // cache miss: render prefix and suffix
+        Instant start = Instant.ofEpochSecond(minute * 60L); // first instant of the minute
+        ZoneOffset offset = zone.getRules().getOffset(start); // offset in effect
+        LocalDateTime local = LocalDateTime.ofEpochSecond(minute * 60L, 0, offset); // local wall time
+        int p = 0; // prefix write position
+        p = digits(prefix, p, local.getYear(), 4); prefix[p++] = '-'; // year
+        p = digits(prefix, p, local.getMonthValue(), 2); prefix[p++] = '-'; // month
+        p = digits(prefix, p, local.getDayOfMonth(), 2); prefix[p++] = 'T'; // day
+        p = digits(prefix, p, local.getHour(), 2); prefix[p++] = ':'; // hour
+        p = digits(prefix, p, local.getMinute(), 2); prefix[p] = ':'; // minute
+        int total = offset.getTotalSeconds(); // offset in seconds
+        if (total == 0) { suffix[0] = 'Z'; suffixLength = 1; } // UTC renders as Z
+        else { // render +hh:mm
+            int abs = Math.abs(total); // absolute offset
+            suffix[0] = (byte) (total < 0 ? '-' : '+'); // sign
+            digits(suffix, 1, abs / 3600, 2); suffix[3] = ':'; digits(suffix, 4, abs / 60 % 60, 2); // hours and minutes
+            suffixLength = 6; // fixed length
+        } // end if
+        cachedMinute = minute; // remember cached minute
+    } // end renderMinute method
+
+    /**
+     * Writes a zero-padded non-negative number.
+     * 
+     * @param dst destination buffer
+     * @param off write offset
+     * @param v value to write
+     * @param width number of digits
+     * @return offset past the digits
+     */
+    private static int digits(byte[] dst, int off, int v, int width) { // zero-padded digits
+        for (int i = width - 1; i >= 0; i--) { dst[off + i] = (byte) ('0' + v % 10); v /= 10; } // fill right to left
+        return off + width; // end position
+    } // end digits method
+} // end of CachedTimestampFormatter class
@@ -0,0 +1,137 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.nio.ByteBuffer; // view over the encoded bytes
+import java.time.ZoneId; // for local time zone
+
+/**
+ * Encodes LogEvents as UTF-8 CSV rows into a reusable byte buffer.
+ * Fields are sanitised in a single pass (commas and line breaks become spaces),
+ * integers are written digit by digit and timestamps come from a CachedTimestampFormatter,
+ * so encoding a row does not allocate once the buffer has grown to size.
+ * Not thread-safe: each sink owns its own encoder.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public final class CsvEventEncoder { // start of CsvEventEncoder class
+    private final CachedTimestampFormatter timestamps; // cached timestamp renderer
+    private byte[] buf = new byte[512]; // reusable output buffer
+    private ByteBuffer view = ByteBuffer.wrap(buf); // reusable view over buf
+    private int pos = 0; // number of encoded bytes
+
+    /**
+     * Creates an encoder rendering timestamps in the system default zone.
+     */
+    public CsvEventEncoder() { this(ZoneId.systemDefault()); }
+
+    /**
+     * Creates an encoder rendering timestamps in the given zone.
+     * 
+     * @param zone the zone timestamps are rendered in
+     */
+    public CsvEventEncoder(ZoneId zone) { this.timestamps = new CachedTimestampFormatter(zone); }
+
+    /**
+     * Discards all encoded bytes.
+     */
+    public void reset() { pos = 0; }
+
+    /**
+     * Gets the number of encoded bytes.
+     * 
+     * @return encoded length
+     */
+    public int length() { return pos; }
+
+    /**
+     * Gets a view over the encoded bytes, positioned at zero. The view is reused
+     * and only valid until the next call to reset or encode.
+     * 
+     * @return buffer view of the encoded bytes
+     */
+    public ByteBuffer buffer() { // reusable view
+        view.clear(); // position 0, full limit
+        view.limit(pos); // expose encoded bytes only
+        return view; // return view
+    } // end buffer method
+
+    /**
+     * Gets the backing array; valid bytes are [0, length()).
+     * 
+     * @return the backing array
+     */
+    public byte[] array() { return buf; }
+
+    /**
+     * Appends one CSV row (with trailing newline) for the event.
+     * 
+     * @param e the event to encode
+     */
+    public void encode(LogEvent e) { // append row
+        text(e.getCaseId()); comma(); // Case_ID
+        text(e.getPlayerId()); comma(); // Player_ID
+        text(e.getActivity()); comma(); // Activity
+        ensure(CachedTimestampFormatter.MAX_LENGTH); pos = timestamps.format(e.getTimestampMicros(), buf, pos); comma(); // Timestamp
+        text(e.getCategory()); comma(); // Category
+        Integer qv = e.getQuestionValue(); if (qv != null) number(qv); comma(); // Question_Value
+        text(e.getAnswerGiven()); comma(); // Answer_Given
+        text(e.getResult()); comma(); // Result
+        number(e.getScoreAfter()); // Score_After_Play
+        ensure(1); buf[pos++] = '\n'; // end of row
+    } // end encode method
+
+    /**
+     * Appends a field separator.
+     */
+    private void comma() { ensure(1); buf[pos++] = ','; }
+
+    /**
+     * Appends a sanitised UTF-8 field in one pass; null becomes an empty field.
+     * 
+     * @param s the field value
+     */
+    private void text(String s) { // sanitise and encode
+        if (s == null) return; // empty field
+        int n = s.length(); // char count
+        ensure(n * 3); // worst case UTF-8 expansion
+        for (int i = 0; i < n; i++) { // single pass over chars
+            char c = s.charAt(i); // current char
+            if (c == ',' || c == '\n' || c == '\r') buf[pos++] = ' '; // separators become spaces
+            else if (c < 0x80) buf[pos++] = (byte) c; // ASCII
+            else if (c < 0x800) { buf[pos++] = (byte) (0xC0 | c >> 6); buf[pos++] = (byte) (0x80 | c & 0x3F); } // 2-byte form
+            else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) { // supplementary code point
+                int cp = Character.toCodePoint(c, s.charAt(++i)); // combine surrogates
+                buf[pos++] = (byte) (0xF0 | cp >> 18); buf[pos++] = (byte) (0x80 | cp >> 12 & 0x3F); // first two bytes
+                buf[pos++] = (byte) (0x80 | cp >> 6 & 0x3F); buf[pos++] = (byte) (0x80 | cp & 0x3F); // last two bytes
+            } else if (Character.isSurrogate(c)) buf[pos++] = '?'; // unpaired surrogate, as String.getBytes does
+            else { buf[pos++] = (byte) (0xE0 | c >> 12); buf[pos++] = (byte) (0x80 | c >> 6 & 0x3F); buf[pos++] = (byte) (0x80 | c & 0x3F); } // 3-byte form
+        } // end for
+    } // end text method
+
+    /**
+     * Appends a decimal integer without going through a String.
+     * 
+     * @param v the value to write
+     */
+    private void number(int v) { // primitive int formatting
+        ensure(11); // "-2147483648"
+        long x = v; // widen so MIN_VALUE negates safely
+        if (x < 0) { buf[pos++] = '-'; x = -x; } // sign
+        int start = pos; // first digit position
+        do { buf[pos++] = (byte) ('0' + x % 10); x /= 10; } while (x != 0); // digits in reverse
+        for (int i = start, j = pos - 1; i < j; i++, j--) { byte t = buf[i]; buf[i] = buf[j]; buf[j] = t; } // reverse in place
+    } // end number method
+
+    /**
+     * Grows the buffer so that at least extra more bytes fit.
+     * 
+     * @param extra number of bytes about to be written
+     */
+    private void ensure(int extra) { // grow on demand
+        if (pos + extra <= buf.length) return; // enough room
+        byte[] bigger = new byte[Math.max(buf.length * 2, pos + extra)]; // double or fit
+        System.arraycopy(buf, 0, bigger, 0, pos); // keep encoded bytes
+        buf = bigger; // swap buffer
+        view = ByteBuffer.wrap(buf); // re-wrap view
+    } // end ensure method
+} // end of CsvEventEncoder class
@@ -0,0 +1,73 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.BufferedReader; // line reading
+import java.io.File; // for file representation
+import java.io.FileInputStream; // file input
+import java.io.IOException; // for I/O failures
+import java.io.InputStreamReader; // UTF-8 decoding
+import java.nio.charset.StandardCharsets; // UTF-8
+
+/**
+ * Streams LogEvents out of a CSV event log written by CsvFileSink, SegmentedCsvSink or
+ * PartitionedEventSink. Header lines are skipped wherever they occur, and rows with a
+ * missing timestamp or malformed number are ignored.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class CsvEventReader implements EventLogReader { // start of CsvEventReader class
+    private static final int COLUMNS = 9; // Case_ID .. Score_After_Play
+
+    private final BufferedReader in; // line input
+    private final String[] fields = new String[COLUMNS]; // reused field slots
+
+    /**
+     * Opens a CSV event log.
+     * 
+     * @param file the CSV log
+     * @throws IOException if the file cannot be opened
+     */
+    public CsvEventReader(File file) throws IOException { // constructor
+        this.in = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8), 64 * 1024); // buffered input
+    } // end constructor
+
+    @Override // read next row
+    public LogEvent next() throws IOException { // next event
+        String line; // current line
+        while ((line = in.readLine()) != null) { // until a data row
+            if (line.isEmpty() || line.startsWith("Case_ID,")) continue; // blank or header
+            if (split(line) < COLUMNS) continue; // incomplete row
+            try { // parse typed columns
+                return new LogEvent(fields[0], fields[1], fields[2], fields[4], // identity and category
+                        fields[5].isEmpty() ? null : Integer.valueOf(fields[5].trim()), // Question_Value
+                        fields[6], fields[7], // answer and result
+                        fields[8].isEmpty() ? 0 : Integer.parseInt(fields[8].trim()), // Score_After_Play
+                        EventTimestamps.parseMicros(fields[3])); // Timestamp
+            } catch (IllegalArgumentException ex) { // bad number or timestamp
+                continue; // skip malformed row
+            } // end try
+        } // end while
+        return null; // end of log
+    } // end next method
+
+    /**
+     * Splits a row into the field slots; the last column takes the rest of the line.
+     * 
+     * @param line the row
+     * @return number of fields found
+     */
+    private int split(String line) { // field split
+        int n = 0, start = 0; // field count and start
+        while (n < COLUMNS - 1) { // all but the last column
+            int comma = line.indexOf(',', start); // next separator
+            if (comma < 0) break; // short row
+            fields[n++] = line.substring(start, comma); // field
+            start = comma + 1; // next field
+        } // end while
+        fields[n++] = line.substring(start); // last field
+        return n; // field count
+    } // end split method
+
+    @Override // release file
+    public void close() throws IOException { in.close(); }
+} // end of CsvEventReader class
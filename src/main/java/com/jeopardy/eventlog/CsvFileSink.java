@@ -0,0 +1,162 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.Closeable; // listeners that own resources
+import java.io.File; // for file representation
+import java.io.IOException; // for I/O failures
+import java.nio.ByteBuffer; // for channel writes
+import java.nio.channels.FileChannel; // long-lived append channel
+import java.nio.charset.StandardCharsets; // for UTF-8 encoding
+import java.nio.file.StandardOpenOption; // for channel open options
+import java.util.List; // for batched writes
+import java.util.concurrent.locks.ReentrantLock; // sink lock that does not pin virtual threads
+
+/**
+ * Event sink that appends CSV rows to a single file over one long-lived FileChannel.
+ * The header row is written once when the file is empty. An optional AppendListener
+ * is told the byte offset of every row, which EventLogIndex uses to build its sidecar index.
+ * A DurabilityPolicy decides when the channel is forced to disk (by default never).
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class CsvFileSink implements EventSink { // start of CsvFileSink class
+    /** CSV header row shared by every CSV event log. */
+    public static final String HEADER = "Case_ID,Player_ID,Activity,Timestamp,Category,Question_Value,Answer_Given,Result,Score_After_Play\n";
+
+    private final File file; // output file
+    private final ReentrantLock lock = new ReentrantLock(); // serialises writers and the fsync timer
+    private final FileChannel channel; // append-mode channel kept open for the sink's lifetime
+    private final CsvEventEncoder encoder = new CsvEventEncoder(); // reusable row encoder (guarded by lock)
+    private final AppendListener listener; // notified of row offsets, may be null
+    private long position; // file size, i.e. offset of the next row (guarded by lock)
+    private final FileSyncer syncer; // applies the durability policy (guarded by lock)
+
+    /**
+     * Opens (or creates) the CSV file in append mode.
+     * 
+     * @param file the file to append events to
+     * @throws IOException if the file cannot be opened
+     */
+    public CsvFileSink(File file) throws IOException { // start of constructor
+        this(file, null); // no listener
+    } // end of constructor
+
+    /**
+     * Opens (or creates) the CSV file in append mode and reports each appended row to a listener.
+     * The listener is closed with the sink if it implements Closeable.
+     * 
+     * @param file the file to append events to
+     * @param listener the listener told about each row, or null
+     * @throws IOException if the file cannot be opened
+     */
+    public CsvFileSink(File file, AppendListener listener) throws IOException { // start of constructor
+        this(file, listener, DurabilityPolicy.osBuffered()); // OS-buffered
+    } // end of constructor
+
+    /**
+     * Opens (or creates) the CSV file in append mode with a durability policy.
+     * 
+     * @param file the file to append events to
+     * @param listener the listener told about each row, or null
+     * @param durability when to force written rows to disk
+     * @throws IOException if the file cannot be opened
+     */
+    public CsvFileSink(File file, AppendListener listener, DurabilityPolicy durability) throws IOException { // start of constructor
+        this.file = file; // assign output file
+        this.listener = listener; // assign listener
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND); // open channel
+        this.position = channel.size(); // current end of file
+        if (position == 0) writeFully(ByteBuffer.wrap(HEADER.getBytes(StandardCharsets.UTF_8))); // write header on empty file
+        this.syncer = new FileSyncer(channel, durability, lock); // durability policy
+    } // end of constructor
+
+    /**
+     * Gets the file this sink appends to.
+     * 
+     * @return the output file
+     */
+    public File getFile() { return file; }
+
+    /**
+     * Gets latency statistics for the forces made by the durability policy.
+     * 
+     * @return fsync metrics
+     */
+    @Override // metrics of this sink's syncer
+    public FsyncMetrics getFsyncMetrics() { return syncer.getMetrics(); }
+
+    @Override // write a single event straight to the channel
+    public void write(LogEvent event) throws IOException {
+        lock.lock(); // exclusive channel access
+        try { // write row
+            encoder.reset(); // reuse encoder buffer
+            encoder.encode(event); // encode row
+            long offset = position; // row offset
+            writeFully(encoder.buffer()); // write row
+            if (listener != null) listener.appended(event, offset, encoder.length()); // report row
+            syncer.written(1); // apply durability policy
+        } finally { lock.unlock(); } // end try
+    } // end write method
+
+    @Override // write a whole batch with a single channel write
+    public void writeAll(List<LogEvent> events) throws IOException {
+        lock.lock(); // exclusive channel access
+        try { // write rows
+            encoder.reset(); // reuse encoder buffer
+            int first = 0; // first event not yet written
+            for (int i = 0; i < events.size(); i++) { // encode rows back to back
+                encoder.encode(events.get(i)); // append row
+                if (encoder.length() >= 64 * 1024 || i == events.size() - 1) { writeChunk(events, first, i + 1); first = i + 1; } // write chunk
+            } // end for
+            if (!events.isEmpty()) syncer.written(events.size()); // one force covers the whole batch
+        } finally { lock.unlock(); } // end try
+    } // end writeAll method
+
+    @Override // channel writes are unbuffered; flushing forces anything the policy has not yet forced
+    public void flush() throws IOException { lock.lock(); try { syncer.sync(); } finally { lock.unlock(); } }
+
+    @Override // release the channel
+    public void close() throws IOException {
+        lock.lock(); // exclude writers and the timer
+        try { // close once
+            if (!channel.isOpen()) return; // already closed
+            syncer.close(); // force the last group
+            channel.close(); // close file
+            if (listener instanceof Closeable) ((Closeable) listener).close(); // close listener resources
+        } finally { lock.unlock(); } // end try
+    } // end close method
+
+    /**
+     * Writes the encoded rows for events[from, to) and reports each row's offset.
+     * 
+     * @param events the batch being written
+     * @param from first event in the encoder buffer
+     * @param to end of the events in the encoder buffer
+     * @throws IOException if writing fails
+     */
+    private void writeChunk(List<LogEvent> events, int from, int to) throws IOException { // write encoded chunk
+        long base = position; // offset of the first row
+        writeFully(encoder.buffer()); // single write
+        if (listener != null) { // find row boundaries for the listener
+            byte[] a = encoder.array(); // encoded bytes
+            int start = 0; // row start within chunk
+            for (int i = from; i < to; i++) { // one row per event
+                int end = start; // scan to newline
+                while (a[end] != '\n') end++; // rows end with newline, never contain one
+                listener.appended(events.get(i), base + start, end + 1 - start); // report row
+                start = end + 1; // next row
+            } // end for
+        } // end if
+        encoder.reset(); // reuse buffer
+    } // end writeChunk method
+
+    /**
+     * Writes the whole buffer, looping over partial writes.
+     * 
+     * @param buf the bytes to write
+     * @throws IOException if writing fails
+     */
+    private void writeFully(ByteBuffer buf) throws IOException { // loop until all bytes are written
+        while (buf.hasRemaining()) position += channel.write(buf); // write remaining bytes
+    } // end writeFully method
+} // end of CsvFileSink class
@@ -0,0 +1,16 @@
+package com.jeopardy.eventlog; // package declaration
+
+/**
+ * How hard a file sink works to get events onto stable storage.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public enum Durability {
+    /** Leave written data in the OS page cache; a crash of the machine can lose recent events. */
+    OS_BUFFERED,
+    /** Force the file every N milliseconds or N events, whichever comes first. */
+    GROUP_COMMIT,
+    /** Force the file before every write returns. */
+    PER_EVENT
+}
@@ -0,0 +1,77 @@
+package com.jeopardy.eventlog; // package declaration
+
+/**
+ * Durability mode plus its group-commit limits, shared by the file sinks.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public final class DurabilityPolicy { // start of DurabilityPolicy class
+    /** Default group-commit interval in milliseconds. */
+    public static final long DEFAULT_GROUP_MILLIS = 50;
+    /** Default group-commit event count. */
+    public static final int DEFAULT_GROUP_EVENTS = 256;
+
+    private static final DurabilityPolicy OS_BUFFERED = new DurabilityPolicy(Durability.OS_BUFFERED, 0, 0); // shared instance
+    private static final DurabilityPolicy PER_EVENT = new DurabilityPolicy(Durability.PER_EVENT, 0, 1); // shared instance
+
+    private final Durability mode; // durability mode
+    private final long groupMillis; // max time between forces
+    private final int groupEvents; // max events between forces
+
+    private DurabilityPolicy(Durability mode, long groupMillis, int groupEvents) { // use the factory methods
+        this.mode = mode; // assign mode
+        this.groupMillis = groupMillis; // assign interval
+        this.groupEvents = groupEvents; // assign event count
+    } // end constructor
+
+    /**
+     * Never forces; the OS decides when data reaches disk.
+     * 
+     * @return the OS-buffered policy
+     */
+    public static DurabilityPolicy osBuffered() { return OS_BUFFERED; }
+
+    /**
+     * Forces after every write.
+     * 
+     * @return the per-event policy
+     */
+    public static DurabilityPolicy perEvent() { return PER_EVENT; }
+
+    /**
+     * Forces when the oldest unforced event is intervalMillis old or maxEvents are unforced.
+     * 
+     * @param intervalMillis maximum time an event stays unforced
+     * @param maxEvents maximum number of unforced events
+     * @return a group-commit policy
+     */
+    public static DurabilityPolicy groupCommit(long intervalMillis, int maxEvents) { // group commit
+        if (intervalMillis <= 0 || maxEvents <= 0) throw new IllegalArgumentException("Group commit interval and event count must be positive"); // validate
+        return new DurabilityPolicy(Durability.GROUP_COMMIT, intervalMillis, maxEvents); // policy
+    } // end groupCommit method
+
+    /**
+     * Gets the durability mode.
+     * 
+     * @return the mode
+     */
+    public Durability getMode() { return mode; }
+
+    /**
+     * Gets the group-commit interval.
+     * 
+     * @return milliseconds, or 0 outside group commit
+     */
+    public long getGroupMillis() { return groupMillis; }
+
+    /**
+     * Gets the group-commit event count.
+     * 
+     * @return events, or 0 outside group commit
+     */
+    public int getGroupEvents() { return groupEvents; }
+
+    @Override // readable form for diagnostics
+    public String toString() { return mode == Durability.GROUP_COMMIT ? mode + "(" + groupMillis + "ms/" + groupEvents + " events)" : mode.toString(); }
+} // end of DurabilityPolicy class
@@ -0,0 +1,310 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.BufferedInputStream; // sidecar input
+import java.io.BufferedOutputStream; // sidecar output
+import java.io.Closeable; // index owns the sidecar stream
+import java.io.DataInputStream; // sidecar records
+import java.io.DataOutputStream; // sidecar records
+import java.io.EOFException; // partial sidecar record
+import java.io.File; // for file representation
+import java.io.FileInputStream; // sidecar input
+import java.io.FileOutputStream; // sidecar output
+import java.io.IOException; // for I/O failures
+import java.io.RandomAccessFile; // sidecar truncation
+import java.nio.ByteBuffer; // positional reads
+import java.nio.channels.FileChannel; // positional reads
+import java.nio.charset.StandardCharsets; // for UTF-8 decoding
+import java.nio.file.StandardOpenOption; // for channel open options
+import java.util.ArrayList; // row lists
+import java.util.Arrays; // array growth
+import java.util.BitSet; // per-activity bitmaps
+import java.util.HashMap; // case and activity maps
+import java.util.List; // row lists
+import java.util.Map; // case and activity maps
+import java.util.Set; // case IDs
+import java.util.concurrent.locks.ReentrantLock; // index lock that does not pin virtual threads
+
+/**
+ * Sidecar index over a CSV event log ({log}.idx) for fast per-game and per-activity queries.
+ * It records the byte offset, length, timestamp, Case_ID and activity of every row as rows
+ * are appended (attach it to a CsvFileSink as its AppendListener). In memory it keeps row
+ * offsets per Case_ID and one bitmap of row numbers per activity.
+ * Opening an index loads the sidecar and indexes any rows appended since it was last written,
+ * so a missing or stale sidecar is rebuilt incrementally instead of from scratch.
+ * Readers such as EventLogQuery use openReadOnly, which catches up in memory only and never
+ * writes the sidecar, so it cannot clash with the live game's appender.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class EventLogIndex implements AppendListener, Closeable { // start of EventLogIndex class
+    private final File log; // indexed CSV log
+    private final File sidecar; // index file
+    private final boolean readOnly; // never writes the sidecar
+    private final ReentrantLock lock = new ReentrantLock(); // guards the in-memory index and the sidecar appender
+    private DataOutputStream out; // sidecar appender
+    private long[] offsets = new long[1024]; // row offsets by row number
+    private int[] lengths = new int[1024]; // row lengths by row number
+    private long[] micros = new long[1024]; // row timestamps by row number
+    private int rows = 0; // number of indexed rows
+    private boolean timeOrdered = true; // whether timestamps never decrease
+    private final Map<String, IntList> byCase = new HashMap<>(); // row numbers per Case_ID
+    private final Map<String, BitSet> byActivity = new HashMap<>(); // row bitmap per activity
+    private long indexedEnd = 0; // log offset just past the last indexed row
+
+    /**
+     * Opens the index for a CSV event log, loading its sidecar and indexing any unindexed rows.
+     * 
+     * @param log the CSV event log
+     * @return the index
+     * @throws IOException if the log or sidecar cannot be read
+     */
+    public static EventLogIndex open(File log) throws IOException { // load or build index
+        EventLogIndex index = new EventLogIndex(log, false); // empty index
+        index.load(); // read sidecar
+        index.catchUp(); // index rows appended since
+        return index; // ready index
+    } // end open method
+
+    /**
+     * Opens the index for reading only: loads the sidecar and indexes any newer rows in memory,
+     * without truncating or appending to the sidecar. Safe while a game is writing the log.
+     * 
+     * @param log the CSV event log
+     * @return the index, which cannot be attached to a sink
+     * @throws IOException if the log or sidecar cannot be read
+     */
+    public static EventLogIndex openReadOnly(File log) throws IOException { // query-only index
+        EventLogIndex index = new EventLogIndex(log, true); // empty index
+        index.load(); // read sidecar
+        index.catchUp(); // index newer rows in memory
+        return index; // ready index
+    } // end openReadOnly method
+
+    /**
+     * Creates an empty index for a log.
+     * 
+     * @param log the CSV event log
+     * @param readOnly whether the sidecar is never written
+     */
+    private EventLogIndex(File log, boolean readOnly) { // private constructor
+        this.readOnly = readOnly; // assign mode
+        this.log = log; // assign log
+        this.sidecar = new File(log.getPath() + ".idx"); // sidecar location
+    } // end constructor
+
+    @Override // index a row appended by CsvFileSink
+    public void appended(LogEvent event, long offset, int length) throws IOException {
+        if (readOnly) throw new IllegalStateException("Index was opened read-only"); // not a sink listener
+        lock.lock(); // exclusive index access
+        try { add(offset, length, event.getTimestampMicros(), event.getCaseId(), event.getActivity(), true); } finally { lock.unlock(); } // index and persist
+    } // end appended method
+
+    /**
+     * Gets the number of indexed events.
+     * 
+     * @return event count
+     */
+    public int size() { lock.lock(); try { return rows; } finally { lock.unlock(); } }
+
+    /**
+     * Gets every indexed Case_ID.
+     * 
+     * @return case IDs
+     */
+    public Set<String> caseIds() { lock.lock(); try { return new java.util.TreeSet<>(byCase.keySet()); } finally { lock.unlock(); } }
+
+    /**
+     * Reads all CSV rows of one game, in log order, without scanning other games.
+     * 
+     * @param caseId the Case_ID
+     * @return the game's rows (without newlines), empty if unknown
+     * @throws IOException if the log cannot be read
+     */
+    public List<String> eventsForCase(String caseId) throws IOException { // per-game lookup
+        long[] off; int[] len; // row positions
+        lock.lock(); // snapshot positions
+        try { // copy positions
+            IntList list = byCase.get(key(caseId)); // rows of this case
+            if (list == null) return new ArrayList<>(); // unknown case
+            off = new long[list.size]; len = new int[list.size]; // positions
+            for (int i = 0; i < list.size; i++) { off[i] = offsets[list.values[i]]; len[i] = lengths[list.values[i]]; } // copy positions
+        } finally { lock.unlock(); } // end try
+        List<String> out = new ArrayList<>(off.length); // rows
+        try (FileChannel ch = FileChannel.open(log.toPath(), StandardOpenOption.READ)) { // positional reads
+            for (int i = 0; i < off.length; i++) { // read each row
+                ByteBuffer bb = ByteBuffer.allocate(len[i]); // row buffer
+                while (bb.hasRemaining() && ch.read(bb, off[i] + bb.position()) >= 0) { } // read row
+                out.add(new String(bb.array(), 0, Math.max(0, bb.position() - 1), StandardCharsets.UTF_8)); // strip newline
+            } // end for
+        } // end try
+        return out; // game rows
+    } // end eventsForCase method
+
+    /**
+     * Counts events of an activity whose timestamp lies in [fromMicros, toMicros).
+     * 
+     * @param activity the activity name
+     * @param fromMicros inclusive lower bound in epoch microseconds
+     * @param toMicros exclusive upper bound in epoch microseconds
+     * @return matching event count
+     */
+    public long countActivity(String activity, long fromMicros, long toMicros) { // activity count
+        lock.lock(); // consistent view
+        try { // count rows
+            BitSet bits = byActivity.get(key(activity)); // rows of this activity
+            if (bits == null) return 0; // unknown activity
+            int lo = 0, hi = rows; // row range to scan
+            if (timeOrdered) { lo = lowerBound(fromMicros); hi = lowerBound(toMicros); } // narrow range by time
+            long count = 0; // matches
+            for (int r = bits.nextSetBit(lo); r >= 0 && r < hi; r = bits.nextSetBit(r + 1)) if (micros[r] >= fromMicros && micros[r] < toMicros) count++; // count matches
+            return count; // result
+        } finally { lock.unlock(); } // end try
+    } // end countActivity method
+
+    /**
+     * Counts all events of an activity.
+     * 
+     * @param activity the activity name
+     * @return matching event count
+     */
+    public long countActivity(String activity) { lock.lock(); try { BitSet bits = byActivity.get(key(activity)); return bits == null ? 0 : bits.cardinality(); } finally { lock.unlock(); } }
+
+    @Override // flush and close sidecar
+    public void close() throws IOException { lock.lock(); try { if (out != null) { out.close(); out = null; } } finally { lock.unlock(); } }
+
+    /**
+     * Loads the sidecar, truncating a partially written last record.
+     * 
+     * @throws IOException if the sidecar cannot be read
+     */
+    private void load() throws IOException { // read sidecar
+        if (!sidecar.exists()) return; // nothing indexed yet
+        long valid = 0; // bytes of complete records
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(sidecar), 64 * 1024))) { // sidecar reader
+            while (true) { // read records until EOF
+                long offset; int length; long ts; String caseId, activity; // record fields
+                try { offset = in.readLong(); length = in.readInt(); ts = in.readLong(); caseId = in.readUTF(); activity = in.readUTF(); } // one record
+                catch (EOFException eof) { break; } // end or partial record
+                if (offset + length > log.length()) break; // sidecar ahead of the log, re-index from here
+                add(offset, length, ts, caseId, activity, false); // index record
+                valid += 8 + 4 + 8 + 2 + utfLength(caseId) + 2 + utfLength(activity); // record size
+            } // end while
+        } // end try
+        if (valid != sidecar.length() && !readOnly) try (RandomAccessFile raf = new RandomAccessFile(sidecar, "rw")) { raf.setLength(valid); } // drop partial tail
+    } // end load method
+
+    /**
+     * Indexes rows appended to the log after the last indexed row.
+     * 
+     * @throws IOException if the log cannot be read
+     */
+    private void catchUp() throws IOException { // index unindexed tail
+        if (!log.exists()) return; // nothing to index
+        try (FileChannel ch = FileChannel.open(log.toPath(), StandardOpenOption.READ)) { // tail reader
+            ByteBuffer buf = ByteBuffer.allocate(64 * 1024); // read window
+            byte[] row = new byte[256]; // current row bytes
+            int rowLen = 0; // bytes in current row
+            long pos = indexedEnd; // offset of the current row
+            long readAt = indexedEnd; // next read offset
+            int n; // bytes read
+            while ((n = ch.read(buf, readAt)) > 0) { // read window
+                readAt += n; // advance read offset
+                buf.flip(); // drain window
+                while (buf.hasRemaining()) { // scan bytes
+                    byte b = buf.get(); // current byte
+                    if (b != '\n') { if (rowLen == row.length) row = Arrays.copyOf(row, rowLen * 2); row[rowLen++] = b; continue; } // accumulate row
+                    String text = new String(row, 0, rowLen, StandardCharsets.UTF_8); // row text
+                    if (!text.isEmpty() && !text.startsWith("Case_ID,")) indexRow(text, pos, rowLen + 1); // data row
+                    pos += rowLen + 1; // next row offset
+                    rowLen = 0; // next row
+                } // end while
+                buf.clear(); // refill window
+            } // end while
+        } // end try
+    } // end catchUp method
+
+    /**
+     * Indexes one CSV row read from the log.
+     * 
+     * @param row the row text
+     * @param offset the row offset
+     * @param length the row length including newline
+     * @throws IOException if the sidecar cannot be written
+     */
+    private void indexRow(String row, long offset, int length) throws IOException { // parse and index row
+        int c1 = row.indexOf(','), c2 = row.indexOf(',', c1 + 1), c3 = row.indexOf(',', c2 + 1), c4 = row.indexOf(',', c3 + 1); // first four columns
+        if (c3 < 0) return; // malformed row
+        long ts; // row timestamp
+        try { ts = EventTimestamps.parseMicros(row, c3 + 1, c4 < 0 ? row.length() : c4); } catch (IllegalArgumentException ex) { ts = Long.MIN_VALUE; } // timestamp
+        add(offset, length, ts, row.substring(0, c1), row.substring(c2 + 1, c3), true); // index and persist
+    } // end indexRow method
+
+    /**
+     * Adds a row to the in-memory index and optionally appends it to the sidecar.
+     * 
+     * @param offset row offset
+     * @param length row length
+     * @param ts row timestamp in epoch micros
+     * @param caseId row Case_ID
+     * @param activity row activity
+     * @param persist whether to append the row to the sidecar
+     * @throws IOException if the sidecar cannot be written
+     */
+    private void add(long offset, int length, long ts, String caseId, String activity, boolean persist) throws IOException { // index row
+        if (rows == offsets.length) { offsets = Arrays.copyOf(offsets, rows * 2); lengths = Arrays.copyOf(lengths, rows * 2); micros = Arrays.copyOf(micros, rows * 2); } // grow arrays
+        if (rows > 0 && ts < micros[rows - 1]) timeOrdered = false; // out-of-order timestamps
+        offsets[rows] = offset; lengths[rows] = length; micros[rows] = ts; // row position and time
+        byCase.computeIfAbsent(key(caseId), k -> new IntList()).add(rows); // per-case rows
+        byActivity.computeIfAbsent(key(activity), k -> new BitSet()).set(rows); // activity bitmap
+        rows++; // count row
+        indexedEnd = Math.max(indexedEnd, offset + length); // indexed extent
+        if (persist && !readOnly) { // append to sidecar
+            if (out == null) out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(sidecar, true), 64 * 1024)); // open lazily
+            out.writeLong(offset); out.writeInt(length); out.writeLong(ts); out.writeUTF(key(caseId)); out.writeUTF(key(activity)); // record
+            if (rows % 1024 == 0) out.flush(); // bound unflushed records; open() re-indexes any lost tail
+        } // end if
+    } // end add method
+
+    /**
+     * Finds the first row whose timestamp is at least t (rows must be time ordered).
+     * 
+     * @param t epoch micros
+     * @return row number
+     */
+    private int lowerBound(long t) { // binary search on time
+        int lo = 0, hi = rows; // search range
+        while (lo < hi) { int mid = (lo + hi) >>> 1; if (micros[mid] < t) lo = mid + 1; else hi = mid; } // bisect
+        return lo; // first row at or after t
+    } // end lowerBound method
+
+    /**
+     * Normalises null keys to the empty string, matching the CSV.
+     * 
+     * @param s key
+     * @return non-null key
+     */
+    private static String key(String s) { return s == null ? "" : s; }
+
+    /**
+     * Number of bytes writeUTF uses for a string's characters.
+     * 
+     * @param s the string
+     * @return modified UTF-8 length
+     */
+    private static int utfLength(String s) { // modified UTF-8 size
+        int n = 0; // byte count
+        for (int i = 0; i < s.length(); i++) { char c = s.charAt(i); n += (c >= 1 && c <= 0x7F) ? 1 : c <= 0x7FF ? 2 : 3; } // per char
+        return n; // total
+    } // end utfLength method
+
+    /**
+     * Growable list of primitive ints.
+     */
+    private static final class IntList { // compact row list
+        int[] values = new int[8]; // row numbers
+        int size = 0; // used entries
+
+        void add(int v) { if (size == values.length) values = Arrays.copyOf(values, size * 2); values[size++] = v; } // append
+    } // end IntList class
+} // end of EventLogIndex class
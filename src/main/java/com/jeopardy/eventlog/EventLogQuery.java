@@ -0,0 +1,63 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.File; // for file representation
+import java.io.IOException; // for I/O failures
+
+/**
+ * Command-line query tool over an indexed CSV event log.
+ * Usage:
+ * <pre>
+ *   EventLogQuery &lt;log.csv&gt; case &lt;Case_ID&gt;                  print every row of one game
+ *   EventLogQuery &lt;log.csv&gt; count &lt;ACTIVITY&gt; [from] [to]     count an activity, optionally in an ISO time range
+ *   EventLogQuery &lt;log.csv&gt; cases                            list indexed Case_IDs
+ * </pre>
+ * The index is opened read-only, so the tool is safe to run against a live game: the sidecar (kept by
+ * an indexed sink, see jeopardy.log.index) is loaded and newer rows are indexed in memory only. The tool
+ * never writes a sidecar, so without one every query scans the whole log.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class EventLogQuery { // start of EventLogQuery class
+
+    private EventLogQuery() {} // static utility
+
+    /**
+     * Command-line entry point.
+     * 
+     * @param args log file, command and command arguments
+     * @throws IOException if the log or index cannot be read
+     */
+    public static void main(String[] args) throws IOException { // CLI entry point
+        if (args.length < 2) { usage(); return; } // missing arguments
+        long start = System.nanoTime(); // query timer
+        try (EventLogIndex index = EventLogIndex.openReadOnly(new File(args[0]))) { // load index without touching the live sidecar
+            switch (args[1]) { // dispatch command
+                case "case":
+                    if (args.length < 3) { usage(); return; } // missing case ID
+                    for (String row : index.eventsForCase(args[2])) System.out.println(row); // print game rows
+                    break;
+                case "count":
+                    if (args.length < 3) { usage(); return; } // missing activity
+                    long from = args.length > 3 ? EventTimestamps.parseMicros(args[3]) : Long.MIN_VALUE; // lower bound
+                    long to = args.length > 4 ? EventTimestamps.parseMicros(args[4]) : Long.MAX_VALUE; // upper bound
+                    System.out.println(index.countActivity(args[2], from, to)); // print count
+                    break;
+                case "cases":
+                    for (String id : index.caseIds()) System.out.println(id); // print case IDs
+                    break;
+                default:
+                    usage(); // unknown command
+                    return;
+            } // end switch
+        } // end try
+        System.err.printf("(%.1f ms)%n", (System.nanoTime() - start) / 1e6); // report query time
+    } // end main method
+
+    /**
+     * Prints usage information.
+     */
+    private static void usage() { // usage text
+        System.err.println("Usage: EventLogQuery <log.csv> case <Case_ID> | count <ACTIVITY> [from] [to] | cases"); // usage
+    } // end usage method
+} // end of EventLogQuery class
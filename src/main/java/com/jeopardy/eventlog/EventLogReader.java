@@ -0,0 +1,21 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.Closeable; // readers own a file
+import java.io.IOException; // for I/O failures
+
+/**
+ * Streams LogEvents out of a stored event log, one at a time, in file order.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public interface EventLogReader extends Closeable { // start of EventLogReader interface
+
+    /**
+     * Reads the next event.
+     * 
+     * @return the next event, or null at end of log
+     * @throws IOException if the log cannot be read
+     */
+    LogEvent next() throws IOException;
+} // end of EventLogReader interface
@@ -0,0 +1,33 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.File; // for file representation
+import java.io.FileInputStream; // header sniffing
+import java.io.IOException; // for I/O failures
+import java.io.InputStream; // header sniffing
+import java.util.Arrays; // magic comparison
+
+/**
+ * Factory that opens the right EventLogReader for a stored event log.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class EventLogReaders { // start of EventLogReaders class
+
+    private EventLogReaders() {} // static factory
+
+    /**
+     * Opens an event log, choosing the reader from the file's leading bytes:
+     * binary logs start with the BinaryEventSink magic, everything else is read as CSV.
+     * 
+     * @param file the event log
+     * @return a reader positioned at the first event
+     * @throws IOException if the file cannot be opened
+     */
+    public static EventLogReader open(File file) throws IOException { // pick reader
+        byte[] head; // leading bytes
+        try (InputStream in = new FileInputStream(file)) { head = in.readNBytes(BinaryEventSink.MAGIC.length); } // sniff header
+        if (Arrays.equals(head, BinaryEventSink.MAGIC)) return new BinaryEventReader(file); // binary log
+        return new CsvEventReader(file); // CSV log
+    } // end open method
+} // end of EventLogReaders class
@@ -0,0 +1,49 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.Closeable; // sinks own files or threads that must be released
+import java.io.IOException; // for I/O failures
+import java.util.List; // for batched writes
+
+/**
+ * Destination for logged game events.
+ * Implementations decide how and when events reach storage (Strategy pattern),
+ * so the EventLogger front end stays independent of the file layout.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public interface EventSink extends Closeable {
+
+    /**
+     * Writes a single event.
+     * 
+     * @param event the event to write
+     * @throws IOException if the event cannot be written
+     */
+    void write(LogEvent event) throws IOException;
+
+    /**
+     * Writes a batch of events in order.
+     * Implementations may override this to turn the batch into fewer system calls.
+     * 
+     * @param events the events to write
+     * @throws IOException if the events cannot be written
+     */
+    default void writeAll(List<LogEvent> events) throws IOException { // write batch
+        for (LogEvent e : events) write(e); // write each event in order
+    } // end writeAll method
+
+    /**
+     * Pushes any events accepted so far towards storage.
+     * 
+     * @throws IOException if flushing fails
+     */
+    void flush() throws IOException;
+
+    /**
+     * Gets latency statistics for the forces the sink's durability policy made.
+     * 
+     * @return fsync metrics, or null if the sink does not force its own files
+     */
+    default FsyncMetrics getFsyncMetrics() { return null; }
+}
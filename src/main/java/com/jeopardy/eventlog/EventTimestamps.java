@@ -0,0 +1,94 @@
+package com.jeopardy.eventlog; // package declaration
+
+/**
+ * Allocation-free parser for the ISO-8601 timestamps found in event logs,
+ * e.g. 2024-11-10T10:00:25.123Z, 2024-11-10T10:00:25.123-04:00 or 2024-11-10T10:00:00
+ * (timestamps without an offset are read as UTC).
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public final class EventTimestamps { // start of EventTimestamps class
+
+    private EventTimestamps() {} // static utility
+
+    /**
+     * Parses a timestamp to epoch microseconds.
+     * 
+     * @param s the text holding the timestamp
+     * @param start index of the first character
+     * @param end index just past the last character
+     * @return epoch microseconds
+     * @throws IllegalArgumentException if the text is not a supported timestamp
+     */
+    public static long parseMicros(CharSequence s, int start, int end) { // parse ISO timestamp
+        if (end - start < 19 || s.charAt(start + 4) != '-' || s.charAt(start + 7) != '-' || s.charAt(start + 10) != 'T' || s.charAt(start + 13) != ':' || s.charAt(start + 16) != ':') // fixed layout
+            throw new IllegalArgumentException("Unsupported timestamp: " + s.subSequence(start, end)); // reject
+        int year = num(s, start, 4), month = num(s, start + 5, 2), day = num(s, start + 8, 2); // date
+        int hour = num(s, start + 11, 2), minute = num(s, start + 14, 2), second = num(s, start + 17, 2); // time
+        int i = start + 19; // after seconds
+        long micros = 0; // fraction in micros
+        if (i < end && s.charAt(i) == '.') { // fraction present
+            int digits = 0; // fraction digits read
+            for (i++; i < end && Character.isDigit(s.charAt(i)); i++, digits++) if (digits < 6) micros = micros * 10 + (s.charAt(i) - '0'); // keep up to micros
+            for (int d = Math.min(digits, 6); d < 6; d++) micros *= 10; // scale to micros
+        } // end if
+        int offsetSeconds = 0; // zone offset
+        if (i < end) { // offset present
+            char c = s.charAt(i); // offset designator
+            if (c == 'Z') i++; // UTC
+            else if ((c == '+' || c == '-') && end - i >= 6 && s.charAt(i + 3) == ':') { // +hh:mm
+                offsetSeconds = (num(s, i + 1, 2) * 3600 + num(s, i + 4, 2) * 60) * (c == '-' ? -1 : 1); // offset
+                i += 6; // consume offset
+            } // end if
+            if (i < end && s.charAt(i) == '[') i = end; // ignore a trailing [zone-id]
+            if (i != end) throw new IllegalArgumentException("Unsupported timestamp: " + s.subSequence(start, end)); // trailing garbage
+        } // end if
+        long epochSecond = daysFromCivil(year, month, day) * 86_400L + hour * 3600L + minute * 60L + second - offsetSeconds; // seconds since epoch
+        return epochSecond * 1_000_000L + micros; // micros since epoch
+    } // end parseMicros method
+
+    /**
+     * Parses a whole string to epoch microseconds.
+     * 
+     * @param s the timestamp text
+     * @return epoch microseconds
+     * @throws IllegalArgumentException if the text is not a supported timestamp
+     */
+    public static long parseMicros(CharSequence s) { return parseMicros(s, 0, s.length()); }
+
+    /**
+     * Days since 1970-01-01 for a proleptic Gregorian date (H. Hinnant's algorithm).
+     * 
+     * @param y year
+     * @param m month 1-12
+     * @param d day of month
+     * @return days since the epoch
+     */
+    static long daysFromCivil(int y, int m, int d) { // civil date to epoch day
+        y -= m <= 2 ? 1 : 0; // year starts in March
+        long era = Math.floorDiv(y, 400); // 400-year era
+        long yoe = y - era * 400; // year of era
+        long doy = (153L * (m + (m > 2 ? -3 : 9)) + 2) / 5 + d - 1; // day of year
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy; // day of era
+        return era * 146_097 + doe - 719_468; // epoch day
+    } // end daysFromCivil method
+
+    /**
+     * Reads a fixed-width decimal number.
+     * 
+     * @param s the text
+     * @param at first digit index
+     * @param width number of digits
+     * @return the number
+     */
+    private static int num(CharSequence s, int at, int width) { // fixed-width digits
+        int v = 0; // result
+        for (int i = at; i < at + width; i++) { // each digit
+            char c = s.charAt(i); // digit char
+            if (c < '0' || c > '9') throw new IllegalArgumentException("Unsupported timestamp: " + s); // not a digit
+            v = v * 10 + (c - '0'); // accumulate
+        } // end for
+        return v; // number
+    } // end num method
+} // end of EventTimestamps class
@@ -0,0 +1,129 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.IOException; // for I/O failures
+import java.nio.channels.FileChannel; // channel to force
+import java.util.concurrent.Executors; // timer thread
+import java.util.concurrent.ScheduledExecutorService; // group-commit timer
+import java.util.concurrent.ScheduledFuture; // timer task
+import java.util.concurrent.TimeUnit; // timer units
+import java.util.concurrent.locks.Lock; // the sink's lock
+
+/**
+ * Applies a DurabilityPolicy to a sink's FileChannel (or any other force action, such as a
+ * mapped segment's) and records fsync latency.
+ * Every method must be called while holding the sink's lock; the group-commit timer
+ * takes the same lock, so forces never interleave with writes.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+class FileSyncer { // start of FileSyncer class
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> { // shared group-commit timer
+        Thread t = new Thread(r, "event-log-fsync"); // named thread
+        t.setDaemon(true); // never keeps the JVM alive
+        return t; // timer thread
+    }); // end executor
+
+    private final Force force; // forces written data to disk
+    private final DurabilityPolicy policy; // when to force
+    private final Lock lock; // the sink's lock
+    private final FsyncMetrics metrics = new FsyncMetrics(); // latency statistics
+    private final ScheduledFuture<?> timer; // group-commit task, or null
+    private long pending = 0; // events written but not forced
+    private long oldestPending = 0; // nanoTime of the first unforced write
+
+    /**
+     * Forces a sink's written data to disk; does nothing once the sink's file is closed.
+     */
+    interface Force { // force action
+        /**
+         * Forces written data to disk.
+         * 
+         * @throws IOException if forcing fails
+         */
+        void force() throws IOException;
+    } // end Force interface
+
+    /**
+     * Creates a syncer for a channel and, for group commit, starts its timer.
+     * 
+     * @param channel channel to force
+     * @param policy durability policy
+     * @param lock the sink's lock
+     */
+    FileSyncer(FileChannel channel, DurabilityPolicy policy, Lock lock) { // channel constructor
+        this(() -> { if (channel.isOpen()) channel.force(false); }, policy, lock); // file data (and size) to disk
+    } // end constructor
+
+    /**
+     * Creates a syncer and, for group commit, starts its timer.
+     * 
+     * @param force forces written data to disk
+     * @param policy durability policy
+     * @param lock the sink's lock
+     */
+    FileSyncer(Force force, DurabilityPolicy policy, Lock lock) { // constructor
+        this.force = force; // assign force action
+        this.policy = policy; // assign policy
+        this.lock = lock; // assign lock
+        this.timer = policy.getMode() == Durability.GROUP_COMMIT ? TIMER.scheduleWithFixedDelay(this::tick, policy.getGroupMillis(), policy.getGroupMillis(), TimeUnit.MILLISECONDS) : null; // group-commit timer
+    } // end constructor
+
+    /**
+     * Notes that events were written and forces if the policy requires it.
+     * 
+     * @param events number of events just written
+     * @throws IOException if forcing fails
+     */
+    void written(int events) throws IOException { // after a write
+        if (pending == 0) oldestPending = System.nanoTime(); // start of the group
+        pending += events; // unforced events
+        switch (policy.getMode()) { // apply policy
+            case PER_EVENT: sync(); break; // force now
+            case GROUP_COMMIT: if (pending >= policy.getGroupEvents() || System.nanoTime() - oldestPending >= policy.getGroupMillis() * 1_000_000L) sync(); break; // group full or old
+            default: break; // leave it to the OS
+        } // end switch
+    } // end written method
+
+    /**
+     * Forces any unforced events, unless the policy is OS-buffered.
+     * 
+     * @throws IOException if forcing fails
+     */
+    void sync() throws IOException { // force pending data
+        if (pending == 0 || policy.getMode() == Durability.OS_BUFFERED) return; // nothing to do
+        long start = System.nanoTime(); // latency timer
+        force.force(); // written data to disk
+        metrics.record(System.nanoTime() - start, pending); // record latency
+        pending = 0; // group committed
+    } // end sync method
+
+    /**
+     * Stops the timer and forces any unforced events.
+     * 
+     * @throws IOException if forcing fails
+     */
+    void close() throws IOException { // sink closing
+        if (timer != null) timer.cancel(false); // stop timer
+        sync(); // last group
+    } // end close method
+
+    /**
+     * Gets the fsync metrics.
+     * 
+     * @return latency statistics
+     */
+    FsyncMetrics getMetrics() { return metrics; }
+
+    /**
+     * Timer callback: forces events written since the last force, bounding their wait to about one interval.
+     */
+    private void tick() { // group-commit timer
+        lock.lock(); // exclude writers
+        try { // force if due
+            sync(); // force whatever the interval collected
+        } catch (IOException ex) { // timer must keep running
+            System.err.println("Failed to sync event log: " + ex.getMessage()); // report failure
+        } finally { lock.unlock(); } // end try
+    } // end tick method
+} // end of FileSyncer class
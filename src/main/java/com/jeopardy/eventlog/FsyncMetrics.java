@@ -0,0 +1,80 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.util.concurrent.locks.ReentrantLock; // guards the counters without pinning virtual threads
+
+/**
+ * Latency statistics for FileChannel.force calls made by a sink.
+ * The histogram has one bucket per power of two microseconds: bucket i counts forces
+ * that took less than 2^i microseconds (and at least 2^(i-1)). Sinks expose them through
+ * getFsyncMetrics, and EventLogger reports them on every Event Log Flush JFR event.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class FsyncMetrics { // start of FsyncMetrics class
+    /** Number of histogram buckets; the last one also holds anything slower. */
+    public static final int BUCKETS = 32;
+
+    private final ReentrantLock lock = new ReentrantLock(); // guards every field below
+    private long count = 0; // forces recorded
+    private long totalNanos = 0; // summed latency
+    private long maxNanos = 0; // slowest force
+    private long events = 0; // events made durable
+    private final long[] histogram = new long[BUCKETS]; // log2 microsecond buckets
+
+    /**
+     * Records one force.
+     * 
+     * @param nanos how long the force took
+     * @param eventsSynced how many events it made durable
+     */
+    void record(long nanos, long eventsSynced) { // add sample
+        lock.lock(); // exclusive update
+        try { // add sample
+            count++; // count force
+            totalNanos += nanos; // add latency
+            maxNanos = Math.max(maxNanos, nanos); // slowest
+            events += eventsSynced; // events covered
+            long micros = nanos / 1000; // latency in microseconds
+            int bucket = micros == 0 ? 0 : 64 - Long.numberOfLeadingZeros(micros); // log2 bucket
+            histogram[Math.min(bucket, BUCKETS - 1)]++; // count in bucket
+        } finally { lock.unlock(); } // end try
+    } // end record method
+
+    /** @return number of forces */
+    public long getCount() { lock.lock(); try { return count; } finally { lock.unlock(); } }
+    /** @return total time spent forcing, in nanoseconds */
+    public long getTotalNanos() { lock.lock(); try { return totalNanos; } finally { lock.unlock(); } }
+    /** @return slowest force, in nanoseconds */
+    public long getMaxNanos() { lock.lock(); try { return maxNanos; } finally { lock.unlock(); } }
+    /** @return events made durable by the recorded forces */
+    public long getEventsSynced() { lock.lock(); try { return events; } finally { lock.unlock(); } }
+    /** @return copy of the log2 microsecond histogram */
+    public long[] getHistogram() { lock.lock(); try { return histogram.clone(); } finally { lock.unlock(); } }
+
+    /**
+     * Estimates a latency percentile from the histogram.
+     * 
+     * @param p percentile between 0 and 100
+     * @return upper bound of the bucket holding the percentile, in microseconds
+     */
+    public long percentileMicros(double p) { // histogram percentile
+        lock.lock(); // consistent histogram
+        try { // walk buckets
+            if (count == 0) return 0; // no samples
+            long target = (long) Math.ceil(count * p / 100.0); // rank
+            long seen = 0; // samples so far
+            for (int i = 0; i < BUCKETS; i++) { seen += histogram[i]; if (seen >= Math.max(1, target)) return 1L << i; } // bucket bound
+            return 1L << (BUCKETS - 1); // slowest bucket
+        } finally { lock.unlock(); } // end try
+    } // end percentileMicros method
+
+    @Override // one-line summary
+    public String toString() { // describe metrics
+        lock.lock(); // consistent snapshot
+        try { // format
+            if (count == 0) return "fsync: none"; // nothing recorded
+            return String.format("fsync: n=%d events=%d mean=%.1fus p99<=%dus max=%.1fus", count, events, totalNanos / 1000.0 / count, percentileMicros(99), maxNanos / 1000.0); // summary
+        } finally { lock.unlock(); } // end try
+    } // end toString method
+} // end of FsyncMetrics class
@@ -0,0 +1,122 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.time.Instant; // for capturing the event time
+
+/**
+ * Immutable snapshot of a single game activity destined for the event log.
+ * The timestamp is captured when the event is created so that sinks which
+ * write later (for example on a background thread) still record the real time.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public final class LogEvent { // start of LogEvent class
+    private final String caseId; // game session identifier
+    private final String playerId; // player (or SYSTEM) performing the activity
+    private final String activity; // activity name
+    private final String category; // question category (may be null)
+    private final Integer questionValue; // question value (may be null)
+    private final String answerGiven; // answer given (may be null)
+    private final String result; // activity result
+    private final int scoreAfter; // score after the activity
+    private final long timestampMicros; // event time in microseconds since the epoch
+
+    /**
+     * Constructs a log event with all CSV columns.
+     * 
+     * @param caseId the unique case identifier for the game session
+     * @param playerId the identifier of the player performing the action
+     * @param activity the type of activity being logged
+     * @param category the question category (if applicable)
+     * @param questionValue the question point value (if applicable)
+     * @param answerGiven the answer provided by the player (if applicable)
+     * @param result the result of the activity (e.g., CORRECT, WRONG, OK)
+     * @param scoreAfter the player's score after the activity
+     * @param timestampMicros the event time in microseconds since the epoch
+     */
+    public LogEvent(String caseId, String playerId, String activity, String category, Integer questionValue,
+                    String answerGiven, String result, int scoreAfter, long timestampMicros) {
+        this.caseId = caseId;
+        this.playerId = playerId;
+        this.activity = activity;
+        this.category = category;
+        this.questionValue = questionValue;
+        this.answerGiven = answerGiven;
+        this.result = result;
+        this.scoreAfter = scoreAfter;
+        this.timestampMicros = timestampMicros;
+    }
+
+    /**
+     * Gets the current wall-clock time in microseconds since the epoch.
+     * 
+     * @return the current time in epoch microseconds
+     */
+    public static long nowMicros() { // capture current time
+        Instant now = Instant.now(); // current instant
+        return now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000; // convert to micros
+    } // end nowMicros method
+
+    /**
+     * Gets the case identifier.
+     * 
+     * @return case ID
+     */
+    public String getCaseId() { return caseId; }
+
+    /**
+     * Gets the player identifier.
+     * 
+     * @return player ID
+     */
+    public String getPlayerId() { return playerId; }
+
+    /**
+     * Gets the activity name.
+     * 
+     * @return activity
+     */
+    public String getActivity() { return activity; }
+
+    /**
+     * Gets the question category.
+     * 
+     * @return category, or null if not applicable
+     */
+    public String getCategory() { return category; }
+
+    /**
+     * Gets the question value.
+     * 
+     * @return question value, or null if not applicable
+     */
+    public Integer getQuestionValue() { return questionValue; }
+
+    /**
+     * Gets the answer given.
+     * 
+     * @return answer given, or null if not applicable
+     */
+    public String getAnswerGiven() { return answerGiven; }
+
+    /**
+     * Gets the activity result.
+     * 
+     * @return result
+     */
+    public String getResult() { return result; }
+
+    /**
+     * Gets the score after the activity.
+     * 
+     * @return score after play
+     */
+    public int getScoreAfter() { return scoreAfter; }
+
+    /**
+     * Gets the event time.
+     * 
+     * @return event time in microseconds since the epoch
+     */
+    public long getTimestampMicros() { return timestampMicros; }
+} // end of LogEvent class
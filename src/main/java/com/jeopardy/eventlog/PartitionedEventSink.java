@@ -0,0 +1,227 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.BufferedReader; // for reading partitions during merge
+import java.io.BufferedWriter; // for writing the merged log
+import java.io.File; // for file representation
+import java.io.IOException; // for I/O failures
+import java.nio.channels.ClosedChannelException; // partition closed by LRU eviction
+import java.nio.charset.StandardCharsets; // for UTF-8 encoding
+import java.nio.file.Files; // for readers and writers
+import java.security.MessageDigest; // collision-free partition names
+import java.security.NoSuchAlgorithmException; // digest lookup
+import java.util.ArrayList; // for partition lists
+import java.util.Arrays; // for sorting partition files
+import java.util.HexFormat; // partition name suffixes
+import java.util.Iterator; // for closing partitions
+import java.util.LinkedHashMap; // LRU of open partitions
+import java.util.List; // for partition lists
+import java.util.Map; // for partition map
+import java.util.PriorityQueue; // k-way merge
+import java.util.concurrent.locks.ReentrantLock; // map lock that does not pin virtual threads
+
+/**
+ * Event sink that writes each Case_ID (or each hash bucket of case IDs) to its own CSV file.
+ * Partitions have independent locks, so concurrent games do not contend on one monitor,
+ * and a single game's events can be read from its partition without scanning other games.
+ * A bounded number of partition files are kept open; idle ones are closed and reopened on demand.
+ * A Case_ID that is not already a safe lowercase file name gets a hash suffix, so no two cases
+ * share a partition file. Writes after close are rejected.
+ * mergeTo rebuilds the single-file layout expected by process-mining tools.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class PartitionedEventSink implements EventSink { // start of PartitionedEventSink class
+    /** Default maximum number of partition files kept open. */
+    public static final int DEFAULT_MAX_OPEN = 256;
+
+    private final File directory; // directory holding partition files
+    private final int buckets; // number of hash buckets, 0 for one partition per case
+    private final Map<String, CsvFileSink> open; // open partitions in LRU order (guarded by openLock)
+    private final ReentrantLock openLock = new ReentrantLock(); // held while partitions are opened, evicted or closed
+    private boolean closed = false; // set by close (guarded by openLock)
+
+    /**
+     * Creates a partitioned sink.
+     * 
+     * @param directory the directory to write partition files to
+     * @param buckets the number of hash buckets, or 0 for one file per Case_ID
+     * @throws IOException if the directory cannot be created
+     */
+    public PartitionedEventSink(File directory, int buckets) throws IOException {
+        this(directory, buckets, DEFAULT_MAX_OPEN);
+    }
+
+    /**
+     * Creates a partitioned sink.
+     * 
+     * @param directory the directory to write partition files to
+     * @param buckets the number of hash buckets, or 0 for one file per Case_ID
+     * @param maxOpen the maximum number of partition files kept open at once
+     * @throws IOException if the directory cannot be created
+     * @throws IllegalArgumentException if buckets is negative or maxOpen is not positive
+     */
+    public PartitionedEventSink(File directory, int buckets, int maxOpen) throws IOException {
+        if (buckets < 0 || maxOpen < 1) throw new IllegalArgumentException("Invalid partition settings"); // validate settings
+        if (!directory.isDirectory() && !directory.mkdirs()) throw new IOException("Cannot create log directory: " + directory); // ensure directory
+        this.directory = directory; // assign directory
+        this.buckets = buckets; // assign bucket count
+        this.open = new LinkedHashMap<>(16, 0.75f, true) { // access-ordered LRU
+            @Override protected boolean removeEldestEntry(Map.Entry<String, CsvFileSink> eldest) { // evict idle partitions
+                if (size() <= maxOpen) return false; // still within bound
+                try { eldest.getValue().close(); } catch (IOException ex) { System.err.println("Failed to close log partition: " + ex.getMessage()); } // close idle partition
+                return true; // drop from map
+            }
+        };
+    } // end of constructor
+
+    /**
+     * Gets the partition file that holds events for the given case.
+     * 
+     * @param caseId the Case_ID
+     * @return the partition file (may not exist yet)
+     */
+    public File partitionFile(String caseId) { return new File(directory, partitionName(caseId)); }
+
+    @Override // route event to its partition
+    public void write(LogEvent event) throws IOException {
+        String name = partitionName(event.getCaseId()); // partition for this case
+        for (int attempt = 0; ; attempt++) { // retry if the partition was evicted mid-write
+            CsvFileSink sink = partition(name); // open partition
+            try { sink.write(event); return; } // write under the partition's own lock
+            catch (ClosedChannelException ex) { if (attempt >= 2) throw ex; } // evicted concurrently, reopen
+        } // end for
+    } // end write method
+
+    @Override // partitions write straight to their channels
+    public void flush() throws IOException {}
+
+    @Override // close every open partition
+    public void close() throws IOException {
+        openLock.lock(); // exclusive map access
+        try { // close all
+            closed = true; // no partition is reopened after this
+            for (Iterator<CsvFileSink> it = open.values().iterator(); it.hasNext(); ) { it.next().close(); it.remove(); } // close all
+        } finally { openLock.unlock(); } // end try
+    } // end close method
+
+    /**
+     * Gets all partition files currently on disk, in name order.
+     * 
+     * @return partition files
+     */
+    public List<File> partitionFiles() { // list partition files
+        File[] files = directory.listFiles((d, n) -> (n.startsWith("case-") || n.startsWith("bucket-")) && n.endsWith(".csv")); // partition files
+        if (files == null) return new ArrayList<>(); // directory missing
+        Arrays.sort(files); // deterministic order
+        return new ArrayList<>(Arrays.asList(files)); // return list
+    } // end partitionFiles method
+
+    /**
+     * Writes every partition into one CSV file with a single header, ordered by timestamp.
+     * Partitions are merged k-way, so memory use does not depend on log size.
+     * 
+     * @param out the merged CSV file to write
+     * @throws IOException if reading or writing fails
+     */
+    public void mergeTo(File out) throws IOException { // merged single-file view
+        List<File> files = partitionFiles(); // inputs
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(); // next row of each partition
+        try (BufferedWriter bw = Files.newBufferedWriter(out.toPath(), StandardCharsets.UTF_8)) { // merged output
+            for (int i = 0; i < files.size(); i++) { // open every partition
+                Cursor c = new Cursor(i, Files.newBufferedReader(files.get(i).toPath(), StandardCharsets.UTF_8)); // partition reader
+                if (c.advance()) heap.add(c); else c.reader.close(); // seed heap
+            } // end for
+            bw.write(CsvFileSink.HEADER); // single header
+            while (!heap.isEmpty()) { // pop rows in time order
+                Cursor c = heap.poll(); // earliest row
+                bw.write(c.line); bw.write('\n'); // copy row
+                if (c.advance()) heap.add(c); else c.reader.close(); // next row of that partition
+            } // end while
+        } finally { // close remaining readers on failure
+            for (Cursor c : heap) c.reader.close(); // release readers
+        } // end try
+    } // end mergeTo method
+
+    /**
+     * Gets (opening if needed) the sink for a partition.
+     * 
+     * @param name partition file name
+     * @return the partition sink
+     * @throws IOException if the partition cannot be opened or the sink is closed
+     */
+    private CsvFileSink partition(String name) throws IOException { // lookup or open
+        openLock.lock(); // short critical section for the map only
+        try { // lookup or open
+            if (closed) throw new IOException("Event sink is closed"); // reject after close
+            CsvFileSink sink = open.get(name); // existing partition
+            if (sink == null) { sink = new CsvFileSink(new File(directory, name)); open.put(name, sink); } // open partition
+            return sink; // return partition
+        } finally { openLock.unlock(); } // end try
+    } // end partition method
+
+    /**
+     * Maps a Case_ID to its partition file name.
+     * 
+     * @param caseId the Case_ID
+     * @return partition file name
+     */
+    private String partitionName(String caseId) { // partition naming
+        String id = caseId == null || caseId.isEmpty() ? "unassigned" : caseId; // events without a case
+        if (buckets > 0) return String.format("bucket-%03d.csv", Math.floorMod(id.hashCode(), buckets)); // hash bucket
+        if (caseId == null || caseId.isEmpty()) return "case-.csv"; // no case ID cannot clash with any real one
+        StringBuilder sb = new StringBuilder("case-"); // per-case file
+        boolean altered = false; // whether the name differs from the ID
+        for (int i = 0; i < id.length(); i++) { // file-safe name
+            char c = id.charAt(i); // current char
+            boolean safe = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_'; // unambiguous even on case-insensitive file systems
+            if (!safe) altered = true; // name no longer identifies the case alone
+            sb.append(safe || (c >= 'A' && c <= 'Z') ? c : '_'); // keep readable
+        } // end for
+        if (altered) sb.append('.').append(HexFormat.of().formatHex(sha256().digest(id.getBytes(StandardCharsets.UTF_8)), 0, 8)); // unaltered names never contain '.'
+        return sb.append(".csv").toString(); // file name
+    } // end partitionName method
+
+    /**
+     * Creates a SHA-256 digest.
+     * 
+     * @return digest instance
+     */
+    private static MessageDigest sha256() { // digest instance
+        try { return MessageDigest.getInstance("SHA-256"); } catch (NoSuchAlgorithmException e) { throw new IllegalStateException("SHA-256 unavailable", e); } // required by every JDK
+    } // end sha256 method
+
+    /**
+     * Reader position within one partition during a merge.
+     */
+    private static final class Cursor implements Comparable<Cursor> { // merge cursor
+        final int order; // partition order for stable ties
+        final BufferedReader reader; // partition reader
+        String line; // current row
+        long sortKey; // current row timestamp in epoch micros
+
+        Cursor(int order, BufferedReader reader) { this.order = order; this.reader = reader; } // constructor
+
+        boolean advance() throws IOException { // read next data row
+            while ((line = reader.readLine()) != null) { // skip header and blank lines
+                if (line.isEmpty() || line.startsWith("Case_ID,")) continue; // not a data row
+                sortKey = timestampMicros(line); // ordering key
+                return true; // row available
+            } // end while
+            return false; // partition exhausted
+        } // advance
+
+        @Override public int compareTo(Cursor o) { // earliest timestamp first
+            int c = Long.compare(sortKey, o.sortKey); // compare time
+            return c != 0 ? c : Integer.compare(order, o.order); // then partition order
+        } // compareTo
+
+        private static long timestampMicros(String line) { // parse the Timestamp column
+            int start = 0; // field start
+            for (int f = 0; f < 3; f++) start = line.indexOf(',', start) + 1; // skip three columns
+            int end = line.indexOf(',', start); // field end
+            try { return EventTimestamps.parseMicros(line, start, end < 0 ? line.length() : end); } // parse timestamp
+            catch (RuntimeException ex) { return Long.MIN_VALUE; } // malformed rows sort first
+        } // timestampMicros
+    } // end Cursor class
+} // end of PartitionedEventSink class
@@ -0,0 +1,419 @@
+package com.jeopardy.eventlog; // package declaration
+
+import java.io.BufferedInputStream; // for recovering unclosed segments
+import java.io.BufferedWriter; // for writing the manifest
+import java.io.ByteArrayOutputStream; // row buffer during recovery
+import java.io.File; // for file representation
+import java.io.FileInputStream; // for reading segments to compress
+import java.io.FileOutputStream; // for writing compressed segments
+import java.io.IOException; // for I/O failures
+import java.io.InputStream; // for segment compression
+import java.io.OutputStream; // for segment compression
+import java.lang.reflect.Field; // for locating the unmapper
+import java.lang.reflect.Method; // for releasing mappings
+import java.nio.ByteBuffer; // unmapper parameter type
+import java.nio.MappedByteBuffer; // memory-mapped segment
+import java.nio.channels.FileChannel; // segment channel
+import java.nio.charset.StandardCharsets; // for UTF-8 encoding
+import java.nio.file.Files; // for manifest replacement
+import java.nio.file.StandardCopyOption; // for atomic manifest replacement
+import java.nio.file.StandardOpenOption; // for channel open options
+import java.time.Instant; // for manifest timestamps
+import java.util.ArrayList; // for segment list
+import java.util.List; // for segment list
+import java.util.concurrent.ExecutorService; // background compression
+import java.util.concurrent.Executors; // background compression
+import java.util.concurrent.TimeUnit; // for shutdown wait
+import java.util.concurrent.locks.ReentrantLock; // sink lock that does not pin virtual threads
+import java.util.zip.GZIPOutputStream; // segment compression
+
+/**
+ * Event sink that appends CSV rows to fixed-size, memory-mapped segment files.
+ * Each segment ({base}-000001.csv, {base}-000002.csv, ...) starts with the usual CSV header.
+ * A new segment is started when the current one is full or older than the time threshold;
+ * closed segments are trimmed to their used size and optionally gzipped in the background.
+ * A manifest ({base}.manifest.csv) lists every segment with its event and time range.
+ * The active segment is pre-sized, so readers should stop at the first NUL byte; a segment left
+ * open by a crash is trimmed to its last complete row when the next sink starts, and a compression a crash
+ * interrupted is finished (or, without compression, the plain segment is kept).
+ * A DurabilityPolicy decides when the mapped segment is forced to disk (by default never).
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class SegmentedCsvSink implements EventSink { // start of SegmentedCsvSink class
+    /** Header row of the manifest file. */
+    public static final String MANIFEST_HEADER = "Segment,First_Event,Last_Event,First_Timestamp,Last_Timestamp,Events,Bytes,State\n";
+
+    private static final Object UNSAFE; // sun.misc.Unsafe instance, null if unavailable
+    private static final Method UNMAP; // Unsafe.invokeCleaner, releases a mapping before the file is truncated
+
+    static { // locate the unmapper
+        Object unsafe = null; Method unmap = null; // stay null when unavailable
+        try { // jdk.unsupported exposes invokeCleaner for direct and mapped buffers
+            Class<?> c = Class.forName("sun.misc.Unsafe"); // unsafe class
+            Field f = c.getDeclaredField("theUnsafe"); // singleton field
+            f.setAccessible(true); // open in jdk.unsupported
+            unsafe = f.get(null); // singleton
+            unmap = c.getMethod("invokeCleaner", ByteBuffer.class); // unmapper
+        } catch (ReflectiveOperationException | RuntimeException ex) { unsafe = null; unmap = null; } // mappings are released by the collector
+        UNSAFE = unsafe; UNMAP = unmap; // publish
+    } // end static initialiser
+
+    private final File directory; // directory holding segments
+    private final ReentrantLock lock = new ReentrantLock(); // serialises writers, rolls and the compressor
+    private final String baseName; // segment file name prefix
+    private final long segmentBytes; // target segment size
+    private final long maxSegmentMillis; // maximum segment age, 0 for no time limit
+    private final boolean gzipClosed; // whether closed segments are compressed
+    private final File manifest; // manifest file
+    private final CsvEventEncoder encoder = new CsvEventEncoder(); // reusable row encoder
+    private final List<Segment> segments = new ArrayList<>(); // all known segments (guarded by lock)
+    private final ExecutorService compressor; // background gzip worker, null when disabled
+    private Segment active; // segment currently being written
+    private FileChannel channel; // channel of the active segment
+    private MappedByteBuffer map; // mapping of the active segment
+    private long nextEvent = 0; // sequence number of the next event
+    private final FileSyncer syncer; // applies the durability policy to the active mapping (guarded by lock)
+
+    /**
+     * Creates a segmented sink with no time-based roll and no compression.
+     * 
+     * @param directory the directory to write segments to
+     * @param baseName the segment file name prefix, e.g. game_event_log
+     * @param segmentBytes the size at which a new segment is started
+     * @throws IOException if the first segment cannot be created
+     */
+    public SegmentedCsvSink(File directory, String baseName, long segmentBytes) throws IOException {
+        this(directory, baseName, segmentBytes, 0, false);
+    }
+
+    /**
+     * Creates a segmented sink and opens its first segment.
+     * 
+     * @param directory the directory to write segments to
+     * @param baseName the segment file name prefix, e.g. game_event_log
+     * @param segmentBytes the size at which a new segment is started
+     * @param maxSegmentMillis the age at which a new segment is started, or 0 for no limit
+     * @param gzipClosed whether closed segments are gzipped
+     * @throws IOException if the first segment cannot be created
+     * @throws IllegalArgumentException if segmentBytes cannot hold the header
+     */
+    public SegmentedCsvSink(File directory, String baseName, long segmentBytes, long maxSegmentMillis, boolean gzipClosed) throws IOException {
+        this(directory, baseName, segmentBytes, maxSegmentMillis, gzipClosed, DurabilityPolicy.osBuffered());
+    }
+
+    /**
+     * Creates a segmented sink with a durability policy and opens its first segment.
+     * 
+     * @param directory the directory to write segments to
+     * @param baseName the segment file name prefix, e.g. game_event_log
+     * @param segmentBytes the size at which a new segment is started
+     * @param maxSegmentMillis the age at which a new segment is started, or 0 for no limit
+     * @param gzipClosed whether closed segments are gzipped
+     * @param durability when to force written rows to disk
+     * @throws IOException if the first segment cannot be created
+     * @throws IllegalArgumentException if segmentBytes cannot hold the header
+     */
+    public SegmentedCsvSink(File directory, String baseName, long segmentBytes, long maxSegmentMillis, boolean gzipClosed, DurabilityPolicy durability) throws IOException {
+        if (segmentBytes <= CsvFileSink.HEADER.length() || segmentBytes > Integer.MAX_VALUE) throw new IllegalArgumentException("Segment size out of range: " + segmentBytes); // validate size
+        if (!directory.isDirectory() && !directory.mkdirs()) throw new IOException("Cannot create log directory: " + directory); // ensure directory
+        this.directory = directory; // assign directory
+        this.baseName = baseName; // assign prefix
+        this.segmentBytes = segmentBytes; // assign size threshold
+        this.maxSegmentMillis = maxSegmentMillis; // assign time threshold
+        this.gzipClosed = gzipClosed; // assign compression flag
+        this.manifest = new File(directory, baseName + ".manifest.csv"); // manifest location
+        this.compressor = gzipClosed ? Executors.newSingleThreadExecutor(r -> { Thread t = new Thread(r, "event-log-compressor"); t.setDaemon(true); return t; }) : null; // compression worker
+        readManifest(); // resume numbering after existing segments
+        openSegment(0); // open first segment
+        if (gzipClosed) for (Segment s : segments) if ("COMPRESSING".equals(s.state)) compressor.execute(() -> compress(s)); // finish compressions a crash interrupted
+        this.syncer = new FileSyncer(() -> { if (map != null) map.force(); }, durability, lock); // forces the active mapping
+    } // end of constructor
+
+    @Override // append one row to the active segment
+    public void write(LogEvent event) throws IOException {
+        lock.lock(); // exclusive segment access
+        try { // append row
+            if (channel == null) throw new IOException("Event sink is closed"); // closed or failed roll
+            encoder.reset(); // reuse encoder buffer
+            encoder.encode(event); // encode row
+            int len = encoder.length(); // row size
+            boolean expired = maxSegmentMillis > 0 && System.currentTimeMillis() - active.openedAtMillis >= maxSegmentMillis; // time threshold
+            if ((expired && active.events > 0) || len > map.remaining()) { closeSegment(); openSegment(len); } // roll segment
+            map.put(encoder.array(), 0, len); // append row
+            if (active.events == 0) { active.firstEvent = nextEvent; active.firstMicros = event.getTimestampMicros(); } // first event in segment
+            active.lastEvent = nextEvent++; // last event sequence
+            active.lastMicros = event.getTimestampMicros(); // last event time
+            active.events++; // count event
+            syncer.written(1); // apply durability policy
+        } finally { lock.unlock(); } // end try
+    } // end write method
+
+    @Override // mapped writes are already visible through the page cache; flushing forces anything the policy has not yet forced
+    public void flush() throws IOException { lock.lock(); try { syncer.sync(); } finally { lock.unlock(); } }
+
+    /**
+     * Closes the active segment, waits for pending compression and writes the final manifest.
+     * 
+     * @throws IOException if the segment cannot be closed
+     */
+    @Override // close active segment
+    public void close() throws IOException {
+        lock.lock(); try { if (channel == null) return; syncer.close(); closeSegment(); } finally { lock.unlock(); } // force the last group and close active segment
+        if (compressor != null) { // wait for pending compression
+            compressor.shutdown(); // no new tasks
+            try { compressor.awaitTermination(1, TimeUnit.MINUTES); } catch (InterruptedException ex) { Thread.currentThread().interrupt(); } // wait
+        } // end if
+        lock.lock(); try { writeManifest(); } finally { lock.unlock(); } // final manifest
+    } // end close method
+
+    /**
+     * Gets the files of all segments, oldest first (compressed segments end in .csv.gz).
+     * 
+     * @return segment files
+     */
+    public List<File> getSegmentFiles() { // list segment files
+        lock.lock(); // consistent segment list
+        try { // copy names
+            List<File> out = new ArrayList<>(); // output list
+            for (Segment s : segments) out.add(new File(directory, s.name)); // add each segment
+            return out; // return files
+        } finally { lock.unlock(); } // end try
+    } // end getSegmentFiles method
+
+    /**
+     * Gets latency statistics for the forces made by the durability policy.
+     * 
+     * @return fsync metrics
+     */
+    @Override // metrics of this sink's syncer
+    public FsyncMetrics getFsyncMetrics() { return syncer.getMetrics(); }
+
+    /**
+     * Gets the manifest file.
+     * 
+     * @return manifest file
+     */
+    public File getManifest() { return manifest; }
+
+    /**
+     * Maps a new segment large enough for the header and at least minRow bytes.
+     * 
+     * @param minRow size of the row that must fit
+     * @throws IOException if the segment cannot be created
+     */
+    private void openSegment(int minRow) throws IOException { // start a new segment
+        int index = segments.isEmpty() ? 1 : segments.get(segments.size() - 1).index + 1; // next segment number
+        byte[] header = CsvFileSink.HEADER.getBytes(StandardCharsets.UTF_8); // header bytes
+        long capacity = Math.max(segmentBytes, header.length + (long) minRow); // oversize rows get their own segment
+        active = new Segment(index, String.format("%s-%06d.csv", baseName, index)); // segment record
+        active.openedAtMillis = System.currentTimeMillis(); // remember open time
+        channel = FileChannel.open(new File(directory, active.name).toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE); // create file
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity); // map whole segment
+        map.put(header); // header per segment
+        segments.add(active); // register segment
+        writeManifest(); // list the active segment
+    } // end openSegment method
+
+    /**
+     * Unmaps the active segment, trims it to its used size, closes it and schedules compression.
+     * If the mapping cannot be released (so the file cannot be truncated on some platforms), the NUL
+     * padding is kept; readers stop at the first NUL byte anyway.
+     * 
+     * @throws IOException if the segment cannot be closed
+     */
+    private void closeSegment() throws IOException { // finish active segment
+        Segment done = active; // segment being closed
+        if (syncer != null) syncer.sync(); // rows the policy has not yet forced
+        done.bytes = map.position(); // used bytes
+        MappedByteBuffer mapped = map; // mapping to release
+        map = null; // no further access to the mapping
+        unmap(mapped); // release it before truncating
+        try { channel.truncate(done.bytes); } // remove unused pre-sized space
+        catch (IOException ex) { System.err.println("Failed to trim log segment " + done.name + ": " + ex.getMessage()); } // keep padding
+        channel.close(); // release channel
+        channel = null; // no active channel
+        done.state = gzipClosed ? "COMPRESSING" : "CLOSED"; // new state
+        writeManifest(); // record closed segment
+        if (gzipClosed) compressor.execute(() -> compress(done)); // compress in background
+    } // end closeSegment method
+
+    /**
+     * Gzips a closed segment, replaces it with the .gz file and updates the manifest.
+     * 
+     * @param s the segment to compress
+     */
+    private void compress(Segment s) { // background compression task
+        File src = new File(directory, s.name); // plain segment
+        File dst = new File(directory, s.name + ".gz"); // compressed segment
+        try (InputStream in = new FileInputStream(src); OutputStream out = new GZIPOutputStream(new FileOutputStream(dst), 64 * 1024)) { // open streams
+            in.transferTo(out); // copy through gzip
+        } catch (IOException ex) { // compression failed, keep plain segment
+            System.err.println("Failed to compress log segment " + s.name + ": " + ex.getMessage()); // report failure
+            lock.lock(); try { s.state = "CLOSED"; try { writeManifest(); } catch (IOException ignored) {} } finally { lock.unlock(); } // revert state
+            return; // keep plain file
+        } // end try
+        lock.lock(); // publish compressed segment
+        try { // update segment
+            s.name = dst.getName(); // point at compressed file
+            s.state = "COMPRESSED"; // new state
+            if (!src.delete()) System.err.println("Failed to delete compressed log segment " + src.getName()); // remove plain file
+            try { writeManifest(); } catch (IOException ex) { System.err.println("Failed to write log manifest: " + ex.getMessage()); } // update manifest
+        } finally { lock.unlock(); } // end try
+    } // end compress method
+
+    /**
+     * Releases a mapping now instead of when it is garbage collected. The buffer must not be used afterwards.
+     * 
+     * @param buf the mapping to release
+     */
+    private static void unmap(MappedByteBuffer buf) { // explicit unmap
+        if (UNMAP == null) return; // left to the collector
+        try { UNMAP.invoke(UNSAFE, buf); } catch (ReflectiveOperationException | RuntimeException ex) { System.err.println("Failed to unmap log segment: " + ex.getMessage()); } // left to the collector
+    } // end unmap method
+
+    /**
+     * Rewrites the manifest atomically from the segment list.
+     * 
+     * @throws IOException if writing fails
+     */
+    private void writeManifest() throws IOException { // rewrite manifest
+        File tmp = new File(directory, manifest.getName() + ".tmp"); // temporary file
+        try (BufferedWriter bw = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) { // write temp file
+            bw.write(MANIFEST_HEADER); // header row
+            for (Segment s : segments) { // one row per segment
+                boolean empty = s.events == 0; // no events yet
+                long bytes = s == active && map != null ? map.position() : s.bytes; // current size
+                bw.write(s.name + "," + (empty ? "" : s.firstEvent) + "," + (empty ? "" : s.lastEvent) + "," // range
+                        + (empty ? "" : micros(s.firstMicros)) + "," + (empty ? "" : micros(s.lastMicros)) + "," // time range
+                        + s.events + "," + bytes + "," + s.state + "\n"); // counts and state
+            } // end for
+        } // end try
+        Files.move(tmp.toPath(), manifest.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE); // replace manifest
+    } // end writeManifest method
+
+    /**
+     * Loads segments listed by an existing manifest so numbering and event sequence continue.
+     * 
+     * @throws IOException if the manifest cannot be read
+     */
+    private void readManifest() throws IOException { // resume from manifest
+        if (!manifest.exists()) return; // fresh directory
+        List<String> lines = Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8); // manifest rows
+        for (int i = 1; i < lines.size(); i++) { // skip header
+            String[] f = lines.get(i).split(",", -1); // manifest columns
+            if (f.length < 8) continue; // skip malformed rows
+            String name = f[0]; // segment file name
+            int dash = name.lastIndexOf('-'), dot = name.indexOf('.', dash); // locate number
+            Segment s = new Segment(Integer.parseInt(name.substring(dash + 1, dot)), name); // restored segment
+            s.events = Long.parseLong(f[5]); // event count
+            if (s.events > 0) { s.firstEvent = Long.parseLong(f[1]); s.lastEvent = Long.parseLong(f[2]); s.firstMicros = parseMicros(f[3]); s.lastMicros = parseMicros(f[4]); } // ranges
+            s.bytes = Long.parseLong(f[6]); // size
+            s.state = "ACTIVE".equals(f[7]) ? "UNCLOSED" : f[7]; // a previous run did not close it
+            if ("UNCLOSED".equals(s.state)) recover(s); // drop NUL padding and a torn last row
+            if ("COMPRESSING".equals(s.state)) recoverCompression(s); // compression a crash interrupted
+            segments.add(s); // register segment
+            if (s.events > 0) nextEvent = Math.max(nextEvent, s.lastEvent + 1); // continue sequence
+        } // end for
+    } // end readManifest method
+
+    /**
+     * Trims a segment a previous run left open to its last complete row, removing the NUL padding
+     * of the pre-sized file, and recounts its events and time range from the rows.
+     * 
+     * @param s the unclosed segment
+     * @throws IOException if the segment cannot be read or truncated
+     */
+    private void recover(Segment s) throws IOException { // crash recovery
+        File file = new File(directory, s.name); // plain segment
+        if (!file.isFile()) return; // already gone
+        long pos = 0, end = 0, rows = 0; // bytes read, end of last row, complete rows (with header)
+        String first = null, last = null; // first and last event rows
+        ByteArrayOutputStream row = new ByteArrayOutputStream(); // current row
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file), 64 * 1024)) { // scan rows
+            for (int b = in.read(); b > 0; b = in.read()) { // stop at the NUL padding
+                pos++; // byte consumed
+                if (b != '\n') { row.write(b); continue; } // inside a row
+                end = pos; // a complete row ends here
+                if (rows++ > 0) { last = row.toString(StandardCharsets.UTF_8); if (first == null) first = last; } // event row
+                row.reset(); // next row
+            } // end for
+        } // end try
+        try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) { ch.truncate(end); } // cut padding and torn row
+        long events = Math.max(0, rows - 1); // rows after the header
+        if (events > 0) { // ranges from the rows themselves
+            if (s.events == 0) s.firstEvent = nextEvent; // sequence continues from earlier segments
+            s.lastEvent = s.firstEvent + events - 1; // last event sequence
+            try { s.firstMicros = EventTimestamps.parseMicros(timestamp(first)); s.lastMicros = EventTimestamps.parseMicros(timestamp(last)); } catch (RuntimeException ex) { System.err.println("Failed to read log segment times " + s.name + ": " + ex.getMessage()); } // keep manifest times
+        } // end if
+        s.events = events; // recounted
+        s.bytes = end; // trimmed size
+    } // end recover method
+
+    /**
+     * Settles a segment a previous run left in COMPRESSING. If the plain file is gone the compressed file
+     * was complete and only the manifest update was lost; otherwise any partial .gz is discarded and the
+     * segment is compressed again (after the first segment is open) or, without compression, kept plain.
+     * 
+     * @param s the segment left compressing
+     */
+    private void recoverCompression(Segment s) { // crash recovery
+        File plain = new File(directory, s.name); // uncompressed segment
+        File gz = new File(directory, s.name + ".gz"); // possibly partial output
+        if (!plain.isFile()) { // compression finished before the crash
+            if (gz.isFile()) { s.name = gz.getName(); s.state = "COMPRESSED"; } else s.state = "CLOSED"; // point at what exists
+            return; // nothing to redo
+        } // end if
+        if (gz.isFile() && !gz.delete()) System.err.println("Failed to delete partial log segment " + gz.getName()); // torn output
+        s.state = gzipClosed ? "COMPRESSING" : "CLOSED"; // constructor resumes compression
+    } // end recoverCompression method
+
+    /**
+     * Gets the Timestamp column (the fourth) of a CSV row, skipping commas inside quoted fields.
+     * 
+     * @param row the CSV row
+     * @return the timestamp text
+     */
+    private static String timestamp(String row) { // fourth column
+        int field = 0, start = 0; boolean quoted = false; // scan state
+        for (int i = 0; i < row.length(); i++) { // find the column's commas
+            char c = row.charAt(i); // current char
+            if (c == '"') quoted = !quoted; // quote toggles (doubled quotes toggle twice)
+            else if (c == ',' && !quoted) { if (field == 3) return row.substring(start, i); field++; start = i + 1; } // column boundary
+        } // end for
+        return row.substring(start); // last column
+    } // end timestamp method
+
+    /**
+     * Renders epoch microseconds as an ISO-8601 UTC instant.
+     * 
+     * @param micros epoch microseconds
+     * @return ISO instant string
+     */
+    private static String micros(long micros) { return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L).toString(); }
+
+    /**
+     * Parses an ISO-8601 instant back to epoch microseconds.
+     * 
+     * @param iso ISO instant string
+     * @return epoch microseconds
+     */
+    private static long parseMicros(String iso) { Instant i = Instant.parse(iso); return i.getEpochSecond() * 1_000_000L + i.getNano() / 1_000; }
+
+    /**
+     * Bookkeeping for one segment file.
+     */
+    private static final class Segment { // segment metadata
+        final int index; // segment number
+        String name; // current file name
+        long firstEvent, lastEvent; // event sequence range
+        long firstMicros, lastMicros; // event time range
+        long events = 0; // number of events
+        long bytes = 0; // used bytes
+        long openedAtMillis; // time the segment was opened
+        String state = "ACTIVE"; // ACTIVE, CLOSED, COMPRESSING, COMPRESSED or UNCLOSED
+
+        Segment(int index, String name) { this.index = index; this.name = name; } // constructor
+    } // end Segment class
+} // end of SegmentedCsvSink class
@@ -0,0 +1,333 @@
+package com.jeopardy.eventlog; // package declaration
+
+import javax.xml.stream.XMLOutputFactory; // StAX writer factory
+import javax.xml.stream.XMLStreamException; // StAX failures
+import javax.xml.stream.XMLStreamWriter; // streaming XML output
+import java.io.BufferedInputStream; // spill input
+import java.io.BufferedOutputStream; // spill and XES output
+import java.io.DataInputStream; // spill records
+import java.io.DataOutputStream; // spill records
+import java.io.EOFException; // end of spill run
+import java.io.File; // for file representation
+import java.io.FileInputStream; // spill input
+import java.io.FileOutputStream; // spill and XES output
+import java.io.IOException; // for I/O failures
+import java.io.OutputStream; // XES output
+import java.nio.charset.StandardCharsets; // spilled strings
+import java.nio.file.Files; // temp directory
+import java.time.Instant; // timestamp rendering
+import java.time.ZoneOffset; // UTC rendering
+import java.time.format.DateTimeFormatter; // xs:dateTime format
+import java.util.ArrayList; // run buffer
+import java.util.Comparator; // case order
+import java.util.List; // run buffer
+import java.util.PriorityQueue; // k-way merge
+
+/**
+ * Streams an event log (any format EventLogReaders can open) into IEEE XES, one trace per Case_ID.
+ * Events are grouped by case with an external merge sort: at most runSize events are held in
+ * memory, full runs are sorted by (Case_ID, log position) and spilled to temporary files, and the
+ * runs are merged while the XML is written, so memory stays bounded for arbitrarily large logs.
+ * When there are more runs than the merge fan-in, they are first merged fanIn at a time into
+ * longer runs, so the number of open spill files stays bounded too.
+ * Usage: XesExporter &lt;log.csv|log.evlog&gt; &lt;output.xes&gt; [run-size]
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class XesExporter { // start of XesExporter class
+    /** Default number of events sorted in memory before a run is spilled to disk. */
+    public static final int DEFAULT_RUN_SIZE = 200_000;
+    /** Default number of runs merged at once. */
+    public static final int DEFAULT_FAN_IN = 64;
+    private static final String XES_NS = "http://www.xes-standard.org/"; // XES namespace
+    private static final DateTimeFormatter XES_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX").withZone(ZoneOffset.UTC); // xs:dateTime
+    private static final Comparator<Sequenced> BY_CASE = Comparator.comparing((Sequenced s) -> nz(s.event.getCaseId())).thenComparingLong(s -> s.seq); // trace order
+
+    private final int runSize; // events per in-memory run
+    private final int fanIn; // runs merged per pass
+
+    /**
+     * Creates an exporter with the default run size.
+     */
+    public XesExporter() { this(DEFAULT_RUN_SIZE); }
+
+    /**
+     * Creates an exporter.
+     * 
+     * @param runSize events sorted in memory before spilling to disk
+     */
+    public XesExporter(int runSize) { this(runSize, DEFAULT_FAN_IN); }
+
+    /**
+     * Creates an exporter with a custom merge fan-in.
+     * 
+     * @param runSize events sorted in memory before spilling to disk
+     * @param fanIn maximum number of runs merged at once (at least 2)
+     */
+    public XesExporter(int runSize, int fanIn) { // constructor
+        if (runSize <= 0) throw new IllegalArgumentException("Run size must be positive"); // validate
+        if (fanIn < 2) throw new IllegalArgumentException("Fan-in must be at least 2"); // validate
+        this.runSize = runSize; // store run size
+        this.fanIn = fanIn; // store fan-in
+    } // end constructor
+
+    /**
+     * Exports an event log to XES.
+     * 
+     * @param log the event log (CSV or binary)
+     * @param out the stream to write XES to (not closed)
+     * @return number of events exported
+     * @throws IOException if reading, spilling or writing fails
+     */
+    public long export(File log, OutputStream out) throws IOException { // export log
+        File spillDir = null; // created on first spill
+        List<File> runs = new ArrayList<>(); // spilled runs
+        List<Sequenced> buffer = new ArrayList<>(); // current run
+        long seq = 0; // log position
+        int spilled = 0; // spill files created, for unique names
+        try { // always clean up spills
+            try (EventLogReader reader = EventLogReaders.open(log)) { // read log
+                LogEvent e; // current event
+                while ((e = reader.next()) != null) { // stream events
+                    buffer.add(new Sequenced(e, seq++)); // buffer event
+                    if (buffer.size() >= runSize) { // run full
+                        if (spillDir == null) spillDir = Files.createTempDirectory("xes-spill").toFile(); // spill location
+                        runs.add(spill(buffer, spillDir, spilled++)); // sort and spill
+                        buffer.clear(); // next run
+                    } // end if
+                } // end while
+            } // end try
+            while (runs.size() >= fanIn) { // too many runs for the final merge (the in-memory run takes a slot)
+                List<File> group = new ArrayList<>(runs.subList(0, fanIn)); // oldest runs
+                runs.subList(0, fanIn).clear(); // no longer tracked once merged
+                try { // merge the group into one run
+                    runs.add(merge(group, spillDir, spilled++)); // longer run
+                } finally { // drop inputs
+                    for (File run : group) run.delete(); // delete merged runs
+                } // end try
+            } // end while
+            buffer.sort(BY_CASE); // last run stays in memory
+            List<RunCursor> cursors = new ArrayList<>(); // merge inputs
+            for (File run : runs) cursors.add(new RunCursor(run)); // spilled runs
+            cursors.add(new RunCursor(buffer)); // in-memory run
+            try { // close spill readers
+                writeXes(cursors, out); // merge and write
+            } finally { // release files
+                for (RunCursor c : cursors) c.close(); // close runs
+            } // end try
+            return seq; // events exported
+        } catch (XMLStreamException ex) { // XML writer failure
+            throw new IOException("Failed to write XES: " + ex.getMessage(), ex); // surface as I/O failure
+        } finally { // remove spills
+            for (File run : runs) run.delete(); // delete runs
+            if (spillDir != null) spillDir.delete(); // delete directory
+        } // end try
+    } // end export method
+
+    /**
+     * Merges the sorted runs and writes the XES document.
+     * 
+     * @param cursors sorted runs
+     * @param out the output stream
+     * @throws IOException if a run cannot be read
+     * @throws XMLStreamException if the XML cannot be written
+     */
+    private static void writeXes(List<RunCursor> cursors, OutputStream out) throws IOException, XMLStreamException { // merge and write
+        PriorityQueue<RunCursor> heap = new PriorityQueue<>((a, b) -> BY_CASE.compare(a.head, b.head)); // smallest head first
+        for (RunCursor c : cursors) if (c.advance()) heap.add(c); // prime heap
+        XMLStreamWriter w = XMLOutputFactory.newInstance().createXMLStreamWriter(out, "UTF-8"); // streaming writer
+        w.writeStartDocument("UTF-8", "1.0"); // XML declaration
+        w.writeStartElement("log"); // root
+        w.writeDefaultNamespace(XES_NS); // XES namespace
+        w.writeAttribute("xes.version", "1.0"); // XES version
+        w.writeAttribute("xes.features", ""); // no extra features
+        extension(w, "Concept", "concept"); // concept:name
+        extension(w, "Time", "time"); // time:timestamp
+        extension(w, "Organizational", "org"); // org:resource
+        w.writeStartElement("classifier"); w.writeAttribute("name", "Activity"); w.writeAttribute("keys", "concept:name"); w.writeEndElement(); // activity classifier
+        String currentCase = null; // open trace
+        while (!heap.isEmpty()) { // merge runs
+            RunCursor c = heap.poll(); // smallest event
+            LogEvent e = c.head.event; // event to write
+            String caseId = nz(e.getCaseId()); // trace key
+            if (!caseId.equals(currentCase)) { // new trace
+                if (currentCase != null) w.writeEndElement(); // close previous trace
+                w.writeStartElement("trace"); // open trace
+                attribute(w, "string", "concept:name", caseId); // trace name
+                currentCase = caseId; // remember trace
+            } // end if
+            writeEvent(w, e); // event element
+            if (c.advance()) heap.add(c); // next from this run
+        } // end while
+        if (currentCase != null) w.writeEndElement(); // close last trace
+        w.writeEndElement(); // close log
+        w.writeEndDocument(); // finish document
+        w.flush(); // push to stream
+        w.close(); // release writer (stream stays open)
+    } // end writeXes method
+
+    /**
+     * Merges sorted spill runs into one longer spilled run.
+     * 
+     * @param group the runs to merge
+     * @param dir spill directory
+     * @param index run number
+     * @return the merged run
+     * @throws IOException if a run cannot be read or written
+     */
+    private static File merge(List<File> group, File dir, int index) throws IOException { // intermediate pass
+        File f = new File(dir, String.format("run-%05d.bin", index)); // merged run
+        List<RunCursor> cursors = new ArrayList<>(); // merge inputs
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(f), 64 * 1024))) { // merged output
+            for (File run : group) cursors.add(new RunCursor(run)); // open group
+            PriorityQueue<RunCursor> heap = new PriorityQueue<>((a, b) -> BY_CASE.compare(a.head, b.head)); // smallest head first
+            for (RunCursor c : cursors) if (c.advance()) heap.add(c); // prime heap
+            while (!heap.isEmpty()) { // merge runs
+                RunCursor c = heap.poll(); // smallest event
+                write(out, c.head); // copy record
+                if (c.advance()) heap.add(c); // next from this run
+            } // end while
+        } finally { // release inputs
+            for (RunCursor c : cursors) c.close(); // close runs
+        } // end try
+        return f; // merged run
+    } // end merge method
+
+    /**
+     * Writes one event element with the standard and game-specific attributes.
+     * 
+     * @param w the XML writer
+     * @param e the event
+     * @throws XMLStreamException if the XML cannot be written
+     */
+    private static void writeEvent(XMLStreamWriter w, LogEvent e) throws XMLStreamException { // event element
+        w.writeStartElement("event"); // open event
+        attribute(w, "string", "concept:name", nz(e.getActivity())); // activity
+        attribute(w, "date", "time:timestamp", XES_TIME.format(Instant.ofEpochSecond(Math.floorDiv(e.getTimestampMicros(), 1_000_000L), Math.floorMod(e.getTimestampMicros(), 1_000_000L) * 1000))); // time
+        optional(w, "org:resource", e.getPlayerId()); // player
+        optional(w, "category", e.getCategory()); // category
+        if (e.getQuestionValue() != null) attribute(w, "int", "question_value", e.getQuestionValue().toString()); // value
+        optional(w, "answer", e.getAnswerGiven()); // answer
+        optional(w, "result", e.getResult()); // result
+        attribute(w, "int", "score", Integer.toString(e.getScoreAfter())); // score
+        w.writeEndElement(); // close event
+    } // end writeEvent method
+
+    private static void extension(XMLStreamWriter w, String name, String prefix) throws XMLStreamException { // extension declaration
+        w.writeStartElement("extension"); // open
+        w.writeAttribute("name", name); // extension name
+        w.writeAttribute("prefix", prefix); // key prefix
+        w.writeAttribute("uri", XES_NS + prefix + ".xesext"); // definition URI
+        w.writeEndElement(); // close
+    } // end extension method
+
+    private static void attribute(XMLStreamWriter w, String type, String key, String value) throws XMLStreamException { // typed attribute
+        w.writeStartElement(type); // attribute type element
+        w.writeAttribute("key", key); // key
+        w.writeAttribute("value", value); // value
+        w.writeEndElement(); // close
+    } // end attribute method
+
+    private static void optional(XMLStreamWriter w, String key, String value) throws XMLStreamException { // string attribute if present
+        if (value != null && !value.isEmpty()) attribute(w, "string", key, value); // skip empty columns
+    } // end optional method
+
+    private static String nz(String s) { return s == null ? "" : s; } // null as empty
+
+    /**
+     * Sorts a run and writes it to a spill file.
+     * 
+     * @param buffer events of the run
+     * @param dir spill directory
+     * @param index run number
+     * @return the spill file
+     * @throws IOException if the spill cannot be written
+     */
+    private static File spill(List<Sequenced> buffer, File dir, int index) throws IOException { // write run
+        buffer.sort(BY_CASE); // trace order
+        File f = new File(dir, String.format("run-%05d.bin", index)); // spill file
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(f), 64 * 1024))) { // spill output
+            for (Sequenced s : buffer) write(out, s); // every event
+        } // end try
+        return f; // spilled run
+    } // end spill method
+
+    /**
+     * Writes one spill record.
+     * 
+     * @param out the spill output
+     * @param s the event and its log position
+     * @throws IOException if the record cannot be written
+     */
+    private static void write(DataOutputStream out, Sequenced s) throws IOException { // spill record
+        LogEvent e = s.event; // event
+        out.writeLong(s.seq); // log position
+        str(out, e.getCaseId()); str(out, e.getPlayerId()); str(out, e.getActivity()); str(out, e.getCategory()); // text columns
+        out.writeBoolean(e.getQuestionValue() != null); if (e.getQuestionValue() != null) out.writeInt(e.getQuestionValue()); // value
+        str(out, e.getAnswerGiven()); str(out, e.getResult()); // answer and result
+        out.writeInt(e.getScoreAfter()); // score
+        out.writeLong(e.getTimestampMicros()); // time
+    } // end write method
+
+    private static void str(DataOutputStream out, String s) throws IOException { // nullable string, length-prefixed UTF-8 (no 64 KB limit)
+        if (s == null) { out.writeInt(-1); return; } // null marker
+        byte[] b = s.getBytes(StandardCharsets.UTF_8); // encode
+        out.writeInt(b.length); out.write(b); // length and bytes
+    } // end str method
+
+    private static String str(DataInputStream in) throws IOException { // nullable string
+        int n = in.readInt(); // length or -1
+        if (n < 0) return null; // null marker
+        byte[] b = new byte[n]; in.readFully(b); // bytes
+        return new String(b, StandardCharsets.UTF_8); // decode
+    } // end str method
+
+    /**
+     * An event tagged with its position in the log, so sorting keeps per-case order.
+     */
+    private record Sequenced(LogEvent event, long seq) {}
+
+    /**
+     * Cursor over one sorted run, either spilled or in memory.
+     */
+    private static final class RunCursor { // merge input
+        private final DataInputStream in; // spilled run, or null
+        private final List<Sequenced> memory; // in-memory run, or null
+        private int next = 0; // in-memory position
+        Sequenced head; // current event
+
+        RunCursor(File f) throws IOException { this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(f), 64 * 1024)); this.memory = null; } // spilled run
+        RunCursor(List<Sequenced> memory) { this.in = null; this.memory = memory; } // in-memory run
+
+        boolean advance() throws IOException { // move to next event
+            if (memory != null) { head = next < memory.size() ? memory.get(next++) : null; return head != null; } // in-memory run
+            long seq; // log position
+            try { seq = in.readLong(); } catch (EOFException ex) { head = null; return false; } // end of run
+            String caseId = str(in), playerId = str(in), activity = str(in), category = str(in); // text columns
+            Integer qv = in.readBoolean() ? in.readInt() : null; // value
+            String answer = str(in), result = str(in); // answer and result
+            int score = in.readInt(); // score
+            long micros = in.readLong(); // time
+            head = new Sequenced(new LogEvent(caseId, playerId, activity, category, qv, answer, result, score, micros), seq); // event
+            return true; // advanced
+        } // end advance method
+
+        void close() throws IOException { if (in != null) in.close(); } // release file
+    } // end RunCursor class
+
+    /**
+     * Command-line entry point.
+     * 
+     * @param args input log, output file and optional run size
+     * @throws IOException if the export fails
+     */
+    public static void main(String[] args) throws IOException { // CLI entry point
+        if (args.length < 2) { System.err.println("Usage: XesExporter <log.csv|log.evlog> <output.xes> [run-size]"); return; } // usage
+        XesExporter exporter = args.length > 2 ? new XesExporter(Integer.parseInt(args[2])) : new XesExporter(); // configure
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(args[1]), 64 * 1024)) { // XES output
+            long n = exporter.export(new File(args[0]), out); // export
+            System.out.println("Exported " + n + " events to " + args[1]); // report
+        } // end try
+    } // end main method
+} // end of XesExporter class
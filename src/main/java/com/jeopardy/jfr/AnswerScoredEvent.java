@@ -0,0 +1,27 @@
+package com.jeopardy.jfr; // package declaration
+
+import jdk.jfr.Category; // event grouping in JMC
+import jdk.jfr.Description; // event description
+import jdk.jfr.Event; // flight recorder event base
+import jdk.jfr.Label; // human-readable names
+import jdk.jfr.Name; // stable event name
+
+/**
+ * JFR event. An answer was scored; the event duration is the scoring time.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+@Name("com.jeopardy.AnswerScored")
+@Label("Answer Scored")
+@Category({"Jeopardy", "Game"})
+@Description("An answer was scored; the event duration is the scoring time.")
+public class AnswerScoredEvent extends Event { // start of AnswerScoredEvent class
+    @Label("Case ID") public String caseId; // game session
+    @Label("Player ID") public String playerId; // player
+    @Label("Category") public String category; // category
+    @Label("Value") public int value; // question value
+    @Label("Correct") public boolean correct; // scoring outcome
+    @Label("Points") public int points; // score change
+    @Label("Score After") public int scoreAfter; // running total
+} // end of AnswerScoredEvent class
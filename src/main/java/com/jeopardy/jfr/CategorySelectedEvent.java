@@ -0,0 +1,23 @@
+package com.jeopardy.jfr; // package declaration
+
+import jdk.jfr.Category; // event grouping in JMC
+import jdk.jfr.Description; // event description
+import jdk.jfr.Event; // flight recorder event base
+import jdk.jfr.Label; // human-readable names
+import jdk.jfr.Name; // stable event name
+
+/**
+ * JFR event. A player chose a category.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+@Name("com.jeopardy.CategorySelected")
+@Label("Category Selected")
+@Category({"Jeopardy", "Game"})
+@Description("A player chose a category.")
+public class CategorySelectedEvent extends Event { // start of CategorySelectedEvent class
+    @Label("Case ID") public String caseId; // game session
+    @Label("Player ID") public String playerId; // player
+    @Label("Category") public String category; // chosen category
+} // end of CategorySelectedEvent class
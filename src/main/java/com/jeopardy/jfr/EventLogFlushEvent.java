@@ -0,0 +1,28 @@
+package com.jeopardy.jfr; // package declaration
+
+import jdk.jfr.Category; // event grouping in JMC
+import jdk.jfr.Description; // event description
+import jdk.jfr.Event; // flight recorder event base
+import jdk.jfr.Label; // human-readable names
+import jdk.jfr.Name; // stable event name
+import jdk.jfr.Timespan; // latency fields
+
+/**
+ * JFR event. The event log sink was flushed (or closed). For sinks with a durability policy it
+ * also carries the sink's fsync statistics so far.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+@Name("com.jeopardy.EventLogFlush")
+@Label("Event Log Flush")
+@Category({"Jeopardy", "Event Log"})
+@Description("The event log sink was flushed (or closed).")
+public class EventLogFlushEvent extends Event { // start of EventLogFlushEvent class
+    @Label("Sink") public String sink; // sink class
+    @Label("Close") public boolean close; // true when closing the log
+    @Label("Fsyncs") public long fsyncs; // forces made so far
+    @Label("Fsynced Events") public long fsyncedEvents; // events those forces made durable
+    @Label("Fsync p99") @Timespan(Timespan.MICROSECONDS) public long fsyncP99; // histogram bucket bound
+    @Label("Fsync Max") @Timespan(Timespan.MICROSECONDS) public long fsyncMax; // slowest force
+} // end of EventLogFlushEvent class
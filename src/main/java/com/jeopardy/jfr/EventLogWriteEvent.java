@@ -0,0 +1,26 @@
+package com.jeopardy.jfr; // package declaration
+
+import jdk.jfr.Category; // event grouping in JMC
+import jdk.jfr.Description; // event description
+import jdk.jfr.Event; // flight recorder event base
+import jdk.jfr.Label; // human-readable names
+import jdk.jfr.Name; // stable event name
+import jdk.jfr.StackTrace; // stack traces off for a hot event
+
+/**
+ * JFR event. An event was handed to the event log sink.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+@Name("com.jeopardy.EventLogWrite")
+@Label("Event Log Write")
+@Category({"Jeopardy", "Event Log"})
+@Description("An event was handed to the event log sink.")
+@StackTrace(false)
+public class EventLogWriteEvent extends Event { // start of EventLogWriteEvent class
+    @Label("Case ID") public String caseId; // game session
+    @Label("Activity") public String activity; // logged activity
+    @Label("Sink") public String sink; // sink class
+    @Label("Failed") public boolean failed; // sink threw
+} // end of EventLogWriteEvent class
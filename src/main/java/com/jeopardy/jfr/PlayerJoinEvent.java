@@ -0,0 +1,24 @@
+package com.jeopardy.jfr; // package declaration
+
+import jdk.jfr.Category; // event grouping in JMC
+import jdk.jfr.Description; // event description
+import jdk.jfr.Event; // flight recorder event base
+import jdk.jfr.Label; // human-readable names
+import jdk.jfr.Name; // stable event name
+
+/**
+ * JFR event. A player joined, or was refused because the game is full.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+@Name("com.jeopardy.PlayerJoin")
+@Label("Player Join")
+@Category({"Jeopardy", "Game"})
+@Description("A player joined, or was refused because the game is full.")
+public class PlayerJoinEvent extends Event { // start of PlayerJoinEvent class
+    @Label("Case ID") public String caseId; // game session
+    @Label("Player ID") public String playerId; // player
+    @Label("Accepted") public boolean accepted; // false when the player limit was hit
+    @Label("Players") public int players; // players after the attempt
+} // end of PlayerJoinEvent class
@@ -0,0 +1,28 @@
+package com.jeopardy.jfr; // package declaration
+
+import jdk.jfr.Category; // event grouping in JMC
+import jdk.jfr.DataAmount; // byte counts
+import jdk.jfr.Description; // event description
+import jdk.jfr.Event; // flight recorder event base
+import jdk.jfr.Label; // human-readable names
+import jdk.jfr.Name; // stable event name
+
+/**
+ * JFR event. Questions loaded from a data file onto the game board.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+@Name("com.jeopardy.QuestionLoad")
+@Label("Question Load")
+@Category({"Jeopardy", "Game"})
+@Description("Questions loaded from a data file onto the game board.")
+public class QuestionLoadEvent extends Event { // start of QuestionLoadEvent class
+    @Label("Case ID") public String caseId; // game session
+    @Label("File") public String file; // data file name
+    @Label("Loader") public String loader; // loader class
+    @Label("Questions") public int questions; // questions on the board
+    @Label("Categories") public int categories; // board categories
+    @Label("Shared Strings") public long sharedStrings; // duplicate strings replaced by pooled ones
+    @Label("Saved Bytes") @DataAmount public long savedBytes; // estimated heap saved by the string pool
+} // end of QuestionLoadEvent class
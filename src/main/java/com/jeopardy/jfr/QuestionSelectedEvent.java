@@ -0,0 +1,24 @@
+package com.jeopardy.jfr; // package declaration
+
+import jdk.jfr.Category; // event grouping in JMC
+import jdk.jfr.Description; // event description
+import jdk.jfr.Event; // flight recorder event base
+import jdk.jfr.Label; // human-readable names
+import jdk.jfr.Name; // stable event name
+
+/**
+ * JFR event. A player chose a question; the event spans the time until the answer is entered.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+@Name("com.jeopardy.QuestionSelected")
+@Label("Question Selected")
+@Category({"Jeopardy", "Game"})
+@Description("A player chose a question; the event spans the time until the answer is entered.")
+public class QuestionSelectedEvent extends Event { // start of QuestionSelectedEvent class
+    @Label("Case ID") public String caseId; // game session
+    @Label("Player ID") public String playerId; // player
+    @Label("Category") public String category; // category
+    @Label("Value") public int value; // question value
+} // end of QuestionSelectedEvent class
@@ -0,0 +1,23 @@
+package com.jeopardy.jfr; // package declaration
+
+import jdk.jfr.Category; // event grouping in JMC
+import jdk.jfr.Description; // event description
+import jdk.jfr.Event; // flight recorder event base
+import jdk.jfr.Label; // human-readable names
+import jdk.jfr.Name; // stable event name
+
+/**
+ * JFR event. A summary report was written.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+@Name("com.jeopardy.ReportGenerated")
+@Label("Report Generated")
+@Category({"Jeopardy", "Game"})
+@Description("A summary report was written.")
+public class ReportGeneratedEvent extends Event { // start of ReportGeneratedEvent class
+    @Label("File") public String file; // report file name
+    @Label("Players") public int players; // players in the report
+    @Label("Turns") public int turns; // turn records written
+} // end of ReportGeneratedEvent class
@@ -0,0 +1,305 @@
+package com.jeopardy.loaders; // package declaration
+
+import com.jeopardy.model.Question; // question model
+import com.jeopardy.model.QuestionBank; // game board
+
+import java.io.File; // for file representation
+import java.io.IOException; // for I/O failures
+import java.nio.ByteBuffer; // read buffer
+import java.nio.channels.FileChannel; // content hashing
+import java.nio.charset.StandardCharsets; // key encoding
+import java.nio.file.Files; // atomic publish
+import java.nio.file.StandardCopyOption; // move options
+import java.nio.file.StandardOpenOption; // open options
+import java.security.MessageDigest; // content hash
+import java.security.NoSuchAlgorithmException; // digest lookup
+import java.util.Arrays; // entry sorting
+import java.util.Comparator; // entry sorting
+import java.util.HexFormat; // entry names
+import java.util.List; // for list interface
+import java.util.concurrent.atomic.AtomicLong; // statistics
+
+/**
+ * Question loader that keeps a compiled snapshot (.jqb) of every file it parses in a
+ * cache directory, so loading the same file again maps the snapshot instead of parsing.
+ * <p>
+ * Snapshots are named by a SHA-256 of the file's canonical path, size and modification time,
+ * followed by a SHA-256 of its contents. A file whose size or time changed finds no entry
+ * without being read; the contents are hashed only to confirm an entry whose size and time
+ * still match, so an edited file never hits a stale entry. Hits refresh the entry's
+ * modification time and the least recently used entries are deleted once the directory
+ * holds more than the byte limit. Cache failures are reported and the file is parsed normally.
+ * On a miss the file is parsed by the loader passed to load (or the factory's default). Its contents
+ * are hashed before parsing and the snapshot is only stored if the size and time are unchanged after
+ * it, so an edit during the parse never stores the old parse under the new name. Misses parsed by
+ * LazyCsvQuestionLoader are not stored: compiling a snapshot would parse every record the lazy
+ * loader defers (an existing snapshot is still used).
+ * loadBank lays a hit's board out from the snapshot's value index, creating no question objects.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class CachingQuestionLoader implements QuestionLoader { // start of CachingQuestionLoader class
+    /** Default cache size limit. */
+    public static final long DEFAULT_MAX_BYTES = 256L << 20;
+
+    private final File dir; // cache directory
+    private final long maxBytes; // size limit
+    private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong(); // statistics
+
+    /**
+     * Creates a cache in a directory.
+     * 
+     * @param dir the cache directory, created if missing
+     * @param maxBytes total snapshot bytes to keep
+     * @throws IllegalArgumentException if dir is null or maxBytes is not positive
+     */
+    public CachingQuestionLoader(File dir, long maxBytes) { // start of constructor
+        if (dir == null) throw new IllegalArgumentException("Cache directory cannot be null"); // validate
+        if (maxBytes <= 0) throw new IllegalArgumentException("Cache size must be positive"); // validate
+        this.dir = dir; // assign directory
+        this.maxBytes = maxBytes; // assign limit
+    } // end of constructor
+
+    /**
+     * Creates the cache configured by jeopardy.cache.dir and jeopardy.cache.maxMb.
+     * 
+     * @return the cache, or null if jeopardy.cache.dir is not set
+     */
+    public static CachingQuestionLoader fromSystemProperties() { // cache from -D flags
+        String dir = System.getProperty("jeopardy.cache.dir"); // cache location
+        if (dir == null || dir.isBlank()) return null; // caching disabled
+        return new CachingQuestionLoader(new File(dir), Long.getLong("jeopardy.cache.maxMb", DEFAULT_MAX_BYTES >> 20) << 20); // configured cache
+    } // end fromSystemProperties method
+
+    /**
+     * Loads questions from the snapshot of the file, parsing and storing one on a miss.
+     * 
+     * @param file the question file
+     * @return the questions, in file order
+     * @throws Exception if the file cannot be parsed
+     * @throws IllegalArgumentException if the format is unsupported
+     */
+    @Override // override load method
+    public List<Question> load(File file) throws Exception { // cached load
+        return load(file, QuestionLoaderFactory.getLoader(file)); // default parser for the file
+    } // end load method
+
+    /**
+     * Loads a board from the snapshot of the file, parsing and storing one on a miss.
+     * 
+     * @param file the question file
+     * @return the board
+     * @throws Exception if the file cannot be parsed
+     * @throws IllegalArgumentException if the format is unsupported
+     */
+    @Override // override loadBank method
+    public QuestionBank loadBank(File file) throws Exception { // cached board
+        return loadBank(file, QuestionLoaderFactory.getLoader(file)); // default parser for the file
+    } // end loadBank method
+
+    /**
+     * Loads questions from the snapshot of the file, parsing with the given loader on a miss.
+     * 
+     * @param file the question file
+     * @param loader the loader that parses the file on a miss
+     * @return the questions, in file order
+     * @throws Exception if the file cannot be parsed
+     * @throws IllegalArgumentException if loader is null (unsupported format)
+     */
+    public List<Question> load(File file, QuestionLoader loader) throws Exception { // cached load with a chosen parser
+        if (loader == null) throw new IllegalArgumentException("Unsupported file type: " + file.getName()); // validate
+        if (loader instanceof JqbQuestionLoader) return loader.load(file); // already compiled
+        Key key = new Key(); // snapshot name
+        JqbBank bank = lookup(file, key); // mapped snapshot, if any
+        return bank != null ? bank.questions() : parse(file, loader, key); // no parsing on a hit
+    } // end load method
+
+    /**
+     * Loads a board from the snapshot of the file, parsing with the given loader on a miss.
+     * A hit lays the board out from the snapshot's value index without creating its questions.
+     * 
+     * @param file the question file
+     * @param loader the loader that parses the file on a miss
+     * @return the board
+     * @throws Exception if the file cannot be parsed
+     * @throws IllegalArgumentException if loader is null (unsupported format)
+     */
+    public QuestionBank loadBank(File file, QuestionLoader loader) throws Exception { // cached board with a chosen parser
+        if (loader == null) throw new IllegalArgumentException("Unsupported file type: " + file.getName()); // validate
+        if (loader instanceof JqbQuestionLoader) return loader.loadBank(file); // already compiled
+        Key key = new Key(); // snapshot name
+        JqbBank bank = lookup(file, key); // mapped snapshot, if any
+        return bank != null ? bank.board() : QuestionBank.of(parse(file, loader, key)); // no parsing on a hit
+    } // end loadBank method
+
+    /**
+     * Maps the snapshot of a file if there is one, filling in as much of its name as was needed.
+     * 
+     * @param file the question file
+     * @param key receives the snapshot name parts; prefix stays null if the file cannot be keyed
+     * @return the snapshot, or null on a miss
+     * @throws IOException if an unreadable snapshot cannot be deleted
+     */
+    private JqbBank lookup(File file, Key key) throws IOException { // cache probe
+        try { key.prefix = statKey(file); } catch (IOException e) { System.err.println("Failed to read question cache key: " + e.getMessage()); return null; } // uncacheable
+        String prefix = key.prefix; // for the filter
+        File[] candidates = dir.listFiles((d, name) -> name.startsWith(prefix) && name.endsWith(".jqb")); // entries with this size and time
+        if (candidates == null || candidates.length == 0) return null; // size or time changed
+        try { key.content = contentKey(file); } catch (IOException e) { System.err.println("Failed to read question cache key: " + e.getMessage()); key.prefix = null; return null; } // uncacheable
+        File entry = new File(dir, prefix + key.content + ".jqb"); // matching snapshot
+        if (!entry.isFile()) return null; // contents changed
+        try { // map it
+            JqbBank bank = JqbBank.open(entry); // mapped snapshot
+            entry.setLastModified(System.currentTimeMillis()); // mark recently used
+            hits.incrementAndGet(); // count hit
+            return bank; // no parsing
+        } catch (IOException e) { // unreadable snapshot
+            System.err.println("Failed to read question cache entry: " + e.getMessage()); // report
+            Files.deleteIfExists(entry.toPath()); // drop it
+            return null; // parse instead
+        } // end try
+    } // end lookup method
+
+    /**
+     * Parses a file after a miss and stores its snapshot, unless the loader is lazy or the file
+     * changed while it was parsed.
+     * 
+     * @param file the question file
+     * @param loader the parser
+     * @param key the snapshot name parts found by lookup
+     * @return the parsed questions
+     * @throws Exception if the file cannot be parsed
+     */
+    private List<Question> parse(File file, QuestionLoader loader, Key key) throws Exception { // miss
+        misses.incrementAndGet(); // count miss
+        if (key.prefix == null || loader instanceof LazyCsvQuestionLoader) return loader.load(file); // uncacheable, or compiling would undo the lazy load
+        try { if (key.content == null) key.content = contentKey(file); } catch (IOException e) { System.err.println("Failed to read question cache key: " + e.getMessage()); return loader.load(file); } // name the snapshot before parsing
+        List<Question> list = loader.load(file); // parse
+        try { if (!key.prefix.equals(statKey(file))) return list; } catch (IOException e) { return list; } // edited while parsing, the hash may not match this parse
+        store(list, new File(dir, key.prefix + key.content + ".jqb")); // snapshot for next time
+        return list; // parsed questions
+    } // end parse method
+
+    /**
+     * Wraps a loader so its loads go through this cache.
+     * 
+     * @param loader the loader that parses files on a miss
+     * @return a loader consulting the cache first
+     * @throws IllegalArgumentException if loader is null
+     */
+    public QuestionLoader wrap(QuestionLoader loader) { // cached view of a loader
+        if (loader == null) throw new IllegalArgumentException("Loader cannot be null"); // validate
+        return new QuestionLoader() { // cache first
+            @Override public List<Question> load(File file) throws Exception { return CachingQuestionLoader.this.load(file, loader); }
+            @Override public QuestionBank loadBank(File file) throws Exception { return CachingQuestionLoader.this.loadBank(file, loader); }
+        }; // end anonymous loader
+    } // end wrap method
+
+    /**
+     * Gets the number of loads served from a snapshot.
+     * 
+     * @return hit count
+     */
+    public long getHits() { return hits.get(); }
+
+    /**
+     * Gets the number of loads that had to parse.
+     * 
+     * @return miss count
+     */
+    public long getMisses() { return misses.get(); }
+
+    /**
+     * Gets the cache directory.
+     * 
+     * @return the directory
+     */
+    public File getDirectory() { return dir; }
+
+    /**
+     * Names the snapshots of a file from its path, size and modification time, without reading it.
+     * 
+     * @param file the question file
+     * @return the snapshot name prefix
+     * @throws IOException if the path cannot be resolved
+     */
+    private static String statKey(File file) throws IOException { // cheap key
+        MessageDigest sha = sha256(); // key digest
+        sha.update(file.getCanonicalPath().getBytes(StandardCharsets.UTF_8)); // path
+        sha.update(ByteBuffer.allocate(16).putLong(file.length()).putLong(file.lastModified()).flip()); // size and mtime
+        return HexFormat.of().formatHex(sha.digest()) + "-"; // prefix
+    } // end statKey method
+
+    /**
+     * Hashes the contents of a file.
+     * 
+     * @param file the question file
+     * @return the content hash in hex
+     * @throws IOException if the file cannot be read
+     */
+    private static String contentKey(File file) throws IOException { // content key
+        MessageDigest sha = sha256(); // content digest
+        try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) { // contents
+            ByteBuffer buf = ByteBuffer.allocateDirect(1 << 16); // read buffer
+            while (ch.read(buf) >= 0) { buf.flip(); sha.update(buf); buf.clear(); } // hash file
+        } // end try
+        return HexFormat.of().formatHex(sha.digest()); // hex
+    } // end contentKey method
+
+    /**
+     * Writes a snapshot atomically and evicts old entries.
+     * 
+     * @param list the parsed questions
+     * @param entry the snapshot file
+     */
+    private void store(List<Question> list, File entry) { // publish snapshot
+        File tmp = null; // partial snapshot
+        try { // write then rename
+            if (!dir.isDirectory() && !dir.mkdirs()) throw new IOException("Cannot create " + dir); // ensure directory
+            tmp = File.createTempFile("bank", ".tmp", dir); // same-directory temp file
+            JqbCompiler.compile(list, tmp); // compile snapshot
+            Files.move(tmp.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE); // publish
+            evict(entry); // enforce the size limit
+        } catch (Exception e) { // caching is best effort
+            System.err.println("Failed to write question cache entry: " + e.getMessage()); // report
+            if (tmp != null) tmp.delete(); // drop partial snapshot
+        } // end try
+    } // end store method
+
+    /**
+     * Deletes least recently used snapshots until the cache fits its limit.
+     * 
+     * @param keep the entry just written, never evicted
+     */
+    private void evict(File keep) { // LRU eviction
+        File[] entries = dir.listFiles((d, name) -> name.endsWith(".jqb")); // snapshots
+        if (entries == null) return; // directory vanished
+        long total = 0; // cache size
+        for (File f : entries) total += f.length(); // sum sizes
+        Arrays.sort(entries, Comparator.comparingLong(File::lastModified)); // oldest first
+        for (File f : entries) { // evict oldest
+            if (total <= maxBytes) break; // fits
+            if (f.equals(keep)) continue; // keep the newest entry
+            long size = f.length(); // entry size
+            if (f.delete()) total -= size; // removed
+        } // end for
+    } // end evict method
+
+    /**
+     * Name parts of a snapshot: the stat prefix and, once computed, the content hash.
+     */
+    private static final class Key { // snapshot name
+        String prefix; // stat key, null if the file cannot be keyed
+        String content; // content hash, null until needed
+    } // end Key class
+
+    /**
+     * Gets a SHA-256 digest.
+     * 
+     * @return the digest
+     */
+    private static MessageDigest sha256() { // digest instance
+        try { return MessageDigest.getInstance("SHA-256"); } catch (NoSuchAlgorithmException e) { throw new IllegalStateException("SHA-256 unavailable", e); } // required by every JDK
+    } // end sha256 method
+} // end of CachingQuestionLoader class
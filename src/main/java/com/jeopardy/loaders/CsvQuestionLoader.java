@@ -1,15 +1,29 @@
 package com.jeopardy.loaders;
 
 import com.jeopardy.model.Question; // question model
-import java.io.BufferedReader; // for reading files
+import com.jeopardy.model.QuestionBuilder; // question construction
+import com.jeopardy.model.StringPool; // shared repeated strings
 import java.io.File; // for file representation
-import java.io.FileReader; // for reading character files
+import java.io.FileInputStream; // file input
+import java.io.IOException; // for I/O failures
+import java.io.InputStreamReader; // character decoding
+import java.io.Reader; // character input
+import java.io.UncheckedIOException; // I/O failures inside streams
+import java.nio.charset.Charset; // platform charset, as FileReader used
 import java.util.ArrayList; // for list implementation
 import java.util.List; // for list interface
+import java.util.Spliterator; // stream source
+import java.util.Spliterators; // stream source
+import java.util.function.Consumer; // streaming callback
+import java.util.stream.Stream; // streaming API
+import java.util.stream.StreamSupport; // stream construction
  
 /**
  * CSV format question loader implementation.
  * Supports loading questions from CSV files with multiple format variations.
+ * Rows are tokenized in a single pass by CsvTokenizer (quoted fields may span lines), and
+ * questions can be streamed one at a time with forEach or stream instead of collected into a list.
+ * Repeated categories, answers and choices share one String through a StringPool.
  * 
  * @author Group 33
  * @version 1.0
@@ -17,6 +31,19 @@ import java.util.List; // for list interface
 
 // CSV question loader implementation
 public class CsvQuestionLoader implements QuestionLoader { // implement QuestionLoader interface
+    private final StringPool strings; // shared pool, or null for one per load
+
+    /**
+     * Creates a loader that pools strings within each loaded file.
+     */
+    public CsvQuestionLoader() { this(null); }
+
+    /**
+     * Creates a loader that pools strings in the given pool.
+     * 
+     * @param strings pool shared by every load, or null for one pool per load
+     */
+    public CsvQuestionLoader(StringPool strings) { this.strings = strings; } // constructor
     
     /**
      * Loads questions from a CSV file.
@@ -30,113 +57,123 @@ public class CsvQuestionLoader implements QuestionLoader { // implement Question
     @Override // override load method
     public List<Question> load(File file) throws Exception { // load questions from file
         List<Question> list = new ArrayList<>(); // initialize output list
-        try (BufferedReader br = new BufferedReader(new FileReader(file))) { // open file for reading
-            String line; // variable for each line
-            boolean headerSkipped = false; // flag to skip header
-            while ((line = br.readLine()) != null) { // read each line
-                line = line.trim(); // trim whitespace
-                if (line.isEmpty()) continue; // skip empty lines
-                    // split CSV line while respecting quoted fields
-                    java.util.List<String> partsList = splitCsvLine(line);
-                    String[] parts = partsList.toArray(new String[0]); // split CSV line
-                // naive: allow header detection
-                if (!headerSkipped) { // skip header if present
-                    boolean looksLikeHeader = line.toLowerCase().contains("category") || line.toLowerCase().contains("question"); // check for header keywords
-                    if (looksLikeHeader) { headerSkipped = true; continue; } // skip header line
-                    headerSkipped = true; // set flag after first line
-                } // end header skip check
-                // Two common CSV formats supported:
-                // 1) category,value,question,answer[,choiceA,choiceB,choiceC,choiceD]
-                // 2) category,value,question,choiceA,choiceB,choiceC,choiceD,correctAnswer
-                if (parts.length < 4) continue; // skip invalid lines
-                String category = parts[0].trim().replaceAll("\"", ""); // get category
-                int value = 0; // initialize value
-                try { value = Integer.parseInt(parts[1].trim()); } catch (Exception ex) { value = 0; } // parse value
-                String questionText = parts[2].trim().replaceAll("\"", ""); // get question text
+        forEach(file, list::add); // collect streamed questions
+        return list; // return list of questions
+    } // end load method
+
+    /**
+     * Streams questions from a CSV file to a callback without building a list.
+     * 
+     * @param file the CSV file to load questions from
+     * @param action called once per question, in file order
+     * @throws Exception if file reading or parsing fails
+     */
+    @Override // streaming load
+    public void forEach(File file, Consumer<? super Question> action) throws Exception { // stream to callback
+        try (Reader in = open(file)) { // open file for reading
+            Rows rows = new Rows(new CsvTokenizer(in), true, pool(strings)); // question rows
+            Question q; // current question
+            while ((q = rows.next()) != null) action.accept(q); // hand over each question
+        } // end try
+    } // end forEach method
+
+    /**
+     * Opens a lazy stream of questions; close the stream to release the file.
+     * 
+     * @param file the CSV file to load questions from
+     * @return questions in file order
+     * @throws IOException if the file cannot be opened
+     */
+    public Stream<Question> stream(File file) throws IOException { // lazy stream
+        Reader in = open(file); // file input, closed with the stream
+        Rows rows = new Rows(new CsvTokenizer(in), true, pool(strings)); // question rows
+        Spliterator<Question> source = new Spliterators.AbstractSpliterator<Question>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) { // one question per advance
+            @Override
+            public boolean tryAdvance(Consumer<? super Question> action) { // next question
+                try { // parse next row
+                    Question q = rows.next(); // next question
+                    if (q == null) return false; // end of file
+                    action.accept(q); // hand over
+                    return true; // advanced
+                } catch (IOException ex) { // surface read failures
+                    throw new UncheckedIOException(ex); // streams cannot throw checked exceptions
+                } // end try
+            } // end tryAdvance method
+        }; // end spliterator
+        return StreamSupport.stream(source, false).onClose(() -> { try { in.close(); } catch (IOException ex) { throw new UncheckedIOException(ex); } }); // close file with stream
+    } // end stream method
 
-                String a = null, b = null, c = null, d = null, answer = null;
-                if (parts.length >= 8) {
-                    // ambiguous: either ...,answer,choiceA..D OR ...,choiceA..D,correctAnswer
-                    String p3 = parts[3].trim().replaceAll("\"", "");
-                    boolean p3MatchesChoice = false;
-                    for (int idx = 4; idx <= 7 && idx < parts.length; idx++) {
-                        if (p3.equalsIgnoreCase(parts[idx].trim().replaceAll("\"", ""))) { p3MatchesChoice = true; break; }
-                    }
-                    if (p3MatchesChoice) {
-                        // format: ...,answer,choiceA,choiceB,choiceC,choiceD
-                        answer = p3;
-                        a = parts.length > 4 ? parts[4].trim().replaceAll("\"", "") : null;
-                        b = parts.length > 5 ? parts[5].trim().replaceAll("\"", "") : null;
-                        c = parts.length > 6 ? parts[6].trim().replaceAll("\"", "") : null;
-                        d = parts.length > 7 ? parts[7].trim().replaceAll("\"", "") : null;
-                    } else {
-                        // assume format with choices then correct answer at the end
-                        a = parts[3].trim().replaceAll("\"", "");
-                        b = parts[4].trim().replaceAll("\"", "");
-                        c = parts[5].trim().replaceAll("\"", "");
-                        d = parts[6].trim().replaceAll("\"", "");
-                        answer = parts[7].trim().replaceAll("\"", "");
-                    }
-                } else {
-                    // fallback: answer in column 3, optional choices follow
-                    answer = parts[3].trim().replaceAll("\"", "");
-                    a = parts.length > 4 ? parts[4].trim().replaceAll("\"", "") : null;
-                    b = parts.length > 5 ? parts[5].trim().replaceAll("\"", "") : null;
-                    c = parts.length > 6 ? parts[6].trim().replaceAll("\"", "") : null;
-                    d = parts.length > 7 ? parts[7].trim().replaceAll("\"", "") : null;
-                }
+    /**
+     * Gets the pool for one load.
+     * 
+     * @param shared the configured pool, or null
+     * @return shared, or a new pool for this load
+     */
+    static StringPool pool(StringPool shared) { return shared != null ? shared : new StringPool(); }
 
-                // normalize empty strings to null
-                if (a != null && a.isEmpty()) a = null; if (b != null && b.isEmpty()) b = null; if (c != null && c.isEmpty()) c = null; if (d != null && d.isEmpty()) d = null;
-                if (answer != null && answer.isEmpty()) answer = null;
+    /**
+     * Opens a file with the platform charset, as the loader always has.
+     * 
+     * @param file the CSV file
+     * @return a reader over the file
+     * @throws IOException if the file cannot be opened
+     */
+    private static Reader open(File file) throws IOException { return new InputStreamReader(new FileInputStream(file), Charset.defaultCharset()); }
 
-                list.add(new com.jeopardy.model.QuestionBuilder() // build question
-                    .category(category) // set category
-                    .value(value) // set value
-                    .text(questionText) // set question text
-                    .answer(answer) // set answer
-                    .choiceA(a) // set choice A
-                    .choiceB(b) // set choice B
-                    .choiceC(c) // set choice C
-                    .choiceD(d) // set choice D
-                    .build()); // build and add to list
-            } // end while
-        } // end try
-        return list; // return list of questions
-    } // end load method
+    /**
+     * Turns tokenized records into questions, skipping the header row and invalid rows.
+     */
+    static final class Rows { // row mapper
+        private final CsvTokenizer csv; // tokenizer
+        private final StringPool strings; // pool for repeated strings
+        private boolean headerSkipped; // header handled
 
         /**
-         * Splits a CSV line while respecting quoted fields and escaped quotes.
+         * Creates a row mapper.
          * 
-         * @param line the CSV line to split
-         * @return list of individual field values
+         * @param csv tokenizer positioned at the first row
+         * @param detectHeader whether the first row may be a header
+         * @param strings pool for repeated strings, or null
          */
+        Rows(CsvTokenizer csv, boolean detectHeader, StringPool strings) { this.csv = csv; this.headerSkipped = !detectHeader; this.strings = strings; } // constructor
 
-        // Simple CSV line splitter that respects double-quoted fields and escaped quotes
-        private java.util.List<String> splitCsvLine(String line) {
-            java.util.List<String> out = new java.util.ArrayList<>();
-            if (line == null || line.isEmpty()) return out;
-            StringBuilder cur = new StringBuilder();
-            boolean inQuotes = false;
-            for (int i = 0; i < line.length(); i++) {
-                char c = line.charAt(i);
-                if (c == '"') {
-                    if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                        // escaped quote
-                        cur.append('"');
-                        i++; // skip escaped quote
-                    } else {
-                        inQuotes = !inQuotes;
-                    }
-                } else if (c == ',' && !inQuotes) {
-                    out.add(cur.toString());
-                    cur.setLength(0);
-                } else {
-                    cur.append(c);
-                }
-            }
-            out.add(cur.toString());
-            return out;
-        }
-
-} // end class
\ No newline at end of file
+        /**
+         * Reads the next question.
+         * 
+         * @return the next question, or null at end of input
+         * @throws IOException if reading fails
+         */
+        Question next() throws IOException { // next question
+            while (csv.next()) { // every non-blank record
+                // naive: allow header detection
+                if (!headerSkipped) { // skip header if present
+                    headerSkipped = true; // only the first row can be a header
+                    if (csv.recordContainsIgnoreCase("category") || csv.recordContainsIgnoreCase("question")) continue; // skip header line
+                } // end header skip check
+                // Two common CSV formats supported:
+                // 1) category,value,question,answer[,choiceA,choiceB,choiceC,choiceD]
+                // 2) category,value,question,choiceA,choiceB,choiceC,choiceD,correctAnswer
+                int n = csv.fieldCount(); // columns in row
+                if (n < 4) continue; // skip invalid lines
+                int answerCol = 3, firstChoice = 4; // format 1 layout
+                if (n >= 8) { // ambiguous: either ...,answer,choiceA..D OR ...,choiceA..D,correctAnswer
+                    boolean p3MatchesChoice = false; // answer column repeats a choice
+                    for (int idx = 4; idx <= 7; idx++) if (csv.fieldsEqualIgnoreCase(3, idx)) { p3MatchesChoice = true; break; } // compare in place
+                    if (!p3MatchesChoice) { answerCol = 7; firstChoice = 3; } // choices then correct answer at the end
+                } // end if
+                return new QuestionBuilder() // build question
+                    .pool(strings) // share repeated strings
+                    .category(csv.field(0)) // set category
+                    .value(csv.intField(1, 0)) // set value
+                    .text(csv.field(2)) // set question text
+                    .answer(csv.fieldOrNull(answerCol)) // set answer
+                    .choiceA(firstChoice < n ? csv.fieldOrNull(firstChoice) : null) // set choice A
+                    .choiceB(firstChoice + 1 < n ? csv.fieldOrNull(firstChoice + 1) : null) // set choice B
+                    .choiceC(firstChoice + 2 < n ? csv.fieldOrNull(firstChoice + 2) : null) // set choice C
+                    .choiceD(firstChoice + 3 < n ? csv.fieldOrNull(firstChoice + 3) : null) // set choice D
+                    .build(); // build question
+            } // end while
+            return null; // end of input
+        } // end next method
+    } // end Rows class
+} // end class
@@ -0,0 +1,165 @@
+package com.jeopardy.loaders; // package declaration
+
+import java.io.IOException; // for I/O failures
+import java.io.Reader; // character input
+import java.util.Arrays; // buffer growth
+
+/**
+ * Single-pass CSV tokenizer over a reusable character window.
+ * A small state machine splits records on commas and line breaks outside quotes, so quoted
+ * fields may contain commas and newlines. Quote characters are dropped as they are read
+ * (a doubled quote inside quotes therefore disappears too, as it always has for this loader)
+ * and fields are trimmed. Field text lives in one reused buffer until the next record is read,
+ * so callers only allocate the Strings they keep.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+class CsvTokenizer { // start of CsvTokenizer class
+    private static final int WINDOW = 64 * 1024; // characters read per fill
+
+    private final Reader in; // character input
+    private final char[] window = new char[WINDOW]; // read window
+    private int pos = 0, limit = 0; // unread part of the window
+    private char[] record = new char[256]; // unquoted text of the current record
+    private int length = 0; // used part of record
+    private int[] starts = new int[16], ends = new int[16]; // trimmed field bounds in record
+    private int fields = 0; // fields in the current record
+    private boolean blank = true; // record had only whitespace
+
+    /**
+     * Creates a tokenizer; the caller owns and closes the reader.
+     * 
+     * @param in the character input
+     */
+    CsvTokenizer(Reader in) { this.in = in; } // constructor
+
+    /**
+     * Reads the next record, skipping lines that contain only whitespace.
+     * 
+     * @return false at end of input
+     * @throws IOException if reading fails
+     */
+    boolean next() throws IOException { // next non-blank record
+        while (read()) if (!blank) return true; // skip blank lines
+        return false; // end of input
+    } // end next method
+
+    /**
+     * Reads one record with the state machine.
+     * 
+     * @return false if the input was already exhausted
+     * @throws IOException if reading fails
+     */
+    private boolean read() throws IOException { // tokenize one record
+        length = 0; fields = 0; blank = true; // reset record
+        int fieldStart = 0; // start of the current field in record
+        boolean quoted = false; // inside quotes
+        boolean any = false; // consumed at least one character
+        while (true) { // scan characters
+            if (pos == limit) { // window empty
+                limit = in.read(window, 0, WINDOW); pos = 0; // refill
+                if (limit <= 0) { limit = 0; if (!any) return false; break; } // end of input
+            } // end if
+            char c = window[pos++]; // current char
+            any = true; // record has content
+            if (c == '"') { quoted = !quoted; blank = false; continue; } // toggle quoting, drop the quote
+            if (!quoted) { // structural characters
+                if (c == '\n' || c == '\r') break; // end of record
+                if (c == ',') { endField(fieldStart); fieldStart = length; blank = false; continue; } // end of field
+            } // end if
+            if (c > ' ') blank = false; // visible content
+            if (length == record.length) record = Arrays.copyOf(record, length * 2); // grow record buffer
+            record[length++] = c; // field text
+        } // end while
+        endField(fieldStart); // last field
+        return true; // record read
+    } // end read method
+
+    /**
+     * Records the trimmed bounds of the field that started at fieldStart.
+     * 
+     * @param fieldStart start of the field in record
+     */
+    private void endField(int fieldStart) { // close field
+        if (fields == starts.length) { starts = Arrays.copyOf(starts, fields * 2); ends = Arrays.copyOf(ends, fields * 2); } // grow bounds
+        int s = fieldStart, e = length; // raw bounds
+        while (s < e && record[s] <= ' ') s++; // trim leading
+        while (e > s && record[e - 1] <= ' ') e--; // trim trailing
+        starts[fields] = s; ends[fields] = e; fields++; // store bounds
+    } // end endField method
+
+    /**
+     * Gets the number of fields in the current record.
+     * 
+     * @return field count
+     */
+    int fieldCount() { return fields; }
+
+    /**
+     * Gets a field as a String.
+     * 
+     * @param i field index
+     * @return the trimmed, unquoted field text
+     */
+    String field(int i) { return new String(record, starts[i], ends[i] - starts[i]); }
+
+    /**
+     * Gets a field as a String, or null when it is empty.
+     * 
+     * @param i field index
+     * @return the field text, or null
+     */
+    String fieldOrNull(int i) { return ends[i] == starts[i] ? null : field(i); }
+
+    /**
+     * Parses a field as a decimal int without allocating.
+     * 
+     * @param i field index
+     * @param fallback value when the field is not an int
+     * @return the parsed value, or fallback
+     */
+    int intField(int i, int fallback) { // parse int
+        int s = starts[i], e = ends[i]; // bounds
+        if (s == e) return fallback; // empty
+        boolean negative = record[s] == '-'; // sign
+        if (negative || record[s] == '+') s++; // skip sign
+        if (s == e || e - s > 10) return fallback; // no digits or too long
+        long v = 0; // accumulated value
+        for (int k = s; k < e; k++) { char c = record[k]; if (c < '0' || c > '9') return fallback; v = v * 10 + (c - '0'); } // digits
+        v = negative ? -v : v; // apply sign
+        return v < Integer.MIN_VALUE || v > Integer.MAX_VALUE ? fallback : (int) v; // range check
+    } // end intField method
+
+    /**
+     * Compares two fields ignoring case, without allocating.
+     * 
+     * @param i first field
+     * @param j second field
+     * @return true if the fields are equal ignoring case
+     */
+    boolean fieldsEqualIgnoreCase(int i, int j) { // compare fields
+        int n = ends[i] - starts[i]; // length
+        if (n != ends[j] - starts[j]) return false; // different length
+        for (int k = 0; k < n; k++) { // compare chars
+            char a = record[starts[i] + k], b = record[starts[j] + k]; // pair
+            if (a != b && Character.toLowerCase(a) != Character.toLowerCase(b) && Character.toUpperCase(a) != Character.toUpperCase(b)) return false; // mismatch
+        } // end for
+        return true; // equal
+    } // end fieldsEqualIgnoreCase method
+
+    /**
+     * Checks whether the record text contains a word, ignoring case.
+     * 
+     * @param word lower-case word to look for
+     * @return true if found anywhere in the record
+     */
+    boolean recordContainsIgnoreCase(String word) { // header detection
+        for (int s = 0; s + word.length() <= length; s++) { // every start
+            int k = 0; // matched chars
+            while (k < word.length() && Character.toLowerCase(record[s + k]) == word.charAt(k)) k++; // match
+            if (k == word.length()) return true; // found
+        } // end for
+        return false; // not found
+    } // end recordContainsIgnoreCase method
+} // end of CsvTokenizer class
@@ -0,0 +1,225 @@
+package com.jeopardy.loaders; // package declaration
+
+import com.jeopardy.model.LazyQuestion; // lazily decoded question
+import com.jeopardy.model.Question; // question model
+import com.jeopardy.model.QuestionBank; // game board
+
+import java.io.File; // for file representation
+import java.io.IOException; // for I/O failures
+import java.nio.ByteBuffer; // mapped view
+import java.nio.channels.FileChannel; // file mapping
+import java.nio.charset.StandardCharsets; // UTF-8 decoding
+import java.nio.file.StandardOpenOption; // open options
+import java.util.ArrayList; // question list
+import java.util.Arrays; // category lookup
+import java.util.Collections; // read-only views
+import java.util.HashMap; // category lookup
+import java.util.List; // question list
+import java.util.Map; // category lookup
+
+/**
+ * Random access to a compiled question bank (.jqb) through a memory-mapped file.
+ * <p>
+ * Layout (big-endian): a 56-byte header ({@code JQB1}, version, flags, question count,
+ * category count, and the offsets of each section and the string area length); a category
+ * dictionary of 16-byte entries (name offset, name length, first index entry, entry count)
+ * in first-appearance order; a value index of 8-byte entries (value, record number) grouped by
+ * category and sorted by value; 64-byte question records (category number, value, then offset
+ * and length of the id, text, answer and choices A-D, length -1 meaning null); and the UTF-8
+ * string area those offsets point into. Write it with JqbCompiler.
+ * <p>
+ * Opening a bank reads only the header and category names; question text is decoded when asked for.
+ * A game board is laid out straight from the dictionary and value index, so no question object is
+ * created until the game reads its cell.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class JqbBank { // start of JqbBank class
+    static final byte[] MAGIC = {'J', 'Q', 'B', '1'}; // file magic
+    static final short VERSION = 1; // format version
+    static final int HEADER_BYTES = 56; // header size
+    static final int CATEGORY_BYTES = 16; // category entry size
+    static final int INDEX_BYTES = 8; // index entry size
+    static final int RECORD_BYTES = 64; // question record size
+    static final int STRING_FIELDS = 7; // id, text, answer, A-D
+
+    private final ByteBuffer map; // mapped file (absolute reads only, so shareable)
+    private final int questions; // question count
+    private final String[] categories; // category names
+    private final int[] firstEntry, entryCount; // index range per category
+    private final Map<String, Integer> categoryIndex = new HashMap<>(); // name to category number
+    private final int indexOffset, recordsOffset, stringsOffset; // section offsets
+
+    private JqbBank(ByteBuffer map, File file) throws IOException { // use open
+        this.map = map; // store mapping
+        for (int i = 0; i < MAGIC.length; i++) if (map.limit() < HEADER_BYTES || map.get(i) != MAGIC[i]) throw new IOException("Not a compiled question bank: " + file); // check magic
+        if (map.getShort(4) != VERSION) throw new IOException("Unsupported question bank version: " + map.getShort(4)); // check version
+        questions = map.getInt(8); // question count
+        int count = map.getInt(12); // category count
+        int categoriesOffset = (int) map.getLong(16); // category section
+        indexOffset = (int) map.getLong(24); // index section
+        recordsOffset = (int) map.getLong(32); // record section
+        stringsOffset = (int) map.getLong(40); // string area
+        categories = new String[count]; firstEntry = new int[count]; entryCount = new int[count]; // dictionary
+        for (int c = 0; c < count; c++) { // read dictionary
+            int at = categoriesOffset + c * CATEGORY_BYTES; // entry position
+            categories[c] = string(map.getInt(at), map.getInt(at + 4)); // name
+            firstEntry[c] = map.getInt(at + 8); entryCount[c] = map.getInt(at + 12); // index range
+            categoryIndex.putIfAbsent(categories[c], c); // lookup
+        } // end for
+    } // end constructor
+
+    /**
+     * Maps a compiled question bank.
+     * 
+     * @param file the .jqb file
+     * @return the bank
+     * @throws IOException if the file cannot be mapped or is not a question bank
+     */
+    public static JqbBank open(File file) throws IOException { // map file
+        try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) { // open file
+            if (ch.size() > Integer.MAX_VALUE) throw new IOException("Question bank too large to map: " + file); // single mapping limit
+            return new JqbBank(ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()), file); // mapping outlives the channel
+        } // end try
+    } // end open method
+
+    /**
+     * Gets the number of questions.
+     * 
+     * @return question count
+     */
+    public int size() { return questions; }
+
+    /**
+     * Gets the categories in first-appearance order.
+     * 
+     * @return category names
+     */
+    public List<String> categories() { return Collections.unmodifiableList(Arrays.asList(categories)); }
+
+    /**
+     * Gets the question values of a category in ascending order.
+     * 
+     * @param category the category name
+     * @return its values, empty if the category is unknown
+     */
+    public int[] values(String category) { // values of category
+        Integer c = categoryIndex.get(category); // category number
+        if (c == null) return new int[0]; // unknown category
+        int[] out = new int[entryCount[c]]; // result
+        for (int i = 0; i < out.length; i++) out[i] = map.getInt(indexOffset + (firstEntry[c] + i) * INDEX_BYTES); // read values
+        return out; // ascending values
+    } // end values method
+
+    /**
+     * Finds a question by category and value with a binary search of the value index.
+     * If the bank holds several, the last one in source order is returned, as a board would keep.
+     * 
+     * @param category the category name
+     * @param value the point value
+     * @return a lazily decoded question, or null if there is none
+     */
+    public Question find(String category, int value) { // indexed lookup
+        Integer c = categoryIndex.get(category); // category number
+        if (c == null) return null; // unknown category
+        int lo = firstEntry[c], hi = firstEntry[c] + entryCount[c] - 1, hit = -1; // search range
+        while (lo <= hi) { // last entry with this value
+            int mid = (lo + hi) >>> 1; // probe
+            int v = map.getInt(indexOffset + mid * INDEX_BYTES); // value at probe
+            if (v <= value) { if (v == value) hit = mid; lo = mid + 1; } else hi = mid - 1; // narrow
+        } // end while
+        return hit < 0 ? null : question(map.getInt(indexOffset + hit * INDEX_BYTES + 4)); // record
+    } // end find method
+
+    /**
+     * Gets a question by record number (source order).
+     * 
+     * @param record record number
+     * @return a lazily decoded question
+     */
+    public Question question(int record) { // record view
+        if (record < 0 || record >= questions) throw new IndexOutOfBoundsException("No question " + record); // validate
+        int at = recordsOffset + record * RECORD_BYTES; // record position
+        return new LazyQuestion(categories[map.getInt(at)], map.getInt(at + 4), new RecordBody(record)); // lazy body, field by field
+    } // end question method
+
+    /**
+     * Gets every question in source order, each decoded lazily.
+     * 
+     * @return the questions
+     */
+    public List<Question> questions() { // all records
+        List<Question> out = new ArrayList<>(questions); // result
+        for (int r = 0; r < questions; r++) out.add(question(r)); // record views
+        return out; // questions
+    } // end questions method
+
+    /**
+     * Lays out a game board from the category dictionary and value index. Values are already sorted
+     * within each category; where a value repeats, the last question in source order wins, as
+     * QuestionBank.of keeps. Only the cell layout is read; each question is created when its cell is.
+     * 
+     * @return the board
+     */
+    public QuestionBank board() { // board from the index
+        int total = 0; // index entries
+        for (int n : entryCount) total += n; // upper bound on cells
+        int[] firstCell = new int[categories.length + 1], values = new int[total], records = new int[total]; // layout
+        int cell = 0; // cursor
+        for (int c = 0; c < categories.length; c++) { // each category
+            firstCell[c] = cell; // category start
+            for (int e = firstEntry[c]; e < firstEntry[c] + entryCount[c]; e++) { // ascending values
+                int at = indexOffset + e * INDEX_BYTES; // entry position
+                int value = map.getInt(at); // entry value
+                if (cell > firstCell[c] && values[cell - 1] == value) cell--; // later duplicate replaces the earlier one
+                values[cell] = value; records[cell++] = map.getInt(at + 4); // cell
+            } // end for
+        } // end for
+        firstCell[categories.length] = cell; // end of last category
+        return QuestionBank.of(categories, firstCell, Arrays.copyOf(values, cell), k -> question(records[k])); // questions on first read
+    } // end board method
+
+    /**
+     * Decodes one string field of a record.
+     * 
+     * @param record record number
+     * @param field 0 for the id, 1 text, 2 answer, 3-6 choices A-D
+     * @return the string, or null
+     */
+    private String field(int record, int field) { // single-field decode
+        int at = recordsOffset + record * RECORD_BYTES + 8 + field * 8; // field offset and length
+        return string(map.getInt(at), map.getInt(at + 4)); // decode
+    } // end field method
+
+    /**
+     * Decodes a string from the string area.
+     * 
+     * @param offset offset within the string area
+     * @param length byte length, or -1 for null
+     * @return the string, or null
+     */
+    private String string(int offset, int length) { // UTF-8 decode
+        if (length < 0) return null; // null field
+        byte[] bytes = new byte[length]; // string bytes
+        map.get(stringsOffset + offset, bytes); // absolute bulk read
+        return new String(bytes, StandardCharsets.UTF_8); // decode
+    } // end string method
+
+    /**
+     * Body of one record, decoding only the field that is read.
+     */
+    private final class RecordBody implements LazyQuestion.Body { // start of RecordBody class
+        private final int record; // record number
+
+        RecordBody(int record) { this.record = record; } // constructor
+
+        @Override public String id() { return field(record, 0); }
+        @Override public String text() { return field(record, 1); }
+        @Override public String answer() { return field(record, 2); }
+        @Override public String choice(int choice) { // choice by number
+            if (choice < 0 || choice > 3) throw new IllegalArgumentException("Choice must be 0-3: " + choice); // validate
+            return field(record, 3 + choice); // decode
+        } // end choice method
+    } // end RecordBody class
+} // end of JqbBank class
@@ -0,0 +1,170 @@
+package com.jeopardy.loaders; // package declaration
+
+import com.jeopardy.model.Question; // question model
+
+import java.io.BufferedOutputStream; // buffered output
+import java.io.DataOutputStream; // big-endian output
+import java.io.File; // for file representation
+import java.io.FileOutputStream; // file output
+import java.io.IOException; // for I/O failures
+import java.io.OutputStream; // output abstraction
+import java.nio.charset.StandardCharsets; // UTF-8 encoding
+import java.nio.file.Files; // temp file and copy
+import java.util.ArrayList; // category names
+import java.util.Arrays; // array growth
+import java.util.HashMap; // category numbers
+import java.util.List; // category names
+import java.util.Map; // category numbers
+
+/**
+ * Compiles a question file in any format QuestionLoaderFactory supports into a compiled
+ * question bank (.jqb) readable by JqbBank and JqbQuestionLoader. Questions are streamed
+ * from the source and their strings spooled to a temporary file, so only the fixed-size
+ * record fields are held in memory.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class JqbCompiler { // start of JqbCompiler class
+    private static final int FIELDS = 2 + 2 * JqbBank.STRING_FIELDS; // ints per record
+
+    /**
+     * Compiles a question file.
+     * 
+     * @param source the question file (CSV, JSON or XML)
+     * @param out the .jqb file to write
+     * @return the number of questions written
+     * @throws Exception if the source cannot be read or the output written
+     * @throws IllegalArgumentException if the format is unsupported or the bank would exceed 2GB
+     */
+    public static int compile(File source, File out) throws Exception { // compile file
+        QuestionLoader loader = QuestionLoaderFactory.getLoader(source); // pick loader
+        if (loader == null) throw new IllegalArgumentException("Unsupported file format: " + source.getName()); // validate
+        return build(out, b -> loader.forEach(source, b::add)); // stream questions
+    } // end compile method
+
+    /**
+     * Compiles questions that are already loaded.
+     * 
+     * @param questions the questions, in board order
+     * @param out the .jqb file to write
+     * @return the number of questions written
+     * @throws Exception if the output cannot be written
+     * @throws IllegalArgumentException if the bank would exceed 2GB
+     */
+    public static int compile(Iterable<? extends Question> questions, File out) throws Exception { // compile list
+        return build(out, b -> { for (Question q : questions) b.add(q); }); // copy questions
+    } // end compile method
+
+    /**
+     * Feeds questions to a builder and writes the bank.
+     * 
+     * @param out the .jqb file to write
+     * @param feed adds every question to the builder
+     * @return the number of questions written
+     * @throws Exception if reading or writing fails
+     */
+    private static int build(File out, Feed feed) throws Exception { // shared compile
+        File spool = File.createTempFile("jqb", ".strings"); // string area spool
+        try { // ensure the spool is removed
+            Builder b = new Builder(spool); // record builder
+            try { feed.into(b); } finally { b.strings.close(); } // collect questions
+            b.write(out); // assemble the bank
+            return b.count; // questions written
+        } finally { // clean up
+            Files.deleteIfExists(spool.toPath()); // remove spool
+        } // end try
+    } // end build method
+
+    /**
+     * Source of questions for one compilation.
+     */
+    private interface Feed { void into(Builder b) throws Exception; }
+
+    /**
+     * Command-line entry point: {@code JqbCompiler <questions.csv|json|xml> <output.jqb>}.
+     * 
+     * @param args source and output paths
+     * @throws Exception if compilation fails
+     */
+    public static void main(String[] args) throws Exception { // CLI entry point
+        if (args.length < 2) { System.err.println("Usage: JqbCompiler <questions.csv|json|xml> <output.jqb>"); return; } // usage
+        int n = compile(new File(args[0]), new File(args[1])); // compile
+        System.out.println("Compiled " + n + " questions to " + args[1]); // report
+    } // end main method
+
+    /**
+     * Accumulates records and strings for one compilation.
+     */
+    private static final class Builder { // start of Builder class
+        final DataOutputStream strings; // spooled string area
+        final List<String> categoryNames = new ArrayList<>(); // first-appearance order
+        final Map<String, Integer> categories = new HashMap<>(); // name to category number
+        final File spool; // string area file
+        int[] nameRefs = new int[32]; // category name offsets and lengths
+        int[] records = new int[FIELDS * 256]; // fixed record fields
+        int count; // questions added
+        long stringBytes; // string area length
+
+        Builder(File spool) throws IOException { // start of constructor
+            this.spool = spool; // remember spool
+            strings = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(spool), 1 << 16)); // spool writer
+        } // end constructor
+
+        void add(Question q) { // append a question
+            try { // wrap checked failures for the callback
+                String name = q.getCategory() == null ? "" : q.getCategory(); // category name
+                Integer c = categories.get(name); // known category
+                if (c == null) { // new category
+                    c = categoryNames.size(); categories.put(name, c); categoryNames.add(name); // number it
+                    int[] ref = string(name); // spool its name
+                    if (2 * c + 2 > nameRefs.length) nameRefs = Arrays.copyOf(nameRefs, nameRefs.length * 2); // grow
+                    nameRefs[2 * c] = ref[0]; nameRefs[2 * c + 1] = ref[1]; // name reference
+                } // end if
+                if ((count + 1) * FIELDS > records.length) records = Arrays.copyOf(records, records.length * 2); // grow
+                int at = count * FIELDS; // record slot
+                records[at] = c; records[at + 1] = q.getValue(); // fixed fields
+                String[] f = {q.getId(), q.getText(), q.getAnswer(), q.getChoiceA(), q.getChoiceB(), q.getChoiceC(), q.getChoiceD()}; // string fields
+                for (int i = 0; i < f.length; i++) { int[] ref = string(f[i]); records[at + 2 + i * 2] = ref[0]; records[at + 3 + i * 2] = ref[1]; } // spool strings
+                count++; // record added
+            } catch (IOException e) { // spool failure
+                throw new IllegalStateException("Failed to spool question strings: " + e.getMessage(), e); // surface
+            } // end try
+        } // end add method
+
+        int[] string(String s) throws IOException { // spool one string
+            if (s == null) return new int[] {0, -1}; // null field
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8); // encode
+            if (stringBytes + bytes.length > Integer.MAX_VALUE) throw new IllegalArgumentException("Question bank exceeds 2GB of text"); // format limit
+            int[] ref = {(int) stringBytes, bytes.length}; // offset and length
+            strings.write(bytes); stringBytes += bytes.length; // append
+            return ref; // reference
+        } // end string method
+
+        void write(File out) throws IOException { // assemble sections
+            int cats = categoryNames.size(); // category count
+            int[] first = new int[cats], size = new int[cats]; // index range per category
+            for (int r = 0; r < count; r++) size[records[r * FIELDS]]++; // bucket sizes
+            for (int c = 1; c < cats; c++) first[c] = first[c - 1] + size[c - 1]; // bucket starts
+            long[] index = new long[count]; // (value, record) keys
+            int[] fill = first.clone(); // next slot per bucket
+            for (int r = 0; r < count; r++) index[fill[records[r * FIELDS]]++] = ((long) records[r * FIELDS + 1] << 32) | r; // bucket records
+            for (int c = 0; c < cats; c++) Arrays.sort(index, first[c], first[c] + size[c]); // by value, then source order
+            long categoriesOffset = JqbBank.HEADER_BYTES; // dictionary position
+            long indexOffset = categoriesOffset + (long) cats * JqbBank.CATEGORY_BYTES; // index position
+            long recordsOffset = indexOffset + (long) count * JqbBank.INDEX_BYTES; // records position
+            long stringsOffset = recordsOffset + (long) count * JqbBank.RECORD_BYTES; // string area position
+            if (stringsOffset + stringBytes > Integer.MAX_VALUE) throw new IllegalArgumentException("Question bank exceeds 2GB"); // single mapping limit
+            try (OutputStream file = new FileOutputStream(out); DataOutputStream o = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) { // write bank
+                o.write(JqbBank.MAGIC); o.writeShort(JqbBank.VERSION); o.writeShort(0); // magic, version, flags
+                o.writeInt(count); o.writeInt(cats); // counts
+                o.writeLong(categoriesOffset); o.writeLong(indexOffset); o.writeLong(recordsOffset); o.writeLong(stringsOffset); o.writeLong(stringBytes); // sections
+                for (int c = 0; c < cats; c++) { o.writeInt(nameRefs[c * 2]); o.writeInt(nameRefs[c * 2 + 1]); o.writeInt(first[c]); o.writeInt(size[c]); } // dictionary
+                for (long key : index) { o.writeInt((int) (key >> 32)); o.writeInt((int) key); } // value index
+                for (int i = 0; i < count * FIELDS; i++) o.writeInt(records[i]); // records
+                o.flush(); // drain before copying the spool
+                Files.copy(spool.toPath(), file); // string area
+            } // end try
+        } // end write method
+    } // end Builder class
+} // end of JqbCompiler class
@@ -0,0 +1,40 @@
+package com.jeopardy.loaders; // package declaration
+
+import com.jeopardy.model.Question; // question model
+import com.jeopardy.model.QuestionBank; // game board
+
+import java.io.File; // for file representation
+import java.util.List; // for list interface
+
+/**
+ * Loader for compiled question banks (.jqb).
+ * The file is memory-mapped and each question's text, answer and choices are only
+ * decoded when the game reads them, so loading does no string decoding per question.
+ * loadBank goes further and lays the board out from the bank's value index, creating no
+ * question objects at all until cells are read.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class JqbQuestionLoader implements QuestionLoader { // start of JqbQuestionLoader class
+
+    /**
+     * Loads lazily decoded questions from a compiled bank.
+     * 
+     * @param file the .jqb file
+     * @return questions in source order
+     * @throws Exception if the file cannot be mapped or is not a question bank
+     */
+    @Override // override load method
+    public List<Question> load(File file) throws Exception { return JqbBank.open(file).questions(); }
+
+    /**
+     * Lays out a board from a compiled bank's value index without creating a question per record.
+     * 
+     * @param file the .jqb file
+     * @return the board
+     * @throws Exception if the file cannot be mapped or is not a question bank
+     */
+    @Override // board straight from the index
+    public QuestionBank loadBank(File file) throws Exception { return JqbBank.open(file).board(); }
+} // end of JqbQuestionLoader class
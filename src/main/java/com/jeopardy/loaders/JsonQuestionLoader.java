@@ -1,24 +1,75 @@
 package com.jeopardy.loaders; // package declaration
 
-import com.fasterxml.jackson.core.type.TypeReference; // for type reference
-import com.fasterxml.jackson.databind.ObjectMapper; // for JSON mapping
+import com.fasterxml.jackson.core.JsonFactory; // for parser creation
+import com.fasterxml.jackson.core.JsonParser; // for token streaming
+import com.fasterxml.jackson.core.JsonToken; // for token types
 import com.jeopardy.model.Question; // question model
+import com.jeopardy.model.QuestionBuilder; // question construction
+import com.jeopardy.model.StringPool; // shared repeated strings
 
 import java.io.File; // for file representation
 import java.util.ArrayList; // for list implementation
+import java.util.Arrays; // slot reset
+import java.util.HashMap; // for alias lookup
 import java.util.List; // for list interface
-import java.util.Map; // for map interface
+import java.util.Map; // for alias lookup
+import java.util.function.Consumer; // streaming callback
  
 /**
  * JSON format question loader implementation.
  * Supports loading questions from JSON files with multiple format variations.
+ * The file is read token by token: each question object is built as its fields arrive,
+ * so only one question is in progress at a time. The input may be a top-level array of
+ * question objects or a sequence of objects (such as NDJSON, one object per line).
+ * Repeated categories, answers and choices share one String through a StringPool.
  * @author Group 33
  * @version 1.0
  */
 
 // JSON question loader implementation
 public class JsonQuestionLoader implements QuestionLoader { // implement QuestionLoader interface
-    private final ObjectMapper mapper = new ObjectMapper(); // initialize JSON object mapper
+    private static final JsonFactory JSON = new JsonFactory(); // shared, thread-safe parser factory
+
+    // Field slots a key can fill
+    private static final int CATEGORY = 0, VALUE = 1, TEXT = 2, ANSWER = 3, CHOICE_A = 4; // CHOICE_A..CHOICE_A+3 are the four choices
+    private static final int SLOTS = CHOICE_A + 4; // number of slots
+    private static final int CHOICES = -1, OPTIONS = -2; // containers of choices
+
+    /**
+     * Question keys: slot * 8 + priority. When several aliases for one slot are present,
+     * the one with the higher priority wins, whatever order they appear in.
+     */
+    private static final Map<String, Integer> FIELDS = new HashMap<>(); // top-level aliases
+    /** Keys inside an "Options" object. */
+    private static final Map<String, Integer> OPTION_FIELDS = new HashMap<>(); // option aliases
+    static { // build alias tables once
+        FIELDS.put("category", CATEGORY * 8 + 2); FIELDS.put("Category", CATEGORY * 8 + 1); // category
+        FIELDS.put("value", VALUE * 8 + 2); FIELDS.put("Value", VALUE * 8 + 1); // value
+        FIELDS.put("question", TEXT * 8 + 2); FIELDS.put("Question", TEXT * 8 + 1); // question text
+        FIELDS.put("answer", ANSWER * 8 + 3); FIELDS.put("Answer", ANSWER * 8 + 2); FIELDS.put("CorrectAnswer", ANSWER * 8 + 1); // answer
+        FIELDS.put("choices", CHOICES); FIELDS.put("Options", OPTIONS); // choice containers
+        for (int i = 0; i < 4; i++) { // per-choice keys
+            char letter = (char) ('A' + i); // choice letter
+            FIELDS.put("choice" + letter, (CHOICE_A + i) * 8 + 4); // top-level choiceA..D win over everything
+            OPTION_FIELDS.put(String.valueOf(letter), (CHOICE_A + i) * 8 + 3); // Options.A..D beat the choices array
+            OPTION_FIELDS.put("Option" + letter, (CHOICE_A + i) * 8 + 1); // Options.OptionA..D only fill gaps
+        } // end for
+    } // end static block
+    private static final int ARRAY_PRIORITY = 2; // priority of "choices" array entries
+
+    private final StringPool strings; // shared pool, or null for one per load
+
+    /**
+     * Creates a loader that pools strings within each loaded file.
+     */
+    public JsonQuestionLoader() { this(null); }
+
+    /**
+     * Creates a loader that pools strings in the given pool.
+     * 
+     * @param strings pool shared by every load, or null for one pool per load
+     */
+    public JsonQuestionLoader(StringPool strings) { this.strings = strings; } // constructor
 
     /**
      * Loads questions from a JSON file.
@@ -32,53 +83,109 @@ public class JsonQuestionLoader implements QuestionLoader { // implement Questio
     @Override // override load method
     public List<Question> load(File file) throws Exception { // load questions from file
         List<Question> out = new ArrayList<>(); // initialize output list
-        // Expect either array of objects with fields: category, value, question, answer OR map
-        List<Map<String, Object>> arr = mapper.readValue(file, new TypeReference<List<Map<String, Object>>>(){}); // read JSON as list of maps
-        for (Map<String, Object> m : arr) { // iterate over each map
-                String category = String.valueOf(m.getOrDefault("category", m.getOrDefault("Category", ""))); // get category
-                int value = 0; // initialize value
-                try { value = Integer.parseInt(String.valueOf(m.getOrDefault("value", m.getOrDefault("Value", "0")))); } catch (Exception ignored) {} // parse value
-                String text = String.valueOf(m.getOrDefault("question", m.getOrDefault("Question", ""))); // get question text
-                String answer = String.valueOf(m.getOrDefault("answer", m.getOrDefault("Answer", ""))); // get answer
-                // choices may be provided as fields, array under "choices", or map under "Options"
-                String a = null, b = null, c = null, d = null; // initialize choices
-                Object choicesObj = m.get("choices"); // get choices object
-                if (choicesObj instanceof java.util.List) { // if choices is a list
-                    java.util.List<?> lst = (java.util.List<?>) choicesObj; // cast to list
-                    if (lst.size() > 0) a = String.valueOf(lst.get(0)); // get choice A
-                    if (lst.size() > 1) b = String.valueOf(lst.get(1)); // get choice B
-                    if (lst.size() > 2) c = String.valueOf(lst.get(2)); // get choice C
-                    if (lst.size() > 3) d = String.valueOf(lst.get(3)); // get choice D
-                }
-                // handle Options map like {"A":"...","B":"..."}
-                Object opts = m.get("Options");
-                if (opts instanceof java.util.Map) {
-                    java.util.Map<?,?> om = (java.util.Map<?,?>) opts;
-                    if (om.get("A") != null) a = String.valueOf(om.get("A"));
-                    if (om.get("B") != null) b = String.valueOf(om.get("B"));
-                    if (om.get("C") != null) c = String.valueOf(om.get("C"));
-                    if (om.get("D") != null) d = String.valueOf(om.get("D"));
-                    // also support lowercase or alternative keys
-                    if (a == null && om.get("OptionA") != null) a = String.valueOf(om.get("OptionA"));
-                    if (b == null && om.get("OptionB") != null) b = String.valueOf(om.get("OptionB"));
-                    if (c == null && om.get("OptionC") != null) c = String.valueOf(om.get("OptionC"));
-                    if (d == null && om.get("OptionD") != null) d = String.valueOf(om.get("OptionD"));
-                }
-                if (m.get("choiceA") != null) a = String.valueOf(m.get("choiceA")); // get choice A
-                if (m.get("choiceB") != null) b = String.valueOf(m.get("choiceB")); // get choice B
-                if (m.get("choiceC") != null) c = String.valueOf(m.get("choiceC")); // get choice C
-                if (m.get("choiceD") != null) d = String.valueOf(m.get("choiceD")); // get choice D
-                out.add(new com.jeopardy.model.QuestionBuilder() // build question
-                    .category(category) // set category
-                    .value(value) // set value
-                    .text(text) // set question text
-                    .answer(answer) // set answer
-                    .choiceA(a) // set choice A
-                    .choiceB(b) // set choice B
-                    .choiceC(c) // set choice C
-                    .choiceD(d) // set choice D
-                    .build()); // build and add to list
-        } // end for
+        forEach(file, out::add); // collect streamed questions
         return out; // return list of questions
     } // end load method
-} // end class
\ No newline at end of file
+
+    /**
+     * Streams questions from a JSON file to a callback, one object at a time.
+     * 
+     * @param file the JSON file to load questions from
+     * @param action called once per question, in file order
+     * @throws Exception if file reading or parsing fails
+     */
+    @Override // streaming load
+    public void forEach(File file, Consumer<? super Question> action) throws Exception { // stream to callback
+        try (JsonParser p = JSON.createParser(file)) { // token stream
+            String[] slots = new String[SLOTS]; // field values of the current question
+            int[] priority = new int[SLOTS]; // priority of each filled slot
+            StringPool pool = CsvQuestionLoader.pool(strings); // pool for this load
+            JsonToken t = p.nextToken(); // first token
+            boolean array = t == JsonToken.START_ARRAY; // top-level array, otherwise a sequence of objects
+            if (array) t = p.nextToken(); // first element
+            while (t != null && t != JsonToken.END_ARRAY) { // each top-level value
+                if (t == JsonToken.START_OBJECT) action.accept(readQuestion(p, slots, priority, pool)); // one question
+                else p.skipChildren(); // ignore anything else
+                t = p.nextToken(); // next value
+            } // end while
+        } // end try
+    } // end forEach method
+
+    /**
+     * Reads one question object; the parser is positioned on its START_OBJECT.
+     * 
+     * @param p the parser
+     * @param slots reusable field values
+     * @param priority reusable slot priorities
+     * @param pool pool for repeated strings
+     * @return the question
+     * @throws Exception if parsing fails
+     */
+    private static Question readQuestion(JsonParser p, String[] slots, int[] priority, StringPool pool) throws Exception { // parse object
+        Arrays.fill(slots, null); Arrays.fill(priority, 0); // reset
+        while (p.nextToken() == JsonToken.FIELD_NAME) { // each field
+            Integer key = FIELDS.get(p.getCurrentName()); // resolve alias
+            JsonToken v = p.nextToken(); // field value
+            if (key == null) { p.skipChildren(); continue; } // unknown field
+            if (key == CHOICES) { // "choices": [a, b, c, d]
+                if (v != JsonToken.START_ARRAY) { p.skipChildren(); continue; } // not an array
+                int i = 0; // element index
+                for (JsonToken e = p.nextToken(); e != JsonToken.END_ARRAY; e = p.nextToken(), i++) { // each element
+                    if (i < 4) put(slots, priority, CHOICE_A + i, ARRAY_PRIORITY, scalar(p)); // choice by position
+                    else p.skipChildren(); // extra elements
+                } // end for
+            } else if (key == OPTIONS) { // "Options": {"A": ..., "OptionB": ...}
+                if (v != JsonToken.START_OBJECT) { p.skipChildren(); continue; } // not an object
+                while (p.nextToken() == JsonToken.FIELD_NAME) { // each option
+                    Integer opt = OPTION_FIELDS.get(p.getCurrentName()); // resolve option key
+                    JsonToken ov = p.nextToken(); // option value
+                    if (opt == null || ov == JsonToken.VALUE_NULL) { p.skipChildren(); continue; } // unknown or null option
+                    put(slots, priority, opt >> 3, opt & 7, scalar(p)); // choice
+                } // end while
+            } else if (key >> 3 >= CHOICE_A && v == JsonToken.VALUE_NULL) { // null choiceX is ignored
+                continue; // keep other sources
+            } else { // scalar field
+                put(slots, priority, key >> 3, key & 7, scalar(p)); // fill slot
+            } // end if
+        } // end while
+        int value = 0; // initialize value
+        try { value = Integer.parseInt(slots[VALUE] != null ? slots[VALUE] : "0"); } catch (Exception ignored) {} // parse value
+        return new QuestionBuilder() // build question
+            .pool(pool) // share repeated strings
+            .category(slots[CATEGORY] != null ? slots[CATEGORY] : "") // set category
+            .value(value) // set value
+            .text(slots[TEXT] != null ? slots[TEXT] : "") // set question text
+            .answer(slots[ANSWER] != null ? slots[ANSWER] : "") // set answer
+            .choiceA(slots[CHOICE_A]) // set choice A
+            .choiceB(slots[CHOICE_A + 1]) // set choice B
+            .choiceC(slots[CHOICE_A + 2]) // set choice C
+            .choiceD(slots[CHOICE_A + 3]) // set choice D
+            .build(); // build question
+    } // end readQuestion method
+
+    /**
+     * Fills a slot unless a higher-priority alias already did.
+     * 
+     * @param slots field values
+     * @param priority slot priorities
+     * @param slot slot to fill
+     * @param prio priority of this alias
+     * @param value the value
+     */
+    private static void put(String[] slots, int[] priority, int slot, int prio, String value) { // prioritised assignment
+        if (prio >= priority[slot]) { slots[slot] = value; priority[slot] = prio; } // later duplicates of one key win, as in a map
+    } // end put method
+
+    /**
+     * Reads the current value as text; nested objects or arrays are skipped and read as their JSON kind.
+     * 
+     * @param p the parser, on a value token
+     * @return the value's text (JSON null reads as "null")
+     * @throws Exception if parsing fails
+     */
+    private static String scalar(JsonParser p) throws Exception { // value text
+        JsonToken t = p.currentToken(); // value token
+        if (t == JsonToken.START_OBJECT || t == JsonToken.START_ARRAY) { p.skipChildren(); return t == JsonToken.START_OBJECT ? "{}" : "[]"; } // structured value
+        return p.getText(); // scalar text
+    } // end scalar method
+} // end class
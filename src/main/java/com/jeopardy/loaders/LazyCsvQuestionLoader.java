@@ -0,0 +1,221 @@
+package com.jeopardy.loaders; // package declaration
+
+import com.jeopardy.model.LazyQuestion; // lazily decoded question
+import com.jeopardy.model.Question; // question model
+import com.jeopardy.model.QuestionIds; // stable question ids
+import com.jeopardy.model.StringPool; // shared repeated strings
+
+import java.io.CharArrayReader; // reader over a decoded record
+import java.io.File; // for file representation
+import java.io.IOException; // for I/O failures
+import java.io.UncheckedIOException; // I/O failures inside suppliers
+import java.nio.ByteBuffer; // read buffer
+import java.nio.CharBuffer; // decoded record
+import java.nio.channels.FileChannel; // positional reads
+import java.nio.charset.Charset; // platform charset, as the CSV loader uses
+import java.nio.file.StandardOpenOption; // open options
+import java.util.ArrayList; // question list
+import java.util.Arrays; // array growth
+import java.util.LinkedHashMap; // LRU body cache
+import java.util.List; // question list
+import java.util.Map; // LRU body cache
+
+/**
+ * CSV question loader that indexes the file instead of parsing it.
+ * One byte-level pass finds each record's offset and length and reads only its category
+ * and value, which is all the board needs. The returned LazyQuestions re-read and parse their
+ * record (with the same tokenizer and row rules as CsvQuestionLoader) the first time their text,
+ * answer or choices are read, and keep the most recently used bodies in a small bounded cache.
+ * Like the parallel loader, this assumes an ASCII-compatible charset such as UTF-8.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class LazyCsvQuestionLoader implements QuestionLoader { // start of LazyCsvQuestionLoader class
+    /** Default number of decoded question bodies kept per loaded file. */
+    public static final int DEFAULT_CACHE_SIZE = 64;
+
+    private final int cacheSize; // bodies kept per file
+    private final StringPool strings; // shared pool, or null for one per load
+
+    /**
+     * Creates a loader with the default body cache size.
+     */
+    public LazyCsvQuestionLoader() { this(DEFAULT_CACHE_SIZE); }
+
+    /**
+     * Creates a loader.
+     * 
+     * @param cacheSize decoded bodies kept per loaded file
+     * @throws IllegalArgumentException if cacheSize is not positive
+     */
+    public LazyCsvQuestionLoader(int cacheSize) { this(cacheSize, null); }
+
+    /**
+     * Creates a loader that pools strings in the given pool.
+     * 
+     * @param cacheSize decoded bodies kept per loaded file
+     * @param strings pool shared by every load, or null for one pool per load
+     * @throws IllegalArgumentException if cacheSize is not positive
+     */
+    public LazyCsvQuestionLoader(int cacheSize, StringPool strings) { // constructor
+        if (cacheSize <= 0) throw new IllegalArgumentException("Cache size must be positive"); // validate
+        this.cacheSize = cacheSize; // store size
+        this.strings = strings; // store string pool
+    } // end constructor
+
+    /**
+     * Indexes a CSV file and returns questions whose bodies are parsed on demand.
+     * 
+     * @param file the CSV file to load questions from
+     * @return lazily parsed questions, in file order
+     * @throws Exception if the file cannot be read
+     */
+    @Override // override load method
+    public List<Question> load(File file) throws Exception { // index file
+        Index index = new Index(file, Charset.defaultCharset(), cacheSize, CsvQuestionLoader.pool(strings)); // record index
+        try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) { index.scan(ch); } // one pass
+        List<Question> list = new ArrayList<>(index.count); // result
+        for (int r = 0; r < index.count; r++) { int record = r; list.add(new LazyQuestion(index.categories[r], index.values[r], () -> index.body(record))); } // skeleton
+        return list; // lazy questions
+    } // end load method
+
+    /**
+     * Offsets, categories and values of one file's question records, plus the body cache.
+     */
+    static final class Index { // start of Index class
+        private final File file; // indexed file
+        private final Charset charset; // file charset
+        private final long size, modified; // file state when indexed
+        private long firstId; // ids stay stable across re-parses
+        private final Map<Integer, Question> bodies; // LRU decoded bodies
+        private final StringPool names; // one String per category, choice and answer
+        int count; // question records
+        long[] offsets = new long[256]; // record start
+        int[] lengths = new int[256]; // record length in bytes
+        String[] categories = new String[256]; // record category
+        int[] values = new int[256]; // record value
+        private byte[] record = new byte[256]; // unquoted bytes of the current record
+        private int length; // used part of record
+        private int[] commas = new int[16]; // field ends in record
+        private int fields; // fields in the current record
+        private boolean headerChecked; // first record handled
+
+        Index(File file, Charset charset, int cacheSize, StringPool names) { // start of constructor
+            this.file = file; this.charset = charset; this.names = names; // source
+            this.size = file.length(); this.modified = file.lastModified(); // state check
+            this.bodies = new LinkedHashMap<>(16, 0.75f, true) { // access order
+                @Override protected boolean removeEldestEntry(Map.Entry<Integer, Question> e) { return size() > cacheSize; } // bound
+            }; // end cache
+        } // end constructor
+
+        /**
+         * Splits the file into records with the tokenizer's quoting rules and indexes each question row.
+         * 
+         * @param ch the open file
+         * @throws IOException if reading fails
+         */
+        void scan(FileChannel ch) throws IOException { // index pass
+            ByteBuffer buf = ByteBuffer.allocate(64 * 1024); // read window
+            long pos = 0, start = 0; // file position, record start
+            boolean quoted = false, blank = true; // record state
+            while (ch.read(buf) > 0) { // until end of file
+                buf.flip(); // read mode
+                while (buf.hasRemaining()) { // every byte
+                    byte b = buf.get(); // current byte
+                    if (b == '"') { quoted = !quoted; blank = false; } // toggle quoting, drop the quote
+                    else if (!quoted && (b == '\n' || b == '\r')) { if (!blank) row(start, pos); start = pos + 1; length = 0; fields = 0; blank = true; } // end of record
+                    else { // record byte
+                        if (!quoted && b == ',') { comma(); blank = false; } // field end
+                        else { if ((b & 0xff) > ' ') blank = false; if (length == record.length) record = Arrays.copyOf(record, length * 2); record[length++] = b; } // field text
+                    } // end if
+                    pos++; // next byte
+                } // end while
+                buf.clear(); // refill
+            } // end while
+            if (!blank) row(start, pos); // last record without a line break
+            firstId = QuestionIds.reserve(count); // one id per question
+        } // end scan method
+
+        private void comma() { // close a field
+            if (fields == commas.length) commas = Arrays.copyOf(commas, fields * 2); // grow
+            commas[fields++] = length; // field end
+        } // end comma method
+
+        /**
+         * Indexes one non-blank record, skipping the header and rows with too few fields.
+         * 
+         * @param start record offset
+         * @param end offset of its line break
+         */
+        private void row(long start, long end) { // index record
+            comma(); // last field
+            if (!headerChecked) { headerChecked = true; if (contains("category") || contains("question")) return; } // header row
+            if (fields < 4) return; // invalid row, as CsvQuestionLoader skips it
+            if (end - start > Integer.MAX_VALUE) throw new IllegalArgumentException("CSV record too long at byte " + start); // length fits an int
+            if (count == offsets.length) { int n = count * 2; offsets = Arrays.copyOf(offsets, n); lengths = Arrays.copyOf(lengths, n); categories = Arrays.copyOf(categories, n); values = Arrays.copyOf(values, n); } // grow
+            int s0 = trimStart(0, commas[0]), e0 = trimEnd(s0, commas[0]); // category bounds
+            String name = new String(record, s0, e0 - s0, charset); // category text
+            categories[count] = names.intern(name); // shared category
+            values[count] = intField(trimStart(commas[0], commas[1]), trimEnd(trimStart(commas[0], commas[1]), commas[1])); // value
+            offsets[count] = start; lengths[count] = (int) (end - start); count++; // record span
+        } // end row method
+
+        private int trimStart(int s, int e) { while (s < e && (record[s] & 0xff) <= ' ') s++; return s; }
+
+        private int trimEnd(int s, int e) { while (e > s && (record[e - 1] & 0xff) <= ' ') e--; return e; }
+
+        /**
+         * Parses a value field as CsvTokenizer.intField does, defaulting to 0.
+         * 
+         * @param s start of the trimmed field
+         * @param e end of the trimmed field
+         * @return the value
+         */
+        private int intField(int s, int e) { // parse value
+            if (s == e) return 0; // empty
+            boolean negative = record[s] == '-'; // sign
+            if (negative || record[s] == '+') s++; // skip sign
+            if (s == e || e - s > 10) return 0; // no digits or too long
+            long v = 0; // accumulated value
+            for (int k = s; k < e; k++) { byte c = record[k]; if (c < '0' || c > '9') return 0; v = v * 10 + (c - '0'); } // digits
+            v = negative ? -v : v; // apply sign
+            return v < Integer.MIN_VALUE || v > Integer.MAX_VALUE ? 0 : (int) v; // range check
+        } // end intField method
+
+        private boolean contains(String word) { // header detection
+            for (int s = 0; s + word.length() <= length; s++) { // every start
+                int k = 0; // matched bytes
+                while (k < word.length() && Character.toLowerCase((char) (record[s + k] & 0xff)) == word.charAt(k)) k++; // match
+                if (k == word.length()) return true; // found
+            } // end for
+            return false; // not found
+        } // end contains method
+
+        /**
+         * Gets the parsed body of a record, from the cache or by re-reading the file.
+         * 
+         * @param r record number
+         * @return the full question
+         * @throws IllegalStateException if the file changed since it was indexed
+         * @throws UncheckedIOException if the record cannot be read
+         */
+        Question body(int r) { // materialize on demand
+            synchronized (bodies) { Question q = bodies.get(r); if (q != null) return q; } // cached body
+            if (file.length() != size || file.lastModified() != modified) throw new IllegalStateException("Question file changed since it was indexed: " + file); // stale offsets
+            Question q; // parsed body
+            try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) { // read the record
+                ByteBuffer bytes = ByteBuffer.allocate(lengths[r]); // record bytes
+                while (bytes.hasRemaining() && ch.read(bytes, offsets[r] + bytes.position()) >= 0) { } // positional read
+                bytes.flip(); // read mode
+                CharBuffer chars = charset.decode(bytes); // decode record
+                q = new CsvQuestionLoader.Rows(new CsvTokenizer(new CharArrayReader(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining())), false, names).next(); // same row rules
+            } catch (IOException e) { // read failure
+                throw new UncheckedIOException("Failed to read question from " + file, e); // suppliers cannot throw checked exceptions
+            } // end try
+            q.setId(QuestionIds.format(firstId + r)); // stable id
+            synchronized (bodies) { bodies.put(r, q); } // remember
+            return q; // body
+        } // end body method
+    } // end Index class
+} // end of LazyCsvQuestionLoader class
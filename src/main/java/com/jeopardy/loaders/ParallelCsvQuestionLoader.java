@@ -0,0 +1,190 @@
+package com.jeopardy.loaders; // package declaration
+
+import com.jeopardy.model.Question; // question model
+import com.jeopardy.model.StringPool; // shared repeated strings
+import java.io.CharArrayReader; // reader over a decoded chunk
+import java.io.File; // for file representation
+import java.io.IOException; // for I/O failures
+import java.nio.CharBuffer; // decoded chunk
+import java.nio.MappedByteBuffer; // mapped chunk
+import java.nio.channels.FileChannel; // file mapping
+import java.nio.charset.Charset; // platform charset, as the CSV loader uses
+import java.nio.file.StandardOpenOption; // open options
+import java.util.ArrayList; // chunk results
+import java.util.List; // chunk results
+import java.util.concurrent.Callable; // chunk work
+import java.util.concurrent.ExecutionException; // task failures
+import java.util.concurrent.ForkJoinPool; // parallel execution
+import java.util.concurrent.Future; // task results
+import java.util.function.Consumer; // streaming callback
+
+/**
+ * CSV question loader that parses large files on several cores.
+ * The file is memory-mapped and cut into chunks that end on record boundaries: a parallel
+ * pre-scan counts quote characters per range, a prefix of those parities tells whether each
+ * range starts inside a quoted field, and each cut is moved to the first line break outside quotes.
+ * Chunks are then decoded and parsed concurrently with the same tokenizer and row rules as
+ * CsvQuestionLoader, and the results are merged in file order.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class ParallelCsvQuestionLoader implements QuestionLoader { // start of ParallelCsvQuestionLoader class
+    /** Default bytes per chunk. */
+    public static final int DEFAULT_CHUNK_BYTES = 4 << 20;
+
+    private final ForkJoinPool pool; // pool running the chunks
+    private final int chunkBytes; // nominal chunk size
+    private final StringPool strings; // shared pool, or null for one per load
+
+    /**
+     * Creates a loader on the common pool with the default chunk size.
+     */
+    public ParallelCsvQuestionLoader() { this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_BYTES); }
+
+    /**
+     * Creates a loader.
+     * 
+     * @param pool pool running the chunks
+     * @param chunkBytes nominal bytes per chunk
+     */
+    public ParallelCsvQuestionLoader(ForkJoinPool pool, int chunkBytes) { this(pool, chunkBytes, null); }
+
+    /**
+     * Creates a loader that pools strings in the given pool.
+     * 
+     * @param pool pool running the chunks
+     * @param chunkBytes nominal bytes per chunk
+     * @param strings string pool shared by every load, or null for one pool per load
+     */
+    public ParallelCsvQuestionLoader(ForkJoinPool pool, int chunkBytes, StringPool strings) { // constructor
+        if (chunkBytes <= 0) throw new IllegalArgumentException("Chunk size must be positive"); // validate
+        this.pool = pool; // store pool
+        this.chunkBytes = chunkBytes; // store chunk size
+        this.strings = strings; // store string pool
+    } // end constructor
+
+    @Override // parallel load
+    public List<Question> load(File file) throws Exception { // load questions from file
+        List<List<Question>> parts = parseChunks(file); // per-chunk results
+        int total = 0; // question count
+        for (List<Question> p : parts) total += p.size(); // size the result once
+        List<Question> list = new ArrayList<>(total); // merged list
+        for (List<Question> p : parts) list.addAll(p); // file order
+        return list; // return list of questions
+    } // end load method
+
+    @Override // chunks are parsed in parallel, then delivered in file order
+    public void forEach(File file, Consumer<? super Question> action) throws Exception { // stream to callback
+        for (List<Question> p : parseChunks(file)) p.forEach(action); // file order
+    } // end forEach method
+
+    /**
+     * Splits the file on record boundaries and parses every chunk.
+     * 
+     * @param file the CSV file
+     * @return questions of each chunk, in file order
+     * @throws Exception if reading or parsing fails
+     */
+    private List<List<Question>> parseChunks(File file) throws Exception { // chunk and parse
+        try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) { // open file
+            long size = ch.size(); // file size
+            int ranges = (int) Math.max(1, (size + chunkBytes - 1) / chunkBytes); // nominal ranges
+            List<Callable<Boolean>> parity = new ArrayList<>(); // pass 1: odd quote count per range
+            for (int k = 0; k < ranges; k++) { long from = (long) k * chunkBytes, to = Math.min(size, from + chunkBytes); parity.add(() -> oddQuotes(ch, from, to)); } // range tasks
+            List<Boolean> odd = results(pool.invokeAll(parity)); // parities
+            List<Callable<Long>> cuts = new ArrayList<>(); // pass 2: record boundary per range start
+            boolean quoted = false; // quote state at range start
+            for (int k = 1; k < ranges; k++) { quoted ^= odd.get(k - 1); long from = (long) k * chunkBytes; boolean q = quoted; cuts.add(() -> recordStart(ch, from, size, q)); } // boundary tasks
+            List<Long> bounds = new ArrayList<>(); // chunk starts plus end
+            bounds.add(0L); // first chunk
+            for (long b : results(pool.invokeAll(cuts))) bounds.add(Math.max(b, bounds.get(bounds.size() - 1))); // keep monotonic
+            bounds.add(size); // end of file
+            Charset charset = Charset.defaultCharset(); // same decoding as CsvQuestionLoader
+            StringPool shared = CsvQuestionLoader.pool(strings); // one pool across all chunks
+            List<Callable<List<Question>>> parse = new ArrayList<>(); // pass 3: parse chunks
+            for (int k = 0; k + 1 < bounds.size(); k++) { long from = bounds.get(k), to = bounds.get(k + 1); boolean header = k == 0; parse.add(() -> parse(ch, from, to, charset, header, shared)); } // chunk tasks
+            return results(pool.invokeAll(parse)); // in file order
+        } // end try
+    } // end parseChunks method
+
+    /**
+     * Checks whether a byte range holds an odd number of quote characters.
+     * 
+     * @param ch the file
+     * @param from start of the range
+     * @param to end of the range
+     * @return true for an odd count
+     * @throws IOException if the range cannot be mapped
+     */
+    private static boolean oddQuotes(FileChannel ch, long from, long to) throws IOException { // pass 1
+        if (to <= from) return false; // empty range
+        MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, from, to - from); // map range
+        boolean odd = false; // parity
+        for (int i = 0, n = buf.limit(); i < n; i++) if (buf.get(i) == '"') odd = !odd; // toggle per quote
+        return odd; // parity
+    } // end oddQuotes method
+
+    /**
+     * Finds the first record start at or after a position: just past the first line break outside quotes.
+     * 
+     * @param ch the file
+     * @param from scan start
+     * @param size file size
+     * @param quoted whether from lies inside a quoted field
+     * @return offset of the next record, or size if there is none
+     * @throws IOException if the file cannot be mapped
+     */
+    private static long recordStart(FileChannel ch, long from, long size, boolean quoted) throws IOException { // pass 2
+        long pos = from; // scan position
+        while (pos < size) { // scan in windows until a break is found
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(size - pos, 1 << 20)); // map window
+            for (int i = 0, n = buf.limit(); i < n; i++) { // scan window
+                byte b = buf.get(i); // current byte
+                if (b == '"') quoted = !quoted; // quote state
+                else if (!quoted && (b == '\n' || b == '\r')) return pos + i + 1; // record boundary
+            } // end for
+            pos += buf.limit(); // next window
+        } // end while
+        return size; // no further record
+    } // end recordStart method
+
+    /**
+     * Decodes and parses one chunk.
+     * 
+     * @param ch the file
+     * @param from chunk start (a record start)
+     * @param to chunk end (a record start or end of file)
+     * @param charset file charset
+     * @param header whether the chunk's first row may be the header
+     * @param shared string pool of this load
+     * @return the chunk's questions
+     * @throws IOException if the chunk cannot be read
+     */
+    private static List<Question> parse(FileChannel ch, long from, long to, Charset charset, boolean header, StringPool shared) throws IOException { // pass 3
+        List<Question> out = new ArrayList<>(); // chunk questions
+        if (to <= from) return out; // empty chunk
+        CharBuffer chars = charset.decode(ch.map(FileChannel.MapMode.READ_ONLY, from, to - from)); // decode chunk
+        CsvQuestionLoader.Rows rows = new CsvQuestionLoader.Rows(new CsvTokenizer(new CharArrayReader(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining())), header, shared); // question rows
+        Question q; // current question
+        while ((q = rows.next()) != null) out.add(q); // collect
+        return out; // chunk result
+    } // end parse method
+
+    /**
+     * Waits for task results, rethrowing the first failure.
+     * 
+     * @param futures task results in order
+     * @param <T> result type
+     * @return the results
+     * @throws Exception the first task failure
+     */
+    private static <T> List<T> results(List<Future<T>> futures) throws Exception { // collect results
+        List<T> out = new ArrayList<>(futures.size()); // results in order
+        for (Future<T> f : futures) { // each task
+            try { out.add(f.get()); } // result
+            catch (ExecutionException ex) { throw ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex; } // unwrap
+        } // end for
+        return out; // results
+    } // end results method
+} // end of ParallelCsvQuestionLoader class
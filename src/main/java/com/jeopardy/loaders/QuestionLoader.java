@@ -1,8 +1,11 @@
 package com.jeopardy.loaders;
 
 import com.jeopardy.model.Question;
+import com.jeopardy.model.QuestionBank;
+import com.jeopardy.model.QuestionStore;
 import java.io.File;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Interface for loading questions from various file formats.
@@ -21,4 +24,41 @@ public interface QuestionLoader {
      * @throws Exception if file reading or parsing fails
      */
     List<Question> load(File file) throws Exception;
-}
\ No newline at end of file
+
+    /**
+     * Streams questions from the specified file to a callback, in file order.
+     * Loaders that can parse incrementally override this so the questions are never all held at once.
+     * 
+     * @param file the file containing question data in supported format
+     * @param action called once per question
+     * @throws Exception if file reading or parsing fails
+     */
+    default void forEach(File file, Consumer<? super Question> action) throws Exception {
+        for (Question q : load(file)) action.accept(q);
+    }
+
+    /**
+     * Loads questions from the specified file into a compact QuestionStore.
+     * Questions are streamed into the store, so the full Question objects are never all held at once.
+     * 
+     * @param file the file containing question data in supported format
+     * @return the store
+     * @throws Exception if file reading or parsing fails
+     */
+    default QuestionStore loadStore(File file) throws Exception {
+        QuestionStore.Builder store = new QuestionStore.Builder();
+        forEach(file, store::add);
+        return store.build();
+    }
+
+    /**
+     * Loads questions from the specified file into an immutable QuestionBank that game sessions can share.
+     * 
+     * @param file the file containing question data in supported format
+     * @return the bank
+     * @throws Exception if file reading or parsing fails
+     */
+    default QuestionBank loadBank(File file) throws Exception {
+        return QuestionBank.of(load(file));
+    }
+}
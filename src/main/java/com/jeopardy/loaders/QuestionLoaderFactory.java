@@ -1,5 +1,7 @@
 package com.jeopardy.loaders; // package declaration
+import com.jeopardy.model.StringPool; // shared repeated strings
 import java.io.File; // import File class
+import java.util.concurrent.ForkJoinPool; // parallel CSV pool
 
 /**
  * Factory class to obtain appropriate QuestionLoader based on file extension.
@@ -10,7 +12,12 @@ import java.io.File; // import File class
 
 // Factory class to get appropriate QuestionLoader based on file extension
 public class QuestionLoaderFactory { // start of factory class
+    /** CSV files larger than this are parsed in parallel by ParallelCsvQuestionLoader. */
+    public static final long PARALLEL_CSV_BYTES = 64L << 20;
     
+    /** System property selecting LazyCsvQuestionLoader for CSV files. */
+    public static final String LAZY_PROPERTY = "jeopardy.load.lazy";
+
     /**
      * Returns the appropriate QuestionLoader implementation based on file extension.
      * 
@@ -19,11 +26,22 @@ public class QuestionLoaderFactory { // start of factory class
      * @throws IllegalArgumentException if the file parameter is null
      */
     
-    public static QuestionLoader getLoader(File file) { // method to get QuestionLoader
+    public static QuestionLoader getLoader(File file) { return getLoader(file, null); }
+
+    /**
+     * Returns the appropriate QuestionLoader implementation, sharing repeated strings through a pool.
+     * 
+     * @param file the question data file to be loaded
+     * @param strings pool shared by every load of the returned loader, or null for one pool per load
+     * @return QuestionLoader instance for the specific file format, or null if format not supported
+     */
+    public static QuestionLoader getLoader(File file, StringPool strings) { // method to get QuestionLoader
         String name = file.getName().toLowerCase(); // get file name in lowercase
-        if (name.endsWith(".csv")) return new CsvQuestionLoader(); // return CSV loader
-        if (name.endsWith(".json")) return new JsonQuestionLoader(); // return JSON loader
-        if (name.endsWith(".xml")) return new XmlQuestionLoader(); // return XML loader
+        if (name.endsWith(".csv") && Boolean.getBoolean(LAZY_PROPERTY)) return new LazyCsvQuestionLoader(LazyCsvQuestionLoader.DEFAULT_CACHE_SIZE, strings); // index now, parse questions when selected
+        if (name.endsWith(".csv")) return file.length() > PARALLEL_CSV_BYTES ? new ParallelCsvQuestionLoader(ForkJoinPool.commonPool(), ParallelCsvQuestionLoader.DEFAULT_CHUNK_BYTES, strings) : new CsvQuestionLoader(strings); // return CSV loader, parallel for large banks
+        if (name.endsWith(".json")) return new JsonQuestionLoader(strings); // return JSON loader
+        if (name.endsWith(".xml")) return new XmlQuestionLoader(strings); // return XML loader
+        if (name.endsWith(".jqb")) return new JqbQuestionLoader(); // return compiled bank loader
         return null; // return null if no matching loader
     } // end of getLoader method
 } // end of factory class
\ No newline at end of file
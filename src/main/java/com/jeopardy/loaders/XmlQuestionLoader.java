@@ -1,17 +1,34 @@
 package com.jeopardy.loaders; // package declaration
 
-import com.fasterxml.jackson.dataformat.xml.XmlMapper; // for XML mapping
-import com.fasterxml.jackson.databind.JsonNode; // for JSON tree nodes
 import com.jeopardy.model.Question; // question model
+import com.jeopardy.model.QuestionBuilder; // question construction
+import com.jeopardy.model.StringPool; // shared repeated strings
 
+import javax.xml.stream.XMLInputFactory; // StAX reader factory
+import javax.xml.stream.XMLStreamConstants; // event types
+import javax.xml.stream.XMLStreamReader; // streaming XML input
+import java.io.BufferedInputStream; // buffered file input
 import java.io.File; // for file representation
+import java.io.FileInputStream; // file input
+import java.io.InputStream; // file input
 import java.util.ArrayList; // for list implementation
+import java.util.Arrays; // slot reset
+import java.util.HashMap; // for alias lookup
 import java.util.List; // for list interface
-import java.util.Map; // for map interface
+import java.util.Locale; // case folding
+import java.util.Map; // for alias lookup
+import java.util.function.Consumer; // streaming callback
  
 /**
  * XML format question loader implementation.
  * Supports multiple XML structures and nested option formats.
+ * The file is read once with a StAX XMLStreamReader. Any element with a Category,
+ * QuestionText or question child (or attribute) is a question, wherever it sits in the document,
+ * so a questions wrapper, a custom root such as JeopardyQuestions, or a bare list all work.
+ * Child elements are matched case-insensitively: category, value, questionText/question,
+ * correctAnswer/answer, and optionA..D or choiceA..D, either directly or inside an Options element.
+ * Only the element path being read is held in memory.
+ * Repeated categories, answers and choices share one String through a StringPool.
  * 
  * @author Group 33
  * @version 1.0
@@ -19,7 +36,40 @@ import java.util.Map; // for map interface
 
 // XML question loader implementation
 public class XmlQuestionLoader implements QuestionLoader { // implement QuestionLoader interface
-    private final XmlMapper xml = new XmlMapper(); // initialize XML object mapper
+    private static final XMLInputFactory FACTORY = newFactory(); // shared reader factory
+
+    // Field slots a child element can fill
+    private static final int CATEGORY = 0, VALUE = 1, TEXT = 2, ANSWER = 3, CHOICE_A = 4; // CHOICE_A..CHOICE_A+3 are the four choices
+    private static final int SLOTS = CHOICE_A + 4; // number of slots
+    /** Lower-case element names of question fields. */
+    private static final Map<String, Integer> FIELDS = new HashMap<>(); // field aliases
+    /** Lower-case element names inside an Options element. */
+    private static final Map<String, Integer> OPTION_FIELDS = new HashMap<>(); // option aliases
+    static { // build alias tables once
+        FIELDS.put("category", CATEGORY); FIELDS.put("value", VALUE); // category and value
+        FIELDS.put("questiontext", TEXT); FIELDS.put("question", TEXT); // question text
+        FIELDS.put("correctanswer", ANSWER); FIELDS.put("answer", ANSWER); // answer
+        for (int i = 0; i < 4; i++) { // per-choice names
+            char letter = (char) ('a' + i); // choice letter
+            FIELDS.put("option" + letter, CHOICE_A + i); FIELDS.put("choice" + letter, CHOICE_A + i); // direct choices
+            OPTION_FIELDS.put("option" + letter, CHOICE_A + i); OPTION_FIELDS.put(String.valueOf(letter), CHOICE_A + i); // nested choices
+        } // end for
+    } // end static block
+    private static final int DIRECT = 1, NESTED = 2; // Options children win over direct choice fields
+
+    private final StringPool strings; // shared pool, or null for one per load
+
+    /**
+     * Creates a loader that pools strings within each loaded file.
+     */
+    public XmlQuestionLoader() { this(null); }
+
+    /**
+     * Creates a loader that pools strings in the given pool.
+     * 
+     * @param strings pool shared by every load, or null for one pool per load
+     */
+    public XmlQuestionLoader(StringPool strings) { this.strings = strings; } // constructor
 
     /**
      * Loads questions from an XML file.
@@ -31,145 +81,113 @@ public class XmlQuestionLoader implements QuestionLoader { // implement Question
      */
 
     @Override // override load method
-    @SuppressWarnings("unchecked")
     public List<Question> load(File file) throws Exception { // load questions from file
         List<Question> out = new ArrayList<>(); // initialize output list
-        try { // try parsing root as list of question maps
-            // Try parsing root as list of question maps
-            List<Map<String, Object>> arr = xml.readValue(file, List.class); // read XML as list of maps
-            for (Map<String, Object> m : arr) { // iterate over each map
-                String category = String.valueOf(m.getOrDefault("category", m.getOrDefault("Category", ""))); // get category from map
-                int value = 0; try { value = Integer.parseInt(String.valueOf(m.getOrDefault("value", m.getOrDefault("Value", "0")))); } catch (Exception ignored) {} // parse value
-                String text = String.valueOf(m.getOrDefault("question", m.getOrDefault("Question", m.getOrDefault("QuestionText", "")))); // get question text
-                String answer = String.valueOf(m.getOrDefault("answer", m.getOrDefault("Answer", m.getOrDefault("CorrectAnswer", "")))); // get answer
-                // choices may be nested under an 'Options' map
-                String a = null, b = null, c = null, d = null; // initialize choices
-                Object opts = m.get("Options"); // get options object
-                if (opts instanceof Map) { // if options is a map
-                    Map<?,?> om = (Map<?,?>) opts; // cast to map
-                    Object oa = om.get("OptionA"); if (oa == null) oa = om.get("optionA"); if (oa == null) oa = om.get("Optiona"); if (oa != null) a = String.valueOf(oa); // get choice A
-                    Object ob = om.get("OptionB"); if (ob == null) ob = om.get("optionB"); if (ob == null) ob = om.get("Optionb"); if (ob != null) b = String.valueOf(ob); // get choice B
-                    Object oc = om.get("OptionC"); if (oc == null) oc = om.get("optionC"); if (oc == null) oc = om.get("Optionc"); if (oc != null) c = String.valueOf(oc); // get choice C
-                    Object od = om.get("OptionD"); if (od == null) od = om.get("optionD"); if (od == null) od = om.get("Optiond"); if (od != null) d = String.valueOf(od); // get choice D
-                } // end if options is a map
-                // or direct choice fields on the map
-                if (a == null) a = (String) m.getOrDefault("choiceA", m.getOrDefault("choicea", m.getOrDefault("OptionA", m.getOrDefault("optionA", null)))); // get choice A
-                if (b == null) b = (String) m.getOrDefault("choiceB", m.getOrDefault("choiceb", m.getOrDefault("OptionB", m.getOrDefault("optionB", null)))); // get choice B
-                if (c == null) c = (String) m.getOrDefault("choiceC", m.getOrDefault("choicec", m.getOrDefault("OptionC", m.getOrDefault("optionC", null)))); // get choice C
-                if (d == null) d = (String) m.getOrDefault("choiceD", m.getOrDefault("choiced", m.getOrDefault("OptionD", m.getOrDefault("optionD", null)))); // get choice D
-
-                out.add(new com.jeopardy.model.QuestionBuilder() // build question
-                        .category(category) // set category
-                        .value(value) // set value
-                        .text(text) // set question text
-                        .answer(answer) // set answer
-                        .choiceA(a) // set choice A
-                        .choiceB(b) // set choice B
-                        .choiceC(c) // set choice C
-                        .choiceD(d) // set choice D
-                        .build()); // build and add to list
-            } // end for
-            return out; // return list of questions
-        } catch (Exception ex) { // if parsing as list fails
-            // fallback: try wrapper object with field 'questions'
-            Map<String, Object> wrapper = xml.readValue(file, Map.class); // read XML as map
-            Object maybe = wrapper.get("questions"); // get 'questions' field
-            if (maybe instanceof List) { // if 'questions' is a list
-                List<Map<String, Object>> arr = (List<Map<String, Object>>) maybe; // cast to list of maps
-                for (Map<String, Object> m : arr) { // iterate over each map
-                    String category = String.valueOf(m.getOrDefault("category", m.getOrDefault("Category", ""))); // get category
-                    int value = 0; try { value = Integer.parseInt(String.valueOf(m.getOrDefault("value", m.getOrDefault("Value", "0")))); } catch (Exception ignored) {} // parse value
-                    String text = String.valueOf(m.getOrDefault("question", m.getOrDefault("Question", m.getOrDefault("QuestionText", "")))); // get question text
-                    String answer = String.valueOf(m.getOrDefault("answer", m.getOrDefault("Answer", m.getOrDefault("CorrectAnswer", "")))); // get answer
-                    out.add(new com.jeopardy.model.QuestionBuilder() // build question
-                            .category(category) // set category
-                            .value(value) // set value
-                            .text(text) // set question text
-                            .answer(answer) // set answer
-                            .choiceA((String)m.getOrDefault("choiceA", m.getOrDefault("choicea", m.getOrDefault("OptionA", m.getOrDefault("optionA", null))))) // set choice A
-                            .choiceB((String)m.getOrDefault("choiceB", m.getOrDefault("choiceb", m.getOrDefault("OptionB", m.getOrDefault("optionB", null))))) // set choice B
-                            .choiceC((String)m.getOrDefault("choiceC", m.getOrDefault("choicec", m.getOrDefault("OptionC", m.getOrDefault("optionC", null))))) // set choice C
-                            .choiceD((String)m.getOrDefault("choiceD", m.getOrDefault("choiced", m.getOrDefault("OptionD", m.getOrDefault("optionD", null))))) // set choice D
-                            .build()); // build and add to list
-                } // end for
-            } // end if 'questions' is a list
-            // Additional fallback: use tree parsing to find nodes with Category/QuestionText structure (handles sample_game_XML.xml)
-            try {
-                JsonNode root = xml.readTree(file); // read XML as tree
-                List<JsonNode> found = new ArrayList<>(); // initialize list for found nodes
-                collectQuestionNodes(root, found); // collect question nodes
-                for (JsonNode node : found) { // iterate over found nodes
-                    String category = firstText(node, "Category", "category");  // get category
-                    String text = firstText(node, "QuestionText", "QuestionText", "question", "Question", "questionText"); // get question text
-                    String answer = firstText(node, "CorrectAnswer", "Correctanswer", "correctAnswer", "answer", "Answer"); // get answer
-                    String a = null, b = null, c = null, d = null; // initialize choices
-                    // Options may be nested under 'Options' -> 'OptionA' etc.
-                    JsonNode opts = node.get("Options"); // get options node
-                    if (opts == null) opts = node.get("options"); // try lowercase 'options'
-                    if (opts != null && opts.isObject()) { // if options node is an object
-                        a = firstText(opts, "OptionA", "optionA", "Optiona", "optiona"); // get choice A
-                        b = firstText(opts, "OptionB", "optionB", "Optionb", "optionb"); // get choice B
-                        c = firstText(opts, "OptionC", "optionC", "Optionc", "optionc"); // get choice C
-                        d = firstText(opts, "OptionD", "optionD", "Optiond", "optiond"); // get choice D
-                    } // end if options node is an object
-                    // or direct OptionA fields on the node
-                    if (a == null) a = firstText(node, "OptionA", "optionA", "optiona", "Optiona"); // get choice A
-                    if (b == null) b = firstText(node, "OptionB", "optionB", "optionb", "Optionb"); // get choice B
-                    if (c == null) c = firstText(node, "OptionC", "optionC", "optionc", "Optionc"); // get choice C
-                    if (d == null) d = firstText(node, "OptionD", "optionD", "optiond", "Optiond"); // get choice D
-
-                    int value = 0; try { value = Integer.parseInt(firstText(node, "Value", "value", "Value")); } catch (Exception ignored) {} // parse value
-                    out.add(new com.jeopardy.model.QuestionBuilder() // build question
-                            .category(category == null ? "" : category) // set category
-                            .value(value) // set value
-                            .text(text == null ? "" : text) // set text
-                            .answer(answer == null ? "" : answer) // set answer
-                            .choiceA(a) // set choice A
-                            .choiceB(b) // set choice B
-                            .choiceC(c) // set choice C
-                            .choiceD(d) // set choice D
-                            .build()); // build and add to list
-                } // end for
-            } catch (Exception ignore) { 
-                // if tree parsing fails, ignore
-            } // end catch
-        } // end catch
+        forEach(file, out::add); // collect streamed questions
         return out; // return list of questions
     } // end load method
 
     /**
-     * Recursively collects question nodes from the XML tree.
-     * A question node is identified by the presence of Category and QuestionText fields.
-     * @param node the current JSON node being inspected
-     * @param out the list to collect question nodes into
+     * Streams questions from an XML file to a callback in a single pass.
+     * 
+     * @param file the XML file to load questions from
+     * @param action called once per question, in document order of the question's end tag
+     * @throws Exception if file reading or parsing fails
      */
+    @Override // streaming load
+    public void forEach(File file, Consumer<? super Question> action) throws Exception { // stream to callback
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file), 64 * 1024)) { // file input
+            XMLStreamReader r = FACTORY.createXMLStreamReader(in); // StAX reader
+            try { // walk events
+                List<Frame> stack = new ArrayList<>(); // open elements, reused across the document
+                int depth = 0; // open element count
+                StringPool pool = CsvQuestionLoader.pool(strings); // pool for this load
+                while (r.hasNext()) { // every event
+                    switch (r.next()) { // dispatch event
+                        case XMLStreamConstants.START_ELEMENT: { // open element
+                            if (depth == stack.size()) stack.add(new Frame()); // grow stack
+                            Frame f = stack.get(depth++); // frame for this element
+                            f.reset(r.getLocalName().toLowerCase(Locale.ROOT)); // start fresh
+                            if (depth > 1) stack.get(depth - 2).hasChildren = true; // parent is a container
+                            for (int i = 0; i < r.getAttributeCount(); i++) f.field(r.getAttributeLocalName(i).toLowerCase(Locale.ROOT), r.getAttributeValue(i)); // attributes act as fields
+                            break;
+                        }
+                        case XMLStreamConstants.CHARACTERS:
+                        case XMLStreamConstants.CDATA:
+                        case XMLStreamConstants.SPACE:
+                            if (depth > 0) stack.get(depth - 1).text.append(r.getTextCharacters(), r.getTextStart(), r.getTextLength()); // element text
+                            break;
+                        case XMLStreamConstants.END_ELEMENT: { // close element
+                            Frame f = stack.get(--depth); // closing frame
+                            Frame parent = depth > 0 ? stack.get(depth - 1) : null; // enclosing element
+                            if (!f.hasChildren) { // leaf: a field of its parent
+                                if (parent == null) break; // lone root element
+                                if (parent.name.equals("options") && depth > 1) { Integer slot = OPTION_FIELDS.get(f.name); if (slot != null) stack.get(depth - 2).put(slot, NESTED, f.text.toString()); } // nested choice
+                                else parent.field(f.name, f.text.toString()); // question field
+                            } else if (f.question && !f.name.equals("options")) { // container with question fields
+                                action.accept(f.build(pool)); // emit question
+                            } // end if
+                            break;
+                        }
+                        default:
+                            break; // comments, processing instructions, ...
+                    } // end switch
+                } // end while
+            } finally { // release parser
+                r.close(); // close reader (stream closed by try)
+            } // end try
+        } // end try
+    } // end forEach method
 
-    private static void collectQuestionNodes(JsonNode node, List<JsonNode> out) { // recursively collect question nodes
-        if (node == null) return; // return if node is null
-        if (node.isObject()) { // if node is an object
-            if (node.has("Category") || node.has("category") || node.has("QuestionText") || node.has("question") || node.has("Question")) { // check for question indicators
-                out.add(node); // add node to output list
-                return; // return after adding
-            } // end if question indicators
-            node.fields().forEachRemaining(e -> collectQuestionNodes(e.getValue(), out)); // recurse into fields
-        } else if (node.isArray()) { // if node is an array
-            for (JsonNode el : node) collectQuestionNodes(el, out); // recurse into array elements
-        } // end else if
-    } // end collectQuestionNodes method
+    /**
+     * Creates a reader factory that coalesces text and never resolves DTDs or external entities.
+     * 
+     * @return the factory
+     */
+    private static XMLInputFactory newFactory() { // configure StAX
+        XMLInputFactory f = XMLInputFactory.newInstance(); // default implementation
+        f.setProperty(XMLInputFactory.SUPPORT_DTD, false); // no DTDs
+        f.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false); // no external entities
+        f.setProperty(XMLInputFactory.IS_COALESCING, true); // one text event per run of text
+        return f; // configured factory
+    } // end newFactory method
 
     /**
-     * Gets the first non-null text value for the given keys from the JsonNode.
-     * @param node the JSON node to search
-     * @param keys the keys to search for in order
-     * @return the first found text value, or null if none found
+     * State of one open element: its text and the question fields its children supplied.
      */
+    private static final class Frame { // element frame
+        String name; // lower-case local name
+        final StringBuilder text = new StringBuilder(); // element text
+        final String[] slots = new String[SLOTS]; // question fields
+        final int[] priority = new int[SLOTS]; // source of each field
+        boolean hasChildren; // element contains elements
+        boolean question; // a question indicator was seen
 
-    private static String firstText(JsonNode node, String... keys) { // get first non-null text for given keys
-        if (node == null) return null; // return null if node is null
-        for (String k : keys) { // iterate over keys
-            JsonNode v = node.get(k); // get value for key
-            if (v != null && !v.isMissingNode()) return v.asText(); // return text if found
-        } // end for
-        return null; // return null if none found
-    } // end firstText method
-} // end class
\ No newline at end of file
+        void reset(String name) { this.name = name; text.setLength(0); Arrays.fill(slots, null); Arrays.fill(priority, 0); hasChildren = false; question = false; } // reuse frame
+
+        void field(String child, String value) { // record a child field
+            Integer slot = FIELDS.get(child); // resolve alias
+            if (slot == null) return; // not a question field
+            if (slot == CATEGORY || slot == TEXT) question = true; // Category, QuestionText or question mark a question
+            put(slot, DIRECT, value); // store field
+        } // end field method
+
+        void put(int slot, int prio, String value) { if (prio > priority[slot]) { slots[slot] = value; priority[slot] = prio; } } // first value from the strongest source wins
+
+        Question build(StringPool pool) { // question from fields
+            int value = 0; // initialize value
+            try { value = Integer.parseInt(slots[VALUE] != null ? slots[VALUE].trim() : "0"); } catch (Exception ignored) {} // parse value
+            return new QuestionBuilder() // build question
+                .pool(pool) // share repeated strings
+                .category(slots[CATEGORY] != null ? slots[CATEGORY] : "") // set category
+                .value(value) // set value
+                .text(slots[TEXT] != null ? slots[TEXT] : "") // set text
+                .answer(slots[ANSWER] != null ? slots[ANSWER] : "") // set answer
+                .choiceA(slots[CHOICE_A]) // set choice A
+                .choiceB(slots[CHOICE_A + 1]) // set choice B
+                .choiceC(slots[CHOICE_A + 2]) // set choice C
+                .choiceD(slots[CHOICE_A + 3]) // set choice D
+                .build(); // build question
+        } // end build method
+    } // end Frame class
+} // end class
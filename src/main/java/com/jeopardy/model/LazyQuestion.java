@@ -0,0 +1,130 @@
+package com.jeopardy.model; // package declaration
+
+import java.util.function.Supplier; // body source
+
+/**
+ * Question whose category and value are held directly but whose id, text, answer and
+ * choices are fetched from a Body each time they are read (for example decoded from a
+ * memory-mapped question bank). Each getter reads only its own field, and the body is never
+ * retained, so a board of lazy questions costs little more than its categories and values.
+ * Calling any body setter detaches the question: the current body is copied into this
+ * object once and later reads and writes use the copy.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class LazyQuestion extends Question { // start of LazyQuestion class
+    private volatile Body body; // body source, null once detached
+
+    /**
+     * Source of the body fields of one question, each read on its own.
+     */
+    public interface Body { // start of Body interface
+        /**
+         * Reads the question id.
+         * 
+         * @return the id
+         */
+        String id();
+
+        /**
+         * Reads the question text.
+         * 
+         * @return the text
+         */
+        String text();
+
+        /**
+         * Reads the correct answer.
+         * 
+         * @return the answer
+         */
+        String answer();
+
+        /**
+         * Reads one choice.
+         * 
+         * @param choice 0 to 3 for A to D
+         * @return the choice text, or null
+         */
+        String choice(int choice);
+    } // end Body interface
+
+    /**
+     * Creates a lazy question whose fields are read one at a time.
+     * 
+     * @param category the question category
+     * @param value the point value of the question
+     * @param body reads the id, text, answer and choices
+     * @throws IllegalArgumentException if body is null
+     */
+    public LazyQuestion(String category, int value, Body body) { // start of constructor
+        super(null, category, value, null, null); // body fields stay empty until detached
+        if (body == null) throw new IllegalArgumentException("Body cannot be null"); // validate
+        this.body = body; // assign body source
+    } // end of constructor
+
+    /**
+     * Creates a lazy question from a supplier of whole bodies, for sources that can only
+     * produce every field at once (and should cache what they produce).
+     * 
+     * @param category the question category
+     * @param value the point value of the question
+     * @param body supplies a question holding the id, text, answer and choices
+     * @throws IllegalArgumentException if body is null
+     */
+    public LazyQuestion(String category, int value, Supplier<? extends Question> body) { // start of constructor
+        this(category, value, whole(body)); // adapt supplier
+    } // end of constructor
+
+    /**
+     * Checks whether the question has its own copy of the body.
+     * 
+     * @return true once a body setter has been called
+     */
+    public boolean isDetached() { return body == null; }
+
+    @Override public String getId() { Body b = body; return b == null ? super.getId() : b.id(); }
+    @Override public String getText() { Body b = body; return b == null ? super.getText() : b.text(); }
+    @Override public String getAnswer() { Body b = body; return b == null ? super.getAnswer() : b.answer(); }
+    @Override public String getChoiceA() { Body b = body; return b == null ? super.getChoiceA() : b.choice(0); }
+    @Override public String getChoiceB() { Body b = body; return b == null ? super.getChoiceB() : b.choice(1); }
+    @Override public String getChoiceC() { Body b = body; return b == null ? super.getChoiceC() : b.choice(2); }
+    @Override public String getChoiceD() { Body b = body; return b == null ? super.getChoiceD() : b.choice(3); }
+
+    @Override public void setId(String id) { detach(); super.setId(id); }
+    @Override public void setText(String text) { detach(); super.setText(text); }
+    @Override public void setAnswer(String answer) { detach(); super.setAnswer(answer); }
+    @Override public void setChoiceA(String choiceA) { detach(); super.setChoiceA(choiceA); }
+    @Override public void setChoiceB(String choiceB) { detach(); super.setChoiceB(choiceB); }
+    @Override public void setChoiceC(String choiceC) { detach(); super.setChoiceC(choiceC); }
+    @Override public void setChoiceD(String choiceD) { detach(); super.setChoiceD(choiceD); }
+
+    /**
+     * Copies the body into this object and stops using the supplier.
+     */
+    private synchronized void detach() { // take a private copy
+        Body b = body; // current source
+        if (b == null) return; // already detached
+        super.setId(b.id()); super.setText(b.text()); super.setAnswer(b.answer()); // copy text fields
+        super.setChoiceA(b.choice(0)); super.setChoiceB(b.choice(1)); super.setChoiceC(b.choice(2)); super.setChoiceD(b.choice(3)); // copy choices
+        body = null; // publish the copy
+    } // end detach method
+
+    /**
+     * Adapts a supplier of whole bodies to a Body.
+     * 
+     * @param body supplies a question holding the body fields
+     * @return a Body reading each field from a supplied question
+     * @throws IllegalArgumentException if body is null
+     */
+    private static Body whole(Supplier<? extends Question> body) { // supplier adapter
+        if (body == null) throw new IllegalArgumentException("Body supplier cannot be null"); // validate
+        return new Body() { // reads through the supplier
+            @Override public String id() { return body.get().getId(); }
+            @Override public String text() { return body.get().getText(); }
+            @Override public String answer() { return body.get().getAnswer(); }
+            @Override public String choice(int choice) { return body.get().getChoiceByLetter(String.valueOf((char) ('A' + choice))); }
+        }; // end Body
+    } // end whole method
+} // end of LazyQuestion class
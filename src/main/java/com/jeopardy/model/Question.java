@@ -171,10 +171,10 @@ public class Question { // start of Question class
     public String getChoiceByLetter(String letter) {
         if (letter == null) return null;
         switch (letter.trim().toUpperCase()) {
-            case "A": return choiceA;
-            case "B": return choiceB;
-            case "C": return choiceC;
-            case "D": return choiceD;
+            case "A": return getChoiceA();
+            case "B": return getChoiceB();
+            case "C": return getChoiceC();
+            case "D": return getChoiceD();
             default: return null;
         }
     }
@@ -0,0 +1,222 @@
+package com.jeopardy.model; // package declaration
+
+import java.util.ArrayList; // construction
+import java.util.Arrays; // value search
+import java.util.Collections; // read-only views
+import java.util.HashMap; // category lookup
+import java.util.LinkedHashMap; // board order
+import java.util.List; // list interface
+import java.util.Map; // category lookup
+import java.util.TreeMap; // values in ascending order
+import java.util.concurrent.atomic.AtomicReferenceArray; // cell questions created on first use
+import java.util.function.IntFunction; // cell question source
+
+/**
+ * Immutable game board built once from loaded questions and shared by any number of game
+ * sessions and threads. The board is a list of cells ordered by category (in first-appearance
+ * order) and then by ascending value; where the source repeats a category and value, the last
+ * question wins, as the board always kept. Cell numbers, category numbers and the category and
+ * value lists are all fixed when the bank is built, so lookups never allocate. The questions are
+ * handed out as read-only views, created once per cell on first use, whose setters throw, and
+ * sessions track which cells were asked themselves (GameEngine uses a BitSet over cell numbers).
+ * A bank can also be built from a prepared layout (as JqbBank does from its value index), in which
+ * case no question object exists until its cell is first read.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public final class QuestionBank { // start of QuestionBank class
+    private final String[] categories; // category names in board order
+    private final List<String> categoryView; // read-only category names
+    private final List<List<Integer>> valueViews; // read-only values of each category
+    private final Map<String, Integer> categoryIndex; // name to category number
+    private final int[] firstCell; // first cell of each category, plus the end
+    private final int[] values; // value of each cell
+    private final IntFunction<? extends Question> source; // loaded question of each cell
+    private final AtomicReferenceArray<Question> questions; // read-only view of each cell, set on first use
+
+    private QuestionBank(String[] categories, int[] firstCell, int[] values, IntFunction<? extends Question> source) { // fixed layout
+        this.categories = categories; this.firstCell = firstCell; this.values = values; this.source = source; // layout
+        questions = new AtomicReferenceArray<>(values.length); // no views yet
+        Map<String, Integer> index = new HashMap<>(); // lookup
+        for (int c = 0; c < categories.length; c++) index.put(categories[c], c); // category numbers
+        categoryView = List.of(categories); // fixed, immutable list
+        List<List<Integer>> views = new ArrayList<>(categories.length); // per category
+        for (int k = 0; k < categories.length; k++) { // each category
+            Integer[] vs = new Integer[firstCell[k + 1] - firstCell[k]]; // boxed once here
+            for (int i = 0; i < vs.length; i++) vs[i] = values[firstCell[k] + i]; // ascending values
+            views.add(List.of(vs)); // fixed view
+        } // end for
+        valueViews = List.copyOf(views); // freeze
+        categoryIndex = Collections.unmodifiableMap(index); // freeze
+    } // end constructor
+
+    /**
+     * Builds a bank from questions in load order.
+     * 
+     * @param questions the loaded questions
+     * @return the bank
+     */
+    public static QuestionBank of(List<? extends Question> questions) { // build bank
+        Map<String, TreeMap<Integer, Question>> board = new LinkedHashMap<>(); // category -> (value -> question)
+        for (Question q : questions) board.computeIfAbsent(q.getCategory(), k -> new TreeMap<>()).put(q.getValue(), q); // last duplicate wins
+        int cells = 0; // cell count
+        for (TreeMap<Integer, Question> m : board.values()) cells += m.size(); // count cells
+        String[] categories = board.keySet().toArray(new String[0]); // names
+        int[] firstCell = new int[categories.length + 1], values = new int[cells]; Question[] cellQuestions = new Question[cells]; // layout
+        int c = 0, cell = 0; // cursors
+        for (TreeMap<Integer, Question> m : board.values()) { // each category
+            firstCell[c++] = cell; // category start
+            for (Map.Entry<Integer, Question> e : m.entrySet()) { values[cell] = e.getKey(); cellQuestions[cell++] = e.getValue(); } // cells
+        } // end for
+        firstCell[c] = cell; // end of last category
+        return new QuestionBank(categories, firstCell, values, k -> cellQuestions[k]); // freeze
+    } // end of method
+
+    /**
+     * Builds a bank from a prepared layout without touching any question. The question of a cell
+     * is requested from the source the first time the cell is read.
+     * 
+     * @param categories distinct category names in board order
+     * @param firstCell first cell of each category, plus the end (so one longer than categories)
+     * @param values value of each cell, strictly ascending within a category
+     * @param source gives the loaded question of a cell
+     * @return the bank
+     * @throws IllegalArgumentException if the layout is inconsistent
+     */
+    public static QuestionBank of(String[] categories, int[] firstCell, int[] values, IntFunction<? extends Question> source) { // build from layout
+        if (categories == null || firstCell == null || values == null || source == null) throw new IllegalArgumentException("Board layout cannot be null"); // validate
+        if (firstCell.length != categories.length + 1 || firstCell[0] != 0 || firstCell[categories.length] != values.length) throw new IllegalArgumentException("Cell ranges do not match the categories"); // validate ranges
+        return new QuestionBank(categories.clone(), firstCell.clone(), values.clone(), source); // freeze
+    } // end of method
+
+    /**
+     * Gets the number of cells (questions on the board).
+     * 
+     * @return cell count
+     */
+    public int size() { return values.length; }
+
+    /**
+     * Gets the categories in board order.
+     * 
+     * @return category names
+     */
+    public List<String> categories() { return categoryView; }
+
+    /**
+     * Gets the number of a category.
+     * 
+     * @param category the category name
+     * @return its number, or -1 if it is not on the board
+     */
+    public int categoryIndex(String category) { Integer c = category == null ? null : categoryIndex.get(category); return c == null ? -1 : c; }
+
+    /**
+     * Gets the first cell of a category.
+     * 
+     * @param category category number
+     * @return cell number
+     */
+    public int firstCell(int category) { return firstCell[category]; }
+
+    /**
+     * Gets the cell after the last cell of a category.
+     * 
+     * @param category category number
+     * @return cell number
+     */
+    public int endCell(int category) { return firstCell[category + 1]; }
+
+    /**
+     * Finds the cell of a category and value.
+     * 
+     * @param category the category name
+     * @param value the question value
+     * @return the cell number, or -1 if there is no such question
+     */
+    public int cell(String category, int value) { return cell(categoryIndex(category), value); }
+
+    /**
+     * Finds the cell of a category number and value.
+     * 
+     * @param category the category number, or -1
+     * @param value the question value
+     * @return the cell number, or -1 if there is no such question
+     */
+    public int cell(int category, int value) { // lookup
+        if (category < 0 || category >= categories.length) return -1; // unknown category
+        int i = Arrays.binarySearch(values, firstCell[category], firstCell[category + 1], value); // values ascend within a category
+        return i < 0 ? -1 : i; // cell
+    } // end cell method
+
+    /**
+     * Gets the value of a cell.
+     * 
+     * @param cell cell number
+     * @return question value
+     */
+    public int value(int cell) { return values[cell]; }
+
+    /**
+     * Gets the question of a cell.
+     * 
+     * @param cell cell number
+     * @return a read-only view of the question; its setters throw UnsupportedOperationException
+     */
+    public Question question(int cell) { // cell view
+        Question q = questions.get(cell); // existing view
+        if (q != null) return q; // common case
+        Question loaded = source.apply(cell); // loaded question
+        questions.compareAndSet(cell, null, new ReadOnlyQuestion(loaded.getCategory(), values[cell], loaded)); // first reader publishes
+        return questions.get(cell); // same view for every reader
+    } // end question method
+
+    /**
+     * Gets the values of a category in ascending order.
+     * 
+     * @param category the category name
+     * @return its read-only values, empty if the category is unknown
+     */
+    public List<Integer> values(String category) { int c = categoryIndex(category); return c < 0 ? List.of() : valueViews.get(c); }
+
+    /**
+     * Gets the values of a category number in ascending order.
+     * 
+     * @param category category number
+     * @return its read-only values
+     */
+    public List<Integer> values(int category) { return valueViews.get(category); }
+
+    /**
+     * Read-only view of a board question. Category and value are fixed at build time; the other
+     * fields are read from the source question, so lazily decoded questions stay lazy.
+     */
+    private static final class ReadOnlyQuestion extends Question { // start of ReadOnlyQuestion class
+        private final Question source; // loaded question
+
+        ReadOnlyQuestion(String category, int value, Question source) { super(null, category, value, null, null); this.source = source; } // constructor
+
+        @Override public String getId() { return source.getId(); }
+        @Override public String getText() { return source.getText(); }
+        @Override public String getAnswer() { return source.getAnswer(); }
+        @Override public String getChoiceA() { return source.getChoiceA(); }
+        @Override public String getChoiceB() { return source.getChoiceB(); }
+        @Override public String getChoiceC() { return source.getChoiceC(); }
+        @Override public String getChoiceD() { return source.getChoiceD(); }
+        @Override public boolean isAsked() { return source.isAsked(); }
+
+        @Override public void setId(String id) { throw readOnly(); }
+        @Override public void setCategory(String category) { throw readOnly(); }
+        @Override public void setValue(int value) { throw readOnly(); }
+        @Override public void setText(String text) { throw readOnly(); }
+        @Override public void setAnswer(String answer) { throw readOnly(); }
+        @Override public void setChoiceA(String choiceA) { throw readOnly(); }
+        @Override public void setChoiceB(String choiceB) { throw readOnly(); }
+        @Override public void setChoiceC(String choiceC) { throw readOnly(); }
+        @Override public void setChoiceD(String choiceD) { throw readOnly(); }
+        @Override public void setAsked(boolean asked) { throw readOnly(); }
+
+        private static UnsupportedOperationException readOnly() { return new UnsupportedOperationException("Board questions are read-only"); }
+    } // end ReadOnlyQuestion class
+} // end of QuestionBank class
@@ -1,7 +1,5 @@
 package com.jeopardy.model; // package declaration
 
-import java.util.UUID; // import UUID class for unique ID generation
-
 /**
  * Builder class for constructing Question objects step by step.
  * Implements the Builder design pattern for flexible question creation.
@@ -11,7 +9,7 @@ import java.util.UUID; // import UUID class for unique ID generation
  */
 public class QuestionBuilder { // start of QuestionBuilder class
     // fields for Question properties
-    private String id = UUID.randomUUID().toString(); // unique question ID
+    private String id; // question ID, a new QuestionIds id if never set
     private String category = ""; // question category
     private int value = 0; // question value
     private String text = ""; // question text
@@ -20,6 +18,7 @@ public class QuestionBuilder { // start of QuestionBuilder class
     private String choiceB = ""; // choice B
     private String choiceC = ""; // choice C
     private String choiceD = ""; // choice D
+    private StringPool pool; // optional pool for repeated strings
 
     /**
      * Sets the question identifier.
@@ -93,17 +92,35 @@ public class QuestionBuilder { // start of QuestionBuilder class
      */
     public QuestionBuilder choiceD(String choiceD) { this.choiceD = choiceD; return this; }
 
+    /**
+     * Sets a string pool shared by the questions of a bank. The category, answer and choices
+     * of built questions are taken from the pool, since those repeat across rows; ids and
+     * question text are almost always unique and are left as they are.
+     * 
+     * @param pool the pool, or null for none
+     * @return this builder for method chaining
+     */
+    public QuestionBuilder pool(StringPool pool) { this.pool = pool; return this; }
+
     /**
      * Builds and returns the Question object with all set properties.
      * 
      * @return the constructed Question object
      */
     public Question build() { // start of build method
-        Question q = new Question(id, category, value, text, answer); // create new Question object
-        q.setChoiceA(choiceA); // set choice A
-        q.setChoiceB(choiceB); // set choice B
-        q.setChoiceC(choiceC); // set choice C
-        q.setChoiceD(choiceD); // set choice D
+        Question q = new Question(id != null ? id : QuestionIds.format(QuestionIds.next()), pooled(category), value, text, pooled(answer)); // create new Question object
+        q.setChoiceA(pooled(choiceA)); // set choice A
+        q.setChoiceB(pooled(choiceB)); // set choice B
+        q.setChoiceC(pooled(choiceC)); // set choice C
+        q.setChoiceD(pooled(choiceD)); // set choice D
         return q; // return constructed Question
     } // end of build method
+
+    /**
+     * Takes a string from the pool when one is set.
+     * 
+     * @param s the string
+     * @return the pooled string, or s
+     */
+    private String pooled(String s) { return pool == null ? s : pool.intern(s); }
 } // end of QuestionBuilder class
@@ -0,0 +1,57 @@
+package com.jeopardy.model; // package declaration
+
+import java.util.concurrent.ThreadLocalRandom; // process prefix
+import java.util.concurrent.atomic.AtomicLong; // id counter
+
+/**
+ * Cheap unique question ids: 64-bit numbers whose top 24 bits are chosen at random when the
+ * class loads and whose low 40 bits count up, shown as 16 hex digits. Unlike UUID.randomUUID
+ * this needs no SecureRandom and no allocation beyond the id's own String, and ids from
+ * different game processes are still unlikely to collide.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public final class QuestionIds { // start of QuestionIds class
+    private static final AtomicLong NEXT = new AtomicLong(ThreadLocalRandom.current().nextLong() << 40); // process prefix, counter at zero
+
+    private QuestionIds() {} // static utility
+
+    /**
+     * Reserves a block of consecutive ids.
+     * 
+     * @param count ids to reserve
+     * @return the first id of the block
+     */
+    public static long reserve(int count) { return NEXT.getAndAdd(count); }
+
+    /**
+     * Gets the next id.
+     * 
+     * @return a new id
+     */
+    public static long next() { return NEXT.getAndIncrement(); }
+
+    /**
+     * Formats an id as 16 hex digits.
+     * 
+     * @param id the id
+     * @return its text form
+     */
+    public static String format(long id) { // fixed-width hex
+        String hex = Long.toHexString(id); // digits
+        return hex.length() == 16 ? hex : "0000000000000000".substring(hex.length()) + hex; // pad
+    } // end format method
+
+    /**
+     * Parses an id in the format produced by format.
+     * 
+     * @param id text form
+     * @return the id, or null if the text is not a formatted id
+     */
+    public static Long parse(String id) { // inverse of format
+        if (id == null || id.length() != 16) return null; // wrong shape
+        for (int i = 0; i < 16; i++) { char c = id.charAt(i); if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) return null; } // hex digits only
+        return Long.parseUnsignedLong(id, 16); // value
+    } // end parse method
+} // end of QuestionIds class
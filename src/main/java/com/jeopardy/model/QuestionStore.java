@@ -0,0 +1,306 @@
+package com.jeopardy.model; // package declaration
+
+import java.nio.ByteBuffer; // text area, on or off the heap
+import java.nio.IntBuffer; // string offsets, on or off the heap
+import java.nio.charset.StandardCharsets; // UTF-8 text
+import java.util.AbstractList; // list view
+import java.util.ArrayList; // category names
+import java.util.Arrays; // array growth
+import java.util.Collections; // read-only views
+import java.util.HashMap; // category ids, foreign ids
+import java.util.List; // list interface
+import java.util.Map; // category ids, foreign ids
+
+/**
+ * Compact, immutable store for large question banks, laid out as parallel arrays instead
+ * of one object per question: an int category id and int value per question, a 64-bit id
+ * (see QuestionIds), and the text, answer and four choices as UTF-8 in one shared byte array
+ * addressed by int offsets. A question costs about 41 bytes plus its UTF-8 text, against
+ * roughly a dozen objects for a Question with its Strings.
+ * <p>
+ * Built with {@link Builder#offHeap(boolean) offHeap(true)} (or -Djeopardy.store.offHeap=true),
+ * the text area and string offsets live in direct buffers outside the Java heap, so even a very
+ * large bank adds almost nothing to the heap the collector has to manage; the memory is freed
+ * when the store becomes unreachable.
+ * <p>
+ * get returns a LazyQuestion view for callers that need a Question; each string is decoded
+ * from the store on its own each time it is read, and only its asked flag (or edits, which detach it)
+ * is held by the view. Build a store with a Builder.
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public final class QuestionStore { // start of QuestionStore class
+    /** System property making stores off-heap by default and GameEngine load its board through one. */
+    public static final String OFF_HEAP_PROPERTY = "jeopardy.store.offHeap";
+    private static final int STRINGS = 6; // text, answer, choices A-D
+    private static final int TEXT = 0, ANSWER = 1, CHOICE_A = 2; // string slots
+
+    private final String[] categoryNames; // category id to name
+    private final int[] categories; // category id per question
+    private final int[] values; // value per question
+    private final long[] ids; // id per question
+    private final Map<Integer, String> foreignIds; // ids that are not QuestionIds, by question
+    private final ByteBuffer text; // UTF-8 of every string
+    private final IntBuffer starts; // start of each string slot, plus the end of the last
+    private final byte[] nulls; // bit per string slot that was null
+    private final int size; // question count
+
+    private QuestionStore(Builder b) { // use Builder
+        size = b.size; // question count
+        categoryNames = b.names.toArray(new String[0]); // names
+        categories = Arrays.copyOf(b.categories, size); values = Arrays.copyOf(b.values, size); ids = Arrays.copyOf(b.ids, size); // fixed fields
+        foreignIds = b.foreignIds.isEmpty() ? Collections.emptyMap() : new HashMap<>(b.foreignIds); // rare string ids
+        nulls = Arrays.copyOf(b.nulls, size); // null bits
+        if (b.offHeap) { // copy strings out of the heap
+            text = ByteBuffer.allocateDirect(b.textLength).put(b.text, 0, b.textLength).flip(); // text area
+            starts = ByteBuffer.allocateDirect(4 * (size * STRINGS + 1)).asIntBuffer().put(b.starts, 0, size * STRINGS + 1).flip(); // offsets
+        } else { // trimmed heap arrays
+            text = ByteBuffer.wrap(Arrays.copyOf(b.text, b.textLength)); // text area
+            starts = IntBuffer.wrap(Arrays.copyOf(b.starts, size * STRINGS + 1)); // offsets
+        } // end if
+    } // end constructor
+
+    /**
+     * Gets the number of questions.
+     * 
+     * @return question count
+     */
+    public int size() { return size; }
+
+    /**
+     * Gets the category names in id order (first-appearance order).
+     * 
+     * @return category names
+     */
+    public List<String> categories() { return Collections.unmodifiableList(Arrays.asList(categoryNames)); }
+
+    /**
+     * Gets a question's category id.
+     * 
+     * @param i question index
+     * @return index into categories()
+     */
+    public int categoryId(int i) { check(i); return categories[i]; }
+
+    /**
+     * Gets a question's category.
+     * 
+     * @param i question index
+     * @return category name
+     */
+    public String category(int i) { check(i); return categoryNames[categories[i]]; }
+
+    /**
+     * Gets a question's value.
+     * 
+     * @param i question index
+     * @return point value
+     */
+    public int value(int i) { check(i); return values[i]; }
+
+    /**
+     * Gets a question's id.
+     * 
+     * @param i question index
+     * @return the id text
+     */
+    public String id(int i) { check(i); String foreign = foreignIds.get(i); return foreign != null ? foreign : QuestionIds.format(ids[i]); }
+
+    /**
+     * Gets a question's text.
+     * 
+     * @param i question index
+     * @return question text
+     */
+    public String text(int i) { return string(i, TEXT); }
+
+    /**
+     * Gets a question's answer.
+     * 
+     * @param i question index
+     * @return correct answer
+     */
+    public String answer(int i) { return string(i, ANSWER); }
+
+    /**
+     * Gets one of a question's choices.
+     * 
+     * @param i question index
+     * @param choice 0 to 3 for A to D
+     * @return choice text, or null
+     */
+    public String choice(int i, int choice) { // choice by number
+        if (choice < 0 || choice > 3) throw new IllegalArgumentException("Choice must be 0-3: " + choice); // validate
+        return string(i, CHOICE_A + choice); // decode
+    } // end choice method
+
+    /**
+     * Gets a Question view of one entry.
+     * 
+     * @param i question index
+     * @return a view whose strings are decoded from the store
+     */
+    public Question get(int i) { check(i); return new LazyQuestion(categoryNames[categories[i]], values[i], new EntryBody(i)); }
+
+    /**
+     * Gets every entry as Question views, created as the list is read.
+     * 
+     * @return list view of the store
+     */
+    public List<Question> asList() { // list adapter
+        return new AbstractList<Question>() { // read-only view
+            @Override public Question get(int i) { return QuestionStore.this.get(i); } // new view per call
+            @Override public int size() { return size; } // store size
+        }; // end list
+    } // end asList method
+
+    /**
+     * Checks whether the strings are held outside the Java heap.
+     * 
+     * @return true for an off-heap store
+     */
+    public boolean isOffHeap() { return text.isDirect(); }
+
+    /**
+     * Estimates the Java heap held by the store.
+     * 
+     * @return approximate bytes
+     */
+    public long estimatedBytes() { return 16L * 9 + 4L * categories.length + 4L * values.length + 8L * ids.length + nulls.length + 64L * (categoryNames.length + foreignIds.size()) + (isOffHeap() ? 0 : text.capacity() + 4L * starts.capacity()); }
+
+    /**
+     * Gets the bytes held outside the Java heap.
+     * 
+     * @return off-heap bytes, 0 for a heap store
+     */
+    public long offHeapBytes() { return isOffHeap() ? text.capacity() + 4L * starts.capacity() : 0; }
+
+    private String string(int i, int slot) { // decode one string
+        check(i); // validate
+        if ((nulls[i] & (1 << slot)) != 0) return null; // null field
+        int k = i * STRINGS + slot; // slot number
+        int start = starts.get(k), length = starts.get(k + 1) - start; // string bounds
+        if (text.hasArray()) return new String(text.array(), start, length, StandardCharsets.UTF_8); // decode in place
+        byte[] bytes = new byte[length]; // copy off the heap
+        text.get(start, bytes); // absolute bulk read, safe for concurrent readers
+        return new String(bytes, StandardCharsets.UTF_8); // decode
+    } // end string method
+
+    private void check(int i) { if (i < 0 || i >= size) throw new IndexOutOfBoundsException("No question " + i); }
+
+    /**
+     * Body of one entry, decoding only the field that is read.
+     */
+    private final class EntryBody implements LazyQuestion.Body { // start of EntryBody class
+        private final int i; // question index
+
+        EntryBody(int i) { this.i = i; } // constructor
+
+        @Override public String id() { return QuestionStore.this.id(i); }
+        @Override public String text() { return QuestionStore.this.text(i); }
+        @Override public String answer() { return QuestionStore.this.answer(i); }
+        @Override public String choice(int choice) { return QuestionStore.this.choice(i, choice); }
+    } // end EntryBody class
+
+    /**
+     * Accumulates questions for a QuestionStore. Not thread-safe.
+     */
+    public static final class Builder { // start of Builder class
+        private final List<String> names = new ArrayList<>(); // category names
+        private final Map<String, Integer> categoryIds = new HashMap<>(); // name to id
+        private final Map<Integer, String> foreignIds = new HashMap<>(); // ids that are not QuestionIds
+        private int[] categories = new int[256], values = new int[256]; // fixed fields
+        private long[] ids = new long[256]; // ids
+        private byte[] nulls = new byte[256]; // null bits
+        private int[] starts = new int[256 * STRINGS + 1]; // string starts
+        private byte[] text = new byte[16 * 1024]; // UTF-8 area
+        private int textLength, size; // used lengths
+        private boolean offHeap = Boolean.getBoolean(OFF_HEAP_PROPERTY); // where build puts the strings
+
+        /**
+         * Chooses whether the built store keeps its strings outside the Java heap.
+         * Defaults to the OFF_HEAP_PROPERTY system property.
+         * 
+         * @param offHeap true for direct buffers
+         * @return this builder for method chaining
+         */
+        public Builder offHeap(boolean offHeap) { this.offHeap = offHeap; return this; }
+
+        /**
+         * Adds a question, keeping its id.
+         * 
+         * @param q the question
+         * @return this builder for method chaining
+         */
+        public Builder add(Question q) { // copy question
+            int i = entry(q.getCategory(), q.getValue(), q.getText(), q.getAnswer(), q.getChoiceA(), q.getChoiceB(), q.getChoiceC(), q.getChoiceD()); // fields
+            Long id = QuestionIds.parse(q.getId()); // compact form
+            if (id != null) ids[i] = id; // keep numeric id
+            else { ids[i] = QuestionIds.next(); if (q.getId() != null) foreignIds.put(i, q.getId()); } // keep other ids as text
+            return this; // chain
+        } // end add method
+
+        /**
+         * Adds a question with a new id.
+         * 
+         * @param category category name
+         * @param value point value
+         * @param text question text
+         * @param answer correct answer
+         * @param choiceA choice A, or null
+         * @param choiceB choice B, or null
+         * @param choiceC choice C, or null
+         * @param choiceD choice D, or null
+         * @return this builder for method chaining
+         * @throws IllegalStateException if the store's text would exceed 2GB
+         */
+        public Builder add(String category, int value, String text, String answer, String choiceA, String choiceB, String choiceC, String choiceD) { // append entry
+            int i = entry(category, value, text, answer, choiceA, choiceB, choiceC, choiceD); // fields, growing the arrays first
+            ids[i] = QuestionIds.next(); // new id
+            return this; // chain
+        } // end add method
+
+        /**
+         * Appends every field except the id.
+         * 
+         * @return index of the new entry
+         */
+        private int entry(String category, int value, String text, String answer, String choiceA, String choiceB, String choiceC, String choiceD) { // append fields
+            if (size == values.length) grow(); // make room
+            String name = category == null ? "" : category; // category name
+            Integer c = categoryIds.get(name); // known category
+            if (c == null) { c = names.size(); categoryIds.put(name, c); names.add(name); } // new category
+            categories[size] = c; values[size] = value; // fixed fields
+            String[] fields = {text, answer, choiceA, choiceB, choiceC, choiceD}; // string slots
+            int bits = 0; // null bits
+            for (int s = 0; s < STRINGS; s++) { // encode strings
+                if (fields[s] == null) bits |= 1 << s; // null field
+                else append(fields[s].getBytes(StandardCharsets.UTF_8)); // UTF-8 bytes
+                starts[size * STRINGS + s + 1] = textLength; // slot end
+            } // end for
+            nulls[size] = (byte) bits; // null bits
+            return size++; // entry added
+        } // end entry method
+
+        /**
+         * Builds the store; the builder should not be used afterwards.
+         * 
+         * @return the immutable store
+         */
+        public QuestionStore build() { return new QuestionStore(this); }
+
+        private void append(byte[] bytes) { // add to the text area
+            if ((long) textLength + bytes.length > Integer.MAX_VALUE - 8) throw new IllegalStateException("Question store text exceeds 2GB"); // array limit
+            if (textLength + bytes.length > text.length) text = Arrays.copyOf(text, (int) Math.min(Integer.MAX_VALUE - 8, Math.max((long) text.length * 2, (long) textLength + bytes.length))); // grow
+            System.arraycopy(bytes, 0, text, textLength, bytes.length); // copy
+            textLength += bytes.length; // advance
+        } // end append method
+
+        private void grow() { // double entry arrays
+            int n = values.length * 2; // new capacity
+            categories = Arrays.copyOf(categories, n); values = Arrays.copyOf(values, n); ids = Arrays.copyOf(ids, n); nulls = Arrays.copyOf(nulls, n); // fixed fields
+            starts = Arrays.copyOf(starts, n * STRINGS + 1); // string starts
+        } // end grow method
+    } // end Builder class
+} // end of QuestionStore class
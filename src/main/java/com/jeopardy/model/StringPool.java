@@ -0,0 +1,87 @@
+package com.jeopardy.model; // package declaration
+
+import java.lang.ref.WeakReference; // entries do not keep strings alive
+import java.util.WeakHashMap; // weakly keyed table
+
+/**
+ * Load-time string pool that makes equal strings of a question bank share one instance.
+ * Unlike String.intern the pool is an ordinary object: entries are weak, so strings vanish
+ * from it once no question uses them, and dropping the pool drops the whole table.
+ * Safe for use by several loader threads.
+ * <p>
+ * The pool also estimates the heap it saved: every hit is a duplicate that became garbage,
+ * counted as a compact String (24 bytes) plus its byte array (16-byte header and one byte per
+ * Latin-1 character or two otherwise, rounded to 8).
+ * 
+ * @author Group 33
+ * @version 1.0
+ */
+public class StringPool { // start of StringPool class
+    private final WeakHashMap<String, WeakReference<String>> table = new WeakHashMap<>(); // canonical instances
+    private long lookups, hits, savedBytes; // statistics
+
+    /**
+     * Gets the pooled instance of a string, adding it if it is new.
+     * 
+     * @param s the string, may be null
+     * @return an equal pooled string, or null
+     */
+    public String intern(String s) { // canonicalize
+        if (s == null) return null; // nothing to pool
+        synchronized (table) { // loaders may share a pool
+            lookups++; // count lookup
+            WeakReference<String> ref = table.get(s); // existing entry
+            String pooled = ref == null ? null : ref.get(); // live instance
+            if (pooled != null) { // duplicate
+                if (pooled != s) { hits++; savedBytes += footprint(s); } // the caller's copy becomes garbage
+                return pooled; // shared instance
+            } // end if
+            table.put(s, new WeakReference<>(s)); // new canonical instance
+            return s; // first occurrence
+        } // end synchronized
+    } // end intern method
+
+    /**
+     * Gets the number of strings looked up.
+     * 
+     * @return lookup count
+     */
+    public long getLookups() { synchronized (table) { return lookups; } }
+
+    /**
+     * Gets the number of lookups that returned an existing instance.
+     * 
+     * @return hit count
+     */
+    public long getHits() { synchronized (table) { return hits; } }
+
+    /**
+     * Gets the estimated heap bytes released by returning pooled instances.
+     * 
+     * @return saved bytes
+     */
+    public long getSavedBytes() { synchronized (table) { return savedBytes; } }
+
+    /**
+     * Gets the number of distinct strings currently pooled.
+     * 
+     * @return pooled string count
+     */
+    public int size() { synchronized (table) { return table.size(); } }
+
+    /**
+     * Estimates the heap footprint of a String.
+     * 
+     * @param s the string
+     * @return estimated bytes
+     */
+    static long footprint(String s) { // String plus array
+        boolean latin1 = true; // compact strings store Latin-1 in one byte per char
+        for (int i = 0; i < s.length() && latin1; i++) latin1 = s.charAt(i) < 256; // check chars
+        long array = 16 + (long) s.length() * (latin1 ? 1 : 2); // array header and data
+        return 24 + ((array + 7) & ~7L); // aligned
+    } // end footprint method
+
+    @Override // override toString method
+    public String toString() { return String.format("StringPool[%d strings, %d of %d lookups shared, ~%d bytes saved]", size(), getHits(), getLookups(), getSavedBytes()); }
+} // end of StringPool class
@@ -1,6 +1,7 @@
 package com.jeopardy.report; // package declaration
 
 import com.jeopardy.engine.EventLogger; // import EventLogger for logging events
+import com.jeopardy.jfr.ReportGeneratedEvent; // JFR report event
 import com.jeopardy.model.TurnRecord; // import TurnRecord model
 import com.jeopardy.model.Player; // import Player model
 
@@ -30,6 +31,8 @@ public class ReportGenerator {
      */
 
     public void generateTxtReport(File outFile, List<Player> players, List<TurnRecord> records) throws Exception { // method to generate text report
+        ReportGeneratedEvent jfr = new ReportGeneratedEvent(); // flight recorder event
+        jfr.begin(); // time report writing
         try (BufferedWriter bw = new BufferedWriter(new FileWriter(outFile))) { // try-with-resources to ensure BufferedWriter is closed
             bw.write("Multi-Player Jeopardy - Summary Report\n"); // write report title
             bw.write("==============================\n\n"); // write separator
@@ -62,6 +65,8 @@ public class ReportGenerator {
                         t.getAnswerGiven(), t.isCorrect() ? "YES" : "NO", t.getPointsEarned(), t.getRunningTotal())); // write answer details
             } // end for
         } // end try-with-resources
+        jfr.end(); // report written
+        if (jfr.shouldCommit()) { jfr.file = outFile.getName(); jfr.players = players.size(); jfr.turns = records.size(); jfr.commit(); } // record report
     } // end generateTxtReport method
 
     /**
@@ -0,0 +1,124 @@
+package com.jeopardy;
+
+import com.jeopardy.analytics.EventLogAnalyzer;
+import com.jeopardy.analytics.LogSummary;
+import com.jeopardy.eventlog.CsvFileSink;
+import com.jeopardy.eventlog.EventTimestamps;
+import com.jeopardy.eventlog.LogEvent;
+import com.jeopardy.eventlog.SegmentedCsvSink;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalyticsTests {
+
+    private static File writeLog(List<LogEvent> events) throws Exception {
+        File f = File.createTempFile("analytics", ".csv");
+        f.deleteOnExit();
+        try (CsvFileSink sink = new CsvFileSink(f)) {
+            sink.writeAll(events);
+        }
+        return f;
+    }
+
+    private static List<LogEvent> interleavedGames(int games, int questions) {
+        long t = EventTimestamps.parseMicros("2024-11-10T10:00:00Z");
+        List<LogEvent> events = new ArrayList<>();
+        for (int g = 0; g < games; g++) events.add(new LogEvent("G" + g, "System", "START_GAME", "", null, "", "OK", 0, t));
+        for (int q = 0; q < questions; q++) {
+            for (int g = 0; g < games; g++) {
+                long base = t + (q * 10L + 1) * 1_000_000;
+                events.add(new LogEvent("G" + g, "P1", "SELECT_QUESTION", "Arrays", 100, "", "OK", 0, base));
+            }
+            for (int g = 0; g < games; g++) {
+                long base = t + (q * 10L + 1) * 1_000_000;
+                events.add(new LogEvent("G" + g, "P1", "ANSWER", "Arrays", 100, "A", q % 2 == 0 ? "CORRECT" : "WRONG", 0, base + 2_000_000));
+            }
+        }
+        return events;
+    }
+
+    @Test
+    void summarisesActivitiesFollowsAndAnswerTimes() throws Exception {
+        File log = writeLog(interleavedGames(3, 4));
+        LogSummary s = new EventLogAnalyzer().analyze(log);
+
+        assertEquals(3 + 3 * 4 * 2, s.getEventCount());
+        assertEquals(12L, s.getActivityCounts().get("ANSWER"));
+        assertEquals(3L, s.getDirectlyFollows().get("START_GAME").get("SELECT_QUESTION"));
+        assertEquals(9L, s.getDirectlyFollows().get("ANSWER").get("SELECT_QUESTION"));
+        assertEquals(12, s.getSelectToAnswer().getCount());
+        assertEquals(2_000_000, s.getSelectToAnswer().getMaxMicros());
+        assertEquals(33_000_000L, s.getCaseDurationsMicros().get("G0"));
+        assertEquals(6, s.getCategoryAccuracy().get("Arrays").getCorrect());
+        assertEquals(12, s.getCategoryAccuracy().get("Arrays").getTotal());
+    }
+
+    @Test
+    void malformedTimestampsAreCountedAndSkipped() throws Exception {
+        File log = writeLog(interleavedGames(2, 3));
+        Files.writeString(log.toPath(), "G0,P1,ANSWER,yesterday,Arrays,100,A,CORRECT,0\n", StandardOpenOption.APPEND);
+        LogSummary s = new EventLogAnalyzer().analyze(log);
+
+        assertEquals(2 + 2 * 3 * 2, s.getEventCount());
+        assertEquals(1, s.getMalformedCount());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        s.writeReport(new PrintStream(out));
+        assertTrue(out.toString().contains("malformed timestamps: 1"));
+    }
+
+    @Test
+    void tinyChunksGiveTheSameSummary() throws Exception {
+        File log = writeLog(interleavedGames(5, 20));
+        LogSummary whole = new EventLogAnalyzer().analyze(log);
+        for (int chunk : new int[] {1, 7, 64, 333}) {
+            LogSummary split = new EventLogAnalyzer(chunk, new ForkJoinPool(4)).analyze(log);
+            assertEquals(whole.getEventCount(), split.getEventCount());
+            assertEquals(whole.getActivityCounts(), split.getActivityCounts());
+            assertEquals(whole.getDirectlyFollows(), split.getDirectlyFollows());
+            assertEquals(whole.getCaseDurationsMicros(), split.getCaseDurationsMicros());
+            assertEquals(whole.getSelectToAnswer().getCount(), split.getSelectToAnswer().getCount());
+            assertEquals(whole.getSelectToAnswer().getMeanMicros(), split.getSelectToAnswer().getMeanMicros(), 1e-9);
+        }
+    }
+
+    @Test
+    void gzippedSegmentsAreRead() throws Exception {
+        List<LogEvent> events = interleavedGames(4, 10);
+        File dir = Files.createTempDirectory("segments").toFile();
+        dir.deleteOnExit();
+        SegmentedCsvSink sink = new SegmentedCsvSink(dir, "log", 1024, 0, true);
+        for (LogEvent e : events) sink.write(e);
+        sink.close();
+        assertTrue(sink.getSegmentFiles().size() > 1);
+        for (File f : sink.getSegmentFiles()) f.deleteOnExit();
+
+        LogSummary plain = new EventLogAnalyzer().analyze(writeLog(events));
+        LogSummary gzipped = new EventLogAnalyzer().analyze(dir);
+        assertEquals(plain.getEventCount(), gzipped.getEventCount());
+        assertEquals(plain.getDirectlyFollows(), gzipped.getDirectlyFollows());
+        assertEquals(plain.getCaseDurationsMicros(), gzipped.getCaseDurationsMicros());
+    }
+
+    @Test
+    void readsTheSampleLogNaming() throws Exception {
+        File sample = new File("sample_game_event_log.csv");
+        if (!sample.exists()) return;
+        LogSummary s = new EventLogAnalyzer(256, ForkJoinPool.commonPool()).analyze(sample);
+        assertTrue(s.getEventCount() > 0);
+        assertEquals(s.getActivityCounts().get("Answer Question").longValue(), s.getSelectToAnswer().getCount());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        s.writeReport(new PrintStream(out));
+        assertTrue(out.toString().contains("Directly-follows graph"));
+    }
+}
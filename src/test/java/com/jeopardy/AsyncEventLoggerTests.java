@@ -0,0 +1,104 @@
+package com.jeopardy;
+
+import org.junit.jupiter.api.*;
+import com.jeopardy.engine.EventLogger;
+import com.jeopardy.eventlog.AsyncEventSink;
+import com.jeopardy.eventlog.BackPressurePolicy;
+import com.jeopardy.eventlog.CsvFileSink;
+import com.jeopardy.eventlog.EventSink;
+import com.jeopardy.eventlog.LogEvent;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncEventLoggerTests {
+    private File outFile;
+
+    @BeforeEach
+    void initialize() throws Exception {
+        outFile = File.createTempFile("asynclog", ".csv");
+        outFile.deleteOnExit();
+    }
+
+    @Test
+    void concurrentEventsAreAllWritten() throws Exception {
+        EventLogger logger = EventLogger.create(new AsyncEventSink(new CsvFileSink(outFile), 64, 16, 5, BackPressurePolicy.BLOCK));
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            String caseId = "CASE" + t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 500; i++) logger.log(caseId, "P1", "ANSWER", "Arrays", 100, "A", "CORRECT", i);
+            });
+            threads[t].start();
+        }
+        for (Thread t : threads) t.join();
+        logger.close();
+
+        List<String> lines = Files.readAllLines(outFile.toPath());
+        assertEquals(1 + 2000, lines.size()); // header + all events
+        assertTrue(lines.get(0).startsWith("Case_ID,"));
+    }
+
+    @Test
+    void flushMakesEventsVisible() throws Exception {
+        EventLogger logger = EventLogger.create(new AsyncEventSink(new CsvFileSink(outFile)));
+        for (int i = 0; i < 10; i++) logger.log("CASE1", "PLAYER1", "SELECT_CATEGORY", "Functions", null, "", "OK", 0);
+        logger.flush();
+        assertEquals(11, Files.readAllLines(outFile.toPath()).size());
+        logger.close();
+    }
+
+    @Test
+    void dropPolicyDiscardsWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        EventSink slow = new EventSink() {
+            @Override public void write(LogEvent event) {
+                try { release.await(); } catch (InterruptedException ex) { Thread.currentThread().interrupt(); }
+            }
+            @Override public void flush() {}
+            @Override public void close() {}
+        };
+        AsyncEventSink sink = new AsyncEventSink(slow, 2, 1, 5, BackPressurePolicy.DROP);
+        EventLogger logger = EventLogger.create(sink);
+        for (int i = 0; i < 100; i++) logger.log("CASE1", "PLAYER1", "ANSWER", "", null, "", "OK", i);
+        assertTrue(sink.getDroppedCount() > 0);
+        release.countDown();
+        logger.close();
+    }
+
+    @Test
+    void writesRacingCloseAreWrittenOrRejected() throws Exception {
+        AsyncEventSink sink = new AsyncEventSink(new CsvFileSink(outFile), 4, 2, 5, BackPressurePolicy.BLOCK);
+        AtomicInteger accepted = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    try { sink.write(new LogEvent("CASE", "P1", "ANSWER", "", null, "", "OK", i, LogEvent.nowMicros())); accepted.incrementAndGet(); }
+                    catch (IOException ex) { return; }
+                }
+            });
+            threads[t].start();
+        }
+        Thread.sleep(5);
+        sink.close();
+        for (Thread t : threads) t.join();
+        assertEquals(1 + accepted.get(), Files.readAllLines(outFile.toPath()).size());
+    }
+
+    @Test
+    void callerRunsKeepsQueueOrder() throws Exception {
+        AsyncEventSink sink = new AsyncEventSink(new CsvFileSink(outFile), 1, 1, 5, BackPressurePolicy.CALLER_RUNS);
+        for (int i = 0; i < 500; i++) sink.write(new LogEvent("CASE", "P1", "ANSWER", "", null, "", "OK", i, LogEvent.nowMicros()));
+        sink.close();
+        List<String> lines = Files.readAllLines(outFile.toPath());
+        assertEquals(501, lines.size());
+        for (int i = 1; i < lines.size(); i++) assertTrue(lines.get(i).endsWith("," + (i - 1)), lines.get(i));
+    }
+}
@@ -0,0 +1,123 @@
+package com.jeopardy;
+
+import com.jeopardy.eventlog.BinaryEventReader;
+import com.jeopardy.eventlog.BinaryEventSink;
+import com.jeopardy.eventlog.BinaryLogConverter;
+import com.jeopardy.eventlog.CsvFileSink;
+import com.jeopardy.eventlog.DurabilityPolicy;
+import com.jeopardy.eventlog.LogEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryLogTests {
+
+    private static List<LogEvent> sampleEvents() {
+        List<LogEvent> events = new ArrayList<>();
+        long t = 1_731_232_800_000_000L;
+        String[] activities = {"SELECT_CATEGORY", "SELECT_QUESTION", "SCORE_UPDATED", "ANSWER"};
+        for (int game = 0; game < 5; game++) {
+            String caseId = UUID.randomUUID().toString();
+            for (int turn = 0; turn < 50; turn++) {
+                for (String a : activities) {
+                    t += 1_234_567L;
+                    boolean scored = a.equals("ANSWER") || a.equals("SCORE_UPDATED");
+                    events.add(new LogEvent(caseId, "P" + (turn % 3 + 1), a, "Variables & Data Types",
+                            a.equals("SELECT_CATEGORY") ? null : 100 * (turn % 5 + 1), scored ? "B" : "",
+                            scored ? (turn % 2 == 0 ? "CORRECT" : "WRONG") : "OK", turn * 100 - 700, t));
+                }
+            }
+        }
+        return events;
+    }
+
+    @Test
+    void convertsBackToTheCsvSchema() throws Exception {
+        File bin = File.createTempFile("events", ".evlog");
+        File csv = File.createTempFile("events", ".csv");
+        bin.deleteOnExit();
+        csv.deleteOnExit();
+        bin.delete();
+        csv.delete();
+        List<LogEvent> events = sampleEvents();
+        try (BinaryEventSink b = new BinaryEventSink(bin); CsvFileSink c = new CsvFileSink(csv)) {
+            b.writeAll(events);
+            c.writeAll(events);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long n = BinaryLogConverter.toCsv(bin, out, ZoneId.systemDefault());
+        assertEquals(events.size(), n);
+        assertEquals(Files.readString(csv.toPath()), out.toString(StandardCharsets.UTF_8));
+        assertTrue(bin.length() * 5 <= csv.length(), "binary " + bin.length() + " vs csv " + csv.length());
+    }
+
+    @Test
+    void appendingStartsAFreshDictionary() throws Exception {
+        File bin = File.createTempFile("events", ".evlog");
+        bin.deleteOnExit();
+        bin.delete();
+        try (BinaryEventSink b = new BinaryEventSink(bin)) { b.write(new LogEvent("A", "P1", "START_GAME", null, null, null, "OK", 0, 10)); }
+        try (BinaryEventSink b = new BinaryEventSink(bin)) { b.write(new LogEvent("B", "P2", "ANSWER", "Arrays", 200, "C", "WRONG", -200, 20)); }
+
+        try (BinaryEventReader r = new BinaryEventReader(bin)) {
+            LogEvent first = r.next(), second = r.next();
+            assertEquals("A", first.getCaseId());
+            assertNull(first.getQuestionValue());
+            assertEquals("B", second.getCaseId());
+            assertEquals(200, second.getQuestionValue());
+            assertEquals(-200, second.getScoreAfter());
+            assertEquals(20, second.getTimestampMicros());
+            assertNull(r.next());
+        }
+    }
+
+    @Test
+    void failedWriteForgetsUnwrittenDefinitions() throws Exception {
+        File bin = File.createTempFile("events", ".evlog");
+        bin.deleteOnExit();
+        bin.delete();
+        BinaryEventSink b = new BinaryEventSink(bin);
+        b.write(new LogEvent("A", "P1", "START_GAME", null, null, null, "OK", 0, 10));
+        Thread.currentThread().interrupt();
+        assertThrows(java.io.IOException.class, () -> b.write(new LogEvent("B", "P2", "ANSWER", "Arrays", 200, "C", "WRONG", -200, 20)));
+        Thread.interrupted();
+        assertEquals(0, b.getDictionarySize());
+        b.close();
+
+        try (BinaryEventReader r = new BinaryEventReader(bin)) {
+            assertEquals("A", r.next().getCaseId());
+            assertNull(r.next());
+        }
+    }
+
+    @Test
+    void dictionaryStaysBounded() throws Exception {
+        File bin = File.createTempFile("events", ".evlog");
+        bin.deleteOnExit();
+        bin.delete();
+        List<LogEvent> events = new ArrayList<>();
+        for (int i = 0; i < 500; i++) events.add(new LogEvent(UUID.randomUUID().toString(), "P1", "ANSWER", "Arrays", 100, "answer " + i, "OK", i, 1000L * i));
+        try (BinaryEventSink b = new BinaryEventSink(bin, DurabilityPolicy.osBuffered(), 64)) {
+            for (LogEvent e : events) { b.write(e); assertTrue(b.getDictionarySize() <= 64); }
+        }
+        try (BinaryEventReader r = new BinaryEventReader(bin)) {
+            for (LogEvent e : events) {
+                LogEvent read = r.next();
+                assertEquals(e.getCaseId(), read.getCaseId());
+                assertEquals(e.getAnswerGiven(), read.getAnswerGiven());
+                assertEquals(e.getTimestampMicros(), read.getTimestampMicros());
+            }
+            assertNull(r.next());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.jeopardy;
+
+import com.jeopardy.eventlog.CsvEventEncoder;
+import com.jeopardy.eventlog.LogEvent;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvEventEncoderTests {
+
+    private static long micros(String iso) {
+        Instant i = Instant.parse(iso);
+        return i.getEpochSecond() * 1_000_000L + i.getNano() / 1_000;
+    }
+
+    private static String encode(CsvEventEncoder enc, LogEvent e) {
+        enc.reset();
+        enc.encode(e);
+        return new String(enc.array(), 0, enc.length(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void encodesAllColumns() {
+        CsvEventEncoder enc = new CsvEventEncoder(ZoneOffset.UTC);
+        LogEvent e = new LogEvent("GAME001", "P1", "ANSWER", "Arrays", 100, "A", "CORRECT", -50, micros("2024-11-10T10:00:25.123456Z"));
+        assertEquals("GAME001,P1,ANSWER,2024-11-10T10:00:25.123Z,Arrays,100,A,CORRECT,-50\n", encode(enc, e));
+    }
+
+    @Test
+    void sanitizesAndHandlesNulls() {
+        CsvEventEncoder enc = new CsvEventEncoder(ZoneId.of("America/Port_of_Spain"));
+        LogEvent e = new LogEvent("C", "SYSTEM", "START_GAME", "Café, Menu", null, "line1\nline2\r", null, Integer.MIN_VALUE, micros("2024-11-10T14:00:00Z"));
+        assertEquals("C,SYSTEM,START_GAME,2024-11-10T10:00:00.000-04:00,Café  Menu,,line1 line2 ,,-2147483648\n", encode(enc, e));
+    }
+
+    @Test
+    void encodingDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) return; // counters not available on this JVM
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) return;
+
+        CsvEventEncoder enc = new CsvEventEncoder(ZoneOffset.UTC);
+        long base = micros("2024-11-10T10:00:00Z");
+        LogEvent[] events = new LogEvent[1000];
+        for (int i = 0; i < events.length; i++)
+            events[i] = new LogEvent("c0ffee00-0000-4000-8000-000000000000", "P" + (i % 4), "SCORE_UPDATED", "Variables & Data Types", 100 * (i % 5 + 1), "int num;", "CORRECT", i * 100, base + i * 7_000L);
+
+        for (int r = 0; r < 50; r++) for (LogEvent e : events) { enc.reset(); enc.encode(e); } // warm up and size the buffer
+
+        long tid = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(tid);
+        for (int r = 0; r < 20; r++) for (LogEvent e : events) { enc.reset(); enc.encode(e); }
+        long allocated = threads.getThreadAllocatedBytes(tid) - before;
+
+        double perEvent = allocated / 20_000.0;
+        assertTrue(perEvent < 1.0, "expected near-zero allocation per event but was " + perEvent + " bytes");
+    }
+}
@@ -0,0 +1,50 @@
+package com.jeopardy;
+
+import com.jeopardy.loaders.CsvQuestionLoader;
+import com.jeopardy.loaders.ParallelCsvQuestionLoader;
+import com.jeopardy.loaders.QuestionLoader;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Throughput benchmark for CSV question loading, sequential versus parallel at
+ * increasing pool sizes. Not run by the test suite.
+ * Usage: CsvLoadBenchmark [megabytes]
+ */
+public class CsvLoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int mb = args.length > 0 ? Integer.parseInt(args[0]) : 256;
+        File f = File.createTempFile("bench-bank", ".csv");
+        f.deleteOnExit();
+        try (BufferedWriter w = new BufferedWriter(new FileWriter(f), 1 << 16)) {
+            w.write("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n");
+            for (long i = 0; i * 120 < (long) mb << 20; i++) {
+                w.write("\"Category " + (i % 50) + "\"," + (i % 5 + 1) * 100 + ",\"Which option, of the four, is number " + i + "?\",alpha,beta,gamma,delta,C\n");
+            }
+        }
+        System.out.printf("File: %.1f MB%n", f.length() / 1e6);
+        run("sequential", new CsvQuestionLoader(), f);
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int p = 1; p <= cores; p *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(p);
+            run("parallel x" + p, new ParallelCsvQuestionLoader(pool, ParallelCsvQuestionLoader.DEFAULT_CHUNK_BYTES), f);
+            pool.shutdown();
+        }
+    }
+
+    private static void run(String label, QuestionLoader loader, File f) throws Exception {
+        loader.load(f); // warm-up
+        long best = Long.MAX_VALUE;
+        int n = 0;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            n = loader.load(f).size();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-14s %,d questions  %7.1f ms  %7.1f MB/s%n", label, n, best / 1e6, f.length() / 1e6 / (best / 1e9));
+    }
+}
@@ -0,0 +1,77 @@
+package com.jeopardy;
+
+import com.jeopardy.loaders.CsvQuestionLoader;
+import com.jeopardy.model.Question;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvLoaderTests {
+
+    private static File csv(String content) throws Exception {
+        File f = File.createTempFile("questions", ".csv");
+        f.deleteOnExit();
+        try (FileWriter fw = new FileWriter(f)) { fw.write(content); }
+        return f;
+    }
+
+    @Test
+    void quotedFieldsMayContainCommasAndNewlines() throws Exception {
+        File f = csv("Category,Value,Question,Answer\r\n"
+                + "\"Arrays, Lists\", 200 ,\"Which index\nis first?\",0\r\n"
+                + "\r\n"
+                + "Loops,300,Which loop runs at least once?,do-while\r\n");
+        List<Question> list = new CsvQuestionLoader().load(f);
+        assertEquals(2, list.size());
+        assertEquals("Arrays, Lists", list.get(0).getCategory());
+        assertEquals(200, list.get(0).getValue());
+        assertEquals("Which index\nis first?", list.get(0).getText());
+        assertEquals("do-while", list.get(1).getAnswer());
+    }
+
+    @Test
+    void detectsBothChoiceLayouts() throws Exception {
+        File f = csv("Category,Value,Question,A,B,C,D,Correct\n"
+                + "Types,100,Which is integral?,int,float,double,char,A\n"
+                + "Types,200,Which is floating?,float,int,float,char,bool\n"
+                + "Types,300,Bad value,x,,,,B\n");
+        List<Question> list = new CsvQuestionLoader().load(f);
+        assertEquals("A", list.get(0).getAnswer());
+        assertEquals("int", list.get(0).getChoiceA());
+        assertEquals("float", list.get(1).getAnswer());
+        assertEquals("int", list.get(1).getChoiceA());
+        assertNull(list.get(2).getChoiceB());
+    }
+
+    @Test
+    void streamsWithoutBuildingAList() throws Exception {
+        StringBuilder sb = new StringBuilder("Category,Value,Question,Answer\n");
+        for (int i = 0; i < 1000; i++) sb.append("Cat").append(i % 5).append(',').append(i).append(",Q").append(i).append(",A\n");
+        File f = csv(sb.toString());
+        CsvQuestionLoader loader = new CsvQuestionLoader();
+
+        List<Integer> values = new ArrayList<>();
+        loader.forEach(f, q -> values.add(q.getValue()));
+        assertEquals(1000, values.size());
+        assertEquals(999, values.get(999));
+
+        try (Stream<Question> s = loader.stream(f)) {
+            assertEquals(List.of("Q0", "Q1", "Q2"), s.limit(3).map(Question::getText).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void sampleFileLoadsEveryQuestion() throws Exception {
+        List<Question> list = new CsvQuestionLoader().load(new File("sample_game_CSV.csv"));
+        assertEquals(25, list.size());
+        assertEquals("B", list.get(1).getAnswer());
+        assertEquals("char", list.get(1).getChoiceB());
+    }
+}
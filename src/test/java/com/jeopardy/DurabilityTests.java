@@ -0,0 +1,82 @@
+package com.jeopardy;
+
+import com.jeopardy.eventlog.BinaryEventSink;
+import com.jeopardy.eventlog.CsvFileSink;
+import com.jeopardy.eventlog.DurabilityPolicy;
+import com.jeopardy.eventlog.FsyncMetrics;
+import com.jeopardy.eventlog.LogEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurabilityTests {
+
+    private static File tempFile(String suffix) throws Exception {
+        File f = File.createTempFile("durable", suffix);
+        f.deleteOnExit();
+        f.delete();
+        return f;
+    }
+
+    private static LogEvent event(int i) {
+        return new LogEvent("G1", "P1", "ANSWER", "Arrays", 100, "A", "CORRECT", i, 1_731_232_800_000_000L + i);
+    }
+
+    @Test
+    void osBufferedNeverForces() throws Exception {
+        try (CsvFileSink sink = new CsvFileSink(tempFile(".csv"))) {
+            for (int i = 0; i < 20; i++) sink.write(event(i));
+            sink.flush();
+            assertEquals(0, sink.getFsyncMetrics().getCount());
+        }
+    }
+
+    @Test
+    void perEventForcesEveryWrite() throws Exception {
+        CsvFileSink sink = new CsvFileSink(tempFile(".csv"), null, DurabilityPolicy.perEvent());
+        for (int i = 0; i < 5; i++) sink.write(event(i));
+        List<LogEvent> batch = new ArrayList<>();
+        for (int i = 0; i < 10; i++) batch.add(event(i));
+        sink.writeAll(batch);
+        FsyncMetrics m = sink.getFsyncMetrics();
+        assertEquals(6, m.getCount());
+        assertEquals(15, m.getEventsSynced());
+        assertTrue(m.getMaxNanos() > 0);
+        long histogramTotal = 0;
+        for (long n : m.getHistogram()) histogramTotal += n;
+        assertEquals(6, histogramTotal);
+        sink.close();
+        assertEquals(6, m.getCount());
+    }
+
+    @Test
+    void groupCommitForcesEveryNEvents() throws Exception {
+        try (BinaryEventSink sink = new BinaryEventSink(tempFile(".evlog"), DurabilityPolicy.groupCommit(60_000, 10))) {
+            for (int i = 0; i < 35; i++) sink.write(event(i));
+            assertEquals(3, sink.getFsyncMetrics().getCount());
+            sink.flush();
+            assertEquals(4, sink.getFsyncMetrics().getCount());
+            assertEquals(35, sink.getFsyncMetrics().getEventsSynced());
+        }
+    }
+
+    @Test
+    void groupCommitForcesIdleEventsAfterTheInterval() throws Exception {
+        try (CsvFileSink sink = new CsvFileSink(tempFile(".csv"), null, DurabilityPolicy.groupCommit(20, 1000))) {
+            sink.write(event(1));
+            sink.write(event(2));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (sink.getFsyncMetrics().getEventsSynced() < 2 && System.currentTimeMillis() < deadline) Thread.sleep(10);
+            assertEquals(2, sink.getFsyncMetrics().getEventsSynced());
+        }
+    }
+
+    @Test
+    void rejectsInvalidGroupLimits() {
+        assertThrows(IllegalArgumentException.class, () -> DurabilityPolicy.groupCommit(0, 10));
+    }
+}
@@ -0,0 +1,92 @@
+package com.jeopardy;
+
+import com.jeopardy.engine.EventLogger;
+import com.jeopardy.eventlog.CsvFileSink;
+import com.jeopardy.eventlog.EventLogIndex;
+import com.jeopardy.eventlog.EventTimestamps;
+import com.jeopardy.eventlog.LogEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLogIndexTests {
+
+    private static File tempLog() throws Exception {
+        File f = File.createTempFile("indexed", ".csv");
+        f.deleteOnExit();
+        new File(f.getPath() + ".idx").deleteOnExit();
+        return f;
+    }
+
+    @Test
+    void indexesRowsAsTheyAreAppended() throws Exception {
+        File log = tempLog();
+        EventLogIndex index = EventLogIndex.open(log);
+        CsvFileSink sink = new CsvFileSink(log, index);
+        long t = EventTimestamps.parseMicros("2024-11-10T10:00:00Z");
+        sink.writeAll(Arrays.asList(
+                new LogEvent("G1", "P1", "SELECT_QUESTION", "Arrays", 100, "", "OK", 0, t),
+                new LogEvent("G2", "P1", "SELECT_QUESTION", "Functions", 200, "", "OK", 0, t + 1_000_000),
+                new LogEvent("G1", "P1", "ANSWER", "Arrays", 100, "A", "CORRECT", 100, t + 2_000_000)));
+        sink.write(new LogEvent("G1", "P2", "ANSWER", "Arrays", 200, "B", "WRONG", -200, t + 3_000_000));
+
+        List<String> g1 = index.eventsForCase("G1");
+        assertEquals(3, g1.size());
+        assertTrue(g1.get(2).startsWith("G1,P2,ANSWER,"));
+        assertEquals(2, index.countActivity("ANSWER"));
+        assertEquals(1, index.countActivity("ANSWER", t, t + 2_500_000));
+        sink.close();
+    }
+
+    @Test
+    void reopeningCatchesUpWithUnindexedRows() throws Exception {
+        File log = tempLog();
+        EventLogger plain = EventLogger.create(new CsvFileSink(log));
+        for (int i = 0; i < 10; i++) plain.log("GAME" + (i % 2), "P1", "ANSWER", "Arrays", 100, "A", "CORRECT", i);
+        plain.close();
+
+        try (EventLogIndex index = EventLogIndex.open(log)) {
+            assertEquals(10, index.size());
+            assertEquals(5, index.eventsForCase("GAME0").size());
+        }
+        assertTrue(new File(log.getPath() + ".idx").length() > 0);
+
+        Files.writeString(log.toPath(), "GAME9,P1,ANSWER,2024-11-10T10:00:00Z,Arrays,100,A,CORRECT,100\n", java.nio.file.StandardOpenOption.APPEND);
+        try (EventLogIndex index = EventLogIndex.open(log)) {
+            assertEquals(11, index.size());
+            assertEquals(List.of("GAME9,P1,ANSWER,2024-11-10T10:00:00Z,Arrays,100,A,CORRECT,100"), index.eventsForCase("GAME9"));
+        }
+    }
+
+    @Test
+    void parsesLogTimestamps() {
+        assertEquals(EventTimestamps.parseMicros("2024-11-10T14:00:25.123Z"), EventTimestamps.parseMicros("2024-11-10T10:00:25.123-04:00"));
+        assertEquals(1_731_232_800_000_000L, EventTimestamps.parseMicros("2024-11-10T10:00:00"));
+    }
+
+    @Test
+    void readOnlyIndexNeverWritesTheSidecar() throws Exception {
+        File log = tempLog();
+        File sidecar = new File(log.getPath() + ".idx");
+        EventLogIndex live = EventLogIndex.open(log);
+        CsvFileSink sink = new CsvFileSink(log, live);
+        for (int i = 0; i < 5; i++) sink.write(new LogEvent("G" + (i % 2), "P1", "ANSWER", "Arrays", 100, "A", "CORRECT", i, i));
+        live.close();
+        long before = sidecar.length();
+        CsvFileSink plain = new CsvFileSink(log);
+        for (int i = 0; i < 3; i++) plain.write(new LogEvent("G2", "P1", "ANSWER", "Arrays", 100, "A", "CORRECT", i, 10 + i));
+        plain.close();
+        try (EventLogIndex reader = EventLogIndex.openReadOnly(log)) {
+            assertEquals(8, reader.size());
+            assertEquals(3, reader.eventsForCase("G2").size());
+            assertThrows(IllegalStateException.class, () -> reader.appended(new LogEvent("G3", "P1", "ANSWER", "", null, "", "OK", 0, 0), 0, 1));
+        }
+        assertEquals(before, sidecar.length());
+        sink.close();
+    }
+}
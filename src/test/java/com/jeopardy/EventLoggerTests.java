@@ -36,6 +36,13 @@ class EventLoggerTests{
         assertTrue(lines.get(1).contains("TEST_ACTIVITY"));
     }
 
+    @Test
+    void testDifferentFilesGetDifferentLoggers() throws Exception {
+        File other = File.createTempFile("eventlog", ".csv");
+        other.deleteOnExit();
+        assertNotSame(EventLogger.getInstance(outFile), EventLogger.getInstance(other));
+    }
+
 
 
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.jeopardy;
+
+import com.jeopardy.engine.EventLogger;
+import com.jeopardy.engine.GameEngine;
+import com.jeopardy.eventlog.CsvFileSink;
+import com.jeopardy.eventlog.DurabilityPolicy;
+import com.jeopardy.model.Player;
+import com.jeopardy.report.ReportGenerator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderTests {
+
+    @Test
+    void gameAndLogActivityAppearInRecordings() throws Exception {
+        File log = File.createTempFile("jfr", ".csv");
+        log.deleteOnExit();
+        log.delete();
+        File report = File.createTempFile("jfr", ".txt");
+        report.deleteOnExit();
+        Path dump = Files.createTempFile("jeopardy", ".jfr");
+        dump.toFile().deleteOnExit();
+
+        GameEngine engine = GameEngine.getInstance();
+        try (Recording recording = new Recording()) {
+            for (String name : new String[] {"PlayerJoin", "EventLogWrite", "EventLogFlush", "ReportGenerated"}) {
+                recording.enable("com.jeopardy." + name).withoutThreshold();
+            }
+            recording.start();
+            EventLogger logger = EventLogger.create(new CsvFileSink(log, null, DurabilityPolicy.perEvent()));
+            logger.log("G1", "P1", "SELECT_QUESTION", "Arrays", 100, "", "OK", 0);
+            logger.flush();
+            logger.close();
+            engine.addPlayer(new Player("P9", "Recorded"));
+            new ReportGenerator().generateTxtReport(report, engine.getPlayers(), new ArrayList<>());
+            recording.stop();
+            recording.dump(dump);
+        } finally {
+            engine.getPlayers().clear();
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        RecordedEvent write = find(events, "com.jeopardy.EventLogWrite");
+        assertEquals("G1", write.getString("caseId"));
+        assertEquals("SELECT_QUESTION", write.getString("activity"));
+        assertEquals("CsvFileSink", write.getString("sink"));
+        assertEquals(2, events.stream().filter(e -> e.getEventType().getName().equals("com.jeopardy.EventLogFlush")).count());
+        RecordedEvent close = events.stream().filter(e -> e.getEventType().getName().equals("com.jeopardy.EventLogFlush") && e.getBoolean("close")).findFirst().orElseThrow();
+        assertEquals(1, close.getLong("fsyncs"));
+        assertEquals(1, close.getLong("fsyncedEvents"));
+        assertEquals("P9", find(events, "com.jeopardy.PlayerJoin").getString("playerId"));
+        assertEquals(report.getName(), find(events, "com.jeopardy.ReportGenerated").getString("file"));
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event recorded"));
+    }
+}
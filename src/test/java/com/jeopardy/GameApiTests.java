@@ -0,0 +1,118 @@
+package com.jeopardy;
+
+import com.jeopardy.engine.CommandResult;
+import com.jeopardy.engine.GameEngine;
+import com.jeopardy.engine.GameState;
+import com.jeopardy.model.Player;
+import com.jeopardy.model.Question;
+import com.jeopardy.model.QuestionBank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameApiTests {
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        engine = new GameEngine("api-test");
+        engine.loadQuestions(new File("sample_game_CSV.csv"));
+    }
+
+    @Test
+    void commandsAreRejectedOutOfTurn() {
+        assertEquals("No players added. Add players first.", engine.start().getMessage());
+        engine.addPlayer(new Player("P1", "Ada"));
+        assertEquals("Game not started", engine.selectCategory("Arrays").getMessage());
+        assertTrue(engine.start().isAccepted());
+        assertFalse(engine.start().isAccepted());
+        assertEquals("Select a category first", engine.selectQuestion(100).getMessage());
+        assertEquals("Invalid", engine.selectCategory("Nope").getMessage());
+        assertEquals("Select a question first", engine.submitAnswer("A").getMessage());
+        assertTrue(engine.selectCategory("Arrays").isAccepted());
+        assertEquals("Invalid", engine.selectQuestion(150).getMessage());
+        CommandResult shown = engine.selectQuestion(100);
+        assertTrue(shown.isAccepted());
+        assertEquals(GameState.Phase.ANSWER, shown.getState().getPhase());
+        assertEquals(4, shown.getState().getChoices().size());
+        assertEquals("Answer the current question first", engine.selectCategory("Arrays").getMessage());
+        assertTrue(engine.submitAnswer("A").isAccepted());
+        assertTrue(engine.selectCategory("Arrays").isAccepted());
+        assertEquals("Already asked", engine.selectQuestion(100).getMessage());
+    }
+
+    @Test
+    void rejectedCategoriesKeepTheSelection() {
+        GameEngine game = new GameEngine("api-reject");
+        game.useQuestionBank(QuestionBank.of(List.of(new Question("q1", "Loops", 100, "Q1", "A"), new Question("q2", "Arrays", 100, "Q2", "A"))));
+        game.addPlayer(new Player("P1", "Ada"));
+        game.start();
+        game.selectCategory("Loops");
+        game.selectQuestion(100);
+        game.submitAnswer("A");
+        assertTrue(game.selectCategory("Arrays").isAccepted());
+        CommandResult exhausted = game.selectCategory("Loops");
+        assertEquals("No remaining questions in this category.", exhausted.getMessage());
+        assertEquals("Arrays", exhausted.getState().getCategory());
+        CommandResult unknown = game.selectCategory("Nope");
+        assertEquals("Invalid", unknown.getMessage());
+        assertEquals("Arrays", unknown.getState().getCategory());
+        assertTrue(game.selectQuestion(100).isAccepted());
+    }
+
+    @Test
+    void snapshotsShareBoardViews() {
+        engine.addPlayer(new Player("P1", "Ada"));
+        engine.start();
+        assertSame(engine.getQuestionBank().categories(), engine.state().getCategories());
+        GameState fresh = engine.selectCategory("Arrays").getState();
+        assertSame(engine.getQuestionBank().values("Arrays"), fresh.getAvailableValues());
+        engine.selectQuestion(100);
+        engine.submitAnswer("A");
+        List<Integer> first = engine.selectCategory("Arrays").getState().getAvailableValues();
+        assertSame(first, engine.state().getAvailableValues());
+        assertFalse(first.contains(100));
+        assertTrue(fresh.getAvailableValues().contains(100));
+    }
+
+    @Test
+    void playsWholeGameWithoutIo() {
+        engine.addPlayer(new Player("P1", "Ada"));
+        engine.addPlayer(new Player("P2", "Bob"));
+        engine.start();
+        int turns = 0;
+        while (engine.state().getPhase() != GameState.Phase.GAME_OVER) {
+            GameState s = engine.state();
+            assertEquals(turns % 2 == 0 ? "P1" : "P2", s.getPlayerId());
+            String cat = s.getCategories().stream().filter(c -> engine.selectCategory(c).isAccepted()).findFirst().orElseThrow();
+            int value = engine.state().getAvailableValues().get(0);
+            assertEquals(cat, engine.selectQuestion(value).getState().getCategory());
+            CommandResult r = engine.submitAnswer("B");
+            assertEquals(value, r.getTurn().getValue());
+            assertEquals(r.getTurn().getRunningTotal(), (int) r.getState().getScores().get(r.getTurn().getPlayerId()));
+            turns++;
+        }
+        assertEquals(25, turns);
+        assertEquals(0, engine.state().getRemaining());
+        assertEquals(25, engine.getRecords().size());
+        assertFalse(engine.endGame().isAccepted());
+    }
+
+    @Test
+    void stateIsImmutableSnapshot() {
+        engine.addPlayer(new Player("P1", "Ada"));
+        engine.start();
+        GameState before = engine.state();
+        engine.selectCategory("Arrays");
+        assertNull(before.getCategory());
+        assertEquals(25, before.getRemaining());
+        assertThrows(UnsupportedOperationException.class, () -> before.getCategories().add("x"));
+        assertThrows(UnsupportedOperationException.class, () -> engine.state().getAvailableValues().clear());
+        assertTrue(engine.endGame().isAccepted());
+        assertEquals(GameState.Phase.GAME_OVER, engine.state().getPhase());
+    }
+}
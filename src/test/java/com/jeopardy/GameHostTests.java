@@ -0,0 +1,192 @@
+package com.jeopardy;
+
+import com.jeopardy.engine.EventLogger;
+import com.jeopardy.engine.GameEngine;
+import com.jeopardy.engine.GameHost;
+import com.jeopardy.eventlog.CsvFileSink;
+import com.jeopardy.eventlog.DurabilityPolicy;
+import com.jeopardy.loaders.CsvQuestionLoader;
+import com.jeopardy.model.Player;
+import com.jeopardy.model.QuestionBank;
+import com.jeopardy.scoring.SimpleScoringStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameHostTests {
+
+    @Test
+    void sessionsHaveIndependentState() throws Exception {
+        GameHost host = new GameHost();
+        GameEngine a = host.create("case-a"), b = host.create("case-b");
+        a.loadQuestions(new File("sample_game_CSV.csv"));
+        a.addPlayer(new Player("P1", "Ada"));
+        assertEquals("case-a", a.getCaseId());
+        assertEquals(5, a.categories().size());
+        assertTrue(b.categories().isEmpty());
+        assertTrue(b.getPlayers().isEmpty());
+        assertSame(a, host.get("case-a"));
+        assertNotSame(GameEngine.getInstance(), a);
+    }
+
+    @Test
+    void duplicateCaseIdAndLimitAreRejected() {
+        GameHost host = new GameHost(null, () -> null, 1);
+        host.create("one");
+        assertThrows(IllegalStateException.class, () -> host.create("one"));
+        assertThrows(IllegalStateException.class, () -> host.create("two"));
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(" "));
+        assertNotNull(host.evict("one"));
+        assertNull(host.evict("one"));
+        assertNotNull(host.create("two"));
+    }
+
+    @Test
+    void concurrentCreateAndEvict() throws Exception {
+        GameHost host = new GameHost();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            tasks.add(pool.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    GameEngine e = host.create("t" + thread + "-" + i);
+                    e.addPlayer(new Player("P1", "Player"));
+                    if (i % 2 == 0) assertSame(e, host.evict(e.getCaseId()));
+                }
+            }));
+        }
+        for (Future<?> f : tasks) f.get();
+        pool.shutdown();
+        assertEquals(4000, host.size());
+        assertTrue(host.caseIds().contains("t3-999"));
+    }
+
+    @Test
+    void idleSessionsAreEvicted() throws Exception {
+        GameHost host = new GameHost();
+        host.create("idle");
+        Thread.sleep(20);
+        host.create("busy");
+        assertEquals(List.of("idle"), host.evictIdle(Duration.ofMillis(10)));
+        assertNull(host.get("idle"));
+        assertNotNull(host.get("busy"));
+    }
+
+    @Test
+    void playingAndLoopingSessionsAreNotIdle() throws Exception {
+        CountDownLatch input = new CountDownLatch(1);
+        try (GameHost host = GameHost.virtualThreads(null, () -> new SimpleScoringStrategy(true), 10)) {
+            host.create("idle");
+            GameEngine played = host.create("played");
+            played.addPlayer(new Player("P1", "Player"));
+            host.create("looping");
+            Future<?> loop = host.run("looping", e -> { try { input.await(); } catch (InterruptedException ex) { Thread.currentThread().interrupt(); } });
+            Thread.sleep(20);
+            played.start();
+            assertEquals(List.of("idle"), host.evictIdle(Duration.ofMillis(10)));
+            assertSame(played, host.get("played"));
+            assertNotNull(host.evict("looping"));
+            assertTrue(loop.isCancelled());
+        }
+    }
+
+    private static Future<?> logUntilInterrupted(GameHost host, String id, CountDownLatch logging, CountDownLatch done) {
+        host.create(id);
+        return host.run(id, e -> {
+            try {
+                for (int i = 0; !Thread.currentThread().isInterrupted(); i++) {
+                    e.addPlayer(new Player("P" + i, "Player"));
+                    if (i == 100) logging.countDown();
+                }
+            } finally {
+                done.countDown();
+            }
+        });
+    }
+
+    @Test
+    void evictingALoggingLoopKeepsTheSharedLogger() throws Exception {
+        File log = File.createTempFile("host", ".csv");
+        log.deleteOnExit();
+        log.delete();
+        EventLogger logger = EventLogger.create(new CsvFileSink(log, null, DurabilityPolicy.perEvent()));
+        try (GameHost host = GameHost.virtualThreads(logger, () -> new SimpleScoringStrategy(true), 10)) {
+            for (int g = 0; g < 5; g++) {
+                CountDownLatch logging = new CountDownLatch(1), done = new CountDownLatch(1);
+                logUntilInterrupted(host, "loop-" + g, logging, done);
+                assertTrue(logging.await(1, TimeUnit.MINUTES));
+                assertNotNull(host.evict("loop-" + g));
+                assertTrue(done.await(1, TimeUnit.MINUTES));
+            }
+            host.create("g2").addPlayer(new Player("P1", "After"));
+        }
+        logger.close();
+        assertTrue(Files.readAllLines(log.toPath()).stream().anyMatch(l -> l.startsWith("g2,P1,PLAYER_JOIN")));
+    }
+
+    @Test
+    void closingTheHostWhileLoopsLogKeepsTheLogger() throws Exception {
+        File log = File.createTempFile("host", ".csv");
+        log.deleteOnExit();
+        log.delete();
+        EventLogger logger = EventLogger.create(new CsvFileSink(log, null, DurabilityPolicy.perEvent()));
+        CountDownLatch logging = new CountDownLatch(1), done = new CountDownLatch(5);
+        try (GameHost host = GameHost.virtualThreads(logger, () -> new SimpleScoringStrategy(true), 10)) {
+            for (int g = 0; g < 5; g++) logUntilInterrupted(host, "loop-" + g, logging, done);
+            assertTrue(logging.await(1, TimeUnit.MINUTES));
+        }
+        assertTrue(done.await(1, TimeUnit.MINUTES));
+        logger.log("after", "P1", "PLAYER_JOIN", "", null, "After", "OK", 0);
+        logger.close();
+        assertTrue(Files.readAllLines(log.toPath()).stream().anyMatch(l -> l.startsWith("after,P1,PLAYER_JOIN")));
+    }
+
+    @Test
+    void fiftyThousandSessionsBlockOnVirtualThreads() throws Exception {
+        int n = 50_000;
+        File log = File.createTempFile("host", ".csv");
+        log.deleteOnExit();
+        log.delete();
+        QuestionBank bank = new CsvQuestionLoader().loadBank(new File("sample_game_CSV.csv"));
+        String cat = bank.categories().get(0);
+        EventLogger logger = EventLogger.create(new CsvFileSink(log));
+        CountDownLatch waiting = new CountDownLatch(n), input = new CountDownLatch(1);
+        List<Future<?>> loops = new ArrayList<>(n);
+        try (GameHost host = GameHost.virtualThreads(logger, () -> new SimpleScoringStrategy(true), n)) {
+            for (int i = 0; i < n; i++) {
+                String id = "vt-" + i;
+                host.create(id, bank).addPlayer(new Player("P1", "Player"));
+                loops.add(host.run(id, e -> {
+                    e.start();
+                    waiting.countDown();
+                    try { input.await(); } catch (InterruptedException ex) { return; }
+                    e.selectCategory(cat);
+                    e.selectQuestion(100);
+                    e.submitAnswer("A");
+                    e.endGame();
+                }));
+            }
+            assertTrue(waiting.await(2, TimeUnit.MINUTES));
+            assertEquals(n, host.size());
+            assertTrue(ManagementFactory.getThreadMXBean().getThreadCount() < 1000, "sessions must not hold platform threads");
+            input.countDown();
+            for (Future<?> f : loops) f.get(2, TimeUnit.MINUTES);
+            assertEquals(1, host.get("vt-" + (n - 1)).getRecords().size());
+        }
+        logger.close();
+        assertEquals(1 + 8 * n, Files.readAllLines(log.toPath()).size());
+    }
+}
@@ -0,0 +1,121 @@
+package com.jeopardy;
+
+import com.jeopardy.loaders.JqbBank;
+import com.jeopardy.loaders.JqbCompiler;
+import com.jeopardy.loaders.QuestionLoader;
+import com.jeopardy.loaders.QuestionLoaderFactory;
+import com.jeopardy.model.LazyQuestion;
+import com.jeopardy.model.Question;
+import com.jeopardy.model.QuestionBank;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JqbTests {
+
+    private static File compile(File source) throws Exception {
+        File out = File.createTempFile("bank", ".jqb");
+        out.deleteOnExit();
+        JqbCompiler.compile(source, out);
+        return out;
+    }
+
+    @Test
+    void sampleFilesRoundTrip() throws Exception {
+        for (String name : new String[] {"sample_game_CSV.csv", "sample_game_JSON.json", "sample_game_XML.xml"}) {
+            File source = new File(name);
+            List<Question> expected = QuestionLoaderFactory.getLoader(source).load(source);
+            File bank = compile(source);
+            QuestionLoader loader = QuestionLoaderFactory.getLoader(bank);
+            List<Question> actual = loader.load(bank);
+            assertEquals(expected.size(), actual.size(), name);
+            for (int i = 0; i < expected.size(); i++) {
+                Question e = expected.get(i), a = actual.get(i);
+                assertNotNull(a.getId());
+                assertEquals(a.getId(), a.getId());
+                assertEquals(e.getCategory(), a.getCategory());
+                assertEquals(e.getValue(), a.getValue());
+                assertEquals(e.getText(), a.getText());
+                assertEquals(e.getAnswer(), a.getAnswer());
+                for (String letter : new String[] {"A", "B", "C", "D"}) assertEquals(e.getChoiceByLetter(letter), a.getChoiceByLetter(letter));
+            }
+        }
+    }
+
+    @Test
+    void indexFindsByCategoryAndValue() throws Exception {
+        File csv = File.createTempFile("questions", ".csv");
+        csv.deleteOnExit();
+        try (FileWriter fw = new FileWriter(csv)) {
+            fw.write("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n"
+                    + "Loops,300,Q3,a,b,c,d,A\nArrays,100,Qa,a,b,c,d,B\nLoops,100,Q1,a,b,c,d,C\nLoops,200,\"Ünïcode, quoted\",a,b,c,d,D\n");
+        }
+        JqbBank bank = JqbBank.open(compile(csv));
+        assertEquals(4, bank.size());
+        assertEquals(List.of("Loops", "Arrays"), bank.categories());
+        assertArrayEquals(new int[] {100, 200, 300}, bank.values("Loops"));
+        assertEquals("Ünïcode, quoted", bank.find("Loops", 200).getText());
+        assertEquals("Q3", bank.find("Loops", 300).getText());
+        assertNull(bank.find("Loops", 400));
+        assertNull(bank.find("Pointers", 100));
+    }
+
+    @Test
+    void boardFromIndexMatchesBoardFromQuestions() throws Exception {
+        File csv = File.createTempFile("questions", ".csv");
+        csv.deleteOnExit();
+        try (FileWriter fw = new FileWriter(csv)) {
+            fw.write("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n"
+                    + "Loops,300,Q3,a,b,c,d,A\nArrays,100,Qa,a,b,c,d,B\nLoops,100,Q1,a,b,c,d,C\nLoops,300,Q3b,a,b,c,d,D\n");
+        }
+        File compiled = compile(csv);
+        QuestionBank expected = QuestionBank.of(QuestionLoaderFactory.getLoader(csv).load(csv));
+        QuestionBank board = QuestionLoaderFactory.getLoader(compiled).loadBank(compiled);
+        assertEquals(expected.categories(), board.categories());
+        assertEquals(expected.size(), board.size());
+        assertEquals(List.of(100, 300), board.values("Loops"));
+        for (int cell = 0; cell < board.size(); cell++) {
+            assertEquals(expected.value(cell), board.value(cell));
+            assertEquals(expected.question(cell).getCategory(), board.question(cell).getCategory());
+            assertEquals(expected.question(cell).getText(), board.question(cell).getText());
+            assertSame(board.question(cell), board.question(cell));
+        }
+        assertEquals("Q3b", board.question(board.cell("Loops", 300)).getText());
+    }
+
+    @Test
+    void setterDetachesLazyQuestion() throws Exception {
+        JqbBank bank = JqbBank.open(compile(new File("sample_game_CSV.csv")));
+        LazyQuestion q = (LazyQuestion) bank.question(0);
+        String answer = q.getAnswer();
+        assertFalse(q.isDetached());
+        q.setText("edited");
+        assertTrue(q.isDetached());
+        assertEquals("edited", q.getText());
+        assertEquals(answer, q.getAnswer());
+    }
+
+    @Test
+    void lazyGettersReadOnlyTheirField() {
+        List<String> reads = new ArrayList<>();
+        LazyQuestion q = new LazyQuestion("Loops", 100, new LazyQuestion.Body() {
+            @Override public String id() { reads.add("id"); return "q1"; }
+            @Override public String text() { reads.add("text"); return "Q"; }
+            @Override public String answer() { reads.add("answer"); return "A"; }
+            @Override public String choice(int choice) { reads.add("choice" + choice); return "c" + choice; }
+        });
+        assertEquals("Q", q.getText());
+        assertEquals("c2", q.getChoiceByLetter("C"));
+        assertEquals(List.of("text", "choice2"), reads);
+    }
+
+    @Test
+    void rejectsOtherFiles() throws Exception {
+        assertThrows(Exception.class, () -> JqbBank.open(new File("sample_game_CSV.csv")));
+    }
+}
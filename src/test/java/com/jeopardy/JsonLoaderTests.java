@@ -0,0 +1,67 @@
+package com.jeopardy;
+
+import com.jeopardy.loaders.JsonQuestionLoader;
+import com.jeopardy.model.Question;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLoaderTests {
+
+    private static File json(String content) throws Exception {
+        File f = File.createTempFile("questions", ".json");
+        f.deleteOnExit();
+        try (FileWriter fw = new FileWriter(f)) { fw.write(content); }
+        return f;
+    }
+
+    @Test
+    void sampleFileReadsCorrectAnswer() throws Exception {
+        List<Question> list = new JsonQuestionLoader().load(new File("sample_game_JSON.json"));
+        assertEquals(25, list.size());
+        assertEquals("A", list.get(0).getAnswer());
+        assertEquals("int num;", list.get(0).getChoiceA());
+        assertEquals("integer num;", list.get(0).getChoiceD());
+    }
+
+    @Test
+    void readsNewlineDelimitedObjects() throws Exception {
+        File f = json("{\"category\":\"Loops\",\"value\":100,\"question\":\"Q1\",\"answer\":\"A\"}\n"
+                + "{\"category\":\"Loops\",\"value\":\"200\",\"question\":\"Q2\",\"answer\":\"B\",\"extra\":{\"nested\":[1,2]}}\n");
+        List<Question> list = new JsonQuestionLoader().load(f);
+        assertEquals(2, list.size());
+        assertEquals(200, list.get(1).getValue());
+        assertEquals("B", list.get(1).getAnswer());
+    }
+
+    @Test
+    void aliasPrecedenceDoesNotDependOnKeyOrder() throws Exception {
+        File f = json("[{\"choiceB\":\"top\",\"Options\":{\"OptionA\":\"fallback\",\"B\":\"opt\",\"C\":\"optC\"},"
+                + "\"choices\":[\"arr0\",\"arr1\",\"arr2\",\"arr3\"],\"Answer\":\"upper\",\"answer\":\"lower\","
+                + "\"Category\":\"Upper\",\"Value\":300,\"Question\":\"Q\"}]");
+        Question q = new JsonQuestionLoader().load(f).get(0);
+        assertEquals("arr0", q.getChoiceA());
+        assertEquals("top", q.getChoiceB());
+        assertEquals("optC", q.getChoiceC());
+        assertEquals("arr3", q.getChoiceD());
+        assertEquals("lower", q.getAnswer());
+        assertEquals("Upper", q.getCategory());
+        assertEquals(300, q.getValue());
+    }
+
+    @Test
+    void streamsQuestionsToACallback() throws Exception {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 500; i++) sb.append(i == 0 ? "" : ",").append("{\"category\":\"C\",\"value\":").append(i).append(",\"question\":\"Q\",\"answer\":\"A\"}");
+        File f = json(sb.append("]").toString());
+        List<Integer> values = new ArrayList<>();
+        new JsonQuestionLoader().forEach(f, q -> values.add(q.getValue()));
+        assertEquals(500, values.size());
+        assertEquals(499, values.get(499));
+    }
+}
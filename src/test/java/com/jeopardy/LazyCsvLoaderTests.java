@@ -0,0 +1,70 @@
+package com.jeopardy;
+
+import com.jeopardy.loaders.CsvQuestionLoader;
+import com.jeopardy.loaders.LazyCsvQuestionLoader;
+import com.jeopardy.model.Question;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyCsvLoaderTests {
+
+    private static File csv(String content) throws Exception {
+        File f = File.createTempFile("questions", ".csv");
+        f.deleteOnExit();
+        try (FileOutputStream out = new FileOutputStream(f)) { out.write(content.getBytes(Charset.defaultCharset())); }
+        return f;
+    }
+
+    private static void assertSameQuestions(File f) throws Exception {
+        List<Question> eager = new CsvQuestionLoader().load(f);
+        List<Question> lazy = new LazyCsvQuestionLoader(2).load(f);
+        assertEquals(eager.size(), lazy.size());
+        for (int i = 0; i < eager.size(); i++) {
+            Question e = eager.get(i), l = lazy.get(i);
+            assertEquals(e.getCategory(), l.getCategory());
+            assertEquals(e.getValue(), l.getValue());
+            assertEquals(e.getText(), l.getText());
+            assertEquals(e.getAnswer(), l.getAnswer());
+            for (String letter : new String[] {"A", "B", "C", "D"}) assertEquals(e.getChoiceByLetter(letter), l.getChoiceByLetter(letter));
+        }
+    }
+
+    @Test
+    void matchesEagerLoaderOnSample() throws Exception {
+        assertSameQuestions(new File("sample_game_CSV.csv"));
+    }
+
+    @Test
+    void matchesEagerLoaderOnQuotedMultilineRows() throws Exception {
+        assertSameQuestions(csv("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\r\n"
+                + "\r\n  \n\"Loops, nested\", 200 ,\"Line one\nline two\",a,b,c,d,B\r\n"
+                + "short,row\n"
+                + "Ünïcode,x,Q,answer\n"
+                + "Arrays,300,\"Say \"\"hi\"\"\",a,b,c,d,C"));
+    }
+
+    @Test
+    void idsStayStableWhenBodiesAreEvicted() throws Exception {
+        List<Question> list = new LazyCsvQuestionLoader(1).load(new File("sample_game_CSV.csv"));
+        String id = list.get(0).getId();
+        list.get(1).getText();
+        list.get(2).getText();
+        assertEquals(id, list.get(0).getId());
+        assertNotEquals(id, list.get(1).getId());
+    }
+
+    @Test
+    void changedFileIsDetected() throws Exception {
+        File f = csv("Loops,100,Q1,a,b,c,d,A\n");
+        List<Question> list = new LazyCsvQuestionLoader().load(f);
+        assertEquals("Loops", list.get(0).getCategory());
+        try (FileOutputStream out = new FileOutputStream(f, true)) { out.write("Loops,200,Q2,a,b,c,d,B\n".getBytes()); }
+        assertThrows(IllegalStateException.class, () -> list.get(0).getText());
+    }
+}
@@ -0,0 +1,69 @@
+package com.jeopardy;
+
+import com.jeopardy.loaders.CsvQuestionLoader;
+import com.jeopardy.loaders.ParallelCsvQuestionLoader;
+import com.jeopardy.model.Question;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelCsvLoaderTests {
+
+    private static File bank(int rows) throws Exception {
+        File f = File.createTempFile("bank", ".csv");
+        f.deleteOnExit();
+        try (FileWriter fw = new FileWriter(f)) {
+            fw.write("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n");
+            for (int i = 0; i < rows; i++) {
+                if (i % 3 == 0) fw.write("\"Cat, " + (i % 7) + "\"," + i + ",\"Line one\nline \"\"two\"\", " + i + "\",a,b,c,d,A\n");
+                else fw.write("Cat " + (i % 7) + "," + i + ",Plain question " + i + "?,a,b,c,d,B\r\n");
+            }
+        }
+        return f;
+    }
+
+    private static void assertSameQuestions(List<Question> expected, List<Question> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getCategory(), actual.get(i).getCategory());
+            assertEquals(expected.get(i).getValue(), actual.get(i).getValue());
+            assertEquals(expected.get(i).getText(), actual.get(i).getText());
+            assertEquals(expected.get(i).getAnswer(), actual.get(i).getAnswer());
+            assertEquals(expected.get(i).getChoiceD(), actual.get(i).getChoiceD());
+        }
+    }
+
+    @Test
+    void chunkBoundariesRespectQuotedNewlines() throws Exception {
+        File f = bank(500);
+        List<Question> expected = new CsvQuestionLoader().load(f);
+        assertEquals(500, expected.size());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        for (int chunk : new int[] {1, 5, 31, 100, 4096, 1 << 20}) {
+            assertSameQuestions(expected, new ParallelCsvQuestionLoader(pool, chunk).load(f));
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    void headerIsOnlySkippedAtTheStartOfTheFile() throws Exception {
+        File f = File.createTempFile("bank", ".csv");
+        f.deleteOnExit();
+        try (FileWriter fw = new FileWriter(f)) {
+            fw.write("Category,Value,Question,Answer\n");
+            for (int i = 0; i < 50; i++) fw.write("Questions,100,Question " + i + ",A\n");
+        }
+        assertEquals(50, new ParallelCsvQuestionLoader(ForkJoinPool.commonPool(), 16).load(f).size());
+    }
+
+    @Test
+    void loadsTheSampleFile() throws Exception {
+        File f = new File("sample_game_CSV.csv");
+        assertSameQuestions(new CsvQuestionLoader().load(f), new ParallelCsvQuestionLoader(ForkJoinPool.commonPool(), 512).load(f));
+    }
+}
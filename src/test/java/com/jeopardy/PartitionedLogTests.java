@@ -0,0 +1,89 @@
+package com.jeopardy;
+
+import com.jeopardy.engine.EventLogger;
+import com.jeopardy.engine.EventLoggerFactory;
+import com.jeopardy.eventlog.LogEvent;
+import com.jeopardy.eventlog.PartitionedEventSink;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionedLogTests {
+
+    private static File tempDir() throws Exception {
+        File dir = Files.createTempDirectory("partitions").toFile();
+        dir.deleteOnExit();
+        return dir;
+    }
+
+    @Test
+    void eachCaseGetsItsOwnFile() throws Exception {
+        File dir = tempDir();
+        PartitionedEventSink sink = new PartitionedEventSink(dir, 0);
+        EventLogger logger = EventLogger.create(sink);
+        logger.log("GAME-A", "P1", "SELECT_CATEGORY", "Arrays", null, "", "OK", 0);
+        logger.log("GAME-B", "P1", "SELECT_CATEGORY", "Functions", null, "", "OK", 0);
+        logger.log("GAME-A", "P1", "ANSWER", "Arrays", 100, "A", "CORRECT", 100);
+        logger.close();
+
+        List<String> a = Files.readAllLines(sink.partitionFile("GAME-A").toPath());
+        List<String> b = Files.readAllLines(sink.partitionFile("GAME-B").toPath());
+        assertEquals(3, a.size()); // header + two events
+        assertEquals(2, b.size()); // header + one event
+        assertTrue(a.stream().skip(1).allMatch(l -> l.startsWith("GAME-A,")));
+    }
+
+    @Test
+    void bucketsBoundTheNumberOfFiles() throws Exception {
+        File dir = tempDir();
+        EventLogger logger = EventLoggerFactory.partitioned(dir, 4);
+        for (int i = 0; i < 50; i++) logger.log("GAME" + i, "SYSTEM", "START_GAME", "", null, "", "OK", 0);
+        PartitionedEventSink sink = (PartitionedEventSink) logger.getSink();
+        logger.close();
+        assertTrue(sink.partitionFiles().size() <= 4);
+    }
+
+    @Test
+    void reopensEvictedPartitionsAndMergesInTimeOrder() throws Exception {
+        File dir = tempDir();
+        PartitionedEventSink sink = new PartitionedEventSink(dir, 0, 2);
+        EventLogger logger = EventLogger.create(sink);
+        for (int i = 0; i < 30; i++) logger.log("GAME" + (i % 5), "P1", "ANSWER", "Arrays", 100, "A", "CORRECT", i);
+        logger.close();
+
+        File merged = new File(dir, "merged.csv");
+        sink.mergeTo(merged);
+        List<String> lines = Files.readAllLines(merged.toPath());
+        assertEquals(31, lines.size()); // one header + every event
+        assertTrue(lines.get(0).startsWith("Case_ID,"));
+        for (int i = 2; i < lines.size(); i++) {
+            String prev = lines.get(i - 1).split(",")[3], cur = lines.get(i).split(",")[3];
+            assertTrue(prev.compareTo(cur) <= 0, "merged rows must be in timestamp order");
+        }
+    }
+
+    @Test
+    void sanitisedNamesDoNotCollide() throws Exception {
+        PartitionedEventSink sink = new PartitionedEventSink(tempDir(), 0);
+        List<String> ids = List.of("a b", "a/b", "a_b", "Ab", "ab", "unassigned");
+        for (String id : ids) for (String other : ids) if (!id.equals(other)) assertNotEquals(sink.partitionFile(id).getName().toLowerCase(), sink.partitionFile(other).getName().toLowerCase());
+        assertNotEquals(sink.partitionFile(null), sink.partitionFile("unassigned"));
+        assertEquals("case-a_b.csv", sink.partitionFile("a_b").getName());
+        sink.close();
+    }
+
+    @Test
+    void writesAfterCloseAreRejected() throws Exception {
+        File dir = tempDir();
+        PartitionedEventSink sink = new PartitionedEventSink(dir, 0);
+        sink.write(new LogEvent("GAME-A", "P1", "START_GAME", "", null, "", "OK", 0, 0L));
+        sink.close();
+        assertThrows(IOException.class, () -> sink.write(new LogEvent("GAME-B", "P1", "START_GAME", "", null, "", "OK", 0, 0L)));
+        assertFalse(sink.partitionFile("GAME-B").exists());
+    }
+}
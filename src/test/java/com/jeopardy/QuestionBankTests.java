@@ -0,0 +1,106 @@
+package com.jeopardy;
+
+import com.jeopardy.engine.GameEngine;
+import com.jeopardy.engine.GameHost;
+import com.jeopardy.engine.GameState;
+import com.jeopardy.loaders.CsvQuestionLoader;
+import com.jeopardy.model.Player;
+import com.jeopardy.model.Question;
+import com.jeopardy.model.QuestionBank;
+import com.jeopardy.model.QuestionBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuestionBankTests {
+
+    private static Question q(String cat, int value, String text) {
+        return new QuestionBuilder().category(cat).value(value).text(text).answer("x").build();
+    }
+
+    @Test
+    void cellsFollowBoardOrder() {
+        QuestionBank bank = QuestionBank.of(List.of(q("B", 300, "b3"), q("A", 200, "a2"), q("B", 100, "b1"), q("A", 200, "a2 again")));
+        assertEquals(List.of("B", "A"), bank.categories());
+        assertEquals(3, bank.size());
+        assertEquals(List.of(100, 300), bank.values("B"));
+        assertTrue(bank.values("C").isEmpty());
+        assertEquals(0, bank.cell("B", 100));
+        assertEquals(1, bank.cell("B", 300));
+        assertEquals("a2 again", bank.question(bank.cell("A", 200)).getText());
+        assertThrows(UnsupportedOperationException.class, () -> bank.question(0).setText("edited"));
+        assertThrows(UnsupportedOperationException.class, () -> bank.question(0).setAsked(true));
+        assertEquals("b1", bank.question(0).getText());
+        assertEquals(-1, bank.cell("A", 100));
+        assertEquals(-1, bank.cell("C", 100));
+        assertEquals(-1, bank.categoryIndex(null));
+        assertEquals(2, bank.firstCell(1));
+        assertEquals(3, bank.endCell(1));
+    }
+
+    @Test
+    void sessionsShareBankButNotAskedState() throws Exception {
+        QuestionBank bank = new CsvQuestionLoader().loadBank(new File("sample_game_CSV.csv"));
+        GameHost host = new GameHost();
+        GameEngine a = host.create("bank-a", bank), b = host.create("bank-b", bank);
+        assertSame(bank, a.getQuestionBank());
+        assertSame(a.getQuestionBank(), b.getQuestionBank());
+        a.addPlayer(new Player("P1", "Ada"));
+        b.addPlayer(new Player("P1", "Bob"));
+        a.start(); b.start();
+        String cat = bank.categories().get(0);
+        a.selectCategory(cat);
+        a.selectQuestion(100);
+        assertTrue(a.submitAnswer("A").isAccepted());
+        assertEquals(bank.size() - 1, a.state().getRemaining());
+        assertEquals(bank.size(), b.state().getRemaining());
+        assertFalse(bank.question(bank.cell(cat, 100)).isAsked());
+        assertTrue(b.selectCategory(cat).isAccepted());
+        assertTrue(b.selectQuestion(100).isAccepted());
+        a.selectCategory(cat);
+        assertEquals("Already asked", a.selectQuestion(100).getMessage());
+    }
+
+    @Test
+    void sessionEndsWhenItsOwnCellsAreAsked() {
+        QuestionBank bank = QuestionBank.of(List.of(q("A", 100, "only")));
+        GameEngine a = new GameEngine("one-cell"), b = new GameEngine("other");
+        a.useQuestionBank(bank); b.useQuestionBank(bank);
+        a.addPlayer(new Player("P1", "Ada"));
+        a.start();
+        a.selectCategory("A");
+        a.selectQuestion(100);
+        a.submitAnswer("x");
+        assertEquals(GameState.Phase.GAME_OVER, a.state().getPhase());
+        assertFalse(b.allAnswered());
+        assertThrows(IllegalArgumentException.class, () -> a.useQuestionBank(null));
+    }
+
+    @Test
+    void remainingCountsFollowAnswers() {
+        QuestionBank bank = QuestionBank.of(List.of(q("A", 100, "a1"), q("A", 200, "a2"), q("B", 100, "b1")));
+        GameEngine e = new GameEngine("counters");
+        e.useQuestionBank(bank);
+        e.addPlayer(new Player("P1", "Ada"));
+        e.start();
+        assertSame(e.categories(), e.categories());
+        assertSame(bank.values("A"), e.valuesForCategory("A"));
+        assertSame(bank.values("A"), e.selectCategory("A").getState().getAvailableValues());
+        e.selectQuestion(200);
+        e.submitAnswer("x");
+        assertEquals(2, e.state().getRemaining());
+        assertEquals(List.of(100), e.selectCategory("A").getState().getAvailableValues());
+        e.selectQuestion(100);
+        e.submitAnswer("x");
+        assertEquals("No remaining questions in this category.", e.selectCategory("A").getMessage());
+        assertEquals(List.of(100, 200), e.valuesForCategory("A"));
+        assertTrue(e.selectCategory("B").isAccepted());
+        e.selectQuestion(100);
+        e.submitAnswer("x");
+        assertTrue(e.allAnswered());
+        assertEquals(0, e.state().getRemaining());
+    }
+}
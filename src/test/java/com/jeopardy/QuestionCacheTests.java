@@ -0,0 +1,140 @@
+package com.jeopardy;
+
+import com.jeopardy.loaders.CachingQuestionLoader;
+import com.jeopardy.loaders.CsvQuestionLoader;
+import com.jeopardy.loaders.LazyCsvQuestionLoader;
+import com.jeopardy.loaders.QuestionLoader;
+import com.jeopardy.loaders.QuestionLoaderFactory;
+import com.jeopardy.model.LazyQuestion;
+import com.jeopardy.model.Question;
+import com.jeopardy.model.StringPool;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuestionCacheTests {
+
+    private static File cacheDir() throws Exception {
+        File dir = Files.createTempDirectory("qcache").toFile();
+        dir.deleteOnExit();
+        return dir;
+    }
+
+    private static File csv(String rows) throws Exception {
+        File f = File.createTempFile("questions", ".csv");
+        f.deleteOnExit();
+        try (FileWriter fw = new FileWriter(f)) { fw.write("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n" + rows); }
+        return f;
+    }
+
+    private static int entries(File dir) {
+        File[] files = dir.listFiles((d, n) -> n.endsWith(".jqb"));
+        for (File f : files) f.deleteOnExit();
+        return files.length;
+    }
+
+    @Test
+    void repeatLoadServedFromSnapshot() throws Exception {
+        File dir = cacheDir();
+        CachingQuestionLoader cache = new CachingQuestionLoader(dir, CachingQuestionLoader.DEFAULT_MAX_BYTES);
+        List<Question> first = cache.load(new File("sample_game_JSON.json"));
+        List<Question> second = cache.load(new File("sample_game_JSON.json"));
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, entries(dir));
+        assertEquals(first.size(), second.size());
+        assertTrue(second.get(0) instanceof LazyQuestion);
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getId(), second.get(i).getId());
+            assertEquals(first.get(i).getText(), second.get(i).getText());
+            assertEquals(first.get(i).getChoiceC(), second.get(i).getChoiceC());
+        }
+    }
+
+    @Test
+    void editedFileMisses() throws Exception {
+        File dir = cacheDir();
+        CachingQuestionLoader cache = new CachingQuestionLoader(dir, CachingQuestionLoader.DEFAULT_MAX_BYTES);
+        File f = csv("Loops,100,Q1,a,b,c,d,A\n");
+        cache.load(f);
+        try (FileWriter fw = new FileWriter(f, true)) { fw.write("Loops,200,Q2,a,b,c,d,B\n"); }
+        assertEquals(2, cache.load(f).size());
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void sameSizeAndTimeWithNewContentsMisses() throws Exception {
+        File dir = cacheDir();
+        CachingQuestionLoader cache = new CachingQuestionLoader(dir, CachingQuestionLoader.DEFAULT_MAX_BYTES);
+        File f = csv("Loops,100,Q1,a,b,c,d,A\n");
+        long modified = f.lastModified();
+        cache.load(f);
+        try (FileWriter fw = new FileWriter(f)) { fw.write("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\nLoops,100,Q9,a,b,c,d,A\n"); }
+        assertTrue(f.setLastModified(modified));
+        assertEquals("Q9", cache.load(f).get(0).getText());
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void chosenLoaderParsesMisses() throws Exception {
+        CachingQuestionLoader cache = new CachingQuestionLoader(cacheDir(), CachingQuestionLoader.DEFAULT_MAX_BYTES);
+        StringPool strings = new StringPool();
+        File f = csv("Loops,100,Q1,a,b,c,d,A\nLoops,200,Q2,a,b,c,d,B\n");
+        assertEquals(2, cache.wrap(QuestionLoaderFactory.getLoader(f, strings)).load(f).size());
+        assertTrue(strings.getHits() > 0);
+        assertEquals(2, cache.wrap(QuestionLoaderFactory.getLoader(f, strings)).load(f).size());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void fileEditedWhileParsingIsNotStored() throws Exception {
+        File dir = cacheDir();
+        CachingQuestionLoader cache = new CachingQuestionLoader(dir, CachingQuestionLoader.DEFAULT_MAX_BYTES);
+        File f = csv("Loops,100,Q1,a,b,c,d,A\n");
+        QuestionLoader editing = file -> {
+            List<Question> list = new CsvQuestionLoader().load(file);
+            try (FileWriter fw = new FileWriter(file, true)) { fw.write("Loops,200,Q2,a,b,c,d,B\n"); }
+            return list;
+        };
+        assertEquals(1, cache.wrap(editing).load(f).size());
+        assertEquals(0, entries(dir));
+        assertEquals(2, cache.load(f).size());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void lazyLoaderMissesAreNotCompiled() throws Exception {
+        File dir = cacheDir();
+        CachingQuestionLoader cache = new CachingQuestionLoader(dir, CachingQuestionLoader.DEFAULT_MAX_BYTES);
+        File f = csv("Loops,100,Q1,a,b,c,d,A\n");
+        List<Question> list = cache.wrap(new LazyCsvQuestionLoader()).load(f);
+        assertEquals(0, entries(dir));
+        assertTrue(list.get(0) instanceof LazyQuestion);
+        cache.load(f);
+        assertEquals(1, entries(dir));
+        assertEquals("Q1", cache.wrap(new LazyCsvQuestionLoader()).load(f).get(0).getText());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        File dir = cacheDir();
+        CachingQuestionLoader cache = new CachingQuestionLoader(dir, 1);
+        cache.load(csv("Loops,100,Q1,a,b,c,d,A\n"));
+        cache.load(csv("Arrays,100,Q2,a,b,c,d,A\n"));
+        assertEquals(1, entries(dir));
+    }
+
+    @Test
+    void unsupportedFileRejected() {
+        CachingQuestionLoader cache = new CachingQuestionLoader(new File("target"), 1);
+        assertThrows(IllegalArgumentException.class, () -> cache.load(new File("pom.xml.txt")));
+    }
+}
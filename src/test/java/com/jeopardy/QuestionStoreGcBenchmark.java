@@ -0,0 +1,77 @@
+package com.jeopardy;
+
+import com.jeopardy.model.Question;
+import com.jeopardy.model.QuestionBuilder;
+import com.jeopardy.model.QuestionStore;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GC comparison of a large question bank held as Question objects, as a heap QuestionStore
+ * and as an off-heap QuestionStore. For each, the bank is built, then the benchmark times
+ * explicit full collections (which must mark the live bank) and a burst of short-lived
+ * garbage like a busy game server's. Not run by the test suite.
+ * Usage: QuestionStoreGcBenchmark [questions] (run with a fixed heap, e.g. -Xms2g -Xmx2g)
+ */
+public class QuestionStoreGcBenchmark {
+    private static volatile Object sink;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        System.out.printf("%,d questions%n", n);
+        run("objects", () -> { List<Question> list = new ArrayList<>(n); for (int i = 0; i < n; i++) list.add(question(i)); return list; });
+        run("heap store", () -> store(n, false));
+        run("off-heap store", () -> store(n, true));
+    }
+
+    private static Question question(int i) {
+        return new QuestionBuilder().category("Category " + (i % 50)).value((i % 5 + 1) * 100)
+                .text("Which option, of the four, is number " + i + "?").answer("C")
+                .choiceA("alpha " + i).choiceB("beta " + i).choiceC("gamma " + i).choiceD("delta " + i).build();
+    }
+
+    private static QuestionStore store(int n, boolean offHeap) {
+        QuestionStore.Builder b = new QuestionStore.Builder().offHeap(offHeap);
+        for (int i = 0; i < n; i++) b.add(question(i));
+        return b.build();
+    }
+
+    private static void run(String label, java.util.function.Supplier<Object> bank) {
+        sink = null;
+        fullGc();
+        long before = used();
+        Object live = bank.get();
+        fullGc();
+        long heap = used() - before;
+        long fullStart = System.nanoTime();
+        for (int i = 0; i < 5; i++) System.gc();
+        double fullMs = (System.nanoTime() - fullStart) / 5e6;
+        long[] gc0 = gcTotals();
+        long churnStart = System.nanoTime();
+        for (int i = 0; i < 20_000_000; i++) sink = new byte[64];
+        double churnMs = (System.nanoTime() - churnStart) / 1e6;
+        long[] gc1 = gcTotals();
+        long offHeap = live instanceof QuestionStore ? ((QuestionStore) live).offHeapBytes() : 0;
+        System.out.printf("%-15s heap %7.1f MB  off-heap %7.1f MB  full GC %7.1f ms  churn %7.1f ms (%d GCs, %d ms)%n",
+                label, heap / 1e6, offHeap / 1e6, fullMs, churnMs, gc1[0] - gc0[0], gc1[1] - gc0[1]);
+        sink = live.hashCode();
+    }
+
+    private static void fullGc() {
+        for (int i = 0; i < 3; i++) System.gc();
+    }
+
+    private static long used() {
+        Runtime r = Runtime.getRuntime();
+        return r.totalMemory() - r.freeMemory();
+    }
+
+    private static long[] gcTotals() {
+        long count = 0, time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) { count += gc.getCollectionCount(); time += gc.getCollectionTime(); }
+        return new long[] {count, time};
+    }
+}
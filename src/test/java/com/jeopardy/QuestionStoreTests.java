@@ -0,0 +1,97 @@
+package com.jeopardy;
+
+import com.jeopardy.loaders.QuestionLoaderFactory;
+import com.jeopardy.model.LazyQuestion;
+import com.jeopardy.model.Question;
+import com.jeopardy.model.QuestionBuilder;
+import com.jeopardy.model.QuestionIds;
+import com.jeopardy.model.QuestionStore;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuestionStoreTests {
+
+    @Test
+    void sampleFilesMatchLoadedQuestions() throws Exception {
+        for (String name : new String[] {"sample_game_CSV.csv", "sample_game_JSON.json", "sample_game_XML.xml"}) {
+            File f = new File(name);
+            List<Question> list = QuestionLoaderFactory.getLoader(f).load(f);
+            QuestionStore store = new QuestionStore.Builder().add(list.get(0)).build();
+            assertEquals(list.get(0).getId(), store.id(0));
+            store = QuestionLoaderFactory.getLoader(f).loadStore(f);
+            assertEquals(list.size(), store.size(), name);
+            for (int i = 0; i < list.size(); i++) {
+                Question e = list.get(i), v = store.get(i);
+                assertEquals(e.getCategory(), v.getCategory());
+                assertEquals(e.getValue(), v.getValue());
+                assertEquals(e.getText(), v.getText());
+                assertEquals(e.getAnswer(), v.getAnswer());
+                for (String letter : new String[] {"A", "B", "C", "D"}) assertEquals(e.getChoiceByLetter(letter), v.getChoiceByLetter(letter));
+            }
+        }
+    }
+
+    @Test
+    void keepsNullsUnicodeAndForeignIds() {
+        Question foreign = new Question("legacy-7", "Loops", 300, "Ünïcode ✓", "A");
+        QuestionStore store = new QuestionStore.Builder()
+                .add("Loops", 100, "", "B", null, "b", null, "d")
+                .add(foreign)
+                .build();
+        assertEquals(List.of("Loops"), store.categories());
+        assertEquals("", store.text(0));
+        assertNull(store.choice(0, 0));
+        assertEquals("b", store.choice(0, 1));
+        assertNull(store.choice(1, 3));
+        assertEquals("Ünïcode ✓", store.text(1));
+        assertEquals("legacy-7", store.id(1));
+        assertNotNull(QuestionIds.parse(store.id(0)));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.value(2));
+    }
+
+    @Test
+    void offHeapStoreKeepsStringsOutOfTheHeap() {
+        QuestionStore.Builder heap = new QuestionStore.Builder().offHeap(false), direct = new QuestionStore.Builder().offHeap(true);
+        for (int i = 0; i < 1000; i++) {
+            heap.add("Loops", i, "Question number " + i + " ✓", "A", "a" + i, null, "c", "d");
+            direct.add("Loops", i, "Question number " + i + " ✓", "A", "a" + i, null, "c", "d");
+        }
+        QuestionStore onHeap = heap.build(), offHeap = direct.build();
+        assertFalse(onHeap.isOffHeap());
+        assertTrue(offHeap.isOffHeap());
+        assertEquals(0, onHeap.offHeapBytes());
+        assertTrue(offHeap.offHeapBytes() > 0);
+        assertTrue(offHeap.estimatedBytes() < onHeap.estimatedBytes());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(onHeap.text(i), offHeap.text(i));
+            assertEquals(onHeap.choice(i, 0), offHeap.choice(i, 0));
+            assertNull(offHeap.choice(i, 1));
+            assertEquals(onHeap.get(i).getChoiceByLetter("C"), offHeap.get(i).getChoiceByLetter("C"));
+        }
+    }
+
+    @Test
+    void viewsDetachOnEditWithoutChangingTheStore() {
+        QuestionStore store = new QuestionStore.Builder().add("Loops", 100, "Q", "A", "a", "b", "c", "d").build();
+        LazyQuestion view = (LazyQuestion) store.get(0);
+        view.setAsked(true);
+        assertFalse(view.isDetached());
+        view.setText("edited");
+        assertEquals("edited", view.getText());
+        assertEquals("Q", store.text(0));
+        assertFalse(store.get(0).isAsked());
+    }
+
+    @Test
+    void builderIdsAreSequentialHex() {
+        String a = new QuestionBuilder().build().getId(), b = new QuestionBuilder().build().getId();
+        assertEquals(16, a.length());
+        assertEquals(QuestionIds.parse(a) + 1, (long) QuestionIds.parse(b));
+        assertEquals(a, QuestionIds.format(QuestionIds.parse(a)));
+        assertNull(QuestionIds.parse("not-an-id"));
+    }
+}
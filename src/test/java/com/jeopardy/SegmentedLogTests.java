@@ -0,0 +1,127 @@
+package com.jeopardy;
+
+import com.jeopardy.engine.EventLogger;
+import com.jeopardy.eventlog.SegmentedCsvSink;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedLogTests {
+
+    private static File tempDir() throws Exception {
+        File dir = Files.createTempDirectory("segments").toFile();
+        dir.deleteOnExit();
+        return dir;
+    }
+
+    @Test
+    void rollsSegmentsAndKeepsHeaderInEach() throws Exception {
+        File dir = tempDir();
+        SegmentedCsvSink sink = new SegmentedCsvSink(dir, "game_event_log", 1024);
+        EventLogger logger = EventLogger.create(sink);
+        for (int i = 0; i < 100; i++) logger.log("CASE1", "P1", "ANSWER", "Arrays", 100, "A", "CORRECT", i);
+        logger.close();
+
+        List<File> segments = sink.getSegmentFiles();
+        assertTrue(segments.size() > 1);
+        int events = 0;
+        for (File f : segments) {
+            List<String> lines = Files.readAllLines(f.toPath());
+            assertTrue(lines.get(0).startsWith("Case_ID,Player_ID,Activity"));
+            assertTrue(f.length() <= 1024);
+            events += lines.size() - 1;
+        }
+        assertEquals(100, events);
+        assertEquals(segments.size() + 1, Files.readAllLines(sink.getManifest().toPath()).size());
+    }
+
+    @Test
+    void gzipsClosedSegments() throws Exception {
+        File dir = tempDir();
+        SegmentedCsvSink sink = new SegmentedCsvSink(dir, "log", 512, 0, true);
+        EventLogger logger = EventLogger.create(sink);
+        for (int i = 0; i < 40; i++) logger.log("CASE1", "P1", "SELECT_CATEGORY", "Functions", null, "", "OK", 0);
+        logger.close();
+
+        for (File f : sink.getSegmentFiles()) {
+            assertTrue(f.getName().endsWith(".csv.gz"), f.getName());
+            try (GZIPInputStream in = new GZIPInputStream(new FileInputStream(f))) {
+                String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                assertTrue(content.startsWith("Case_ID,"));
+            }
+        }
+        assertTrue(Files.readString(sink.getManifest().toPath()).contains("COMPRESSED"));
+    }
+
+    @Test
+    void resumesNumberingFromManifest() throws Exception {
+        File dir = tempDir();
+        SegmentedCsvSink first = new SegmentedCsvSink(dir, "log", 4096);
+        first.write(new com.jeopardy.eventlog.LogEvent("C", "P", "A", null, null, null, "OK", 0, 0L));
+        first.close();
+        SegmentedCsvSink second = new SegmentedCsvSink(dir, "log", 4096);
+        second.close();
+        List<File> files = second.getSegmentFiles();
+        assertEquals(2, files.size());
+        assertEquals("log-000002.csv", files.get(1).getName());
+    }
+
+    @Test
+    void unclosedSegmentIsTrimmedOnRestart() throws Exception {
+        File dir = tempDir();
+        SegmentedCsvSink crashed = new SegmentedCsvSink(dir, "log", 4096);
+        for (int i = 0; i < 3; i++) crashed.write(new com.jeopardy.eventlog.LogEvent("C", "P", "A", null, null, null, "OK", i, 1_000_000L * (i + 1)));
+        SegmentedCsvSink next = new SegmentedCsvSink(dir, "log", 4096);
+        next.close();
+        byte[] data = Files.readAllBytes(new File(dir, "log-000001.csv").toPath());
+        assertEquals('\n', data[data.length - 1]);
+        for (byte b : data) assertNotEquals(0, b);
+        assertEquals(4, Files.readAllLines(new File(dir, "log-000001.csv").toPath()).size());
+        String manifest = Files.readString(next.getManifest().toPath());
+        assertTrue(manifest.contains("log-000001.csv,0,2,1970-01-01T00:00:01Z,1970-01-01T00:00:03Z,3," + data.length + ",UNCLOSED"), manifest);
+    }
+
+    @Test
+    void interruptedCompressionIsFinishedOnRestart() throws Exception {
+        File dir = tempDir();
+        String content = "Case_ID,Player_ID,Activity\nC,P,A\n";
+        Files.writeString(new File(dir, "log-000001.csv").toPath(), content);
+        Files.write(new File(dir, "log-000001.csv.gz").toPath(), new byte[] { 31, -117, 8 });
+        Files.writeString(new File(dir, "log.manifest.csv").toPath(), SegmentedCsvSink.MANIFEST_HEADER
+                + "log-000001.csv,0,0,1970-01-01T00:00:01Z,1970-01-01T00:00:01Z,1," + content.length() + ",COMPRESSING\n");
+        SegmentedCsvSink sink = new SegmentedCsvSink(dir, "log", 4096, 0, true);
+        sink.close();
+
+        File first = sink.getSegmentFiles().get(0);
+        assertEquals("log-000001.csv.gz", first.getName());
+        assertFalse(new File(dir, "log-000001.csv").exists());
+        try (GZIPInputStream in = new GZIPInputStream(new FileInputStream(first))) {
+            assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertTrue(Files.readString(sink.getManifest().toPath()).contains("log-000001.csv.gz,0,0,"));
+        assertFalse(Files.readString(sink.getManifest().toPath()).contains("COMPRESSING"));
+    }
+
+    @Test
+    void writeAfterCloseFails() throws Exception {
+        SegmentedCsvSink sink = new SegmentedCsvSink(tempDir(), "log", 4096);
+        sink.close();
+        assertThrows(java.io.IOException.class, () -> sink.write(new com.jeopardy.eventlog.LogEvent("C", "P", "A", null, null, null, "OK", 0, 0L)));
+    }
+
+    @Test
+    void durabilityPolicyForcesSegment() throws Exception {
+        SegmentedCsvSink sink = new SegmentedCsvSink(tempDir(), "log", 4096, 0, false, com.jeopardy.eventlog.DurabilityPolicy.perEvent());
+        sink.write(new com.jeopardy.eventlog.LogEvent("C", "P", "A", null, null, null, "OK", 0, 0L));
+        sink.write(new com.jeopardy.eventlog.LogEvent("C", "P", "A", null, null, null, "OK", 1, 0L));
+        assertEquals(2, sink.getFsyncMetrics().getCount());
+        sink.close();
+    }
+}
@@ -0,0 +1,58 @@
+package com.jeopardy;
+
+import com.jeopardy.loaders.QuestionLoaderFactory;
+import com.jeopardy.model.Question;
+import com.jeopardy.model.QuestionBuilder;
+import com.jeopardy.model.StringPool;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringPoolTests {
+
+    @Test
+    void internReturnsFirstInstanceAndCountsSavings() {
+        StringPool pool = new StringPool();
+        String a = new String("True");
+        String b = new String("True");
+        assertSame(a, pool.intern(a));
+        assertSame(a, pool.intern(b));
+        assertNull(pool.intern(null));
+        assertEquals(2, pool.getLookups());
+        assertEquals(1, pool.getHits());
+        assertEquals(48, pool.getSavedBytes());
+    }
+
+    @Test
+    void everyLoaderSharesRepeatedStrings() throws Exception {
+        for (String name : new String[] {"sample_game_CSV.csv", "sample_game_JSON.json", "sample_game_XML.xml"}) {
+            StringPool pool = new StringPool();
+            File f = new File(name);
+            List<Question> list = QuestionLoaderFactory.getLoader(f, pool).load(f);
+            assertSame(list.get(0).getCategory(), list.get(1).getCategory(), name);
+            assertTrue(pool.getHits() > 0, name);
+            assertTrue(pool.getSavedBytes() > 0, name);
+        }
+    }
+
+    @Test
+    void builderPoolsRepeatedFieldsButNotText() {
+        StringPool pool = new StringPool();
+        Question a = new QuestionBuilder().pool(pool).category(new String("Loops")).text(new String("Q")).choiceA(new String("int")).build();
+        Question b = new QuestionBuilder().pool(pool).category(new String("Loops")).text(new String("Q")).choiceA(new String("int")).build();
+        assertSame(a.getCategory(), b.getCategory());
+        assertSame(a.getChoiceA(), b.getChoiceA());
+        assertNotSame(a.getText(), b.getText());
+    }
+
+    @Test
+    void unusedStringsLeaveThePool() throws Exception {
+        StringPool pool = new StringPool();
+        pool.intern(new String("transient"));
+        for (int i = 0; i < 50 && pool.size() > 0; i++) { System.gc(); Thread.sleep(10); }
+        assertEquals(0, pool.size());
+    }
+}
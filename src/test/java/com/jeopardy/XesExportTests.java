@@ -0,0 +1,118 @@
+package com.jeopardy;
+
+import com.jeopardy.eventlog.BinaryEventReader;
+import com.jeopardy.eventlog.BinaryEventSink;
+import com.jeopardy.eventlog.CsvEventReader;
+import com.jeopardy.eventlog.CsvFileSink;
+import com.jeopardy.eventlog.EventLogReader;
+import com.jeopardy.eventlog.EventLogReaders;
+import com.jeopardy.eventlog.LogEvent;
+import com.jeopardy.eventlog.XesExporter;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XesExportTests {
+
+    private static List<LogEvent> interleaved() {
+        List<LogEvent> events = new ArrayList<>();
+        long t = 1_731_232_800_000_000L;
+        for (int turn = 0; turn < 6; turn++) {
+            for (String game : new String[] {"G2", "G1", "G3"}) {
+                t += 1_000_000;
+                events.add(new LogEvent(game, "P1", "ANSWER", "Arrays & <Lists>", 100 * (turn + 1), "A", "CORRECT", turn, t));
+            }
+        }
+        return events;
+    }
+
+    private static File csvLog(List<LogEvent> events) throws Exception {
+        File f = File.createTempFile("xes", ".csv");
+        f.deleteOnExit();
+        try (CsvFileSink sink = new CsvFileSink(f)) { sink.writeAll(events); }
+        return f;
+    }
+
+    private static Document export(File log, int runSize) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(18, new XesExporter(runSize).export(log, out));
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    void groupsEventsIntoTracesWithSpilledRuns() throws Exception {
+        Document doc = export(csvLog(interleaved()), 4);
+        NodeList traces = doc.getElementsByTagName("trace");
+        assertEquals(3, traces.getLength());
+        Element first = (Element) traces.item(0);
+        assertEquals("G1", ((Element) first.getElementsByTagName("string").item(0)).getAttribute("value"));
+        NodeList events = first.getElementsByTagName("event");
+        assertEquals(6, events.getLength());
+        for (int i = 0; i < events.getLength(); i++) {
+            NodeList ints = ((Element) events.item(i)).getElementsByTagName("int");
+            assertEquals(String.valueOf(100 * (i + 1)), ((Element) ints.item(0)).getAttribute("value"));
+        }
+        assertTrue(((Element) events.item(0)).getElementsByTagName("date").getLength() == 1);
+    }
+
+    @Test
+    void spillingDoesNotChangeTheOutput() throws Exception {
+        File log = csvLog(interleaved());
+        ByteArrayOutputStream a = new ByteArrayOutputStream(), b = new ByteArrayOutputStream();
+        new XesExporter(1).export(log, a);
+        new XesExporter().export(log, b);
+        assertEquals(b.toString("UTF-8"), a.toString("UTF-8"));
+    }
+
+    @Test
+    void boundedFanInMergesInPasses() throws Exception {
+        File log = csvLog(interleaved());
+        ByteArrayOutputStream a = new ByteArrayOutputStream(), b = new ByteArrayOutputStream();
+        assertEquals(18, new XesExporter(1, 2).export(log, a));
+        new XesExporter().export(log, b);
+        assertEquals(b.toString("UTF-8"), a.toString("UTF-8"));
+    }
+
+    @Test
+    void spillsStringsLongerThan64KB() throws Exception {
+        String answer = "x".repeat(70_000);
+        List<LogEvent> events = new ArrayList<>();
+        events.add(new LogEvent("G1", "P1", "ANSWER", "Arrays", 100, answer, "WRONG", 0, 1_731_232_800_000_000L));
+        events.add(new LogEvent("G0", "P1", "ANSWER", "Arrays", 100, "A", "CORRECT", 100, 1_731_232_801_000_000L));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(2, new XesExporter(1).export(csvLog(events), out));
+        assertTrue(out.toString("UTF-8").contains(answer));
+    }
+
+    @Test
+    void readersAreChosenByContent() throws Exception {
+        File csv = csvLog(interleaved());
+        File bin = File.createTempFile("xes", ".evlog");
+        bin.deleteOnExit();
+        try (BinaryEventSink sink = new BinaryEventSink(bin)) { sink.writeAll(interleaved()); }
+
+        try (EventLogReader r = EventLogReaders.open(csv)) { assertTrue(r instanceof CsvEventReader); }
+        try (EventLogReader r = EventLogReaders.open(bin)) { assertTrue(r instanceof BinaryEventReader); }
+        try (EventLogReader c = EventLogReaders.open(csv); EventLogReader r = EventLogReaders.open(bin)) {
+            LogEvent x, y;
+            while ((x = c.next()) != null) {
+                y = r.next();
+                assertEquals(y.getCaseId(), x.getCaseId());
+                assertEquals(y.getQuestionValue(), x.getQuestionValue());
+                assertEquals(y.getTimestampMicros() / 1000, x.getTimestampMicros() / 1000);
+            }
+            assertNull(r.next());
+        }
+        assertEquals(18, export(bin, 5).getElementsByTagName("event").getLength());
+    }
+}
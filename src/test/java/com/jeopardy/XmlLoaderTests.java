@@ -0,0 +1,70 @@
+package com.jeopardy;
+
+import com.jeopardy.loaders.XmlQuestionLoader;
+import com.jeopardy.model.Question;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XmlLoaderTests {
+
+    private static File xml(String content) throws Exception {
+        File f = File.createTempFile("questions", ".xml");
+        f.deleteOnExit();
+        try (FileWriter fw = new FileWriter(f)) { fw.write(content); }
+        return f;
+    }
+
+    @Test
+    void sampleFileLoadsEveryQuestionWithOptions() throws Exception {
+        List<Question> list = new XmlQuestionLoader().load(new File("sample_game_XML.xml"));
+        assertEquals(25, list.size());
+        Question q = list.get(6);
+        assertEquals("Control Structures", q.getCategory());
+        assertEquals(200, q.getValue());
+        assertEquals("What is the output of: if (5 > 10) cout << 'Hi'; else cout << 'Bye';", q.getText());
+        assertEquals("Bye", q.getChoiceB());
+        assertEquals("B", q.getAnswer());
+    }
+
+    @Test
+    void readsWrapperWithDirectChoicesAndLowercaseOptions() throws Exception {
+        File f = xml("<questions><item><category>Loops</category><value> 200 </value><question>Q2</question>"
+                + "<answer>B</answer><choiceA>a</choiceA><choiceB>b</choiceB></item>"
+                + "<item><Category>Loops</Category><Value>300</Value><QuestionText><![CDATA[Is 1 < 2?]]></QuestionText>"
+                + "<CorrectAnswer>C</CorrectAnswer><OptionA>direct</OptionA><options><optionA>nested</optionA><optionB>y</optionB></options></item>"
+                + "<!-- trailing comment --></questions>");
+        List<Question> list = new XmlQuestionLoader().load(f);
+        assertEquals(2, list.size());
+        assertEquals(200, list.get(0).getValue());
+        assertEquals("b", list.get(0).getChoiceB());
+        assertEquals("Is 1 < 2?", list.get(1).getText());
+        assertEquals("nested", list.get(1).getChoiceA());
+        assertEquals("y", list.get(1).getChoiceB());
+        assertNull(list.get(1).getChoiceC());
+    }
+
+    @Test
+    void attributesActAsFields() throws Exception {
+        File f = xml("<bank><q category=\"Arrays\" value=\"500\"><question>Q</question><answer>A</answer></q></bank>");
+        Question q = new XmlQuestionLoader().load(f).get(0);
+        assertEquals("Arrays", q.getCategory());
+        assertEquals(500, q.getValue());
+    }
+
+    @Test
+    void streamsLargeBanks() throws Exception {
+        StringBuilder sb = new StringBuilder("<questions>");
+        for (int i = 0; i < 2000; i++) sb.append("<question><category>C").append(i % 5).append("</category><value>").append(i).append("</value><question>Q</question><answer>A</answer></question>");
+        File f = xml(sb.append("</questions>").toString());
+        List<Integer> values = new ArrayList<>();
+        new XmlQuestionLoader().forEach(f, q -> values.add(q.getValue()));
+        assertEquals(2000, values.size());
+        assertEquals(1999, values.get(1999));
+    }
+}